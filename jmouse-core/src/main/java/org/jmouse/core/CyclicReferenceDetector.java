@@ -33,6 +33,19 @@ public interface CyclicReferenceDetector<T> {
      */
     void remove(Identifier<T> identifier);
 
+    /**
+     * Returns a detector for work that continues the current chain on another thread.
+     * <p>
+     * The returned detector starts with the identifiers currently tracked by the calling thread,
+     * so a cycle closed by the forked work is still detected. Detectors whose state is not bound
+     * to a thread may return themselves.
+     *
+     * @return detector seeded with the current chain
+     */
+    default CyclicReferenceDetector<T> fork() {
+        return this;
+    }
+
     /**
      * Functional interface representing an identifier used to track elements in the dependency graph.
      *
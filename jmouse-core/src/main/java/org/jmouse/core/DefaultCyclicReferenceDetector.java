@@ -1,5 +1,7 @@
 package org.jmouse.core;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -16,7 +18,20 @@ public class DefaultCyclicReferenceDetector<T> implements CyclicReferenceDetecto
      * Thread-local stack of visited references, implemented using a {@link Visitor.Default}.
      * This ensures that cyclic reference detection is thread-safe and isolated per thread.
      */
-    private final ThreadLocal<Visitor<T>> referenceStack = ThreadLocal.withInitial(Visitor.Default::new);
+    private final ThreadLocal<Visitor<T>> referenceStack;
+
+    public DefaultCyclicReferenceDetector() {
+        this(Set.of());
+    }
+
+    /**
+     * Creates a detector whose chain starts with the given identifiers on every thread.
+     *
+     * @param initial identifiers every thread starts with
+     */
+    private DefaultCyclicReferenceDetector(Set<T> initial) {
+        this.referenceStack = ThreadLocal.withInitial(() -> new Visitor.Default<>(new HashSet<>(initial)));
+    }
 
     /**
      * Detects a cyclic reference for the given identifier. If the identifier has been
@@ -64,4 +79,14 @@ public class DefaultCyclicReferenceDetector<T> implements CyclicReferenceDetecto
         Visitor<T> visitor = referenceStack.get();
         visitor.forget(identifier.getIdentifier());
     }
+
+    /**
+     * Returns a new detector seeded with the chain of the calling thread.
+     *
+     * @return detector continuing the current chain
+     */
+    @Override
+    public CyclicReferenceDetector<T> fork() {
+        return new DefaultCyclicReferenceDetector<>(referenceStack.get().encounters());
+    }
 }
@@ -122,6 +122,15 @@ abstract public class AbstractBeanAccessor extends AbstractAccessor {
         return "%s: %s".formatted(getShortName(this), descriptor);
     }
 
+    /**
+     * Returns the descriptor of the wrapped instance's type.
+     *
+     * @return the object descriptor used by this accessor
+     */
+    public ObjectDescriptor<Object> getDescriptor() {
+        return descriptor;
+    }
+
     abstract protected ObjectDescriptor<Object> getDescriptor(Class<?> type);
 
 }
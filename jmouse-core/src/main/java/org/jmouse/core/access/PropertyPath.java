@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a structured path name that can be used to navigate and manipulate
@@ -37,18 +38,19 @@ final public class PropertyPath {
     /**
      * Cached paths.
      */
-    public static final Map<String, PropertyPath> CACHE = new HashMap<>();
+    public static final Map<String, PropertyPath> CACHE = new ConcurrentHashMap<>();
 
     /**
      * The separator used in property paths (dot notation).
      */
     public static final char SEPARATOR = '.';
 
-    private Entries entries;
+    /**
+     * Shared path returned for {@code null} names, which the concurrent cache cannot hold.
+     */
+    private static final PropertyPath NULL_PATH = empty();
 
-    static {
-        CACHE.put(null, empty());
-    }
+    private Entries entries;
 
     /**
      * Constructs a PropertyPath by lexer the given string.
@@ -107,7 +109,7 @@ final public class PropertyPath {
      * @return a PropertyPath instance, or an empty instance if the input is null
      */
     public static PropertyPath forPath(String name) {
-        return CACHE.computeIfAbsent(name, PropertyPath::new);
+        return name == null ? NULL_PATH : CACHE.computeIfAbsent(name, PropertyPath::new);
     }
 
     /**
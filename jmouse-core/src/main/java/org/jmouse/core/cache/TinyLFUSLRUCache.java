@@ -140,7 +140,7 @@ public class TinyLFUSLRUCache<K, V> implements BasicCache<K, V> {
      * @param key
      */
     @Override
-    public V remove(K key) {
+    public synchronized V remove(K key) {
         return internalCache.remove(key);
     }
 
@@ -148,7 +148,7 @@ public class TinyLFUSLRUCache<K, V> implements BasicCache<K, V> {
      * 🔢 Live entry count (may perform lazy cleanup).
      */
     @Override
-    public int size() {
+    public synchronized int size() {
         return internalCache.size();
     }
 
@@ -156,7 +156,7 @@ public class TinyLFUSLRUCache<K, V> implements BasicCache<K, V> {
      * 🧹 Clear all entries.
      */
     @Override
-    public void clear() {
+    public synchronized void clear() {
         internalCache.clear();
     }
 
@@ -189,7 +189,7 @@ public class TinyLFUSLRUCache<K, V> implements BasicCache<K, V> {
      * @param victim    current probation LRU victim
      * @return {@code true} to evict victim and admit candidate; {@code false} otherwise
      */
-    public boolean admit(K candidate, K victim) {
+    public synchronized boolean admit(K candidate, K victim) {
         return tinyLFU.shouldAdmit(candidate, victim);
     }
 }
@@ -0,0 +1,151 @@
+package org.jmouse.core.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear latency histogram with microsecond resolution. 📶
+ *
+ * <p>Values below 16µs have a bucket each; above, every power of two is split into 8 buckets,
+ * so a reported percentile is at most 12.5% above the true value (and never above the largest
+ * recorded one). The range up to about 50 days fits into a fixed array of counters; recording
+ * is a few atomic increments and allocation-free.</p>
+ *
+ * <pre>{@code
+ * LatencyHistogram histogram = new LatencyHistogram();
+ *
+ * histogram.record(System.nanoTime() - started);
+ *
+ * Duration p99 = histogram.snapshot().percentile(99);
+ * }</pre>
+ */
+public final class LatencyHistogram {
+
+    private static final int LINEAR       = 16;
+    private static final int SUB_BUCKETS  = 8;
+    private static final int SUB_BITS     = 3;
+    private static final int MAX_EXPONENT = 42;
+    private static final int BUCKETS      = LINEAR + (MAX_EXPONENT - 4 + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder       sum    = new LongAdder();
+    private final AtomicLong      max    = new AtomicLong();
+
+    public void record(Duration duration) {
+        record(duration.toNanos());
+    }
+
+    /**
+     * @param nanos latency in nanoseconds; negative values count as zero
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0L, nanos / 1_000L);
+
+        counts.incrementAndGet(indexOf(micros));
+        sum.add(micros);
+
+        if (micros > max.get()) {
+            max.accumulateAndGet(micros, Math::max);
+        }
+    }
+
+    /**
+     * Drop all recorded values. Values recorded concurrently may survive the reset.
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKETS; index++) {
+            counts.set(index, 0);
+        }
+
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * @return copy of the counters; consistent enough for reporting while recording goes on
+     */
+    public Snapshot snapshot() {
+        long[] buckets = new long[BUCKETS];
+        long   count   = 0;
+
+        for (int index = 0; index < BUCKETS; index++) {
+            buckets[index] = counts.get(index);
+            count += buckets[index];
+        }
+
+        return new Snapshot(buckets, count, sum.sum(), max.get());
+    }
+
+    static int indexOf(long micros) {
+        if (micros < LINEAR) {
+            return (int) micros;
+        }
+
+        int exponent = Math.min(MAX_EXPONENT, 63 - Long.numberOfLeadingZeros(micros));
+        int sub      = exponent == MAX_EXPONENT && micros >= 1L << (MAX_EXPONENT + 1)
+                ? SUB_BUCKETS - 1
+                : (int) ((micros >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1));
+
+        return LINEAR + (exponent - 4) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+
+        int exponent = (index - LINEAR) / SUB_BUCKETS + 4;
+        int sub      = (index - LINEAR) % SUB_BUCKETS;
+
+        return (1L << exponent) + ((long) (sub + 1) << (exponent - SUB_BITS)) - 1;
+    }
+
+    private static Duration micros(long micros) {
+        return Duration.ofNanos(micros * 1_000L);
+    }
+
+    /**
+     * Point-in-time copy of a {@link LatencyHistogram}.
+     *
+     * @param counts    bucket counters
+     * @param count     number of recorded values
+     * @param sumMicros sum of recorded values in microseconds
+     * @param maxMicros largest recorded value in microseconds
+     */
+    public record Snapshot(long[] counts, long count, long sumMicros, long maxMicros) {
+
+        /**
+         * @param percentile value in {@code (0, 100]}
+         * @return upper bound of the bucket holding the percentile, {@link Duration#ZERO} when empty
+         */
+        public Duration percentile(double percentile) {
+            if (count == 0) {
+                return Duration.ZERO;
+            }
+
+            long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+
+            for (int index = 0; index < counts.length; index++) {
+                seen += counts[index];
+                if (seen >= rank) {
+                    // bucket upper bounds never report more than the largest recorded value
+                    return micros(Math.min(maxMicros, upperBoundOf(index)));
+                }
+            }
+
+            return max();
+        }
+
+        public Duration mean() {
+            return count == 0 ? Duration.ZERO : micros(sumMicros / count);
+        }
+
+        public Duration max() {
+            return micros(maxMicros);
+        }
+    }
+
+}
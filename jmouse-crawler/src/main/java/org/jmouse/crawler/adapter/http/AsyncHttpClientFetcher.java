@@ -0,0 +1,132 @@
+package org.jmouse.crawler.adapter.http;
+
+import org.jmouse.core.Verify;
+import org.jmouse.crawler.api.FetchRequest;
+import org.jmouse.crawler.api.FetchResult;
+import org.jmouse.crawler.api.Fetcher;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Non-blocking {@link Fetcher} based on {@link HttpClient#sendAsync}. ⚡
+ *
+ * <p>No thread is held while a request is in flight. With {@link HttpClient.Version#HTTP_2}
+ * (the default of {@link HttpFetcherConfig}) the client keeps one connection per origin and
+ * multiplexes concurrent requests as streams over it; servers without HTTP/2 fall back to
+ * pooled HTTP/1.1 keep-alive connections.</p>
+ *
+ * <p>At most {@link HttpFetcherConfig#maxStreamsPerHost()} requests per host are in flight,
+ * further ones wait in a per-host queue. Bodies are streamed through a size and content-type
+ * limit, see {@link FetchResult.BodyStatus}. With a {@link ValidatorStore} re-crawls are sent as
+ * conditional requests.</p>
+ *
+ * <pre>{@code
+ * Fetcher fetcher = new AsyncHttpClientFetcher(
+ *         HttpFetcherConfig.builder().acceptedContentTypes("text/html").build(),
+ *         ValidatorStore.inMemory());
+ *
+ * fetcher.fetchAsync(new FetchRequest(url, Map.of())).thenAccept(result -> ...);
+ * }</pre>
+ */
+public final class AsyncHttpClientFetcher implements Fetcher {
+
+    private final HttpClient         client;
+    private final HttpFetcherConfig  config;
+    private final LimitedBodyHandler bodyHandler;
+    private final ValidatorStore     validators;
+    private final HostLimiter        limiter;
+
+    public AsyncHttpClientFetcher(HttpFetcherConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * @param config     configuration for timeouts, redirects, limits and default headers
+     * @param validators store of {@code ETag}/{@code Last-Modified} validators, or {@code null}
+     */
+    public AsyncHttpClientFetcher(HttpFetcherConfig config, ValidatorStore validators) {
+        this.config = Verify.nonNull(config, "config");
+        this.client = HttpExchanges.client(config);
+        this.bodyHandler = LimitedBodyHandler.of(config);
+        this.validators = validators;
+        this.limiter = new HostLimiter(config.maxStreamsPerHost());
+    }
+
+    /**
+     * Blocking variant of {@link #fetchAsync(FetchRequest)}; an interrupted caller cancels the request.
+     */
+    @Override
+    public FetchResult fetch(FetchRequest request) throws Exception {
+        CompletableFuture<FetchResult> result = fetchAsync(request);
+
+        try {
+            return result.get();
+        } catch (InterruptedException exception) {
+            result.cancel(true);
+            throw exception;
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    @Override
+    public CompletableFuture<FetchResult> fetchAsync(FetchRequest request) {
+        return fetchAsync(request, () -> {});
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@code onDispatch} runs when the request leaves the per-host queue.</p>
+     */
+    @Override
+    public CompletableFuture<FetchResult> fetchAsync(FetchRequest request, Runnable onDispatch) {
+        Verify.nonNull(request, "request");
+        Verify.nonNull(onDispatch, "onDispatch");
+
+        URI         uri         = Verify.nonNull(request.url(), "request.url");
+        HttpRequest httpRequest = HttpExchanges.request(
+                config, uri, request, validators == null ? null : validators.get(uri));
+
+        CompletableFuture<HttpResponse<LimitedBodyHandler.Body>> sent = limiter.submit(hostKey(uri), () -> {
+            onDispatch.run();
+            return client.sendAsync(httpRequest, bodyHandler);
+        });
+        CompletableFuture<FetchResult> result = sent
+                .thenApply(response -> {
+                    HttpExchanges.remember(validators, uri, response);
+                    return HttpExchanges.result(response);
+                })
+                .exceptionallyCompose(AsyncHttpClientFetcher::unwrap);
+
+        // dependent stages do not cancel their source, so hand a cancellation back to the limiter
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                sent.cancel(true);
+            }
+        });
+
+        return result;
+    }
+
+    private static CompletableFuture<FetchResult> unwrap(Throwable throwable) {
+        return CompletableFuture.failedFuture(
+                throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable);
+    }
+
+    private static String hostKey(URI uri) {
+        String host = uri.getHost();
+        return host == null ? "" : host.toLowerCase(Locale.ROOT) + ":" + uri.getPort();
+    }
+}
@@ -0,0 +1,144 @@
+package org.jmouse.crawler.adapter.http;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking limit of concurrent requests per host: requests over the limit wait in a per-host
+ * queue and are started as earlier ones complete. Idle hosts are forgotten.
+ *
+ * <p>Cancelling the returned future withdraws a waiting request from the queue, or cancels the
+ * running action, which frees the host slot as soon as the action completes.</p>
+ */
+final class HostLimiter {
+
+    private final int               permits;
+    private final Map<String, Gate> gates = new ConcurrentHashMap<>();
+
+    HostLimiter(int permits) {
+        this.permits = permits;
+    }
+
+    <T> CompletableFuture<T> submit(String host, Supplier<CompletableFuture<T>> action) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        while (true) {
+            Gate     gate = gates.computeIfAbsent(host, Gate::new);
+            Runnable task = () -> start(gate, action, result);
+
+            if (gate.enter(task)) {
+                result.whenComplete((value, error) -> {
+                    if (result.isCancelled()) {
+                        gate.withdraw(task);
+                    }
+                });
+                return result;
+            }
+            // the gate was retired concurrently, take a fresh one
+        }
+    }
+
+    /**
+     * @return number of hosts with running or waiting requests
+     */
+    int hosts() {
+        return gates.size();
+    }
+
+    private <T> void start(Gate gate, Supplier<CompletableFuture<T>> action, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            // cancelled after it left the queue, pass the slot on
+            gate.leave();
+            return;
+        }
+
+        CompletableFuture<T> future;
+
+        try {
+            future = action.get();
+        } catch (RuntimeException exception) {
+            gate.leave();
+            result.completeExceptionally(exception);
+            return;
+        }
+
+        future.whenComplete((value, error) -> {
+            gate.leave();
+
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+    }
+
+    private final class Gate {
+
+        private final String              host;
+        private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+        private       int                 active;
+        private       boolean             retired;
+
+        Gate(String host) {
+            this.host = host;
+        }
+
+        /**
+         * @return {@code false} if the gate is retired and must not be used
+         */
+        boolean enter(Runnable task) {
+            synchronized (this) {
+                if (retired) {
+                    return false;
+                }
+
+                if (active >= permits) {
+                    waiting.add(task);
+                    return true;
+                }
+
+                active++;
+            }
+
+            task.run();
+
+            return true;
+        }
+
+        /**
+         * Remove a task that is still waiting; a task already started is left alone.
+         */
+        void withdraw(Runnable task) {
+            synchronized (this) {
+                waiting.remove(task);
+            }
+        }
+
+        void leave() {
+            Runnable next;
+
+            synchronized (this) {
+                next = waiting.poll();
+
+                if (next == null && --active == 0) {
+                    retired = true;
+                    gates.remove(host, this);
+                }
+            }
+
+            if (next != null) {
+                next.run();
+            }
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package org.jmouse.crawler.adapter.http;
 
-import org.jmouse.core.MediaType;
-import org.jmouse.core.MimeParser;
 import org.jmouse.core.Verify;
 import org.jmouse.crawler.api.FetchRequest;
 import org.jmouse.crawler.api.FetchResult;
@@ -11,9 +9,6 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 
 /**
  * {@link Fetcher} implementation based on Java's {@link HttpClient}. 🌐
@@ -27,18 +22,21 @@ import java.util.Map;
  *   <li>request timeout</li>
  *   <li>redirect policy</li>
  *   <li>User-Agent header</li>
+ *   <li>HTTP version, body size limit and accepted content types</li>
  * </ul>
  *
  * <p>Per-request headers from {@link FetchRequest#headers()} are appended on top
- * of the default headers.</p>
+ * of the default headers. With a {@link ValidatorStore} re-crawls are sent as conditional
+ * requests and an unchanged page comes back as {@link FetchResult#notModified()}.</p>
+ *
+ * @see AsyncHttpClientFetcher
  */
 public final class HttpClientFetcher implements Fetcher {
 
-    private static final String HEADER_USER_AGENT   = "User-Agent";
-    private static final String HEADER_CONTENT_TYPE = "Content-Type";
-
-    private final HttpClient        client;
-    private final HttpFetcherConfig config;
+    private final HttpClient         client;
+    private final HttpFetcherConfig  config;
+    private final LimitedBodyHandler bodyHandler;
+    private final ValidatorStore     validators;
 
     /**
      * Create a new {@code HttpClientFetcher}.
@@ -46,13 +44,20 @@ public final class HttpClientFetcher implements Fetcher {
      * @param config configuration for timeouts, redirects, and default headers
      */
     public HttpClientFetcher(HttpFetcherConfig config) {
-        this.config = Verify.nonNull(config, "config");
+        this(config, null);
+    }
 
-        this.client = HttpClient.newBuilder()
-                .connectTimeout(this.config.connectTimeout())
-                .followRedirects(
-                        this.config.followRedirects() ? HttpClient.Redirect.NORMAL : HttpClient.Redirect.NEVER)
-                .build();
+    /**
+     * Create a new {@code HttpClientFetcher} sending conditional requests.
+     *
+     * @param config     configuration for timeouts, redirects, and default headers
+     * @param validators store of {@code ETag}/{@code Last-Modified} validators, or {@code null}
+     */
+    public HttpClientFetcher(HttpFetcherConfig config, ValidatorStore validators) {
+        this.config = Verify.nonNull(config, "config");
+        this.client = HttpExchanges.client(config);
+        this.bodyHandler = LimitedBodyHandler.of(config);
+        this.validators = validators;
     }
 
     /**
@@ -67,70 +72,13 @@ public final class HttpClientFetcher implements Fetcher {
         Verify.nonNull(request, "request");
 
         URI         uri         = Verify.nonNull(request.url(), "request.url");
-        HttpRequest httpRequest = buildRequest(uri, request);
-
-        HttpResponse<byte[]> response =
-                client.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
-
-        return toResult(response);
-    }
-
-    /**
-     * Build an {@link HttpRequest} for the provided URI and request metadata.
-     */
-    private HttpRequest buildRequest(URI uri, FetchRequest request) {
-        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
-                .timeout(config.requestTimeout())
-                .GET()
-                .header(HEADER_USER_AGENT, config.userAgent());
+        HttpRequest httpRequest = HttpExchanges.request(
+                config, uri, request, validators == null ? null : validators.get(uri));
 
-        // Add request-specific headers (may override defaults depending on HttpClient behavior).
-        for (Map.Entry<String, String> entry : request.headers().entrySet()) {
-            builder.header(entry.getKey(), entry.getValue());
-        }
-
-        return builder.build();
-    }
-
-    /**
-     * Convert the Java {@link HttpResponse} to a framework {@link FetchResult}.
-     */
-    private static FetchResult toResult(HttpResponse<byte[]> response) {
-        String contentType = firstHeaderValue(response, HEADER_CONTENT_TYPE);
-        return new FetchResult(
-                response.uri(),
-                response.statusCode(),
-                flattenHeaders(response.headers().map()),
-                response.body(),
-                MediaType.forString(contentType),
-                contentType
-        );
-    }
-
-    /**
-     * Read the first header value for the given name, or {@code null} if missing.
-     */
-    private static String firstHeaderValue(HttpResponse<?> response, String name) {
-        return response.headers().firstValue(name).orElse(null);
-    }
-
-    /**
-     * Convert {@code Map<String, List<String>>} headers into a simple {@code Map<String, String>}
-     * by taking the first value per header.
-     *
-     * <p>Useful for compact storage and simple downstream usage, but note that
-     * it loses multi-value header information.</p>
-     */
-    private static Map<String, String> flattenHeaders(Map<String, List<String>> headers) {
-        Map<String, String> result = new HashMap<>(Math.max(16, headers.size()));
+        HttpResponse<LimitedBodyHandler.Body> response = client.send(httpRequest, bodyHandler);
 
-        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
-            List<String> values = entry.getValue();
-            if (values != null && !values.isEmpty()) {
-                result.put(entry.getKey(), values.getFirst());
-            }
-        }
+        HttpExchanges.remember(validators, uri, response);
 
-        return result;
+        return HttpExchanges.result(response);
     }
 }
@@ -0,0 +1,137 @@
+package org.jmouse.crawler.adapter.http;
+
+import org.jmouse.core.MediaType;
+import org.jmouse.crawler.api.FetchRequest;
+import org.jmouse.crawler.api.FetchResult;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request and result conversions shared by the HTTP fetchers.
+ */
+final class HttpExchanges {
+
+    static final String HEADER_USER_AGENT        = "User-Agent";
+    static final String HEADER_CONTENT_TYPE      = "Content-Type";
+    static final String HEADER_ETAG              = "ETag";
+    static final String HEADER_LAST_MODIFIED     = "Last-Modified";
+    static final String HEADER_IF_NONE_MATCH     = "If-None-Match";
+    static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    private HttpExchanges() {}
+
+    static HttpClient client(HttpFetcherConfig config) {
+        return HttpClient.newBuilder()
+                .version(config.version())
+                .connectTimeout(config.connectTimeout())
+                .followRedirects(config.followRedirects() ? HttpClient.Redirect.NORMAL : HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * Build a GET request; validators (if any) turn it into a conditional request unless the
+     * caller already set the conditional headers.
+     */
+    static HttpRequest request(
+            HttpFetcherConfig config, URI uri, FetchRequest request, ValidatorStore.Validators validators) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(config.requestTimeout())
+                .GET()
+                .header(HEADER_USER_AGENT, config.userAgent());
+
+        // Add request-specific headers (may override defaults depending on HttpClient behavior).
+        for (Map.Entry<String, String> entry : request.headers().entrySet()) {
+            builder.header(entry.getKey(), entry.getValue());
+        }
+
+        if (validators != null) {
+            if (validators.etag() != null && !hasHeader(request.headers(), HEADER_IF_NONE_MATCH)) {
+                builder.header(HEADER_IF_NONE_MATCH, validators.etag());
+            }
+            if (validators.lastModified() != null && !hasHeader(request.headers(), HEADER_IF_MODIFIED_SINCE)) {
+                builder.header(HEADER_IF_MODIFIED_SINCE, validators.lastModified());
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * HTTP header names are case-insensitive, so a caller's {@code if-none-match} counts as set.
+     */
+    static boolean hasHeader(Map<String, String> headers, String name) {
+        for (String header : headers.keySet()) {
+            if (name.equalsIgnoreCase(header)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Convert the Java {@link HttpResponse} to a framework {@link FetchResult}.
+     */
+    static FetchResult result(HttpResponse<LimitedBodyHandler.Body> response) {
+        String contentType = response.headers().firstValue(HEADER_CONTENT_TYPE).orElse(null);
+        return new FetchResult(
+                response.uri(),
+                response.statusCode(),
+                flattenHeaders(response.headers().map()),
+                response.body().bytes(),
+                MediaType.forString(contentType),
+                contentType,
+                response.body().status()
+        );
+    }
+
+    /**
+     * Keep the validators of a complete successful response for the next conditional request.
+     */
+    static void remember(ValidatorStore store, URI uri, HttpResponse<LimitedBodyHandler.Body> response) {
+        if (store != null && response.statusCode() / 100 == 2
+                && response.body().status() == FetchResult.BodyStatus.COMPLETE) {
+            ValidatorStore.Validators validators = validators(response);
+            if (validators != null) {
+                store.put(uri, validators);
+            }
+        }
+    }
+
+    /**
+     * @return validators of a complete successful response, or {@code null} if it has none
+     */
+    static ValidatorStore.Validators validators(HttpResponse<?> response) {
+        ValidatorStore.Validators validators = new ValidatorStore.Validators(
+                response.headers().firstValue(HEADER_ETAG).orElse(null),
+                response.headers().firstValue(HEADER_LAST_MODIFIED).orElse(null));
+
+        return validators.isEmpty() ? null : validators;
+    }
+
+    /**
+     * Convert {@code Map<String, List<String>>} headers into a simple {@code Map<String, String>}
+     * by taking the first value per header.
+     *
+     * <p>Useful for compact storage and simple downstream usage, but note that
+     * it loses multi-value header information.</p>
+     */
+    static Map<String, String> flattenHeaders(Map<String, List<String>> headers) {
+        Map<String, String> result = new HashMap<>(Math.max(16, headers.size()));
+
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            List<String> values = entry.getValue();
+            if (values != null && !values.isEmpty()) {
+                result.put(entry.getKey(), values.getFirst());
+            }
+        }
+
+        return result;
+    }
+}
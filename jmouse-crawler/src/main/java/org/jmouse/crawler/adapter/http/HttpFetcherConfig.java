@@ -2,22 +2,40 @@ package org.jmouse.crawler.adapter.http;
 
 import org.jmouse.core.Verify;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 public final class HttpFetcherConfig {
 
     public static final String J_MOUSE_CRAWLER_UA = "jMouse-Crawler/1.0";
 
+    /**
+     * {@link #maxBodyBytes()} value that disables the body size limit (the default).
+     */
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
     private final Duration connectTimeout;
     private final Duration requestTimeout;
     private final boolean  followRedirects;
     private final String   userAgent;
 
+    private final HttpClient.Version version;
+    private final long               maxBodyBytes;
+    private final List<String>       acceptedContentTypes;
+    private final int                maxStreamsPerHost;
+
     private HttpFetcherConfig(Builder builder) {
         this.connectTimeout = builder.connectTimeout;
         this.requestTimeout = builder.requestTimeout;
         this.followRedirects = builder.followRedirects;
         this.userAgent = builder.userAgent;
+        this.version = builder.version;
+        this.maxBodyBytes = builder.maxBodyBytes;
+        this.acceptedContentTypes = List.copyOf(builder.acceptedContentTypes);
+        this.maxStreamsPerHost = builder.maxStreamsPerHost;
     }
 
     public static Builder builder() {
@@ -40,12 +58,46 @@ public final class HttpFetcherConfig {
         return userAgent;
     }
 
+    /**
+     * Preferred HTTP version; with {@code HTTP_2} requests to a host share one multiplexed connection.
+     */
+    public HttpClient.Version version() {
+        return version;
+    }
+
+    /**
+     * Body size limit; longer downloads are aborted and returned truncated. {@link #UNLIMITED} by default,
+     * so existing fetchers keep receiving whole bodies unless a limit is configured.
+     */
+    public long maxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    /**
+     * Accepted content type prefixes (e.g. {@code text/html}, {@code image/}); empty accepts all.
+     */
+    public List<String> acceptedContentTypes() {
+        return acceptedContentTypes;
+    }
+
+    /**
+     * Maximal number of concurrent requests per host for asynchronous fetching.
+     */
+    public int maxStreamsPerHost() {
+        return maxStreamsPerHost;
+    }
+
     public static final class Builder {
         private Duration connectTimeout  = Duration.ofSeconds(10);
         private Duration requestTimeout  = Duration.ofSeconds(30);
         private boolean  followRedirects = true;
         private String   userAgent       = J_MOUSE_CRAWLER_UA;
 
+        private HttpClient.Version version              = HttpClient.Version.HTTP_2;
+        private long               maxBodyBytes         = UNLIMITED;
+        private List<String>       acceptedContentTypes = List.of();
+        private int                maxStreamsPerHost    = 32;
+
         public Builder connectTimeout(Duration value) {
             this.connectTimeout = Verify.nonNull(value, "connectTimeout");
             return this;
@@ -66,6 +118,29 @@ public final class HttpFetcherConfig {
             return this;
         }
 
+        public Builder version(HttpClient.Version value) {
+            this.version = Verify.nonNull(value, "version");
+            return this;
+        }
+
+        public Builder maxBodyBytes(long value) {
+            Verify.state(value > 0, "maxBodyBytes must be > 0");
+            this.maxBodyBytes = value;
+            return this;
+        }
+
+        public Builder acceptedContentTypes(String... values) {
+            this.acceptedContentTypes = Arrays.stream(values)
+                    .map(value -> Verify.nonNull(value, "contentType").toLowerCase(Locale.ROOT))
+                    .toList();
+            return this;
+        }
+
+        public Builder maxStreamsPerHost(int value) {
+            this.maxStreamsPerHost = Verify.positive(value, "maxStreamsPerHost");
+            return this;
+        }
+
         public HttpFetcherConfig build() {
             return new HttpFetcherConfig(this);
         }
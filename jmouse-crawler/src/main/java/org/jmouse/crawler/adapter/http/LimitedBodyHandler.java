@@ -0,0 +1,166 @@
+package org.jmouse.crawler.adapter.http;
+
+import org.jmouse.crawler.api.FetchResult.BodyStatus;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Streaming {@link HttpResponse.BodyHandler} enforcing content-type and size limits while the body
+ * arrives. 🚰
+ *
+ * <ul>
+ *   <li>a response whose {@code Content-Type} is not accepted is aborted before any body is read</li>
+ *   <li>a response whose {@code Content-Length} exceeds the limit is aborted right away</li>
+ *   <li>a body growing past the limit is aborted and returned with the bytes received up to it</li>
+ * </ul>
+ *
+ * <p>Aborting cancels the body subscription, which resets the HTTP/2 stream (or closes the
+ * HTTP/1.1 connection) instead of draining the rest of the download.</p>
+ */
+final class LimitedBodyHandler implements HttpResponse.BodyHandler<LimitedBodyHandler.Body> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * Largest array the JVM reliably allocates; bodies beyond it are truncated even without a limit.
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final long         maxBytes;
+    private final List<String> acceptedContentTypes;
+
+    LimitedBodyHandler(long maxBytes, List<String> acceptedContentTypes) {
+        this.maxBytes = maxBytes;
+        this.acceptedContentTypes = acceptedContentTypes;
+    }
+
+    static LimitedBodyHandler of(HttpFetcherConfig config) {
+        return new LimitedBodyHandler(config.maxBodyBytes(), config.acceptedContentTypes());
+    }
+
+    @Override
+    public HttpResponse.BodySubscriber<Body> apply(HttpResponse.ResponseInfo info) {
+        String contentType = info.headers().firstValue("Content-Type").orElse(null);
+
+        if (!accepted(contentType)) {
+            return new Subscriber(0, BodyStatus.REJECTED);
+        }
+
+        long length = info.headers().firstValueAsLong("Content-Length").orElse(-1);
+
+        if (length > maxBytes) {
+            return new Subscriber(0, BodyStatus.TRUNCATED);
+        }
+
+        return new Subscriber(maxBytes, null);
+    }
+
+    private boolean accepted(String contentType) {
+        if (acceptedContentTypes.isEmpty() || contentType == null) {
+            return true;
+        }
+
+        String normalized = contentType.toLowerCase(Locale.ROOT).trim();
+
+        for (String accepted : acceptedContentTypes) {
+            if (normalized.startsWith(accepted)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Received body bytes and their completeness.
+     */
+    record Body(byte[] bytes, BodyStatus status) { }
+
+    /**
+     * Collects at most {@code limit} bytes; a non-null {@code abort} status cancels the download upfront.
+     */
+    private static final class Subscriber implements HttpResponse.BodySubscriber<Body> {
+
+        private final CompletableFuture<Body> body = new CompletableFuture<>();
+        private final long                    limit;
+        private final BodyStatus              abort;
+        private       Flow.Subscription       subscription;
+        private       byte[]                  buffer = EMPTY;
+        private       int                     size;
+
+        Subscriber(long limit, BodyStatus abort) {
+            this.limit = Math.min(limit, MAX_ARRAY_SIZE);
+            this.abort = abort;
+        }
+
+        @Override
+        public CompletionStage<Body> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+
+            if (abort != null) {
+                body.complete(new Body(EMPTY, abort));
+                subscription.cancel();
+            } else {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (body.isDone()) {
+                return;
+            }
+
+            for (ByteBuffer item : items) {
+                int remaining = item.remaining();
+
+                if (size + (long) remaining > limit) {
+                    int allowed = (int) (limit - size);
+
+                    append(item, allowed);
+                    body.complete(new Body(Arrays.copyOf(buffer, size), BodyStatus.TRUNCATED));
+                    subscription.cancel();
+
+                    return;
+                }
+
+                append(item, remaining);
+            }
+
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(new Body(size == buffer.length ? buffer : Arrays.copyOf(buffer, size), BodyStatus.COMPLETE));
+        }
+
+        private void append(ByteBuffer item, int length) {
+            if (size + length > buffer.length) {
+                // grow geometrically, but never past the limit (which itself fits into an int)
+                long capacity = Math.max(size + (long) length, Math.max(8192, buffer.length * 2L));
+                buffer = Arrays.copyOf(buffer, (int) Math.min(limit, capacity));
+            }
+
+            item.get(buffer, size, length);
+            size += length;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.jmouse.crawler.adapter.http;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache validators ({@code ETag}, {@code Last-Modified}) remembered per URL, used to send
+ * conditional requests when a page is crawled again. 🏷️
+ */
+public interface ValidatorStore {
+
+    /**
+     * @return validators of the last successful response, or {@code null} if unknown
+     */
+    Validators get(URI url);
+
+    void put(URI url, Validators validators);
+
+    /**
+     * @return store keeping validators on heap
+     */
+    static ValidatorStore inMemory() {
+        Map<URI, Validators> validators = new ConcurrentHashMap<>();
+
+        return new ValidatorStore() {
+            @Override
+            public Validators get(URI url) {
+                return validators.get(url);
+            }
+
+            @Override
+            public void put(URI url, Validators value) {
+                validators.put(url, value);
+            }
+        };
+    }
+
+    /**
+     * @param etag         entity tag, may be {@code null}
+     * @param lastModified {@code Last-Modified} value as sent by the server, may be {@code null}
+     */
+    record Validators(String etag, String lastModified) {
+
+        public boolean isEmpty() {
+            return etag == null && lastModified == null;
+        }
+    }
+}
@@ -12,6 +12,11 @@ public record JsoupParsedDocument(Document document) implements ParsedDocument {
         return "text/html";
     }
 
+    @Override
+    public String text() {
+        return document.body() != null ? document.body().text() : document.text();
+    }
+
     public org.w3c.dom.Document asW3C() {
         return new W3CDom().fromJsoup(document);
     }
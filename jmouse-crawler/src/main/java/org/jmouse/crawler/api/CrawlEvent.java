@@ -0,0 +1,13 @@
+package org.jmouse.crawler.api;
+
+import org.jmouse.core.events.AbstractEvent;
+
+/**
+ * Event published by the crawler runtime. 📣
+ */
+public final class CrawlEvent extends AbstractEvent<CrawlEventPayload> {
+
+    public CrawlEvent(CrawlEventName name, CrawlEventPayload payload, Object caller) {
+        super(name, payload, caller);
+    }
+}
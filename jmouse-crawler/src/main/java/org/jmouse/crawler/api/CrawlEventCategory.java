@@ -9,7 +9,8 @@ public enum CrawlEventCategory implements EventCategory {
     DLQ("dql"),
     RETRY("retry"),
     DECISION("decision"),
-    PIPELINE("pipeline");
+    PIPELINE("pipeline"),
+    TELEMETRY("telemetry");
 
     private final String id;
 
@@ -20,7 +20,9 @@ public enum CrawlEventName implements EventName {
     PIPELINE_STEP_FINISHED("crawler.pipeline.step.finished", "Pipeline step finished", CrawlEventCategory.PIPELINE),
     PIPELINE_STEP_FAILED("crawler.pipeline.step.failed", "Pipeline step failed", CrawlEventCategory.PIPELINE),
 
-    DECISION_RECORDED("crawler.decision.recorded", "Decision recorded", CrawlEventCategory.DECISION);
+    DECISION_RECORDED("crawler.decision.recorded", "Decision recorded", CrawlEventCategory.DECISION),
+
+    TELEMETRY_SNAPSHOT("crawler.telemetry.snapshot", "Telemetry snapshot", CrawlEventCategory.TELEMETRY);
 
     private final EventCategory category;
     private final String        id;
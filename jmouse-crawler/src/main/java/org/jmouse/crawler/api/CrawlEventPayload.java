@@ -2,13 +2,15 @@ package org.jmouse.crawler.api;
 
 import org.jmouse.crawler.runtime.state.DecisionEntry;
 import org.jmouse.crawler.runtime.state.DecisionSnapshot;
+import org.jmouse.crawler.runtime.telemetry.TelemetrySnapshot;
 
 public sealed interface CrawlEventPayload permits
         CrawlEventPayload.RunPayload,
         CrawlEventPayload.TaskPayload,
         CrawlEventPayload.TaskFailedPayload,
         CrawlEventPayload.StepPayload,
-        CrawlEventPayload.DecisionPayload {
+        CrawlEventPayload.DecisionPayload,
+        CrawlEventPayload.TelemetryPayload {
 
     record RunPayload(RunContext run) implements CrawlEventPayload {}
 
@@ -43,5 +45,6 @@ public sealed interface CrawlEventPayload permits
             String stageId,
             DecisionEntry entry
     ) implements CrawlEventPayload {}
-}
 
+    record TelemetryPayload(RunContext run, TelemetrySnapshot snapshot) implements CrawlEventPayload {}
+}
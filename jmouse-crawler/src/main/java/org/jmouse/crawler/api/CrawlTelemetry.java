@@ -0,0 +1,52 @@
+package org.jmouse.crawler.api;
+
+import java.time.Duration;
+
+/**
+ * Recorder of crawl runtime measurements. 📡
+ *
+ * <p>Fetch outcomes arrive as {@link FetchFeedback}; the scheduler reports politeness deferrals
+ * and parks, pipelines report step latencies. Implementations must be cheap and thread-safe:
+ * every method is called on hot paths.</p>
+ *
+ * @see org.jmouse.crawler.runtime.telemetry.DefaultCrawlTelemetry
+ */
+public interface CrawlTelemetry extends FetchFeedback {
+
+    CrawlTelemetry NOOP = new CrawlTelemetry() {
+        @Override
+        public void onResponse(FetchRequest request, FetchResult result, Duration latency) { }
+
+        @Override
+        public void onFailure(FetchRequest request, Throwable error, Duration latency) { }
+
+        @Override
+        public void politenessDeferred(ProcessingTask task, Duration wait) { }
+
+        @Override
+        public void parked(Duration duration) { }
+
+        @Override
+        public void stepFinished(String routeId, String stepId, Duration duration, boolean failed) { }
+    };
+
+    /**
+     * Called once the run context using this telemetry has been built.
+     */
+    default void attach(RunContext run) { }
+
+    /**
+     * A task was held back by the politeness policy for {@code wait}.
+     */
+    void politenessDeferred(ProcessingTask task, Duration wait);
+
+    /**
+     * The scheduler had no runnable task and asked the runner to park.
+     */
+    void parked(Duration duration);
+
+    /**
+     * A pipeline step of a route finished.
+     */
+    void stepFinished(String routeId, String stepId, Duration duration, boolean failed);
+}
@@ -2,18 +2,70 @@ package org.jmouse.crawler.api;
 
 import org.jmouse.crawler.runtime.runner.JobRunner;
 
-public class Crawler {
+import java.util.ArrayList;
+import java.util.List;
 
-    private final ProcessingEngine engine;
-    private final JobRunner        runner;
+/**
+ * Built crawl: runs the engine and owns the resources the builder created for the run. 🕷️
+ *
+ * <p>{@link #close()} releases those resources in reverse creation order; for disk-backed queues
+ * this writes a final checkpoint and unmaps their files.</p>
+ */
+public class Crawler implements AutoCloseable {
+
+    private final ProcessingEngine    engine;
+    private final JobRunner           runner;
+    private final List<AutoCloseable> resources;
+    private       boolean             closed;
 
     public Crawler(ProcessingEngine engine, JobRunner runner) {
+        this(engine, runner, List.of());
+    }
+
+    /**
+     * @param engine    processing engine
+     * @param runner    job runner
+     * @param resources resources owned by the run, closed by {@link #close()}
+     */
+    public Crawler(ProcessingEngine engine, JobRunner runner, List<? extends AutoCloseable> resources) {
         this.engine = engine;
         this.runner = runner;
+        this.resources = new ArrayList<>(resources);
     }
 
     public void runUntilDrained() {
         runner.runUntilDrained(engine);
     }
 
+    /**
+     * Close the run resources; every resource is closed even if an earlier one fails.
+     *
+     * @throws IllegalStateException carrying the failures as suppressed exceptions
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        IllegalStateException failure = null;
+
+        for (int index = resources.size() - 1; index >= 0; index--) {
+            try {
+                resources.get(index).close();
+            } catch (Exception exception) {
+                if (failure == null) {
+                    failure = new IllegalStateException("Unable to close crawl resources");
+                }
+                failure.addSuppressed(exception);
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
 }
@@ -0,0 +1,60 @@
+package org.jmouse.crawler.api;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Receiver of fetch outcomes, used by components that adapt to how targets respond. 📈
+ *
+ * <p>A {@link PolitenessPolicy} implementing this interface is notified about every fetch
+ * made through the run's {@link Fetcher}.</p>
+ */
+public interface FetchFeedback {
+
+    FetchFeedback NOOP = new FetchFeedback() {
+        @Override
+        public void onResponse(FetchRequest request, FetchResult result, Duration latency) { }
+
+        @Override
+        public void onFailure(FetchRequest request, Throwable error, Duration latency) { }
+    };
+
+    /**
+     * @return feedback forwarding to each of the given ones in order
+     */
+    static FetchFeedback all(List<? extends FetchFeedback> feedbacks) {
+        List<FetchFeedback> targets = List.copyOf(feedbacks);
+
+        if (targets.size() == 1) {
+            return targets.getFirst();
+        }
+
+        return new FetchFeedback() {
+            @Override
+            public void onResponse(FetchRequest request, FetchResult result, Duration latency) {
+                for (FetchFeedback target : targets) {
+                    target.onResponse(request, result, latency);
+                }
+            }
+
+            @Override
+            public void onFailure(FetchRequest request, Throwable error, Duration latency) {
+                for (FetchFeedback target : targets) {
+                    target.onFailure(request, error, latency);
+                }
+            }
+        };
+    }
+
+    /**
+     * A response was received.
+     *
+     * @param latency time from sending the request until the body was received
+     */
+    void onResponse(FetchRequest request, FetchResult result, Duration latency);
+
+    /**
+     * The fetch failed without a response (connect error, timeout, reset).
+     */
+    void onFailure(FetchRequest request, Throwable error, Duration latency);
+}
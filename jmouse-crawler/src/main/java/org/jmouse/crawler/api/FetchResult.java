@@ -5,11 +5,59 @@ import org.jmouse.core.MediaType;
 import java.net.URI;
 import java.util.Map;
 
+/**
+ * Outcome of a {@link Fetcher} call. 📦
+ *
+ * @param uri         effective URI (after redirects)
+ * @param status      HTTP status code
+ * @param headers     response headers, first value per name
+ * @param body        received body bytes (empty if the body was not read)
+ * @param mediaType   parsed content type
+ * @param contentType raw {@code Content-Type} header value
+ * @param bodyStatus  whether the body is complete, cut at the size limit or was not downloaded
+ */
 public record FetchResult(
         URI uri,
         int status,
         Map<String, String> headers,
         byte[] body,
         MediaType mediaType,
-        String contentType
-) {}
+        String contentType,
+        BodyStatus bodyStatus
+) {
+
+    /**
+     * HTTP status of a successful conditional request whose resource did not change.
+     */
+    public static final int NOT_MODIFIED = 304;
+
+    public FetchResult(URI uri, int status, Map<String, String> headers, byte[] body,
+                       MediaType mediaType, String contentType) {
+        this(uri, status, headers, body, mediaType, contentType, BodyStatus.COMPLETE);
+    }
+
+    /**
+     * @return {@code true} if a conditional request found the resource unchanged
+     */
+    public boolean notModified() {
+        return status == NOT_MODIFIED;
+    }
+
+    public enum BodyStatus {
+
+        /**
+         * The whole body was received.
+         */
+        COMPLETE,
+
+        /**
+         * The download was aborted at the size limit; the body holds the bytes received up to it.
+         */
+        TRUNCATED,
+
+        /**
+         * The content type was not accepted and the download was aborted before reading the body.
+         */
+        REJECTED
+    }
+}
@@ -1,5 +1,7 @@
 package org.jmouse.crawler.api;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Strategy interface for fetching remote resources. 📡
  *
@@ -22,4 +24,37 @@ public interface Fetcher {
      * @throws Exception if the fetch operation fails
      */
     FetchResult fetch(FetchRequest request) throws Exception;
+
+    /**
+     * Fetch a remote resource without blocking the caller.
+     *
+     * <p>The default implementation runs {@link #fetch(FetchRequest)} on the calling thread;
+     * non-blocking implementations override it.</p>
+     *
+     * @param request fetch request description
+     * @return future completed with the fetch result, or exceptionally if the fetch fails
+     */
+    default CompletableFuture<FetchResult> fetchAsync(FetchRequest request) {
+        try {
+            return CompletableFuture.completedFuture(fetch(request));
+        } catch (Exception exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    /**
+     * Fetch a remote resource without blocking the caller, announcing when the request is dispatched.
+     *
+     * <p>Fetchers that queue requests internally (e.g. per-host limits) run {@code onDispatch} when a
+     * request leaves the queue and is sent, so that callers can tell waiting time from latency. The
+     * default implementation runs it right away.</p>
+     *
+     * @param request    fetch request description
+     * @param onDispatch action run once, when the request is sent
+     * @return future completed with the fetch result, or exceptionally if the fetch fails
+     */
+    default CompletableFuture<FetchResult> fetchAsync(FetchRequest request, Runnable onDispatch) {
+        onDispatch.run();
+        return fetchAsync(request);
+    }
 }
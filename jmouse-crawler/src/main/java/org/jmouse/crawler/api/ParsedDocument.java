@@ -6,6 +6,15 @@ public interface ParsedDocument {
 
     String type();
 
+    /**
+     * Plain text content of the document, used for content fingerprinting.
+     *
+     * @return text, or {@code null} if the document has no textual representation
+     */
+    default String text() {
+        return null;
+    }
+
     default MediaType mediaType() {
         return MediaType.forString(type());
     }
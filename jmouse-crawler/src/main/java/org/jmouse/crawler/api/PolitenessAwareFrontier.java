@@ -0,0 +1,36 @@
+package org.jmouse.crawler.api;
+
+import java.time.Instant;
+
+/**
+ * {@link Frontier} that knows when its tasks may run. ⏱️
+ *
+ * <p>Tasks are grouped by politeness target (e.g. host), and every group carries the instant
+ * at which it becomes eligible again. The scheduler takes tasks only from eligible groups and
+ * hands a task back through {@link #defer(ProcessingTask, Instant)} when the
+ * {@link PolitenessPolicy} still refuses it, so such tasks never leave the frontier.</p>
+ */
+public interface PolitenessAwareFrontier extends Frontier {
+
+    /**
+     * Poll the next task whose group is eligible at {@code now}.
+     *
+     * @param now current instant
+     * @return the next eligible task, or {@code null} if no group is eligible yet
+     */
+    ProcessingTask pollReady(Instant now);
+
+    /**
+     * Return a polled task to the head of its group and make the group eligible
+     * not before {@code eligibleAt}.
+     *
+     * @param task       task refused by the politeness policy
+     * @param eligibleAt earliest instant at which its group may run again
+     */
+    void defer(ProcessingTask task, Instant eligibleAt);
+
+    /**
+     * @return the earliest instant at which some group becomes eligible, or {@code null} if empty
+     */
+    Instant peekEligibleAt();
+}
@@ -39,4 +39,11 @@ public interface RunContext {
 
     InFlightBuffer inFlight();
 
+    /**
+     * @return telemetry recorder of the run, {@link CrawlTelemetry#NOOP} unless one is configured
+     */
+    default CrawlTelemetry telemetry() {
+        return CrawlTelemetry.NOOP;
+    }
+
 }
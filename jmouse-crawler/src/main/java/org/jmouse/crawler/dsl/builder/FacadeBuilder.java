@@ -89,6 +89,6 @@ public final class FacadeBuilder {
             );
         }
 
-        return new Crawler(engine, runner);
+        return new Crawler(engine, runner, runtimeBuilder.resources());
     }
 }
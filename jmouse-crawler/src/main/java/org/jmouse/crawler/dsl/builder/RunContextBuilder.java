@@ -10,15 +10,20 @@ import org.jmouse.crawler.runtime.ScopePolicies;
 import org.jmouse.crawler.runtime.core.DefaultRunContext;
 import org.jmouse.crawler.runtime.core.DefaultTaskFactory;
 import org.jmouse.crawler.runtime.core.TaskFactory;
+import org.jmouse.crawler.runtime.politeness.FeedbackFetcher;
 import org.jmouse.crawler.runtime.politeness.defaults.NoopPolitenessPolicy;
 import org.jmouse.crawler.runtime.queue.FifoFrontier;
 import org.jmouse.crawler.runtime.queue.InMemoryRetryBuffer;
 import org.jmouse.crawler.runtime.dlq.InMemoryDeadLetterQueue;
+import org.jmouse.crawler.runtime.persistence.*;
 import org.jmouse.crawler.runtime.state.*;
+import org.jmouse.crawler.runtime.telemetry.DefaultCrawlTelemetry;
 
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class RunContextBuilder {
 
@@ -38,9 +43,12 @@ public final class RunContextBuilder {
 
     private TaskFactory    tasks;
     private InFlightBuffer inFlight;
+    private CrawlTelemetry telemetry;
 
     private Clock clock;
 
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
     /* ===================== setters ===================== */
 
     public RunContextBuilder frontier(Frontier value) {
@@ -58,6 +66,32 @@ public final class RunContextBuilder {
         return this;
     }
 
+    /**
+     * Use disk-backed frontier, retry buffer and dead-letter queue stored under {@code directory},
+     * resuming a crawl previously run against the same directory. They are owned by the run and
+     * closed, with a final checkpoint, by {@link Crawler#close()}.
+     */
+    public RunContextBuilder persistent(Path directory) {
+        return persistent(directory, PersistenceConfig.defaults());
+    }
+
+    public RunContextBuilder persistent(Path directory, PersistenceConfig config) {
+        Verify.nonNull(directory, "directory");
+        Verify.nonNull(config, "config");
+        MappedFrontier        frontier        = own(new MappedFrontier(
+                directory.resolve("frontier"), TaskCodec.DEFAULT, config));
+        MappedRetryBuffer     retryBuffer     = own(new MappedRetryBuffer(
+                directory.resolve("retry"), TaskCodec.DEFAULT, config));
+        MappedDeadLetterQueue deadLetterQueue = own(new MappedDeadLetterQueue(
+                directory.resolve("dlq"), TaskCodec.DEFAULT, config));
+
+        this.frontier = frontier;
+        this.retryBuffer = retryBuffer;
+        this.deadLetterQueue = deadLetterQueue;
+
+        return this;
+    }
+
     public RunContextBuilder decisionLog(DecisionLog value) {
         this.decisionLog = Verify.nonNull(value, "decisionLog");
         return this;
@@ -121,6 +155,15 @@ public final class RunContextBuilder {
         return this;
     }
 
+    /**
+     * Telemetry recorder; disabled ({@link CrawlTelemetry#NOOP}) by default, pass a {@link DefaultCrawlTelemetry}
+     * to enable it.
+     */
+    public RunContextBuilder telemetry(CrawlTelemetry telemetry) {
+        this.telemetry = Verify.nonNull(telemetry, "telemetry");
+        return this;
+    }
+
     /* ===================== defaults ===================== */
 
     void ensureDefaults() {
@@ -177,6 +220,10 @@ public final class RunContextBuilder {
             inFlight = new InMemoryInFlightBuffer();
         }
 
+        if (telemetry == null) {
+            telemetry = CrawlTelemetry.NOOP;
+        }
+
         Verify.state(fetcher != null, "Fetcher must be configured via runtime.fetcher(...)");
 
     }
@@ -185,6 +232,18 @@ public final class RunContextBuilder {
         return clock == null ? Clock.systemUTC() : clock;
     }
 
+    /**
+     * @return resources created by this builder, in creation order; the run owns and closes them
+     */
+    List<AutoCloseable> resources() {
+        return List.copyOf(resources);
+    }
+
+    private <T extends AutoCloseable> T own(T resource) {
+        resources.add(resource);
+        return resource;
+    }
+
 
     /* ===================== build ===================== */
 
@@ -194,14 +253,27 @@ public final class RunContextBuilder {
             utilities = UtilityRegistry.empty();
         }
 
-        return new DefaultRunContext(
+        // telemetry and adaptive policies learn from every fetch of the run
+        List<FetchFeedback> feedbacks = new ArrayList<>(2);
+
+        if (telemetry != CrawlTelemetry.NOOP) {
+            feedbacks.add(telemetry);
+        }
+        if (politenessPolicy instanceof FetchFeedback feedback) {
+            feedbacks.add(feedback);
+        }
+
+        Fetcher effectiveFetcher = feedbacks.isEmpty()
+                ? fetcher : new FeedbackFetcher(fetcher, FetchFeedback.all(feedbacks));
+
+        RunContext run = new DefaultRunContext(
                 frontier,
                 retryBuffer,
                 deadLetterQueue,
                 decisionLog,
                 attributes,
                 routes,
-                fetcher,
+                effectiveFetcher,
                 parserRegistry,
                 seenStore,
                 scopePolicy,
@@ -210,8 +282,13 @@ public final class RunContextBuilder {
                 utilities,
                 politenessPolicy,
                 tasks,
-                inFlight
+                inFlight,
+                telemetry
         );
+
+        telemetry.attach(run);
+
+        return run;
     }
 
 }
@@ -1,8 +1,12 @@
 package org.jmouse.crawler.dsl.factory;
 
 import org.jmouse.crawler.dsl.builder.CrawlRunnerFactory;
+import org.jmouse.crawler.runtime.politeness.PolitenessKey;
+import org.jmouse.crawler.runtime.politeness.PolitenessKeyResolver;
+import org.jmouse.crawler.runtime.queue.HostPartitionedFrontier;
 import org.jmouse.crawler.runtime.runner.ExecutorRunner;
 import org.jmouse.crawler.runtime.runner.SingleThreadRunner;
+import org.jmouse.crawler.runtime.runner.VirtualThreadRunner;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -25,4 +29,23 @@ public final class Runners {
     public static CrawlRunnerFactory executor(ExecutorService executor, int maxInFlight) {
         return (context, scheduler) -> new ExecutorRunner(scheduler, context.clock(), executor, maxInFlight);
     }
+
+    /**
+     * Virtual thread per task, at most {@code maxPerHost} tasks executing per host.
+     */
+    public static CrawlRunnerFactory virtualThreads(int maxInFlight, int maxPerHost) {
+        return virtualThreads(
+                task -> new PolitenessKey(HostPartitionedFrontier.DEFAULT_LANE, task.url().getHost()),
+                maxInFlight,
+                maxPerHost
+        );
+    }
+
+    /**
+     * Virtual thread per task, at most {@code maxPerKey} tasks executing per resolved key.
+     */
+    public static CrawlRunnerFactory virtualThreads(PolitenessKeyResolver<?> keys, int maxInFlight, int maxPerKey) {
+        return (context, scheduler) -> new VirtualThreadRunner(
+                scheduler, context.clock(), context.inFlight(), keys, maxInFlight, maxPerKey);
+    }
 }
@@ -23,7 +23,8 @@ public final class Schedulers {
                 runContext.retryBuffer(),
                 runContext.clock(),
                 retryDrainBatch,
-                maxParkDuration
+                maxParkDuration,
+                runContext.telemetry()
         );
     }
 }
@@ -11,7 +11,7 @@ import org.jmouse.crawler.adapter.jsoup.*;
 import org.jmouse.crawler.api.*;
 import org.jmouse.crawler.dsl.builder.FacadeBuilder;
 import org.jmouse.crawler.dsl.factory.Runners;
-import org.jmouse.crawler.runtime.queue.FifoFrontier;
+import org.jmouse.crawler.runtime.queue.HostPartitionedFrontier;
 import org.jmouse.crawler.selector.*;
 import org.jmouse.crawler.adapter.http.HttpClientFetcher;
 import org.jmouse.crawler.adapter.http.HttpFetcherConfig;
@@ -103,7 +103,7 @@ public class Smoke2 {
                         .parsers(parserRegistry)
                         .decisionLog(decisionLog)
 
-                        .frontier(new FifoFrontier())
+                        .frontier(new HostPartitionedFrontier(new DefaultPolitenessKeyResolver()))
 
                         .politeness(PolitenessPolicies.gentle(80, 100))
                         .politeness(p -> p
@@ -7,6 +7,7 @@ import org.jmouse.crawler.api.ProcessingContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -72,9 +73,13 @@ public final class StepsPipeline implements ProcessingPipeline {
                     "%s:%s".formatted(id, stepId)
             );
 
+            long started = System.nanoTime();
+
             try {
                 PipelineResult result = step.execute(context);
 
+                record(context, stepId, started, false);
+
                 // Normalize null result to "continue".
                 if (result == null) {
                     result = PipelineResult.goon(stepId);
@@ -103,6 +108,8 @@ public final class StepsPipeline implements ProcessingPipeline {
                 }
 
             } catch (Exception exception) {
+                record(context, stepId, started, true);
+
                 String failed = "%s:%s -> %s: %s".formatted(
                         id,
                         stepId,
@@ -121,6 +128,14 @@ public final class StepsPipeline implements ProcessingPipeline {
         return (lastResult != null) ? lastResult : PipelineResult.goon("pipeline");
     }
 
+    /**
+     * Report the step latency to the run telemetry, keyed by route (or pipeline id if unrouted).
+     */
+    private void record(ProcessingContext context, String stepId, long started, boolean failed) {
+        String routeId = context.routeId() != null ? context.routeId() : id;
+        context.run().telemetry().stepFinished(routeId, stepId, Duration.ofNanos(System.nanoTime() - started), failed);
+    }
+
     /**
      * Validate step holder list:
      * <ul>
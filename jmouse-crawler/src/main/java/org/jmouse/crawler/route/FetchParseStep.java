@@ -28,6 +28,11 @@ import java.util.Map;
  *
  * <p>Parsing is optional: if no parser matches the content type, only the fetch result is stored.</p>
  *
+ * <p>Results that are not a full page are stored but never parsed, and the pipeline stops:
+ * a {@link FetchResult#notModified() 304} of a conditional re-crawl has no body, a
+ * {@link FetchResult.BodyStatus#TRUNCATED truncated} body is cut at the size limit and a
+ * {@link FetchResult.BodyStatus#REJECTED rejected} one was never downloaded.</p>
+ *
  * <p>Note: this step currently uses an empty header map ({@code Map.of()}).
  * If you plan to support custom headers (Accept, cookies, auth), consider injecting
  * a header strategy into the {@link RunContext} or passing headers via the task/context.</p>
@@ -58,6 +63,11 @@ public record FetchParseStep(String id) implements PipelineStep {
         // Make the fetch result available to downstream steps.
         context.setFetchResult(fetched);
 
+        PipelineResult skipped = skip(fetched);
+        if (skipped != null) {
+            return skipped;
+        }
+
         // Resolve and run a content-type-aware parser (optional).
         Parser parser = runContext.parserRegistry().resolve(fetched.contentType());
         if (parser != null) {
@@ -69,4 +79,26 @@ public record FetchParseStep(String id) implements PipelineStep {
         // Stage id is stable and useful for decision logs / debugging.
         return PipelineResult.goon("fetch-parse");
     }
+
+    /**
+     * @return terminal result for a fetch that must not be parsed as a page, or {@code null} to parse it
+     */
+    static PipelineResult skip(FetchResult fetched) {
+        if (fetched.notModified()) {
+            LOGGER.debug("Not modified since the last crawl: {}", fetched.uri());
+            return PipelineResult.stop("fetch-parse:not-modified");
+        }
+
+        return switch (fetched.bodyStatus()) {
+            case COMPLETE -> null;
+            case TRUNCATED -> {
+                LOGGER.debug("Body cut at the size limit, not parsed: {}", fetched.uri());
+                yield PipelineResult.stop("fetch-parse:truncated");
+            }
+            case REJECTED -> {
+                LOGGER.debug("Content type '{}' not accepted, not parsed: {}", fetched.contentType(), fetched.uri());
+                yield PipelineResult.stop("fetch-parse:rejected");
+            }
+        };
+    }
 }
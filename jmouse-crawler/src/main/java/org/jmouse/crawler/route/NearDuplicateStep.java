@@ -0,0 +1,95 @@
+package org.jmouse.crawler.route;
+
+import org.jmouse.core.Verify;
+import org.jmouse.crawler.api.ParsedDocument;
+import org.jmouse.crawler.api.ProcessingContext;
+import org.jmouse.crawler.pipeline.PipelineResult;
+import org.jmouse.crawler.pipeline.PipelineStep;
+import org.jmouse.crawler.runtime.state.DecisionCodes;
+import org.jmouse.crawler.runtime.state.SimHash;
+import org.jmouse.crawler.runtime.state.SimHashIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+/**
+ * Pipeline step stopping the pipeline for pages whose text nearly duplicates an already
+ * processed page (mirrors, print views, session-id variants). 👯
+ *
+ * <p>Place it right after {@link FetchParseStep}: the {@link SimHash} of
+ * {@link ParsedDocument#text()} is looked up in a shared {@link SimHashIndex}, keyed by the task URL
+ * so that a retried or re-crawled page never matches itself. A near-duplicate
+ * is logged as {@link DecisionCodes#DUPLICATE_NEAR} and the step returns
+ * {@link PipelineResult#stop(String)}, so link extraction and further processing steps are
+ * skipped. Distinct pages are added to the index and the pipeline goes on.</p>
+ *
+ * <p>Documents without text, or with fewer than {@code minFeatures} shingles, are passed on
+ * untouched: near-empty pages would otherwise all collapse into one fingerprint.</p>
+ *
+ * <pre>{@code
+ * SimHashIndex index = new SimHashIndex();
+ *
+ * pipeline.step("fetch-parse", new FetchParseStep("fetch-parse"))
+ *         .step("near-duplicate", new NearDuplicateStep(index))
+ *         .step("listing", listingProcessor);
+ * }</pre>
+ */
+public final class NearDuplicateStep implements PipelineStep {
+
+    public static final String STAGE_ID             = "near-duplicate";
+    public static final int    DEFAULT_MIN_FEATURES = 16;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NearDuplicateStep.class);
+
+    private final SimHashIndex index;
+    private final int          shingle;
+    private final int          minFeatures;
+
+    public NearDuplicateStep(SimHashIndex index) {
+        this(index, SimHash.DEFAULT_SHINGLE, DEFAULT_MIN_FEATURES);
+    }
+
+    /**
+     * @param index       index shared by all tasks of the run
+     * @param shingle     number of consecutive words forming a feature
+     * @param minFeatures minimal number of features a document needs to be checked
+     */
+    public NearDuplicateStep(SimHashIndex index, int shingle, int minFeatures) {
+        this.index = Verify.nonNull(index, "index");
+        this.shingle = Verify.positive(shingle, "shingle");
+        this.minFeatures = Verify.positive(minFeatures, "minFeatures");
+    }
+
+    @Override
+    public PipelineResult execute(ProcessingContext context) {
+        ParsedDocument document = context.document();
+        String         text     = document != null ? document.text() : null;
+
+        if (text == null) {
+            return PipelineResult.goon(STAGE_ID);
+        }
+
+        SimHash simHash = SimHash.of(text, shingle);
+
+        if (simHash.features() < minFeatures) {
+            return PipelineResult.goon(STAGE_ID);
+        }
+
+        String                       url  = context.processingTask().url().toString();
+        Optional<SimHashIndex.Match> near = index.putIfDistinct(url, simHash.value());
+
+        if (near.isEmpty()) {
+            return PipelineResult.goon(STAGE_ID);
+        }
+
+        SimHashIndex.Match match   = near.get();
+        String             message = "%s ~ %s (distance=%d)".formatted(
+                url, match.document(), simHash.distance(match.fingerprint()));
+
+        context.decisionLog().reject(DecisionCodes.DUPLICATE_NEAR, message);
+        LOGGER.debug("[{}]: {}", DecisionCodes.DUPLICATE_NEAR, message);
+
+        return PipelineResult.stop(STAGE_ID);
+    }
+}
@@ -0,0 +1,91 @@
+package org.jmouse.crawler.route;
+
+import org.jmouse.core.Verify;
+import org.jmouse.core.reflection.Reflections;
+import org.jmouse.crawler.api.FetchRequest;
+import org.jmouse.crawler.api.FetchResult;
+import org.jmouse.crawler.api.ParsedDocument;
+import org.jmouse.crawler.api.Parser;
+import org.jmouse.crawler.api.ProcessingContext;
+import org.jmouse.crawler.api.RunContext;
+import org.jmouse.crawler.pipeline.PipelineResult;
+import org.jmouse.crawler.pipeline.PipelineStep;
+import org.jmouse.crawler.runtime.stage.Stage;
+import org.jmouse.crawler.runtime.stage.StagedExecution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Variant of {@link FetchParseStep} running the fetch on the fetch {@link StagedExecution stage}
+ * and the parse on the parse stage. 🚦
+ *
+ * <p>The task thread only hands work over and waits; the steps after this one (link extraction,
+ * routing) run on the task thread again. Pair it with a runner whose waiting is cheap, such as
+ * {@link org.jmouse.crawler.runtime.runner.VirtualThreadRunner}, so the number of tasks in flight
+ * is not tied to either stage size.</p>
+ *
+ * <p>A fetched document keeps its fetch slot until the parse stage admitted it, which carries
+ * parse backpressure back to the fetch stage.</p>
+ *
+ * @param id     step identifier
+ * @param stages stages shared by all tasks of the run
+ */
+public record StagedFetchParseStep(String id, StagedExecution stages) implements PipelineStep {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(StagedFetchParseStep.class);
+
+    public StagedFetchParseStep {
+        Verify.nonNull(stages, "stages");
+    }
+
+    @Override
+    public PipelineResult execute(ProcessingContext context) throws Exception {
+        RunContext   runContext = context.run();
+        FetchRequest request    = new FetchRequest(context.processingTask().url(), Map.of());
+
+        Stage.Admission                admission = stages.fetch().admit();
+        CompletableFuture<FetchResult> fetching  = null;
+        Future<ParsedDocument>         parsing   = null;
+
+        // the fetch slot is held until the parse stage accepts the document, so a parse backlog
+        // stops new fetches instead of piling up fetched bodies
+        try {
+            fetching = stages.fetch().submit(admission, () -> runContext.fetcher().fetch(request));
+
+            FetchResult fetched = Stage.await(fetching);
+
+            LOGGER.debug("Fetched: {}", fetched);
+
+            context.setFetchResult(fetched);
+
+            PipelineResult skipped = FetchParseStep.skip(fetched);
+            if (skipped != null) {
+                return skipped;
+            }
+
+            Parser parser = runContext.parserRegistry().resolve(fetched.contentType());
+            if (parser != null) {
+                parsing = stages.parse().submit(() -> parser.parse(fetched));
+            }
+        } finally {
+            if (fetching == null || fetching.isDone()) {
+                admission.close();
+            } else {
+                // interrupted while waiting: the fetch still runs on the stage and keeps its slot
+                fetching.whenComplete((result, error) -> admission.close());
+            }
+        }
+
+        if (parsing != null) {
+            ParsedDocument parsed = Stage.await(parsing);
+            LOGGER.debug("Parsed: {}", Reflections.getUserClass(parsed));
+            context.setDocument(parsed);
+        }
+
+        return PipelineResult.goon("fetch-parse");
+    }
+}
@@ -30,6 +30,7 @@ public final class DefaultRunContext implements RunContext {
     private final PolitenessPolicy        politeness;
     private final TaskFactory             tasks;
     private final InFlightBuffer          inFlight;
+    private final CrawlTelemetry          telemetry;
 
     private final Clock clock;
 
@@ -49,7 +50,8 @@ public final class DefaultRunContext implements RunContext {
             UtilityRegistry utilities,
             PolitenessPolicy politeness,
             TaskFactory tasks,
-            InFlightBuffer inFlight
+            InFlightBuffer inFlight,
+            CrawlTelemetry telemetry
     ) {
         this.frontier = frontier;
         this.retryBuffer = retryBuffer;
@@ -67,6 +69,7 @@ public final class DefaultRunContext implements RunContext {
         this.politeness = politeness;
         this.tasks = tasks;
         this.inFlight = inFlight;
+        this.telemetry = telemetry;
     }
 
     @Override
@@ -148,4 +151,9 @@ public final class DefaultRunContext implements RunContext {
     public InFlightBuffer inFlight() {
         return inFlight;
     }
+
+    @Override
+    public CrawlTelemetry telemetry() {
+        return telemetry;
+    }
 }
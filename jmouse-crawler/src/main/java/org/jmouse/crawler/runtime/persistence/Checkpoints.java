@@ -0,0 +1,91 @@
+package org.jmouse.crawler.runtime.persistence;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Checkpoint files: small property files replaced atomically, readable by operators.
+ *
+ * <p>The temporary file is forced to disk before it is renamed over the checkpoint, and the directory
+ * afterwards, so a power loss leaves either the previous or the new checkpoint.</p>
+ */
+final class Checkpoints {
+
+    static final String FILE_NAME = "checkpoint.properties";
+
+    private Checkpoints() {}
+
+    static Map<String, String> load(Path directory) {
+        Path                file   = directory.resolve(FILE_NAME);
+        Map<String, String> values = new LinkedHashMap<>();
+
+        if (Files.exists(file)) {
+            Properties properties = new Properties();
+
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Unable to read checkpoint: " + file, exception);
+            }
+
+            properties.stringPropertyNames().forEach(name -> values.put(name, properties.getProperty(name)));
+        }
+
+        return values;
+    }
+
+    static void store(Path directory, Map<String, String> values) {
+        Path       file       = directory.resolve(FILE_NAME);
+        Path       temporary  = directory.resolve(FILE_NAME + ".tmp");
+        Properties properties = new Properties();
+
+        properties.putAll(values);
+
+        try {
+            StringWriter writer = new StringWriter();
+
+            properties.store(writer, null);
+
+            try (FileChannel channel = FileChannel.open(temporary, CREATE, WRITE, TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = StandardCharsets.UTF_8.encode(writer.toString());
+
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+
+                channel.force(true);
+            }
+
+            Files.move(temporary, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            forceDirectory(directory);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to write checkpoint: " + file, exception);
+        }
+    }
+
+    /**
+     * Persist directory entries (the rename of the checkpoint). Platforms that cannot open a
+     * directory as a channel do not need it.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+            // e.g. Windows, where directory entries are persisted with the file metadata
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.jmouse.crawler.runtime.persistence;
+
+import org.jmouse.crawler.api.DeadLetterEntry;
+import org.jmouse.crawler.api.DeadLetterItem;
+import org.jmouse.crawler.api.ProcessingTask;
+
+/**
+ * {@link RecordCodec} for {@link DeadLetterEntry}s; errors are reduced to a {@link RestoredError}.
+ */
+public final class DeadLetterCodec implements RecordCodec<DeadLetterEntry> {
+
+    private final RecordCodec<ProcessingTask> tasks;
+
+    public DeadLetterCodec(RecordCodec<ProcessingTask> tasks) {
+        this.tasks = tasks;
+    }
+
+    @Override
+    public void encode(DeadLetterEntry entry, RecordOutput output) {
+        DeadLetterItem item  = entry.item();
+        Throwable      error = item.error();
+
+        output.writeInstant(item.failedAt())
+                .writeString(item.reason())
+                .writeString(item.stageId())
+                .writeString(item.routeId())
+                .writeSignedVarLong(item.attempt());
+
+        if (error instanceof RestoredError restored) {
+            output.writeString(restored.type()).writeString(restored.getMessage());
+        } else {
+            output.writeString(error != null ? error.getClass().getName() : null);
+            output.writeString(error != null ? error.getMessage() : null);
+        }
+
+        tasks.encode(entry.task(), output);
+    }
+
+    @Override
+    public DeadLetterEntry decode(RecordInput input) {
+        var    failedAt  = input.readInstant();
+        String reason    = input.readString();
+        String stageId   = input.readString();
+        String routeId   = input.readString();
+        int    attempt   = (int) input.readSignedVarLong();
+        String errorType = input.readString();
+        String message   = input.readString();
+
+        DeadLetterItem item = new DeadLetterItem(failedAt, reason, stageId, routeId, attempt,
+                                                 errorType != null ? new RestoredError(errorType, message) : null);
+
+        return new DeadLetterEntry(tasks.decode(input), item);
+    }
+}
@@ -0,0 +1,73 @@
+package org.jmouse.crawler.runtime.persistence;
+
+import org.jmouse.crawler.api.DeadLetterEntry;
+import org.jmouse.crawler.api.DeadLetterItem;
+import org.jmouse.crawler.api.DeadLetterQueue;
+import org.jmouse.crawler.api.ProcessingTask;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Disk-backed {@link DeadLetterQueue} stored in memory-mapped segment files. ☠️💾
+ *
+ * <p>Entries survive restarts and can be inspected or exported by a later process.
+ * Errors are persisted as type name and message only (see {@link RestoredError}).</p>
+ */
+public final class MappedDeadLetterQueue implements DeadLetterQueue, Closeable {
+
+    private final SegmentQueue<DeadLetterEntry> queue;
+
+    public MappedDeadLetterQueue(Path directory) {
+        this(directory, TaskCodec.DEFAULT, PersistenceConfig.defaults());
+    }
+
+    public MappedDeadLetterQueue(Path directory, RecordCodec<ProcessingTask> codec, PersistenceConfig config) {
+        this.queue = new SegmentQueue<>(directory, new DeadLetterCodec(codec), config);
+    }
+
+    /**
+     * Put a task into the dead-letter queue; incomplete entries are ignored.
+     */
+    @Override
+    public void put(ProcessingTask task, DeadLetterItem item) {
+        if (task != null && item != null) {
+            queue.offer(new DeadLetterEntry(task, item));
+        }
+    }
+
+    @Override
+    public List<DeadLetterEntry> pollBatch(int max) {
+        if (max <= 0) {
+            return List.of();
+        }
+
+        List<DeadLetterEntry> batch = new ArrayList<>(Math.min(max, 64));
+
+        while (batch.size() < max) {
+            DeadLetterEntry entry = queue.poll();
+            if (entry == null) {
+                break;
+            }
+            batch.add(entry);
+        }
+
+        return batch;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, queue.size());
+    }
+
+    public void checkpoint() {
+        queue.checkpoint();
+    }
+
+    @Override
+    public void close() {
+        queue.close();
+    }
+}
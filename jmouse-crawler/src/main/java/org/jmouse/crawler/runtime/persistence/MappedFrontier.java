@@ -0,0 +1,74 @@
+package org.jmouse.crawler.runtime.persistence;
+
+import org.jmouse.crawler.api.Frontier;
+import org.jmouse.crawler.api.ProcessingTask;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+
+/**
+ * Disk-backed FIFO {@link Frontier} surviving process restarts. 💾
+ *
+ * <p>Tasks are appended to memory-mapped segment files in a compact binary form (see {@link TaskCodec});
+ * only a bounded window of decoded tasks lives on heap, so the frontier can grow far beyond the heap
+ * size. Checkpoints are written periodically (see {@link PersistenceConfig}) and on {@link #close()};
+ * after a crash, tasks polled since the last checkpoint are delivered again.</p>
+ *
+ * <pre>{@code
+ * try (MappedFrontier frontier = new MappedFrontier(Path.of("crawl/frontier"))) {
+ *     runtime.frontier(frontier);
+ *     crawler.runUntilDrained();
+ * }
+ * }</pre>
+ */
+public final class MappedFrontier implements Frontier, Closeable {
+
+    private final SegmentQueue<ProcessingTask> queue;
+
+    public MappedFrontier(Path directory) {
+        this(directory, TaskCodec.DEFAULT, PersistenceConfig.defaults());
+    }
+
+    public MappedFrontier(Path directory, RecordCodec<ProcessingTask> codec, PersistenceConfig config) {
+        this.queue = new SegmentQueue<>(directory, codec, config);
+    }
+
+    /**
+     * Append a task; {@code null} tasks are ignored.
+     */
+    @Override
+    public void offer(ProcessingTask task) {
+        if (task != null) {
+            queue.offer(task);
+        }
+    }
+
+    @Override
+    public ProcessingTask poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, queue.size());
+    }
+
+    /**
+     * @return exact number of queued tasks (may exceed {@link Integer#MAX_VALUE})
+     */
+    public long count() {
+        return queue.size();
+    }
+
+    /**
+     * Write a checkpoint now.
+     */
+    public void checkpoint() {
+        queue.checkpoint();
+    }
+
+    @Override
+    public void close() {
+        queue.close();
+    }
+}
@@ -0,0 +1,470 @@
+package org.jmouse.crawler.runtime.persistence;
+
+import org.jmouse.core.Verify;
+import org.jmouse.crawler.api.ProcessingTask;
+import org.jmouse.crawler.api.RetryBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Disk-backed {@link RetryBuffer} surviving process restarts. ⏳💾
+ *
+ * <p>Layout (an LSM-like design, since retries are drained by time rather than in arrival order):</p>
+ * <ul>
+ *   <li>every scheduled task is appended to a write-ahead log and kept in a bounded on-heap window</li>
+ *   <li>when the window overflows, or on a checkpoint once it holds {@code minRunSize} items or the
+ *       write-ahead log spans more than one segment, it is written out as a <em>run</em>: a segment log
+ *       sorted by eligibility instant; the run is forced to disk and the write-ahead log up to that
+ *       point is dropped</li>
+ *   <li>draining merges the window with the head record of every run, so heap usage is bounded by
+ *       {@code window + runs} regardless of the buffer size</li>
+ *   <li>when there are more than {@code maxRuns} runs, the smaller half is merged into one (size-tiered
+ *       compaction); exhausted runs are deleted after the next checkpoint</li>
+ * </ul>
+ *
+ * <p>A checkpoint that does not spill moves the start of the write-ahead log to the oldest task still
+ * in the window, so a drained window truncates the log. After a crash, the buffer resumes from the last
+ * checkpoint: run cursors are restored and the write-ahead log is replayed, so only tasks drained since
+ * that checkpoint, or logged after a task that was still pending at it, are delivered again.
+ * Deferral errors are not persisted; only the task, its eligibility instant and the reason are.</p>
+ */
+public final class MappedRetryBuffer implements RetryBuffer, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedRetryBuffer.class);
+
+    private static final Comparator<Item> ORDER =
+            Comparator.comparing(Item::eligibleAt).thenComparingLong(Item::sequence);
+
+    private final Path              directory;
+    private final PersistenceConfig config;
+    private final ItemCodec         codec;
+    private final RecordOutput      output = new RecordOutput();
+    private final SegmentLog        wal;
+    private final PriorityQueue<Item> window = new PriorityQueue<>(ORDER);
+    private final PriorityQueue<Run>  runs   = new PriorityQueue<>(Comparator.comparing(run -> run.head.eligibleAt()));
+    private final List<Run>           exhausted = new ArrayList<>();
+
+    private SegmentLog.Position walStart;
+    private long                nextRunId;
+    private long                sequence;
+    private long                size;
+    private int                 pending;
+    private long                checkpointedAt = System.nanoTime();
+
+    public MappedRetryBuffer(Path directory) {
+        this(directory, TaskCodec.DEFAULT, PersistenceConfig.defaults());
+    }
+
+    public MappedRetryBuffer(Path directory, RecordCodec<ProcessingTask> tasks, PersistenceConfig config) {
+        this.directory = Verify.nonNull(directory, "directory");
+        this.config = Verify.nonNull(config, "config");
+        this.codec = new ItemCodec(Verify.nonNull(tasks, "tasks"));
+
+        Map<String, String> checkpoint = Checkpoints.load(directory);
+        Set<String>         live       = new HashSet<>();
+
+        this.walStart = SegmentLog.Position.load(checkpoint, "wal");
+        this.nextRunId = Long.parseLong(checkpoint.getOrDefault("next-run", "0"));
+
+        for (String id : checkpoint.getOrDefault("runs", "").split(",")) {
+            if (!id.isBlank()) {
+                live.add(id);
+                restoreRun(Long.parseLong(id), checkpoint);
+            }
+        }
+
+        deleteOrphanRuns(live);
+
+        this.wal = new SegmentLog(directory.resolve("wal"), config.segmentSize());
+
+        SegmentLog.Reader replay = wal.reader(walStart);
+        ByteBuffer        record;
+
+        SegmentLog.Position logged = replay.position();
+
+        while ((record = replay.next()) != null) {
+            window.add(codec.decode(new RecordInput(record)).logged(sequence++, logged));
+            size++;
+            logged = replay.position();
+        }
+
+        this.walStart = wal.reader(walStart).position();
+
+        LOGGER.info("retry.open directory={} size={} runs={} replayed={}", directory, size, runs.size(), window.size());
+
+        if (window.size() > config.window()) {
+            spill();
+        }
+    }
+
+    /**
+     * Schedule a task; {@code null} task or time is ignored. The error is not persisted.
+     */
+    @Override
+    public synchronized void schedule(ProcessingTask task, Instant eligibleAt, String reason, Throwable error) {
+        if (task == null || eligibleAt == null) {
+            return;
+        }
+
+        Item item = new Item(eligibleAt, task, reason, sequence++, null);
+
+        codec.encode(item, output.reset());
+
+        window.add(item.logged(item.sequence(), wal.append(output.array(), output.size())));
+        size++;
+
+        if (window.size() > config.window()) {
+            spill();
+        } else {
+            tick(1);
+        }
+    }
+
+    /**
+     * Drain ready tasks in eligibility order, merging the on-heap window with all runs.
+     */
+    @Override
+    public synchronized List<ProcessingTask> drainReady(Instant now, int max) {
+        if (now == null || max <= 0) {
+            return List.of();
+        }
+
+        List<ProcessingTask> ready = new ArrayList<>(Math.min(max, 64));
+
+        while (ready.size() < max) {
+            Item candidate = window.peek();
+            Run  run       = runs.peek();
+
+            boolean fromRun = run != null && (candidate == null || run.head.eligibleAt().isBefore(candidate.eligibleAt()));
+            Item    next    = fromRun ? run.head : candidate;
+
+            if (next == null || next.eligibleAt().isAfter(now)) {
+                break;
+            }
+
+            if (fromRun) {
+                runs.poll();
+
+                if (run.advance()) {
+                    runs.add(run);
+                } else {
+                    exhausted.add(run);
+                }
+            } else {
+                window.poll();
+            }
+
+            size--;
+            ready.add(next.task());
+        }
+
+        if (!ready.isEmpty()) {
+            tick(ready.size());
+        }
+
+        return ready;
+    }
+
+    @Override
+    public synchronized int size() {
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    /**
+     * @return exact number of scheduled tasks (may exceed {@link Integer#MAX_VALUE})
+     */
+    public synchronized long count() {
+        return size;
+    }
+
+    @Override
+    public synchronized Instant peekEligibleAt() {
+        Item candidate = window.peek();
+        Run  run       = runs.peek();
+
+        if (run != null && (candidate == null || run.head.eligibleAt().isBefore(candidate.eligibleAt()))) {
+            return run.head.eligibleAt();
+        }
+
+        return candidate == null ? null : candidate.eligibleAt();
+    }
+
+    /**
+     * Write a checkpoint; the window is persisted as a run only when it is large enough or the
+     * write-ahead log covering it has grown past a segment, otherwise the log keeps covering it from
+     * the oldest task still in the window on (or entirely drops it when the window is empty).
+     */
+    public synchronized void checkpoint() {
+        if (window.size() >= config.minRunSize() || wal.end().segment() > walStart.segment()) {
+            spill();
+        } else {
+            walStart = window.stream().map(Item::logged).min(Comparator.naturalOrder()).orElseGet(wal::end);
+            writeCheckpoint();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        checkpoint();
+        wal.close();
+        runs.forEach(run -> run.log.close());
+    }
+
+    private void tick(int operations) {
+        pending += operations;
+
+        if (pending >= config.checkpointEvery()
+                || System.nanoTime() - checkpointedAt >= config.checkpointInterval().toNanos()) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * Write the whole window as a sorted run; the write-ahead log before this point becomes redundant.
+     */
+    private void spill() {
+        List<byte[]> records = new ArrayList<>(window.size());
+        long         bytes   = 0;
+        Item         item;
+
+        while ((item = window.poll()) != null) {
+            codec.encode(item, output.reset());
+            records.add(output.toByteArray());
+            bytes += SegmentLog.HEADER_SIZE + output.size();
+        }
+
+        // a window drained entirely needs no run, only the write-ahead log is truncated
+        if (!records.isEmpty()) {
+            Run run = createRun(bytes);
+
+            for (byte[] record : records) {
+                run.log.append(record, record.length);
+            }
+
+            // the run must be durable before the checkpoint drops the log records it replaces
+            run.log.force();
+            run.open(records.size(), bytes);
+            runs.add(run);
+        }
+
+        walStart = wal.end();
+
+        compact();
+        writeCheckpoint();
+
+        LOGGER.debug("retry.spill directory={} items={} runs={}", directory, records.size(), runs.size());
+    }
+
+    /**
+     * Merge the smaller half of the runs into one when there are too many of them.
+     */
+    private void compact() {
+        if (runs.size() <= config.maxRuns()) {
+            return;
+        }
+
+        List<Run> victims = runs.stream()
+                .sorted(Comparator.comparingLong(run -> run.remaining))
+                .limit(Math.max(2, runs.size() / 2))
+                .toList();
+
+        runs.removeAll(victims);
+
+        PriorityQueue<Run> merge  = new PriorityQueue<>(runs.comparator());
+        Run                target = createRun(victims.stream().mapToLong(run -> run.bytes).sum());
+        long               items  = 0;
+        long               bytes  = 0;
+
+        merge.addAll(victims);
+
+        while (!merge.isEmpty()) {
+            Run source = merge.poll();
+
+            codec.encode(source.head, output.reset());
+            target.log.append(output.array(), output.size());
+            bytes += SegmentLog.HEADER_SIZE + output.size();
+            items++;
+
+            if (source.advance()) {
+                merge.add(source);
+            }
+        }
+
+        target.log.force();
+        target.open(items, bytes);
+        runs.add(target);
+        exhausted.addAll(victims);
+
+        LOGGER.debug("retry.compact directory={} merged-runs={} items={}", directory, victims.size(), items);
+    }
+
+    private void writeCheckpoint() {
+        wal.force();
+
+        Map<String, String> values = new LinkedHashMap<>();
+
+        walStart.store(values, "wal");
+        values.put("next-run", Long.toString(nextRunId));
+        values.put("runs", runs.stream().map(run -> Long.toString(run.id)).collect(Collectors.joining(",")));
+
+        for (Run run : runs) {
+            run.cursor.store(values, "run." + run.id);
+            values.put("run." + run.id + ".remaining", Long.toString(run.remaining));
+            values.put("run." + run.id + ".bytes", Long.toString(run.bytes));
+        }
+
+        Checkpoints.store(directory, values);
+
+        // runs are deleted only once the checkpoint no longer refers to them
+        exhausted.forEach(run -> run.log.delete());
+        exhausted.clear();
+
+        wal.deleteBefore(walStart);
+
+        pending = 0;
+        checkpointedAt = System.nanoTime();
+    }
+
+    private Run createRun(long bytes) {
+        long segment = Math.min(config.segmentSize(), Math.max(4096, bytes + SegmentLog.HEADER_SIZE));
+        long id      = nextRunId++;
+
+        return new Run(id, new SegmentLog(runDirectory(id), (int) segment));
+    }
+
+    private void restoreRun(long id, Map<String, String> checkpoint) {
+        Path path = runDirectory(id);
+
+        if (!Files.isDirectory(path)) {
+            LOGGER.warn("retry.run.missing directory={}", path);
+            return;
+        }
+
+        Run run = new Run(id, new SegmentLog(path, config.segmentSize()));
+
+        run.cursor = SegmentLog.Position.load(checkpoint, "run." + id);
+        run.open(Long.parseLong(checkpoint.getOrDefault("run." + id + ".remaining", "0")),
+                 Long.parseLong(checkpoint.getOrDefault("run." + id + ".bytes", Long.toString(config.segmentSize()))));
+
+        if (run.head != null) {
+            runs.add(run);
+            size += run.remaining;
+        } else {
+            exhausted.add(run);
+        }
+    }
+
+    private void deleteOrphanRuns(Set<String> live) {
+        Path root = directory.resolve("runs");
+
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        try (Stream<Path> children = Files.list(root)) {
+            for (Path child : children.filter(child -> !live.contains(child.getFileName().toString())).toList()) {
+                // a run written after the last checkpoint, its items are still in the write-ahead log
+                try (Stream<Path> files = Files.list(child)) {
+                    for (Path file : files.toList()) {
+                        Files.delete(file);
+                    }
+                }
+                Files.delete(child);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to list runs: " + root, exception);
+        }
+    }
+
+    private Path runDirectory(long id) {
+        return directory.resolve("runs").resolve(Long.toString(id));
+    }
+
+    /**
+     * Scheduled task; the sequence keeps insertion order among equal instants. {@code logged} is the
+     * position of its write-ahead log record while the task is in the window, {@code null} in a run.
+     */
+    private record Item(Instant eligibleAt, ProcessingTask task, String reason, long sequence,
+                        SegmentLog.Position logged) {
+
+        Item logged(long value, SegmentLog.Position position) {
+            return new Item(eligibleAt, task, reason, value, position);
+        }
+    }
+
+    /**
+     * Sorted run with a cursor at its first unconsumed item, which is kept decoded as {@code head}.
+     * {@code remaining} and {@code bytes} count the items and record bytes from the head on.
+     */
+    private final class Run {
+
+        private final long                id;
+        private final SegmentLog          log;
+        private       SegmentLog.Reader   reader;
+        private       SegmentLog.Position cursor;
+        private       Item                head;
+        private       long                remaining;
+        private       long                bytes;
+        private       int                 headBytes;
+
+        private Run(long id, SegmentLog log) {
+            this.id = id;
+            this.log = log;
+        }
+
+        void open(long items, long size) {
+            reader = log.reader(cursor);
+            remaining = items + 1;
+            bytes = size;
+            advance();
+        }
+
+        /**
+         * Move to the next item.
+         *
+         * @return {@code false} if the run is exhausted
+         */
+        boolean advance() {
+            cursor = reader.position();
+
+            ByteBuffer record = reader.next();
+
+            remaining--;
+            bytes = Math.max(0, bytes - headBytes);
+            headBytes = record == null ? 0 : SegmentLog.HEADER_SIZE + record.remaining();
+            head = record == null ? null : codec.decode(new RecordInput(record));
+
+            return head != null;
+        }
+    }
+
+    /**
+     * Binary form of an {@link Item}: eligibility instant, reason and task.
+     */
+    private record ItemCodec(RecordCodec<ProcessingTask> tasks) implements RecordCodec<Item> {
+
+        @Override
+        public void encode(Item item, RecordOutput output) {
+            output.writeInstant(item.eligibleAt()).writeString(item.reason());
+            tasks.encode(item.task(), output);
+        }
+
+        @Override
+        public Item decode(RecordInput input) {
+            Instant eligibleAt = input.readInstant();
+            String  reason     = input.readString();
+            return new Item(eligibleAt, tasks.decode(input), reason, 0, null);
+        }
+    }
+}
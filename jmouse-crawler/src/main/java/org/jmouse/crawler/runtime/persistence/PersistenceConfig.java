@@ -0,0 +1,113 @@
+package org.jmouse.crawler.runtime.persistence;
+
+import org.jmouse.core.Verify;
+
+import java.time.Duration;
+
+/**
+ * Tuning of the disk-backed queues. ⚙️
+ *
+ * <ul>
+ *   <li>{@code segmentSize} – size of a memory-mapped segment file</li>
+ *   <li>{@code window} – maximal number of decoded items kept on heap per queue</li>
+ *   <li>{@code checkpointEvery} / {@code checkpointInterval} – a checkpoint is written after this many
+ *       operations or this much time, whichever comes first</li>
+ *   <li>{@code maxRuns} – number of sorted retry runs that triggers their compaction</li>
+ *   <li>{@code minRunSize} – smallest retry window a periodic checkpoint writes out as a run; smaller
+ *       windows stay covered by the write-ahead log</li>
+ * </ul>
+ */
+public final class PersistenceConfig {
+
+    private final int      segmentSize;
+    private final int      window;
+    private final int      checkpointEvery;
+    private final Duration checkpointInterval;
+    private final int      maxRuns;
+    private final int      minRunSize;
+
+    private PersistenceConfig(Builder builder) {
+        this.segmentSize = builder.segmentSize;
+        this.window = builder.window;
+        this.checkpointEvery = builder.checkpointEvery;
+        this.checkpointInterval = builder.checkpointInterval;
+        this.maxRuns = builder.maxRuns;
+        this.minRunSize = builder.minRunSize;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static PersistenceConfig defaults() {
+        return builder().build();
+    }
+
+    public int segmentSize() {
+        return segmentSize;
+    }
+
+    public int window() {
+        return window;
+    }
+
+    public int checkpointEvery() {
+        return checkpointEvery;
+    }
+
+    public Duration checkpointInterval() {
+        return checkpointInterval;
+    }
+
+    public int maxRuns() {
+        return maxRuns;
+    }
+
+    public int minRunSize() {
+        return minRunSize;
+    }
+
+    public static final class Builder {
+        private int      segmentSize        = 64 * 1024 * 1024;
+        private int      window             = 4096;
+        private int      checkpointEvery    = 10_000;
+        private Duration checkpointInterval = Duration.ofSeconds(5);
+        private int      maxRuns            = 16;
+        private int      minRunSize         = 512;
+
+        public Builder segmentSize(int value) {
+            this.segmentSize = Verify.positive(value, "segmentSize");
+            return this;
+        }
+
+        public Builder window(int value) {
+            this.window = Verify.positive(value, "window");
+            return this;
+        }
+
+        public Builder checkpointEvery(int value) {
+            this.checkpointEvery = Verify.positive(value, "checkpointEvery");
+            return this;
+        }
+
+        public Builder checkpointInterval(Duration value) {
+            this.checkpointInterval = Verify.nonNull(value, "checkpointInterval");
+            return this;
+        }
+
+        public Builder maxRuns(int value) {
+            Verify.state(value >= 2, "maxRuns must be >= 2");
+            this.maxRuns = value;
+            return this;
+        }
+
+        public Builder minRunSize(int value) {
+            this.minRunSize = Verify.positive(value, "minRunSize");
+            return this;
+        }
+
+        public PersistenceConfig build() {
+            return new PersistenceConfig(this);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.jmouse.crawler.runtime.persistence;
+
+/**
+ * Binary codec for values stored in a {@link SegmentLog}. 🔁
+ *
+ * @param <T> value type
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Encode a value into the output.
+     */
+    void encode(T value, RecordOutput output);
+
+    /**
+     * Decode a value previously written by {@link #encode(Object, RecordOutput)}.
+     */
+    T decode(RecordInput input);
+}
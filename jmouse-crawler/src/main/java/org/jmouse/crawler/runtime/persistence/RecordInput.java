@@ -0,0 +1,79 @@
+package org.jmouse.crawler.runtime.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Reader for records written by {@link RecordOutput}. 📖
+ *
+ * @see RecordOutput
+ */
+public final class RecordInput {
+
+    private final ByteBuffer buffer;
+
+    public RecordInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public RecordInput(byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    public int readByte() {
+        return buffer.get() & 0xFF;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        int  shift = 0;
+
+        while (true) {
+            byte current = buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+
+            shift += 7;
+
+            if (shift > 63) {
+                throw new IllegalStateException("Malformed variable-length value");
+            }
+        }
+    }
+
+    public int readVarInt() {
+        return Math.toIntExact(readVarLong());
+    }
+
+    public long readSignedVarLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public String readString() {
+        int length = readVarInt();
+
+        if (length == 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length - 1];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public Instant readInstant() {
+        if (readByte() == 0) {
+            return null;
+        }
+
+        long seconds = readSignedVarLong();
+
+        return Instant.ofEpochSecond(seconds, readVarLong());
+    }
+}
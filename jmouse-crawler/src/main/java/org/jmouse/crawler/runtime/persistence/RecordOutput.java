@@ -0,0 +1,104 @@
+package org.jmouse.crawler.runtime.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Growable binary buffer used to encode log records. ✍️
+ *
+ * <p>Integers are written as variable-length quantities (signed ones zig-zag encoded) and strings
+ * as length-prefixed UTF-8, so typical crawl records take a fraction of their Java serialized size.
+ * Nullable values are supported for strings and instants.</p>
+ *
+ * @see RecordInput
+ */
+public final class RecordOutput {
+
+    private byte[] buffer = new byte[256];
+    private int    size;
+
+    public RecordOutput writeByte(int value) {
+        ensure(1);
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * Write a non-negative value as an unsigned variable-length quantity.
+     */
+    public RecordOutput writeVarLong(long value) {
+        ensure(10);
+
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        buffer[size++] = (byte) value;
+
+        return this;
+    }
+
+    /**
+     * Write a value that may be negative (zig-zag encoded).
+     */
+    public RecordOutput writeSignedVarLong(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Write a nullable string; {@code null} and empty strings are distinguished.
+     */
+    public RecordOutput writeString(String value) {
+        if (value == null) {
+            return writeVarLong(0);
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        writeVarLong(bytes.length + 1L);
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+
+        return this;
+    }
+
+    /**
+     * Write a nullable instant.
+     */
+    public RecordOutput writeInstant(Instant value) {
+        if (value == null) {
+            return writeByte(0);
+        }
+
+        writeByte(1);
+        writeSignedVarLong(value.getEpochSecond());
+
+        return writeVarLong(value.getNano());
+    }
+
+    public byte[] array() {
+        return buffer;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public RecordOutput reset() {
+        size = 0;
+        return this;
+    }
+
+    private void ensure(int bytes) {
+        if (size + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + bytes));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.jmouse.crawler.runtime.persistence;
+
+/**
+ * Stand-in for an error read back from disk: only the original type name and message are persisted.
+ */
+public final class RestoredError extends RuntimeException {
+
+    private final String type;
+
+    public RestoredError(String type, String message) {
+        super(message, null, false, false);
+        this.type = type;
+    }
+
+    /**
+     * @return class name of the original error
+     */
+    public String type() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return getMessage() == null ? type : type + ": " + getMessage();
+    }
+}
@@ -0,0 +1,402 @@
+package org.jmouse.crawler.runtime.persistence;
+
+import org.jmouse.core.Verify;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Append-only record log stored in memory-mapped segment files. 🗄️
+ *
+ * <p>Records are framed as {@code [length:int][crc32c:int][payload]} and appended to the head
+ * segment; when a record does not fit, the head is forced to disk and a new segment is started.
+ * A zero length marks the end of the written data (mapped files are zero-filled).</p>
+ *
+ * <p>On open the head segment is scanned and the log is cut at the first torn or corrupted record,
+ * which makes a crash lose at most the records that were not {@link #force() forced} yet.
+ * Consumed segments are removed with {@link #deleteBefore(Position)}.</p>
+ *
+ * <p>Thread-safety: all operations, including those of {@link Reader}s, are guarded by the log monitor.</p>
+ */
+public final class SegmentLog implements Closeable {
+
+    /**
+     * Size of the record frame header (length and checksum).
+     */
+    public static final int HEADER_SIZE = 8;
+
+    private static final String SUFFIX = ".seg";
+
+    private final Path                    directory;
+    private final int                     segmentSize;
+    private final TreeMap<Long, Segment>  segments = new TreeMap<>();
+    private final CRC32C                  checksum = new CRC32C();
+    private       Segment                 head;
+    private       int                     headOffset;
+
+    /**
+     * Open (or create) the log stored in {@code directory}.
+     *
+     * @param directory   directory holding the segment files
+     * @param segmentSize size of newly created segment files in bytes
+     */
+    public SegmentLog(Path directory, int segmentSize) {
+        Verify.state(segmentSize > HEADER_SIZE * 2, "segmentSize is too small");
+
+        this.directory = Verify.nonNull(directory, "directory");
+        this.segmentSize = segmentSize;
+
+        try (Stream<Path> files = Files.list(Files.createDirectories(directory))) {
+            files.filter(file -> file.getFileName().toString().endsWith(SUFFIX)).forEach(file -> {
+                String name = file.getFileName().toString();
+                long   id   = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+                segments.put(id, new Segment(id, file));
+            });
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to open segment log: " + directory, exception);
+        }
+
+        if (segments.isEmpty()) {
+            head = create(0);
+        } else {
+            head = segments.lastEntry().getValue();
+            headOffset = recover(head);
+        }
+    }
+
+    /**
+     * Append a record.
+     *
+     * @param data   payload bytes
+     * @param length payload length
+     * @return position of the appended record
+     * @throws IllegalArgumentException if the record does not fit into a segment
+     */
+    public synchronized Position append(byte[] data, int length) {
+        int required = HEADER_SIZE + length;
+
+        if (length <= 0 || required > segmentSize) {
+            throw new IllegalArgumentException("Record of %d bytes does not fit into a segment of %d bytes"
+                                                       .formatted(length, segmentSize));
+        }
+
+        if (headOffset + required > head.buffer().capacity()) {
+            roll();
+        }
+
+        MappedByteBuffer buffer = head.buffer();
+
+        checksum.reset();
+        checksum.update(data, 0, length);
+
+        buffer.put(headOffset + HEADER_SIZE, data, 0, length);
+        buffer.putInt(headOffset + 4, (int) checksum.getValue());
+        // the length is written last: a reader never sees a partially written record
+        buffer.putInt(headOffset, length);
+
+        Position position = new Position(head.id, headOffset);
+
+        headOffset += required;
+
+        return position;
+    }
+
+    /**
+     * @return reader starting at {@code position}, or at the first record if {@code null}
+     */
+    public synchronized Reader reader(Position position) {
+        Position start = start();
+
+        if (position == null || position.compareTo(start) < 0) {
+            position = start;
+        }
+
+        return new Reader(position);
+    }
+
+    /**
+     * @return position of the first retained record
+     */
+    public synchronized Position start() {
+        return new Position(segments.firstKey(), 0);
+    }
+
+    /**
+     * @return position the next record will be appended at
+     */
+    public synchronized Position end() {
+        return new Position(head.id, headOffset);
+    }
+
+    /**
+     * Flush the head segment to disk; earlier segments were flushed when they were sealed.
+     */
+    public synchronized void force() {
+        head.buffer().force();
+    }
+
+    /**
+     * Delete all segments that lie entirely before {@code position}.
+     *
+     * @return number of deleted segments
+     */
+    public synchronized int deleteBefore(Position position) {
+        int deleted = 0;
+
+        while (segments.firstKey() < Math.min(position.segment(), head.id)) {
+            Segment segment = segments.pollFirstEntry().getValue();
+            segment.release();
+            delete(segment.path);
+            deleted++;
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Close the log and remove all of its files.
+     */
+    public synchronized void delete() {
+        for (Segment segment : segments.values()) {
+            segment.release();
+            delete(segment.path);
+        }
+
+        segments.clear();
+        delete(directory);
+    }
+
+    /**
+     * @return number of segment files
+     */
+    public synchronized int segments() {
+        return segments.size();
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!segments.isEmpty()) {
+            force();
+            segments.values().forEach(Segment::release);
+        }
+    }
+
+    private void roll() {
+        head.buffer().force();
+        head.release();
+        head = create(head.id + 1);
+        headOffset = 0;
+    }
+
+    private Segment create(long id) {
+        Segment segment = new Segment(id, directory.resolve("%020d%s".formatted(id, SUFFIX)));
+        segments.put(id, segment);
+        segment.buffer();
+        return segment;
+    }
+
+    /**
+     * Find the end of valid data in the head segment and wipe everything after it, so that
+     * stale bytes of a torn write are never mistaken for records appended later.
+     */
+    private int recover(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer();
+        int              offset = 0;
+
+        while (offset + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+
+            if (length <= 0 || offset + HEADER_SIZE + length > buffer.capacity()
+                    || !valid(buffer, offset, length)) {
+                break;
+            }
+
+            offset += HEADER_SIZE + length;
+        }
+
+        for (int index = offset; index < buffer.capacity(); index++) {
+            if (buffer.get(index) != 0) {
+                buffer.put(index, (byte) 0);
+            }
+        }
+
+        buffer.force();
+
+        return offset;
+    }
+
+    private boolean valid(ByteBuffer buffer, int offset, int length) {
+        checksum.reset();
+        checksum.update(buffer.slice(offset + HEADER_SIZE, length));
+        return (int) checksum.getValue() == buffer.getInt(offset + 4);
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to delete: " + path, exception);
+        }
+    }
+
+    /**
+     * Position of a record in the log; ordered by segment, then offset.
+     */
+    public record Position(long segment, int offset) implements Comparable<Position> {
+
+        /**
+         * @return position stored under {@code prefix} by {@link #store(Map, String)}, or {@code null}
+         */
+        public static Position load(Map<String, String> values, String prefix) {
+            String segment = values.get(prefix + ".segment");
+            String offset  = values.get(prefix + ".offset");
+
+            if (segment == null || offset == null) {
+                return null;
+            }
+
+            return new Position(Long.parseLong(segment), Integer.parseInt(offset));
+        }
+
+        public void store(Map<String, String> values, String prefix) {
+            values.put(prefix + ".segment", Long.toString(segment));
+            values.put(prefix + ".offset", Integer.toString(offset));
+        }
+
+        @Override
+        public int compareTo(Position other) {
+            int result = Long.compare(segment, other.segment);
+            return result != 0 ? result : Integer.compare(offset, other.offset);
+        }
+    }
+
+    /**
+     * Sequential reader. Reaching the end is not final: records appended later are returned
+     * by subsequent {@link #next()} calls.
+     */
+    public final class Reader {
+
+        private long    segment;
+        private int     offset;
+        private Segment current;
+
+        private Reader(Position position) {
+            this.segment = position.segment();
+            this.offset = position.offset();
+        }
+
+        /**
+         * @return payload of the next record, or {@code null} if no record is available yet
+         * @throws IllegalStateException if a corrupted record is found
+         */
+        public ByteBuffer next() {
+            synchronized (SegmentLog.this) {
+                while (true) {
+                    if (current == null) {
+                        current = segments.get(segment);
+
+                        if (current == null) {
+                            Map.Entry<Long, Segment> entry = segments.ceilingEntry(segment);
+
+                            if (entry == null) {
+                                return null;
+                            }
+
+                            current = entry.getValue();
+                            segment = entry.getKey();
+                            offset = 0;
+                        }
+                    }
+
+                    MappedByteBuffer buffer = current.buffer();
+                    int              length = offset + HEADER_SIZE <= buffer.capacity() ? buffer.getInt(offset) : 0;
+
+                    if (length > 0) {
+                        if (offset + HEADER_SIZE + length > buffer.capacity() || !valid(buffer, offset, length)) {
+                            throw new IllegalStateException(
+                                    "Corrupted record in %s at offset %d".formatted(current.path, offset));
+                        }
+
+                        ByteBuffer payload = buffer.slice(offset + HEADER_SIZE, length);
+                        offset += HEADER_SIZE + length;
+                        return payload;
+                    }
+
+                    // end of written data: move on only if the writer has already started a newer segment
+                    Long following = segments.higherKey(segment);
+
+                    if (following == null) {
+                        return null;
+                    }
+
+                    if (current != head) {
+                        current.release();
+                    }
+
+                    current = null;
+                    segment = following;
+                    offset = 0;
+                }
+            }
+        }
+
+        /**
+         * @return position of the next record to be read
+         */
+        public Position position() {
+            synchronized (SegmentLog.this) {
+                return new Position(segment, offset);
+            }
+        }
+    }
+
+    /**
+     * Segment file with its lazily established mapping.
+     */
+    private final class Segment {
+
+        private final long             id;
+        private final Path             path;
+        private       MappedByteBuffer buffer;
+
+        private Segment(long id, Path path) {
+            this.id = id;
+            this.path = path;
+        }
+
+        MappedByteBuffer buffer() {
+            if (buffer == null) {
+                try (FileChannel channel = FileChannel.open(path, CREATE, READ, WRITE)) {
+                    long size = channel.size() > 0 ? channel.size() : segmentSize;
+                    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException("Unable to map segment: " + path, exception);
+                }
+            }
+            return buffer;
+        }
+
+        /**
+         * Drop the mapping reference; the mapping itself is released by the garbage collector.
+         */
+        void release() {
+            buffer = null;
+        }
+    }
+}
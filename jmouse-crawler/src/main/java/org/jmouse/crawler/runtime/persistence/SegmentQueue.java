@@ -0,0 +1,141 @@
+package org.jmouse.crawler.runtime.persistence;
+
+import org.jmouse.core.Verify;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Durable FIFO queue over a {@link SegmentLog}, shared by the disk-backed frontier and dead-letter queue.
+ *
+ * <p>Offered items go straight to the log; only a window of up to {@code config.window()} decoded
+ * items is held on heap. A checkpoint stores the position of the first unconsumed item and the log
+ * end with the queue size, then drops fully consumed segments. After a crash the queue resumes at
+ * the last checkpoint, so items polled after it are delivered again (at-least-once).</p>
+ */
+final class SegmentQueue<T> implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SegmentQueue.class);
+
+    private final Path                  directory;
+    private final SegmentLog            log;
+    private final RecordCodec<T>        codec;
+    private final PersistenceConfig     config;
+    private final RecordOutput          output = new RecordOutput();
+    private final ArrayDeque<Entry<T>>  window = new ArrayDeque<>();
+    private final SegmentLog.Reader     reader;
+
+    private SegmentLog.Position consumed;
+    private long                size;
+    private int                 pending;
+    private long                checkpointedAt = System.nanoTime();
+
+    SegmentQueue(Path directory, RecordCodec<T> codec, PersistenceConfig config) {
+        this.directory = Verify.nonNull(directory, "directory");
+        this.codec = Verify.nonNull(codec, "codec");
+        this.config = Verify.nonNull(config, "config");
+        this.log = new SegmentLog(directory.resolve("log"), config.segmentSize());
+
+        Map<String, String> checkpoint = Checkpoints.load(directory);
+        SegmentLog.Position end        = SegmentLog.Position.load(checkpoint, "end");
+
+        this.consumed = SegmentLog.Position.load(checkpoint, "consumed");
+        this.size = Long.parseLong(checkpoint.getOrDefault("size", "0"));
+
+        // items appended after the last checkpoint are counted by scanning the log tail
+        SegmentLog.Reader tail = log.reader(end);
+        while (tail.next() != null) {
+            size++;
+        }
+
+        this.reader = log.reader(consumed);
+        this.consumed = reader.position();
+
+        LOGGER.info("queue.open directory={} size={} segments={}", directory, size, log.segments());
+    }
+
+    synchronized void offer(T value) {
+        codec.encode(value, output.reset());
+        log.append(output.array(), output.size());
+        size++;
+        tick();
+    }
+
+    synchronized T poll() {
+        if (window.isEmpty()) {
+            fill();
+        }
+
+        Entry<T> entry = window.poll();
+
+        if (entry == null) {
+            return null;
+        }
+
+        consumed = entry.next();
+        size--;
+        tick();
+
+        return entry.value();
+    }
+
+    synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Flush the log, persist the consumer position and drop consumed segments.
+     */
+    synchronized void checkpoint() {
+        log.force();
+
+        Map<String, String> values = new LinkedHashMap<>();
+
+        consumed.store(values, "consumed");
+        log.end().store(values, "end");
+        values.put("size", Long.toString(size));
+
+        Checkpoints.store(directory, values);
+
+        int deleted = log.deleteBefore(consumed);
+
+        if (deleted > 0) {
+            LOGGER.debug("queue.compact directory={} deleted-segments={}", directory, deleted);
+        }
+
+        pending = 0;
+        checkpointedAt = System.nanoTime();
+    }
+
+    @Override
+    public synchronized void close() {
+        checkpoint();
+        log.close();
+    }
+
+    private void fill() {
+        ByteBuffer record;
+
+        while (window.size() < config.window() && (record = reader.next()) != null) {
+            window.add(new Entry<>(codec.decode(new RecordInput(record)), reader.position()));
+        }
+    }
+
+    private void tick() {
+        if (++pending >= config.checkpointEvery()
+                || System.nanoTime() - checkpointedAt >= config.checkpointInterval().toNanos()) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * Decoded item with the position following its record.
+     */
+    private record Entry<T>(T value, SegmentLog.Position next) { }
+}
@@ -0,0 +1,202 @@
+package org.jmouse.crawler.runtime.persistence;
+
+import org.jmouse.core.trace.TraceContext;
+import org.jmouse.crawler.api.ProcessingTask;
+import org.jmouse.crawler.api.RoutingHint;
+import org.jmouse.crawler.api.TaskId;
+import org.jmouse.crawler.api.TaskOrigin;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Compact binary {@link RecordCodec} for {@link ProcessingTask}s. 🧩
+ *
+ * <p>A typical task takes about 150 bytes. Routing hints are stored as their type name and
+ * {@link RoutingHint#id() id} and restored by a {@link HintResolver}; the default one handles enum
+ * hints and single-string records (such as the DSL's simple hints).</p>
+ */
+public final class TaskCodec implements RecordCodec<ProcessingTask> {
+
+    public static final TaskCodec DEFAULT = new TaskCodec(HintResolver.DEFAULT);
+
+    private static final int FORMAT = 1;
+
+    private static final int ORIGIN_NONE       = 0;
+    private static final int ORIGIN_SEED       = 1;
+    private static final int ORIGIN_DISCOVERED = 2;
+    private static final int ORIGIN_RETRY      = 3;
+    private static final int ORIGIN_RESTORED   = 4;
+
+    private final HintResolver hints;
+
+    public TaskCodec(HintResolver hints) {
+        this.hints = hints;
+    }
+
+    @Override
+    public void encode(ProcessingTask task, RecordOutput output) {
+        output.writeByte(FORMAT);
+        output.writeString(task.id() != null ? task.id().value() : null);
+
+        TraceContext trace = task.trace();
+
+        if (trace == null) {
+            output.writeByte(0);
+        } else {
+            output.writeByte(1);
+            output.writeString(trace.correlationId());
+            output.writeString(trace.spanId());
+            output.writeString(trace.parentSpanId());
+            output.writeSignedVarLong(trace.depth());
+            output.writeInstant(trace.timestamp());
+        }
+
+        output.writeString(task.url() != null ? task.url().toString() : null);
+        output.writeSignedVarLong(task.depth());
+        output.writeString(task.parent() != null ? task.parent().toString() : null);
+
+        switch (task.origin()) {
+            case null -> output.writeByte(ORIGIN_NONE);
+            case TaskOrigin.Seed seed -> output.writeByte(ORIGIN_SEED).writeString(seed.publisher());
+            case TaskOrigin.Discovered discovered -> output.writeByte(ORIGIN_DISCOVERED)
+                    .writeString(discovered.publisher())
+                    .writeString(discovered.routeId())
+                    .writeString(discovered.parentId() != null ? discovered.parentId().value() : null);
+            case TaskOrigin.Retry retry -> output.writeByte(ORIGIN_RETRY).writeString(retry.reason());
+            case TaskOrigin.Restored restored -> output.writeByte(ORIGIN_RESTORED).writeString(restored.source());
+        }
+
+        output.writeSignedVarLong(task.priority());
+        output.writeInstant(task.scheduledAt());
+        output.writeSignedVarLong(task.attempt());
+
+        RoutingHint hint = task.hint();
+
+        output.writeString(hint != null ? hint.getClass().getName() : null);
+
+        if (hint != null) {
+            output.writeString(hint.id());
+        }
+    }
+
+    @Override
+    public ProcessingTask decode(RecordInput input) {
+        int format = input.readByte();
+
+        if (format != FORMAT) {
+            throw new IllegalStateException("Unsupported task record format: " + format);
+        }
+
+        TaskId       id    = taskId(input.readString());
+        TraceContext trace = null;
+
+        if (input.readByte() == 1) {
+            trace = new TraceContext(input.readString(), input.readString(), input.readString(),
+                                     (int) input.readSignedVarLong(), input.readInstant());
+        }
+
+        URI url    = uri(input.readString());
+        int depth  = (int) input.readSignedVarLong();
+        URI parent = uri(input.readString());
+
+        TaskOrigin origin = switch (input.readByte()) {
+            case ORIGIN_NONE -> null;
+            case ORIGIN_SEED -> new TaskOrigin.Seed(input.readString());
+            case ORIGIN_DISCOVERED -> new TaskOrigin.Discovered(
+                    input.readString(), input.readString(), taskId(input.readString()));
+            case ORIGIN_RETRY -> new TaskOrigin.Retry(input.readString());
+            case ORIGIN_RESTORED -> new TaskOrigin.Restored(input.readString());
+            default -> throw new IllegalStateException("Unknown task origin");
+        };
+
+        int         priority    = (int) input.readSignedVarLong();
+        var         scheduledAt = input.readInstant();
+        int         attempt     = (int) input.readSignedVarLong();
+        String      hintType    = input.readString();
+        RoutingHint hint        = hintType != null ? hints.resolve(hintType, input.readString()) : null;
+
+        return new ProcessingTask(id, trace, url, depth, parent, origin, priority, scheduledAt, attempt, hint);
+    }
+
+    private static TaskId taskId(String value) {
+        return value != null ? new TaskId(value) : null;
+    }
+
+    private static URI uri(String value) {
+        return value != null ? URI.create(value) : null;
+    }
+
+    /**
+     * Restores routing hints from their stored type name and id.
+     */
+    @FunctionalInterface
+    public interface HintResolver {
+
+        /**
+         * Resolves enum constants by {@link RoutingHint#id()} and single-string records through their
+         * canonical constructor; any other hint is restored as a plain id holder.
+         */
+        HintResolver DEFAULT = new ReflectiveHintResolver();
+
+        RoutingHint resolve(String type, String id);
+    }
+
+    private static final class ReflectiveHintResolver implements HintResolver {
+
+        private final Map<String, Function<String, RoutingHint>> factories = new ConcurrentHashMap<>();
+
+        @Override
+        public RoutingHint resolve(String type, String id) {
+            return factories.computeIfAbsent(type, ReflectiveHintResolver::factory).apply(id);
+        }
+
+        private static Function<String, RoutingHint> factory(String type) {
+            try {
+                Class<?> hintType = Class.forName(type, false, Thread.currentThread().getContextClassLoader());
+
+                if (hintType.isEnum() && RoutingHint.class.isAssignableFrom(hintType)) {
+                    Map<String, RoutingHint> constants = new ConcurrentHashMap<>();
+
+                    for (Object constant : hintType.getEnumConstants()) {
+                        RoutingHint hint = (RoutingHint) constant;
+                        constants.put(hint.id(), hint);
+                    }
+
+                    return id -> {
+                        RoutingHint hint = constants.get(id);
+                        return hint != null ? hint : new StoredHint(id);
+                    };
+                }
+
+                RecordComponent[] components = hintType.getRecordComponents();
+
+                if (components != null && components.length == 1 && components[0].getType() == String.class) {
+                    Constructor<?> constructor = hintType.getDeclaredConstructor(String.class);
+                    constructor.setAccessible(true);
+
+                    return id -> {
+                        try {
+                            return (RoutingHint) constructor.newInstance(id);
+                        } catch (ReflectiveOperationException exception) {
+                            return new StoredHint(id);
+                        }
+                    };
+                }
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+                // unknown or inaccessible hint type, fall back to the stored id
+            }
+
+            return StoredHint::new;
+        }
+    }
+
+    /**
+     * Hint restored without its original type.
+     */
+    public record StoredHint(String id) implements RoutingHint { }
+}
@@ -0,0 +1,417 @@
+package org.jmouse.crawler.runtime.politeness;
+
+import org.jmouse.core.Verify;
+import org.jmouse.crawler.api.FetchFeedback;
+import org.jmouse.crawler.api.FetchRequest;
+import org.jmouse.crawler.api.FetchResult;
+import org.jmouse.crawler.api.KeyAwarePolitenessPolicy;
+import org.jmouse.crawler.api.ProcessingTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-host politeness policy whose request interval adapts to how the host responds (AIMD). 🎚️
+ *
+ * <ul>
+ *   <li><b>Additive decrease</b> — every fast, healthy response shortens the interval by
+ *       {@code step}, down to the host floor</li>
+ *   <li><b>Multiplicative increase</b> — a {@code 429}, a {@code 5xx}, a failed fetch or a response
+ *       slower than {@code targetLatency} multiplies the interval by {@code backoff}, up to
+ *       {@code maxInterval}</li>
+ *   <li><b>Retry-After</b> — on {@code 429}/{@code 503} the host is blocked until the time the
+ *       server asked for (seconds or HTTP date)</li>
+ *   <li><b>Crawl-delay</b> — {@link #crawlDelay(String, Duration)} raises the floor of a host,
+ *       e.g. with the value of its robots.txt</li>
+ * </ul>
+ *
+ * <p>Fast, healthy hosts are thus pushed towards {@code minInterval} while struggling ones back
+ * off on their own. The policy learns from fetches through {@link FetchFeedback}; the run's
+ * fetcher is wrapped into a {@link FeedbackFetcher} automatically when this policy is configured.</p>
+ *
+ * <p>Host state is bounded: hosts not asked for during {@code idleTimeout} are evicted, and above
+ * {@code maxHosts} the least recently used hosts go first. An evicted host starts over from
+ * {@code initialInterval} and forgets its crawl delay, which has to be set again when the host returns.</p>
+ *
+ * <pre>{@code
+ * runtime.politeness(AdaptivePolitenessPolicy.builder()
+ *         .initialInterval(Duration.ofSeconds(1))
+ *         .minInterval(Duration.ofMillis(100))
+ *         .build());
+ * }</pre>
+ */
+public final class AdaptivePolitenessPolicy implements KeyAwarePolitenessPolicy<String>, FetchFeedback {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptivePolitenessPolicy.class);
+
+    private static final int TOO_MANY_REQUESTS   = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final int SWEEP_EVERY         = 1024;
+
+    private final Clock    clock;
+    private final long     initialInterval;
+    private final long     minInterval;
+    private final long     maxInterval;
+    private final long     step;
+    private final double   backoff;
+    private final long     targetLatency;
+    private final long     idleTimeout;
+    private final int      maxHosts;
+
+    private final Map<String, HostGate> gates      = new ConcurrentHashMap<>();
+    private final AtomicLong            operations = new AtomicLong();
+
+    private AdaptivePolitenessPolicy(Builder builder) {
+        this.clock = builder.clock;
+        this.initialInterval = builder.initialInterval.toNanos();
+        this.minInterval = builder.minInterval.toNanos();
+        this.maxInterval = builder.maxInterval.toNanos();
+        this.step = builder.step.toNanos();
+        this.backoff = builder.backoff;
+        this.targetLatency = builder.targetLatency.toNanos();
+        this.idleTimeout = builder.idleTimeout.toNanos();
+        this.maxHosts = builder.maxHosts;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public Instant eligibleAt(ProcessingTask task, Instant now) {
+        String key = keyOf(task);
+
+        if (key == null) {
+            return now;
+        }
+
+        Instant eligible = gate(key, now).acquire(now);
+
+        LOGGER.debug("politeness.check host={} task={} now={} eligibleAt={}", key, task.url(), now, eligible);
+
+        return eligible;
+    }
+
+    @Override
+    public String keyOf(ProcessingTask task) {
+        return hostOf(task.url());
+    }
+
+    @Override
+    public void onResponse(FetchRequest request, FetchResult result, Duration latency) {
+        String key = hostOf(request.url());
+
+        if (key == null || result == null) {
+            return;
+        }
+
+        Instant  now  = clock.instant();
+        HostGate gate = gate(key, now);
+        int      status = result.status();
+
+        if (status == TOO_MANY_REQUESTS || status == SERVICE_UNAVAILABLE) {
+            gate.backOff(retryAfter(result.headers(), now));
+        } else if (status >= 500 || latency.toNanos() > targetLatency) {
+            gate.backOff(null);
+        } else {
+            gate.speedUp();
+        }
+    }
+
+    @Override
+    public void onFailure(FetchRequest request, Throwable error, Duration latency) {
+        String key = hostOf(request.url());
+
+        if (key != null) {
+            gate(key, clock.instant()).backOff(null);
+        }
+    }
+
+    /**
+     * Set the minimal interval of a host, e.g. the {@code Crawl-delay} from its robots.txt. The host is
+     * tracked from now on and its delay is evicted together with it.
+     */
+    public void crawlDelay(String host, Duration delay) {
+        String key   = Verify.nonNull(host, "host").toLowerCase(Locale.ROOT);
+        long   nanos = Verify.nonNull(delay, "delay").toNanos();
+
+        gate(key, clock.instant()).floor(floorOf(nanos));
+    }
+
+    /**
+     * @return current interval of the host, or {@code null} if the host is not tracked
+     */
+    public Duration intervalOf(String host) {
+        HostGate gate = gates.get(host.toLowerCase(Locale.ROOT));
+        return gate == null ? null : Duration.ofNanos(gate.interval());
+    }
+
+    /**
+     * @return number of tracked hosts
+     */
+    public int hosts() {
+        return gates.size();
+    }
+
+    private HostGate gate(String key, Instant now) {
+        long     nanos = nanosOf(now);
+        HostGate gate  = gates.get(key);
+
+        if (gate == null) {
+            gate = gates.computeIfAbsent(key, ignored -> new HostGate(initialInterval, floorOf(0L), nanos));
+        }
+
+        gate.touch(nanos);
+
+        if (operations.incrementAndGet() % SWEEP_EVERY == 0 || gates.size() > maxHosts) {
+            evict(nanos);
+        }
+
+        return gate;
+    }
+
+    /**
+     * Drop idle hosts, then the least recently used ones above {@code maxHosts}.
+     */
+    private synchronized void evict(long now) {
+        gates.values().removeIf(gate -> now - gate.lastUsed() > idleTimeout);
+
+        int excess = gates.size() - maxHosts;
+
+        if (excess > 0) {
+            List<Map.Entry<String, HostGate>> entries = new ArrayList<>(gates.entrySet());
+
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastUsed()));
+
+            // shrink below the bound so the sort is not repeated for every new host
+            excess += maxHosts / 8;
+
+            for (int index = 0; index < excess && index < entries.size(); index++) {
+                gates.remove(entries.get(index).getKey(), entries.get(index).getValue());
+            }
+        }
+    }
+
+    private long floorOf(long crawlDelay) {
+        return Math.min(maxInterval, Math.max(minInterval, crawlDelay));
+    }
+
+    /**
+     * @return end of the block requested by {@code Retry-After}, or {@code null}
+     */
+    private static Instant retryAfter(Map<String, String> headers, Instant now) {
+        String value = null;
+
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            if ("Retry-After".equalsIgnoreCase(entry.getKey())) {
+                value = entry.getValue();
+                break;
+            }
+        }
+
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        value = value.trim();
+
+        try {
+            return now.plusSeconds(Math.max(0L, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // not delta-seconds, try an HTTP date
+        }
+
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException exception) {
+            LOGGER.debug("Unparseable Retry-After '{}'", value);
+            return null;
+        }
+    }
+
+    private static String hostOf(URI url) {
+        String host = url == null ? null : url.getHost();
+        return host == null || host.isBlank() ? null : host.toLowerCase(Locale.ROOT);
+    }
+
+    private static long nanosOf(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static Instant instantOf(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L));
+    }
+
+    /**
+     * Adaptive state of one host; times are epoch nanoseconds.
+     */
+    private final class HostGate {
+
+        private          long interval;
+        private          long floor;
+        private          long next;
+        private          long blockedUntil;
+        private volatile long lastUsed;
+
+        HostGate(long interval, long floor, long now) {
+            this.interval = Math.max(interval, floor);
+            this.floor = floor;
+            this.next = now;
+            this.lastUsed = now;
+        }
+
+        synchronized Instant acquire(Instant now) {
+            long current  = nanosOf(now);
+            long eligible = Math.max(next, blockedUntil);
+
+            if (eligible > current) {
+                return instantOf(eligible);
+            }
+
+            next = current + interval;
+
+            return now;
+        }
+
+        synchronized void speedUp() {
+            interval = Math.max(floor, interval - step);
+        }
+
+        synchronized void backOff(Instant retryAfter) {
+            long previous = interval;
+
+            interval = Math.min(maxInterval, Math.max(floor, (long) (interval * backoff)));
+            // the next request waits for the longer interval too, not only the ones after it
+            next += interval - previous;
+
+            if (retryAfter != null) {
+                blockedUntil = Math.max(blockedUntil, nanosOf(retryAfter));
+            }
+        }
+
+        synchronized void floor(long floor) {
+            this.floor = floor;
+            this.interval = Math.max(interval, floor);
+        }
+
+        synchronized long interval() {
+            return interval;
+        }
+
+        void touch(long now) {
+            lastUsed = now;
+        }
+
+        long lastUsed() {
+            return lastUsed;
+        }
+    }
+
+    public static final class Builder {
+
+        private Clock    clock           = Clock.systemUTC();
+        private Duration initialInterval = Duration.ofSeconds(1);
+        private Duration minInterval     = Duration.ofMillis(100);
+        private Duration maxInterval     = Duration.ofMinutes(2);
+        private Duration step            = Duration.ofMillis(50);
+        private double   backoff         = 2.0;
+        private Duration targetLatency   = Duration.ofSeconds(2);
+        private Duration idleTimeout     = Duration.ofMinutes(30);
+        private int      maxHosts        = 100_000;
+
+        private Builder() {}
+
+        /**
+         * Time source for {@code Retry-After} and idle eviction; use the run's clock.
+         */
+        public Builder clock(Clock clock) {
+            this.clock = Verify.nonNull(clock, "clock");
+            return this;
+        }
+
+        /**
+         * Interval a newly seen host starts with.
+         */
+        public Builder initialInterval(Duration initialInterval) {
+            this.initialInterval = Verify.nonNull(initialInterval, "initialInterval");
+            return this;
+        }
+
+        /**
+         * Shortest interval any host is pushed to.
+         */
+        public Builder minInterval(Duration minInterval) {
+            this.minInterval = Verify.nonNull(minInterval, "minInterval");
+            return this;
+        }
+
+        /**
+         * Longest interval backing off can reach.
+         */
+        public Builder maxInterval(Duration maxInterval) {
+            this.maxInterval = Verify.nonNull(maxInterval, "maxInterval");
+            return this;
+        }
+
+        /**
+         * Additive decrease applied after each healthy response.
+         */
+        public Builder step(Duration step) {
+            this.step = Verify.nonNull(step, "step");
+            return this;
+        }
+
+        /**
+         * Multiplicative increase applied on throttling, errors and slow responses (&gt; 1).
+         */
+        public Builder backoff(double backoff) {
+            Verify.state(backoff > 1.0, "backoff must be greater than 1");
+            this.backoff = backoff;
+            return this;
+        }
+
+        /**
+         * Responses slower than this count as a sign of an overloaded host.
+         */
+        public Builder targetLatency(Duration targetLatency) {
+            this.targetLatency = Verify.nonNull(targetLatency, "targetLatency");
+            return this;
+        }
+
+        /**
+         * Hosts not asked for during this time are forgotten.
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = Verify.nonNull(idleTimeout, "idleTimeout");
+            return this;
+        }
+
+        /**
+         * Maximal number of tracked hosts.
+         */
+        public Builder maxHosts(int maxHosts) {
+            this.maxHosts = Verify.positive(maxHosts, "maxHosts");
+            return this;
+        }
+
+        public AdaptivePolitenessPolicy build() {
+            Verify.state(!minInterval.isNegative(), "minInterval must not be negative");
+            Verify.state(minInterval.compareTo(maxInterval) <= 0, "minInterval must not exceed maxInterval");
+            return new AdaptivePolitenessPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.jmouse.crawler.runtime.politeness;
+
+import org.jmouse.core.Verify;
+import org.jmouse.crawler.api.FetchFeedback;
+import org.jmouse.crawler.api.FetchRequest;
+import org.jmouse.crawler.api.FetchResult;
+import org.jmouse.crawler.api.Fetcher;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Fetcher} decorator reporting latency and outcome of every fetch to a {@link FetchFeedback}.
+ *
+ * <p>Latency is measured from the moment the delegate dispatches the request (see
+ * {@link Fetcher#fetchAsync(FetchRequest, Runnable)}), not from the moment it was queued.</p>
+ */
+public final class FeedbackFetcher implements Fetcher {
+
+    private final Fetcher       delegate;
+    private final FetchFeedback feedback;
+
+    public FeedbackFetcher(Fetcher delegate, FetchFeedback feedback) {
+        this.delegate = Verify.nonNull(delegate, "delegate");
+        this.feedback = Verify.nonNull(feedback, "feedback");
+    }
+
+    /**
+     * Runs through {@link #fetchAsync(FetchRequest)}, so that the latency is measured from dispatch here too.
+     * An interrupted caller cancels the fetch.
+     */
+    @Override
+    public FetchResult fetch(FetchRequest request) throws Exception {
+        CompletableFuture<FetchResult> result = fetchAsync(request);
+
+        try {
+            return result.get();
+        } catch (InterruptedException exception) {
+            result.cancel(true);
+            throw exception;
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    @Override
+    public CompletableFuture<FetchResult> fetchAsync(FetchRequest request) {
+        return fetchAsync(request, () -> {});
+    }
+
+    /**
+     * Reports the latency from the moment the delegate dispatches the request, so that time spent in
+     * the delegate's own queue does not count; a request failing before dispatch is timed from the call.
+     */
+    @Override
+    public CompletableFuture<FetchResult> fetchAsync(FetchRequest request, Runnable onDispatch) {
+        AtomicLong                     started  = new AtomicLong(System.nanoTime());
+        CompletableFuture<FetchResult> fetching = delegate.fetchAsync(request, () -> {
+            started.set(System.nanoTime());
+            onDispatch.run();
+        });
+        CompletableFuture<FetchResult> reported = fetching.whenComplete((result, error) -> {
+            if (fetching.isCancelled()) {
+                // abandoned by the caller, says nothing about the host
+                return;
+            }
+            if (error != null) {
+                feedback.onFailure(request, error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error, since(started.get()));
+            } else {
+                feedback.onResponse(request, result, since(started.get()));
+            }
+        });
+
+        // cancelling the returned stage has to reach the delegate's future
+        reported.whenComplete((result, error) -> {
+            if (reported.isCancelled()) {
+                fetching.cancel(true);
+            }
+        });
+
+        return reported;
+    }
+
+    private static Duration since(long started) {
+        return Duration.ofNanos(System.nanoTime() - started);
+    }
+
+    @Override
+    public String toString() {
+        return "FEEDBACK[%s]".formatted(delegate);
+    }
+}
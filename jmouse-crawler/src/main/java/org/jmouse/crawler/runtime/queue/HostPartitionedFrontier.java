@@ -0,0 +1,196 @@
+package org.jmouse.crawler.runtime.queue;
+
+import org.jmouse.core.Verify;
+import org.jmouse.crawler.api.PolitenessAwareFrontier;
+import org.jmouse.crawler.api.ProcessingTask;
+import org.jmouse.crawler.runtime.politeness.PolitenessKey;
+import org.jmouse.crawler.runtime.politeness.PolitenessKeyResolver;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Host-partitioned implementation of {@link PolitenessAwareFrontier}. 🗂️
+ *
+ * <p>Tasks are kept in one FIFO queue per {@link PolitenessKey}. Non-empty queues are ordered in
+ * a min-heap by the instant their key becomes eligible again, so the next runnable task is found
+ * in {@code O(log hosts)} regardless of how many tasks the busiest hosts have queued. Keys that
+ * are eligible at the same time are served round-robin.</p>
+ *
+ * <p>A task refused by the politeness policy is {@link #defer(ProcessingTask, Instant) deferred}
+ * back to the head of its queue and only its key moves in the heap; the tasks themselves never
+ * travel through the {@link org.jmouse.crawler.api.RetryBuffer}.</p>
+ *
+ * <pre>{@code
+ * runtime.frontier(new HostPartitionedFrontier(new DefaultPolitenessKeyResolver()));
+ * }</pre>
+ *
+ * <p>Thread-safety: all operations are guarded by the frontier monitor.</p>
+ *
+ * <p>⚠️ Queues of drained keys are dropped, a key seen again starts as eligible and relies
+ * on the politeness policy to defer it.</p>
+ */
+public final class HostPartitionedFrontier implements PolitenessAwareFrontier {
+
+    /**
+     * Lane used by {@link #byHost()} keys.
+     */
+    public static final String DEFAULT_LANE = "default";
+
+    private final PolitenessKeyResolver<?>      resolver;
+    private final Map<PolitenessKey, HostQueue> queues = new HashMap<>();
+    private final PriorityQueue<Slot>           heap   = new PriorityQueue<>();
+
+    private long         sequence;
+    private volatile int size;
+
+    /**
+     * @param resolver resolver mapping tasks to their politeness key; usually the one used by the
+     *                 {@link org.jmouse.crawler.runtime.politeness.KeyedPolitenessPolicy}
+     */
+    public HostPartitionedFrontier(PolitenessKeyResolver<?> resolver) {
+        this.resolver = Verify.nonNull(resolver, "resolver");
+    }
+
+    /**
+     * @return frontier partitioned by URL host only
+     */
+    public static HostPartitionedFrontier byHost() {
+        return new HostPartitionedFrontier(task -> new PolitenessKey(DEFAULT_LANE, task.url().getHost()));
+    }
+
+    /**
+     * Offer a task to the tail of its key queue.
+     *
+     * <p>Null tasks are ignored to keep the frontier free of invalid entries.</p>
+     */
+    @Override
+    public synchronized void offer(ProcessingTask task) {
+        if (task == null) {
+            return;
+        }
+
+        HostQueue queue = queues.computeIfAbsent(resolver.resolve(task), HostQueue::new);
+
+        queue.tasks.addLast(task);
+        size++;
+
+        if (queue.tasks.size() == 1) {
+            enqueue(queue, queue.eligibleAt);
+        }
+    }
+
+    /**
+     * Poll the head task of the earliest eligible key, ignoring eligibility times.
+     */
+    @Override
+    public synchronized ProcessingTask poll() {
+        return take(null);
+    }
+
+    @Override
+    public synchronized ProcessingTask pollReady(Instant now) {
+        return take(Verify.nonNull(now, "now"));
+    }
+
+    @Override
+    public synchronized void defer(ProcessingTask task, Instant eligibleAt) {
+        Verify.nonNull(task, "task");
+        Verify.nonNull(eligibleAt, "eligibleAt");
+
+        HostQueue queue = queues.computeIfAbsent(resolver.resolve(task), HostQueue::new);
+
+        queue.tasks.addFirst(task);
+        size++;
+
+        enqueue(queue, eligibleAt);
+    }
+
+    @Override
+    public synchronized Instant peekEligibleAt() {
+        Slot head = head();
+        return head == null ? null : head.eligibleAt();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of keys that currently hold tasks
+     */
+    public synchronized int hosts() {
+        return queues.size();
+    }
+
+    private ProcessingTask take(Instant now) {
+        Slot head = head();
+
+        if (head == null || (now != null && head.eligibleAt().isAfter(now))) {
+            return null;
+        }
+
+        heap.poll();
+
+        HostQueue      queue = head.queue();
+        ProcessingTask task  = queue.tasks.pollFirst();
+
+        size--;
+
+        if (queue.tasks.isEmpty()) {
+            queues.remove(queue.key);
+        } else {
+            // the key goes behind other eligible keys, the politeness policy decides its real delay
+            enqueue(queue, now != null ? now : queue.eligibleAt);
+        }
+
+        return task;
+    }
+
+    /**
+     * @return the live heap head, discarding slots superseded by a later {@link #enqueue}
+     */
+    private Slot head() {
+        Slot head;
+
+        while ((head = heap.peek()) != null && head.version() != head.queue().version) {
+            heap.poll();
+        }
+
+        return head;
+    }
+
+    private void enqueue(HostQueue queue, Instant eligibleAt) {
+        queue.eligibleAt = eligibleAt;
+        queue.version = ++sequence;
+        heap.offer(new Slot(queue, eligibleAt, queue.version));
+    }
+
+    /**
+     * Tasks of a single politeness key.
+     */
+    private static final class HostQueue {
+
+        private final PolitenessKey             key;
+        private final ArrayDeque<ProcessingTask> tasks      = new ArrayDeque<>();
+        private       Instant                   eligibleAt = Instant.MIN;
+        private       long                      version;
+
+        private HostQueue(PolitenessKey key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Heap entry; only the slot matching the queue version is live.
+     */
+    private record Slot(HostQueue queue, Instant eligibleAt, long version) implements Comparable<Slot> {
+
+        @Override
+        public int compareTo(Slot other) {
+            int result = eligibleAt.compareTo(other.eligibleAt);
+            return result != 0 ? result : Long.compare(version, other.version);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package org.jmouse.crawler.runtime.runner;
+
+import org.jmouse.core.Verify;
+import org.jmouse.core.context.execution.ExecutionContextHolder;
+import org.jmouse.crawler.api.InFlightBuffer;
+import org.jmouse.crawler.api.ProcessingEngine;
+import org.jmouse.crawler.api.ProcessingTask;
+import org.jmouse.crawler.runtime.core.TaskDisposition;
+import org.jmouse.crawler.runtime.politeness.PolitenessKey;
+import org.jmouse.crawler.runtime.politeness.PolitenessKeyResolver;
+import org.jmouse.crawler.runtime.schedule.JobScheduler;
+import org.jmouse.crawler.runtime.schedule.ScheduleDecision;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler runner executing every {@link ProcessingTask} on its own virtual thread. 🪶
+ *
+ * <p>Fetch-bound crawls spend most of their time waiting on the network; a virtual thread parks
+ * cheaply during blocking I/O, so thousands of tasks can be in flight without sizing a platform
+ * thread pool.</p>
+ *
+ * <ul>
+ *   <li><b>Global budget</b> — at most {@code maxInFlight} tasks run at once; every dispatched
+ *       task is registered in the {@link InFlightBuffer} until its result has been applied</li>
+ *   <li><b>Per-key cap</b> — at most {@code maxPerKey} tasks sharing a {@link PolitenessKey}
+ *       execute concurrently. Surplus tasks get no thread: up to {@code maxPerKey} per key are held
+ *       back and started as soon as a task of the same key completes, further ones are
+ *       {@link JobScheduler#requeue requeued} for a short backoff. A busy key therefore never takes
+ *       the budget the other keys are dispatched from</li>
+ *   <li><b>Structured lifetime</b> — tasks are children of {@link #runUntilDrained(ProcessingEngine)}:
+ *       the method returns only after all of them completed, and a failure of one task stops the
+ *       run and interrupts the others</li>
+ * </ul>
+ *
+ * <p>Results are applied to the engine on the calling thread, so {@link ProcessingEngine#apply}
+ * keeps its single-writer semantics.</p>
+ */
+public final class VirtualThreadRunner extends AbstractSchedulerRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadRunner.class);
+
+    private static final long MAX_AWAIT_MILLIS = 50L;
+
+    /**
+     * Delay after which a task requeued because its key was saturated is offered again.
+     */
+    private static final Duration SATURATION_BACKOFF = Duration.ofMillis(10);
+
+    private final InFlightBuffer           inFlight;
+    private final PolitenessKeyResolver<?> keys;
+    private final int                      maxInFlight;
+    private final int                      maxPerKey;
+
+    /**
+     * @param scheduler   job scheduler
+     * @param clock       time source used for apply timestamps
+     * @param inFlight    buffer tracking running tasks
+     * @param keys        resolver of the key the per-key cap applies to
+     * @param maxInFlight maximum number of concurrently existing tasks (min 1)
+     * @param maxPerKey   maximum number of concurrently executing tasks per key (min 1)
+     */
+    public VirtualThreadRunner(
+            JobScheduler scheduler,
+            Clock clock,
+            InFlightBuffer inFlight,
+            PolitenessKeyResolver<?> keys,
+            int maxInFlight,
+            int maxPerKey
+    ) {
+        super(scheduler, clock);
+        this.inFlight = Verify.nonNull(inFlight, "inFlight");
+        this.keys = Verify.nonNull(keys, "keys");
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxPerKey = Math.max(1, maxPerKey);
+    }
+
+    @Override
+    public void runUntilDrained(ProcessingEngine engine) {
+        ProcessingEngine processingEngine = requireEngine(engine);
+
+        LOGGER.info("Started (maxInFlight={}, maxPerKey={})", maxInFlight, maxPerKey);
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                new Dispatch(processingEngine, threads).run();
+            } catch (RuntimeException failure) {
+                threads.shutdownNow();
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * State of one {@link #runUntilDrained(ProcessingEngine)} call. Only the calling thread touches it:
+     * tasks report back through {@link #completions}, so the per-key counts need no synchronization.
+     */
+    private final class Dispatch {
+
+        private final ProcessingEngine                          engine;
+        private final ExecutorService                           threads;
+        private final BlockingQueue<Done>                       completions = new LinkedBlockingQueue<>();
+        private final Map<PolitenessKey, Integer>               active      = new HashMap<>();
+        private final Map<PolitenessKey, Deque<ProcessingTask>> deferred    = new HashMap<>();
+        private       int                                       running;
+        private       int                                       waiting;
+
+        Dispatch(ProcessingEngine engine, ExecutorService threads) {
+            this.engine = engine;
+            this.threads = threads;
+        }
+
+        void run() {
+            while (true) {
+                applyAvailable();
+
+                // held back tasks always have a running task of their key, so running > 0 here
+                if (running >= maxInFlight || waiting >= maxInFlight) {
+                    awaitAndApply(null);
+                    continue;
+                }
+
+                switch (scheduler.nextDecision()) {
+                    case ScheduleDecision.TaskReady(ProcessingTask task) -> offer(task);
+                    case ScheduleDecision.Park park -> {
+                        if (running == 0) {
+                            park(park.duration());
+                        } else {
+                            // a completion may unblock work earlier than the suggested park
+                            awaitAndApply(park.duration());
+                        }
+                    }
+                    case ScheduleDecision.Drained ignored -> {
+                        if (running == 0) {
+                            return;
+                        }
+                        awaitAndApply(null);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Start the task if its key has a free slot. Otherwise hold it back until a task of the same
+         * key completes, or hand it back to the scheduler when enough tasks of that key are held back
+         * already. Neither gets a thread, so a busy key never occupies the budget other keys are
+         * dispatched from.
+         */
+        private void offer(ProcessingTask task) {
+            PolitenessKey         key   = keys.resolve(task);
+            Deque<ProcessingTask> queue = deferred.get(key);
+
+            if (active.getOrDefault(key, 0) < maxPerKey) {
+                inFlight.put(task);
+                start(task, key);
+                return;
+            }
+
+            if (queue != null && queue.size() >= maxPerKey
+                    && scheduler.requeue(task, clock.instant().plus(SATURATION_BACKOFF))) {
+                LOGGER.trace("Requeue task url={}, key={} is saturated", task.url(), key);
+                return;
+            }
+
+            LOGGER.trace("Defer task url={}, key={} is at its limit", task.url(), key);
+
+            inFlight.put(task);
+            deferred.computeIfAbsent(key, ignored -> new ArrayDeque<>()).add(task);
+            waiting++;
+        }
+
+        private void start(ProcessingTask task, PolitenessKey key) {
+            LOGGER.trace("Start task url={}, attempt={}", task.url(), task.attempt());
+
+            var context = ExecutionContextHolder.current().with(TraceKeys.TRACE, task.trace());
+
+            active.merge(key, 1, Integer::sum);
+            running++;
+
+            threads.execute(() -> {
+                TaskDisposition disposition = null;
+                Throwable       failure     = null;
+
+                try (var ignored = ExecutionContextHolder.open(context)) {
+                    disposition = engine.execute(task);
+                } catch (Throwable error) {
+                    failure = error;
+                } finally {
+                    completions.add(new Done(task, key, disposition, failure));
+                }
+            });
+        }
+
+        /**
+         * Apply completions that are already available.
+         */
+        private void applyAvailable() {
+            Done done;
+
+            while ((done = completions.poll()) != null) {
+                complete(done);
+            }
+        }
+
+        /**
+         * Wait for one completion (bounded by {@code duration} if given) and apply it.
+         */
+        private void awaitAndApply(Duration duration) {
+            try {
+                Done done = duration == null
+                        ? completions.take()
+                        : completions.poll(Math.clamp(duration.toMillis(), 0L, MAX_AWAIT_MILLIS), TimeUnit.MILLISECONDS);
+
+                if (done != null) {
+                    complete(done);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Runner interrupted", exception);
+            }
+        }
+
+        /**
+         * Apply the result, free the key slot and hand it to the oldest task deferred on that key.
+         */
+        private void complete(Done done) {
+            running--;
+
+            apply(done);
+
+            PolitenessKey         key   = done.key();
+            Deque<ProcessingTask> queue = deferred.get(key);
+
+            if (active.merge(key, -1, Integer::sum) == 0) {
+                active.remove(key);
+            }
+
+            if (queue != null) {
+                ProcessingTask next = queue.poll();
+
+                if (queue.isEmpty()) {
+                    deferred.remove(key);
+                }
+
+                waiting--;
+                start(next, key);
+            }
+        }
+
+        private void apply(Done done) {
+            inFlight.remove(done.task().id());
+
+            if (done.failure() != null) {
+                throw new IllegalStateException("Task execution failed: " + done.task().url(), done.failure());
+            }
+
+            LOGGER.trace("Task completed url={}, disposition={}", done.task().url(), done.disposition());
+
+            engine.apply(done.task(), done.disposition(), clock.instant());
+        }
+    }
+
+    /**
+     * Completion of one executed {@link ProcessingTask}.
+     */
+    private record Done(ProcessingTask task, PolitenessKey key, TaskDisposition disposition, Throwable failure) {}
+}
@@ -21,7 +21,8 @@ import static org.jmouse.core.Verify.nonNull;
  * <ul>
  *   <li>Move retry-ready tasks back into the {@link Frontier}</li>
  *   <li>Poll tasks from the frontier in bounded batches</li>
- *   <li>Enforce {@link PolitenessPolicy} by deferring tasks into {@link RetryBuffer}</li>
+ *   <li>Enforce {@link PolitenessPolicy} by deferring tasks into {@link RetryBuffer}, or back into
+ *       a {@link PolitenessAwareFrontier} which then only offers tasks of eligible hosts</li>
  *   <li>When no task is ready, emit either {@link ScheduleDecision.Park} (with a computed wake-up)
  *       or {@link ScheduleDecision.Drained} when the system is fully drained</li>
  * </ul>
@@ -40,6 +41,11 @@ public final class DefaultScheduler implements JobScheduler {
      */
     private static final String REASON_POLITENESS = "politeness";
 
+    /**
+     * Retry scheduling reason used when a runner hands back a task whose key is saturated.
+     */
+    private static final String REASON_SATURATED = "saturated";
+
     /**
      * Small fallback park used when we have work in the system but no concrete wake-up time
      * can be computed (e.g. retry buffer has no not-before). ⚠️
@@ -52,6 +58,7 @@ public final class DefaultScheduler implements JobScheduler {
     private final PolitenessPolicy politeness;
     private final RetryBuffer      retryBuffer;
     private final Clock            clock;
+    private final CrawlTelemetry   telemetry;
 
     private final int      retryDrainBatch;
     private final Duration maxDuration;
@@ -82,6 +89,18 @@ public final class DefaultScheduler implements JobScheduler {
             Clock clock,
             int retryDrainBatch,
             Duration maxDuration
+    ) {
+        this(frontier, politeness, retryBuffer, clock, retryDrainBatch, maxDuration, CrawlTelemetry.NOOP);
+    }
+
+    public DefaultScheduler(
+            Frontier frontier,
+            PolitenessPolicy politeness,
+            RetryBuffer retryBuffer,
+            Clock clock,
+            int retryDrainBatch,
+            Duration maxDuration,
+            CrawlTelemetry telemetry
     ) {
         this.frontier = nonNull(frontier, "frontier");
         this.retryBuffer = nonNull(retryBuffer, "retryBuffer");
@@ -89,6 +108,7 @@ public final class DefaultScheduler implements JobScheduler {
         this.clock = nonNull(clock, "clock");
         this.retryDrainBatch = max(1, retryDrainBatch);
         this.maxDuration = nonNull(maxDuration, "maxParkDuration");
+        this.telemetry = nonNull(telemetry, "telemetry");
     }
 
     /**
@@ -109,6 +129,10 @@ public final class DefaultScheduler implements JobScheduler {
 
         moveReadyRetries(now);
 
+        if (frontier instanceof PolitenessAwareFrontier partitioned) {
+            return nextPartitionedDecision(partitioned, now);
+        }
+
         for (int i = 0; i < scanFrontierBatch; i++) {
             ProcessingTask task = frontier.poll();
             if (task == null) {
@@ -127,6 +151,8 @@ public final class DefaultScheduler implements JobScheduler {
                 LOGGER.debug("scheduler.defer reason=politeness delay={} task={} key={}",
                              delay, task.url(), key);
 
+                telemetry.politenessDeferred(task, delay);
+
                 retryBuffer.schedule(task.deferred(eligibleAt), eligibleAt, REASON_POLITENESS, null);
                 continue;
             }
@@ -141,7 +167,8 @@ public final class DefaultScheduler implements JobScheduler {
         }
 
         if (frontier.size() > 0) {
-            LOGGER.warn(
+            // expected whenever every queued host is waiting for politeness; rates are in telemetry
+            LOGGER.debug(
                     "scheduler.park.with-frontier size={} retry={}",
                     frontier.size(),
                     retryBuffer.size()
@@ -151,6 +178,54 @@ public final class DefaultScheduler implements JobScheduler {
         return decideWhenNoTaskReady(now);
     }
 
+    /**
+     * Scan step for a {@link PolitenessAwareFrontier}: only tasks of eligible hosts are polled and
+     * refused tasks go back to their host queue, so a step costs {@code O(log hosts)} per task
+     * instead of shuffling tasks of busy hosts through the retry buffer.
+     */
+    private ScheduleDecision nextPartitionedDecision(PolitenessAwareFrontier partitioned, Instant now) {
+        for (int i = 0; i < scanFrontierBatch; i++) {
+            ProcessingTask task = partitioned.pollReady(now);
+            if (task == null) {
+                break;
+            }
+
+            Instant eligibleAt = politeness.eligibleAt(task, now);
+
+            if (eligibleAt != null && eligibleAt.isAfter(now)) {
+                Duration delay = Duration.between(now, eligibleAt);
+
+                LOGGER.debug("scheduler.defer reason=politeness delay={} task={}", delay, task.url());
+
+                telemetry.politenessDeferred(task, delay);
+                partitioned.defer(task.deferred(eligibleAt), eligibleAt);
+                continue;
+            }
+
+            LOGGER.debug("scheduler.dispatch task={} lane={}", task.url(), task.hint());
+
+            return new ScheduleDecision.TaskReady(task);
+        }
+
+        return decideWhenNoTaskReady(now);
+    }
+
+    /**
+     * Defer a task the runner could not start, the same way a politeness deferral is stored.
+     */
+    @Override
+    public boolean requeue(ProcessingTask task, Instant eligibleAt) {
+        LOGGER.debug("scheduler.defer reason={} task={} until={}", REASON_SATURATED, task.url(), eligibleAt);
+
+        if (frontier instanceof PolitenessAwareFrontier partitioned) {
+            partitioned.defer(task.deferred(eligibleAt), eligibleAt);
+        } else {
+            retryBuffer.schedule(task.deferred(eligibleAt), eligibleAt, REASON_SATURATED, null);
+        }
+
+        return true;
+    }
+
     /**
      * Move tasks whose not-before has elapsed from retry buffer into frontier.
      *
@@ -181,8 +256,17 @@ public final class DefaultScheduler implements JobScheduler {
     private ScheduleDecision computeParkDecision(Instant now) {
         Instant nextEligibleAt = retryBuffer.peekEligibleAt();
 
+        if (frontier instanceof PolitenessAwareFrontier partitioned) {
+            Instant frontierEligibleAt = partitioned.peekEligibleAt();
+
+            if (nextEligibleAt == null || (frontierEligibleAt != null && frontierEligibleAt.isBefore(nextEligibleAt))) {
+                nextEligibleAt = frontierEligibleAt;
+            }
+        }
+
         if (nextEligibleAt == null) {
             // We have work somewhere (frontier/retryBuffer size > 0), but cannot compute a wake-up hint.
+            telemetry.parked(FALLBACK_PARK);
             return new ScheduleDecision.Park(FALLBACK_PARK, now.plus(FALLBACK_PARK));
         }
 
@@ -194,6 +278,8 @@ public final class DefaultScheduler implements JobScheduler {
             duration = maxDuration;
         }
 
+        telemetry.parked(duration);
+
         // wakeUpAt remains the actual "nextEligibleAt" (useful for observability),
         // while duration is clamped for runners. 📌
         return new ScheduleDecision.Park(duration, nextEligibleAt);
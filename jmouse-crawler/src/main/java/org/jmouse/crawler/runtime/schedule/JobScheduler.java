@@ -1,5 +1,20 @@
 package org.jmouse.crawler.runtime.schedule;
 
+import org.jmouse.crawler.api.ProcessingTask;
+
+import java.time.Instant;
+
 public interface JobScheduler {
+
     ScheduleDecision nextDecision();
-}
\ No newline at end of file
+
+    /**
+     * Take back a task handed out by {@link #nextDecision()} that the runner cannot start yet,
+     * to be offered again not before {@code eligibleAt}.
+     *
+     * @return {@code false} if this scheduler cannot take tasks back; the runner then keeps the task
+     */
+    default boolean requeue(ProcessingTask task, Instant eligibleAt) {
+        return false;
+    }
+}
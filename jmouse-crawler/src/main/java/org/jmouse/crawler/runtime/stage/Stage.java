@@ -0,0 +1,248 @@
+package org.jmouse.crawler.runtime.stage;
+
+import org.jmouse.core.Verify;
+import org.jmouse.core.context.execution.ExecutionContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Named pool of worker threads behind a bounded queue. 🏭
+ *
+ * <p>At most {@code workers + capacity} items are admitted at once; {@link #submit(Callable)}
+ * blocks the caller while the stage is full, which propagates backpressure to the stage feeding
+ * it instead of letting work pile up in memory. A caller can also take an {@link Admission}
+ * up front with {@link #admit()} and keep it after its item ran, e.g. until the next stage has
+ * accepted the result, so the slot is only freed once the output has somewhere to go.</p>
+ *
+ * <p>Work items run with the {@link ExecutionContextHolder execution context} of the submitting
+ * thread, so the task trace is visible on the stage workers.</p>
+ */
+public final class Stage implements AutoCloseable {
+
+    private final String             name;
+    private final int                workers;
+    private final Semaphore          admission;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder     submitted = new LongAdder();
+    private final LongAdder     completed = new LongAdder();
+    private final LongAdder     failed    = new LongAdder();
+    private final LongAdder     queueWait = new LongAdder();
+    private final LongAdder     service   = new LongAdder();
+    private final LongAdder     blocked   = new LongAdder();
+    private final AtomicInteger active    = new AtomicInteger();
+
+    /**
+     * @param name     stage name, used for thread names and metrics
+     * @param workers  number of worker threads
+     * @param capacity number of items allowed to wait for a worker
+     */
+    public Stage(String name, int workers, int capacity) {
+        this.name = Verify.nonNull(name, "name");
+        this.workers = Verify.positive(workers, "workers");
+        Verify.state(capacity >= 0, "capacity must not be negative");
+
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.admission = new Semaphore(workers + capacity);
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "stage-%s-%d".formatted(name, sequence.incrementAndGet()));
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Admit a work item, waiting while the stage is full.
+     *
+     * @return future completed with the item result
+     * @throws RejectedExecutionException if the stage is closed
+     * @throws IllegalStateException      if interrupted while waiting for admission
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> work) {
+        Verify.nonNull(work, "work");
+
+        return execute(admit(), work, true);
+    }
+
+    /**
+     * Run a work item under an admission taken with {@link #admit()}. The admission stays held
+     * after the item finished; the caller releases it with {@link Admission#close()}.
+     *
+     * @return future completed with the item result
+     * @throws RejectedExecutionException if the stage is closed
+     */
+    public <T> CompletableFuture<T> submit(Admission admission, Callable<T> work) {
+        Verify.nonNull(work, "work");
+        Verify.state(Verify.nonNull(admission, "admission").stage() == this && !admission.released,
+                     "admission must be an open admission of this stage");
+
+        return execute(admission, work, false);
+    }
+
+    /**
+     * Take a slot of the stage, waiting while the stage is full.
+     *
+     * @throws IllegalStateException if interrupted while waiting for admission
+     */
+    public Admission admit() {
+        long waitStarted = System.nanoTime();
+
+        try {
+            this.admission.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for stage '%s'".formatted(name), exception);
+        }
+
+        long admitted = System.nanoTime();
+
+        blocked.add(admitted - waitStarted);
+
+        return new Admission(admitted);
+    }
+
+    private <T> CompletableFuture<T> execute(Admission admission, Callable<T> work, boolean release) {
+        CompletableFuture<T> result  = new CompletableFuture<>();
+        Callable<T>          wrapped = ExecutionContextHolder.wrap(work);
+
+        submitted.increment();
+
+        try {
+            executor.execute(() -> run(wrapped, result, admission, release));
+        } catch (RejectedExecutionException exception) {
+            if (release) {
+                admission.close();
+            }
+            throw exception;
+        }
+
+        return result;
+    }
+
+    /**
+     * Run a work item on the stage and wait for its result.
+     *
+     * @throws Exception the exception thrown by the work item
+     */
+    public <T> T call(Callable<T> work) throws Exception {
+        return await(submit(work));
+    }
+
+    /**
+     * Run a work item under an admission taken with {@link #admit()} and wait for its result;
+     * the admission stays held.
+     *
+     * @throws Exception the exception thrown by the work item
+     */
+    public <T> T call(Admission admission, Callable<T> work) throws Exception {
+        return await(submit(admission, work));
+    }
+
+    /**
+     * Wait for a work item submitted to a stage.
+     *
+     * @throws Exception the exception thrown by the work item
+     */
+    public static <T> T await(Future<T> result) throws Exception {
+        try {
+            return result.get();
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private <T> void run(Callable<T> work, CompletableFuture<T> result, Admission admission, boolean release) {
+        long started = System.nanoTime();
+
+        queueWait.add(started - admission.admitted);
+        active.incrementAndGet();
+
+        try {
+            T value = work.call();
+            completed.increment();
+            result.complete(value);
+        } catch (Throwable error) {
+            failed.increment();
+            result.completeExceptionally(error);
+        } finally {
+            service.add(System.nanoTime() - started);
+            active.decrementAndGet();
+
+            if (release) {
+                admission.close();
+            }
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public StageMetrics metrics() {
+        return new StageMetrics(
+                name,
+                workers,
+                submitted.sum(),
+                completed.sum(),
+                failed.sum(),
+                executor.getQueue().size(),
+                active.get(),
+                Duration.ofNanos(queueWait.sum()),
+                Duration.ofNanos(service.sum()),
+                Duration.ofNanos(blocked.sum())
+        );
+    }
+
+    /**
+     * Stop accepting work and wait for admitted items to finish.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    @Override
+    public String toString() {
+        return metrics().toString();
+    }
+
+    /**
+     * Slot of a {@link Stage} held by a caller; closing it (once is enough, repeated calls are
+     * ignored) lets the next item in.
+     */
+    public final class Admission implements AutoCloseable {
+
+        private final    long    admitted;
+        private volatile boolean released;
+
+        private Admission(long admitted) {
+            this.admitted = admitted;
+        }
+
+        Stage stage() {
+            return Stage.this;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                synchronized (this) {
+                    if (released) {
+                        return;
+                    }
+                    released = true;
+                }
+                admission.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.jmouse.crawler.runtime.stage;
+
+import java.time.Duration;
+
+/**
+ * Point-in-time counters of a {@link Stage}. 📊
+ *
+ * @param stage       stage name
+ * @param workers     number of worker threads
+ * @param submitted   work items admitted so far
+ * @param completed   work items finished successfully
+ * @param failed      work items finished with an exception
+ * @param queued      admitted items waiting for a worker
+ * @param active      items being executed right now
+ * @param queueWait   total time items waited in the queue
+ * @param service     total time workers spent executing items
+ * @param blocked     total time submitters were held back because the queue was full
+ */
+public record StageMetrics(
+        String stage,
+        int workers,
+        long submitted,
+        long completed,
+        long failed,
+        int queued,
+        int active,
+        Duration queueWait,
+        Duration service,
+        Duration blocked
+) {
+
+    /**
+     * @return mean time an item waited for a worker
+     */
+    public Duration averageQueueWait() {
+        long finished = completed + failed;
+        return finished == 0 ? Duration.ZERO : queueWait.dividedBy(finished);
+    }
+
+    /**
+     * @return mean execution time of an item
+     */
+    public Duration averageService() {
+        long finished = completed + failed;
+        return finished == 0 ? Duration.ZERO : service.dividedBy(finished);
+    }
+
+    @Override
+    public String toString() {
+        return "%s[workers=%d, submitted=%d, completed=%d, failed=%d, queued=%d, active=%d, avgWait=%s, avgService=%s, blocked=%s]"
+                .formatted(stage, workers, submitted, completed, failed, queued, active,
+                           averageQueueWait(), averageService(), blocked);
+    }
+}
@@ -0,0 +1,111 @@
+package org.jmouse.crawler.runtime.stage;
+
+import org.jmouse.core.Verify;
+
+import java.util.List;
+
+/**
+ * Fetch and parse {@link Stage}s shared by all tasks of a run. 🚦
+ *
+ * <p>Fetching is I/O-bound and parsing is CPU-bound; running both on the task thread lets slow
+ * downloads occupy parse capacity and heavy documents occupy fetch slots. With separate stages
+ * each is sized on its own: many fetch workers, parse workers matching the cores. Both stages
+ * are bounded, and a fetched document keeps its fetch slot until the parse stage has admitted
+ * it, so a backlog of unparsed documents holds back new fetches.</p>
+ *
+ * <pre>{@code
+ * StagedExecution stages = StagedExecution.builder()
+ *         .fetchWorkers(64)
+ *         .parseWorkers(Runtime.getRuntime().availableProcessors())
+ *         .build();
+ *
+ * pipeline.step("fetch-parse", new StagedFetchParseStep("fetch-parse", stages));
+ * }</pre>
+ *
+ * @see org.jmouse.crawler.route.StagedFetchParseStep
+ */
+public final class StagedExecution implements AutoCloseable {
+
+    private final Stage fetch;
+    private final Stage parse;
+
+    private StagedExecution(int fetchWorkers, int fetchCapacity, int parseWorkers, int parseCapacity) {
+        this.fetch = new Stage("fetch", fetchWorkers, fetchCapacity);
+        this.parse = new Stage("parse", parseWorkers, parseCapacity);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Stage fetch() {
+        return fetch;
+    }
+
+    public Stage parse() {
+        return parse;
+    }
+
+    public List<StageMetrics> metrics() {
+        return List.of(fetch.metrics(), parse.metrics());
+    }
+
+    @Override
+    public void close() {
+        fetch.close();
+        parse.close();
+    }
+
+    @Override
+    public String toString() {
+        return "STAGES%s".formatted(metrics());
+    }
+
+    public static final class Builder {
+
+        /**
+         * Parse capacity per parse worker unless {@link #parseCapacity(int)} is set.
+         */
+        private static final int PARSE_CAPACITY_PER_WORKER = 4;
+
+        private int     fetchWorkers  = 64;
+        private int     fetchCapacity = 64;
+        private int     parseWorkers  = Runtime.getRuntime().availableProcessors();
+        private Integer parseCapacity;
+
+        private Builder() {}
+
+        public Builder fetchWorkers(int fetchWorkers) {
+            this.fetchWorkers = Verify.positive(fetchWorkers, "fetchWorkers");
+            return this;
+        }
+
+        /**
+         * Number of fetches allowed to wait for a fetch worker.
+         */
+        public Builder fetchCapacity(int fetchCapacity) {
+            Verify.state(fetchCapacity >= 0, "fetchCapacity must not be negative");
+            this.fetchCapacity = fetchCapacity;
+            return this;
+        }
+
+        public Builder parseWorkers(int parseWorkers) {
+            this.parseWorkers = Verify.positive(parseWorkers, "parseWorkers");
+            return this;
+        }
+
+        /**
+         * Number of fetched documents allowed to wait for a parse worker; four per parse worker by default.
+         */
+        public Builder parseCapacity(int parseCapacity) {
+            Verify.state(parseCapacity >= 0, "parseCapacity must not be negative");
+            this.parseCapacity = parseCapacity;
+            return this;
+        }
+
+        public StagedExecution build() {
+            int capacity = parseCapacity != null ? parseCapacity : parseWorkers * PARSE_CAPACITY_PER_WORKER;
+            return new StagedExecution(fetchWorkers, fetchCapacity, parseWorkers, capacity);
+        }
+    }
+}
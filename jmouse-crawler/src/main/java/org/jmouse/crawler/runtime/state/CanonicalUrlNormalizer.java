@@ -0,0 +1,149 @@
+package org.jmouse.crawler.runtime.state;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@link UrlNormalizer} producing a canonical form, so that trivially different spellings of the same
+ * resource are seen once. 🧼
+ *
+ * <ul>
+ *   <li>scheme and host are lower-cased</li>
+ *   <li>default ports ({@code http:80}, {@code https:443}) are removed</li>
+ *   <li>dot segments are resolved and an empty path becomes {@code /}</li>
+ *   <li>the fragment is dropped</li>
+ *   <li>empty query parameters are dropped and the rest are sorted by name; the order of values of a
+ *       repeated parameter is kept</li>
+ *   <li>hex digits of percent-escapes are upper-cased</li>
+ * </ul>
+ *
+ * <p>Opaque URIs (e.g. {@code mailto:}) are returned without their fragment only.</p>
+ */
+public final class CanonicalUrlNormalizer implements UrlNormalizer {
+
+    private static final Comparator<String> BY_NAME = Comparator.comparing(CanonicalUrlNormalizer::name);
+
+    @Override
+    public String normalize(URI url) {
+        if (url.isOpaque() || url.getRawAuthority() == null) {
+            String value = url.normalize().toString();
+            int    hash  = value.indexOf('#');
+            return hash < 0 ? value : value.substring(0, hash);
+        }
+
+        StringBuilder builder = new StringBuilder(url.toString().length());
+        String        scheme  = url.getScheme() != null ? url.getScheme().toLowerCase(Locale.ROOT) : null;
+
+        if (scheme != null) {
+            builder.append(scheme).append(':');
+        }
+
+        builder.append("//");
+
+        if (url.getHost() == null) {
+            // registry-based authority, keep it as is
+            builder.append(url.getRawAuthority().toLowerCase(Locale.ROOT));
+        } else {
+            if (url.getRawUserInfo() != null) {
+                builder.append(url.getRawUserInfo()).append('@');
+            }
+
+            builder.append(url.getHost().toLowerCase(Locale.ROOT));
+
+            if (url.getPort() >= 0 && url.getPort() != defaultPort(scheme)) {
+                builder.append(':').append(url.getPort());
+            }
+        }
+
+        String path = url.getRawPath();
+
+        if (path == null || path.isEmpty()) {
+            builder.append('/');
+        } else {
+            appendEscaped(builder, removeDotSegments(path));
+        }
+
+        String query = url.getRawQuery();
+
+        if (query != null && !query.isEmpty()) {
+            List<String> parameters = new ArrayList<>();
+
+            for (String parameter : query.split("&")) {
+                if (!parameter.isEmpty() && !parameter.equals("=")) {
+                    parameters.add(parameter);
+                }
+            }
+
+            if (!parameters.isEmpty()) {
+                parameters.sort(BY_NAME);
+                builder.append('?');
+                appendEscaped(builder, String.join("&", parameters));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Resolves {@code .} and {@code ..} segments of a raw path as in RFC 3986, section 5.2.4. The path is not
+     * re-parsed as a URI, so empty segments such as {@code //} stay part of the path.
+     */
+    private static String removeDotSegments(String path) {
+        String[]     segments = (path.startsWith("/") ? path.substring(1) : path).split("/", -1);
+        List<String> output   = new ArrayList<>(segments.length);
+
+        for (int index = 0; index < segments.length; index++) {
+            String  segment = segments[index];
+            boolean last    = index == segments.length - 1;
+
+            if (segment.equals(".") || segment.equals("..")) {
+                if (segment.equals("..") && !output.isEmpty()) {
+                    output.removeLast();
+                }
+                if (last) {
+                    // "/a/." and "/a/b/.." keep their trailing slash
+                    output.add("");
+                }
+            } else {
+                output.add(segment);
+            }
+        }
+
+        return "/" + String.join("/", output);
+    }
+
+    private static String name(String parameter) {
+        int equals = parameter.indexOf('=');
+        return equals < 0 ? parameter : parameter.substring(0, equals);
+    }
+
+    private static int defaultPort(String scheme) {
+        if (scheme == null) {
+            return -1;
+        }
+
+        return switch (scheme) {
+            case "http", "ws" -> 80;
+            case "https", "wss" -> 443;
+            default -> -1;
+        };
+    }
+
+    private static void appendEscaped(StringBuilder builder, String value) {
+        for (int index = 0; index < value.length(); index++) {
+            char current = value.charAt(index);
+
+            if (current == '%' && index + 2 < value.length()) {
+                builder.append('%')
+                        .append(Character.toUpperCase(value.charAt(index + 1)))
+                        .append(Character.toUpperCase(value.charAt(index + 2)));
+                index += 2;
+            } else {
+                builder.append(current);
+            }
+        }
+    }
+}
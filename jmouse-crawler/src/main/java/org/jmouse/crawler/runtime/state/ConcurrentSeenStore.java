@@ -1,5 +1,6 @@
 package org.jmouse.crawler.runtime.state;
 
+import org.jmouse.core.Verify;
 import org.jmouse.crawler.api.SeenStore;
 
 import java.net.URI;
@@ -8,11 +9,20 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public final class ConcurrentSeenStore implements SeenStore {
 
-    private final Set<String> discovered = ConcurrentHashMap.newKeySet();
-    private final Set<String> processed  = ConcurrentHashMap.newKeySet();
+    private final Set<String>   discovered = ConcurrentHashMap.newKeySet();
+    private final Set<String>   processed  = ConcurrentHashMap.newKeySet();
+    private final UrlNormalizer normalizer;
 
-    private static String normalize(URI uri) {
-        return uri.toString();
+    public ConcurrentSeenStore() {
+        this(UrlNormalizer.IDENTITY);
+    }
+
+    public ConcurrentSeenStore(UrlNormalizer normalizer) {
+        this.normalizer = Verify.nonNull(normalizer, "normalizer");
+    }
+
+    private String normalize(URI uri) {
+        return normalizer.normalize(uri);
     }
 
     @Override
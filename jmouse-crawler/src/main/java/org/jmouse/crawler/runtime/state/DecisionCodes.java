@@ -8,6 +8,7 @@ public class DecisionCodes {
     public static final String DUPLICATE_DISCOVERED = "crawler.duplicate.discovered";
     public static final String DUPLICATE_PROCESSED  = "crawler.duplicate.processed";
     public static final String DUPLICATE_SELF  = "crawler.duplicate.self";
+    public static final String DUPLICATE_NEAR       = "crawler.duplicate.near";
     public static final String SCOPE_DENY           = "crawler.scope.denied";
     public static final String ENQUEUE_ACCEPT       = "enqueued";
     public static final String INVALID_URL          = "invalid.url";
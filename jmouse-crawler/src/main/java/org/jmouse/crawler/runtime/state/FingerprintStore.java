@@ -0,0 +1,23 @@
+package org.jmouse.crawler.runtime.state;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Exact set of 64-bit fingerprints.
+ */
+public interface FingerprintStore {
+
+    /**
+     * @return {@code true} if the fingerprint was not present and has been added
+     */
+    boolean add(long fingerprint);
+
+    boolean contains(long fingerprint);
+
+    long size();
+
+    /**
+     * Visit every stored fingerprint.
+     */
+    void forEach(LongConsumer consumer);
+}
@@ -0,0 +1,279 @@
+package org.jmouse.crawler.runtime.state;
+
+import org.jmouse.core.Verify;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * On-disk, exact {@link FingerprintStore}: open-addressing hash tables of 64-bit fingerprints in
+ * memory-mapped files. 💽
+ *
+ * <p>Fingerprints are spread over a fixed number of shards by their high bits; each shard is a
+ * linear-probing table of {@code long} slots (zero meaning empty) stored in {@code shard-NN.bin}.
+ * Slots are claimed with compare-and-set, so inserts do not block each other; a shard that passes
+ * 70% load is rehashed into a file of twice the size under its write lock. A fingerprint costs
+ * 8-16 bytes of disk and page cache, but no heap.</p>
+ *
+ * <p>The files are reopened on restart. Data reaches the disk when the OS writes the pages back
+ * or on {@link #force()} / {@link #close()}.</p>
+ */
+public final class MappedFingerprintStore implements FingerprintStore, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedFingerprintStore.class);
+
+    private static final VarHandle SLOTS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private static final double MAX_LOAD  = 0.7;
+    private static final int    MAX_SLOTS = 1 << 27;
+
+    /**
+     * Stand-in for the fingerprint 0, which marks an empty slot.
+     */
+    private static final long ZERO = 0x9e3779b97f4a7c15L;
+
+    private final Path    directory;
+    private final Shard[] shards;
+    private final int     shardShift;
+
+    /**
+     * @param directory    directory holding the shard files
+     * @param shards       number of shards, a power of two
+     * @param initialSlots initial slots per shard, a power of two
+     */
+    public MappedFingerprintStore(Path directory, int shards, int initialSlots) {
+        Verify.state(Integer.bitCount(shards) == 1, "shards must be a power of two");
+        Verify.state(Integer.bitCount(initialSlots) == 1 && initialSlots <= MAX_SLOTS,
+                     "initialSlots must be a power of two up to 2^27");
+
+        this.directory = Verify.nonNull(directory, "directory");
+        this.shards = new Shard[shards];
+        this.shardShift = 64 - Integer.numberOfTrailingZeros(shards);
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to create: " + directory, exception);
+        }
+
+        for (int index = 0; index < shards; index++) {
+            this.shards[index] = new Shard(directory.resolve("shard-%02d.bin".formatted(index)), initialSlots);
+        }
+
+        LOGGER.info("fingerprints.open directory={} size={}", directory, size());
+    }
+
+    public MappedFingerprintStore(Path directory) {
+        this(directory, 16, 1 << 20);
+    }
+
+    @Override
+    public boolean add(long fingerprint) {
+        long key = fingerprint == 0 ? ZERO : fingerprint;
+        return shard(key).add(key);
+    }
+
+    @Override
+    public boolean contains(long fingerprint) {
+        long key = fingerprint == 0 ? ZERO : fingerprint;
+        return shard(key).contains(key);
+    }
+
+    @Override
+    public long size() {
+        long size = 0;
+        for (Shard shard : shards) {
+            size += shard.count.get();
+        }
+        return size;
+    }
+
+    @Override
+    public void forEach(LongConsumer consumer) {
+        for (Shard shard : shards) {
+            shard.forEach(consumer);
+        }
+    }
+
+    public void force() {
+        for (Shard shard : shards) {
+            shard.force();
+        }
+    }
+
+    @Override
+    public void close() {
+        force();
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    private Shard shard(long key) {
+        return shards.length == 1 ? shards[0] : shards[(int) (key >>> shardShift)];
+    }
+
+    private static MappedByteBuffer map(Path file, long bytes) {
+        try (FileChannel channel = FileChannel.open(file, CREATE, READ, WRITE)) {
+            long size = channel.size() > 0 ? channel.size() : bytes;
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to map: " + file, exception);
+        }
+    }
+
+    /**
+     * Single linear-probing table.
+     */
+    private static final class Shard {
+
+        private final Path                   file;
+        private final AtomicLong             count = new AtomicLong();
+        private final ReentrantReadWriteLock lock  = new ReentrantReadWriteLock();
+        private       MappedByteBuffer       table;
+        private       int                    mask;
+
+        Shard(Path file, int initialSlots) {
+            this.file = file;
+            this.table = map(file, (long) initialSlots * Long.BYTES);
+            this.mask = table.capacity() / Long.BYTES - 1;
+
+            for (int slot = 0; slot <= mask; slot++) {
+                if ((long) SLOTS.get(table, slot << 3) != 0) {
+                    count.incrementAndGet();
+                }
+            }
+        }
+
+        boolean add(long key) {
+            boolean added;
+
+            lock.readLock().lock();
+            try {
+                added = insert(table, mask, key);
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            if (added && count.incrementAndGet() > (mask + 1) * MAX_LOAD) {
+                resize();
+            }
+
+            return added;
+        }
+
+        boolean contains(long key) {
+            lock.readLock().lock();
+            try {
+                for (int slot = (int) key & mask; ; slot = (slot + 1) & mask) {
+                    long value = (long) SLOTS.getVolatile(table, slot << 3);
+
+                    if (value == key) {
+                        return true;
+                    }
+                    if (value == 0) {
+                        return false;
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void forEach(LongConsumer consumer) {
+            lock.readLock().lock();
+            try {
+                for (int slot = 0; slot <= mask; slot++) {
+                    long value = (long) SLOTS.getVolatile(table, slot << 3);
+                    if (value != 0) {
+                        consumer.accept(value);
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void force() {
+            lock.readLock().lock();
+            try {
+                table.force();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private static boolean insert(MappedByteBuffer table, int mask, long key) {
+            for (int slot = (int) key & mask; ; slot = (slot + 1) & mask) {
+                long value = (long) SLOTS.getVolatile(table, slot << 3);
+
+                if (value == key) {
+                    return false;
+                }
+
+                if (value == 0) {
+                    if (SLOTS.compareAndSet(table, slot << 3, 0L, key)) {
+                        return true;
+                    }
+                    // lost the race for this slot: re-read it, the winner may have inserted the same key
+                    slot = (slot - 1) & mask;
+                }
+            }
+        }
+
+        private void resize() {
+            lock.writeLock().lock();
+            try {
+                int slots = mask + 1;
+
+                if (count.get() <= slots * MAX_LOAD) {
+                    return;
+                }
+
+                Verify.state(slots < MAX_SLOTS, "Fingerprint shard is full: " + file);
+
+                Path             temporary = file.resolveSibling(file.getFileName() + ".tmp");
+                int              grown     = slots * 2;
+                MappedByteBuffer next;
+
+                Files.deleteIfExists(temporary);
+                next = map(temporary, (long) grown * Long.BYTES);
+
+                for (int slot = 0; slot < slots; slot++) {
+                    long value = (long) SLOTS.get(table, slot << 3);
+                    if (value != 0) {
+                        insert(next, grown - 1, value);
+                    }
+                }
+
+                next.force();
+                Files.move(temporary, file, REPLACE_EXISTING, ATOMIC_MOVE);
+
+                table = next;
+                mask = grown - 1;
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Unable to resize: " + file, exception);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.jmouse.crawler.runtime.state;
+
+import org.jmouse.core.Verify;
+import org.jmouse.crawler.api.SeenStore;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * Compact {@link SeenStore} keeping 64-bit URL fingerprints instead of URL strings. 🧮
+ *
+ * <p>URLs are normalized (by default with {@link UrlNormalizer#CANONICAL}) and fingerprinted with
+ * {@link UrlFingerprint}. Each of the two sets (discovered, processed) is a {@link ScalableBloomFilter}
+ * held off-heap, optionally backed by an exact {@link FingerprintStore}:</p>
+ * <ul>
+ *   <li>without an exact store, a URL is reported as seen when the filter says so, which skips
+ *       roughly {@code falsePositiveRate} of the new URLs</li>
+ *   <li>with an exact store, marks are decided by the exact store and only positive queries reach it;
+ *       an on-disk store also remembers URLs across restarts (the filter is refilled from it)</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * SeenStore seen = ProbabilisticSeenStore.builder()
+ *         .expectedUrls(100_000_000)
+ *         .falsePositiveRate(0.001)
+ *         .exact(Path.of("crawl/seen"))
+ *         .build();
+ * }</pre>
+ */
+public final class ProbabilisticSeenStore implements SeenStore {
+
+    private final UrlNormalizer normalizer;
+    private final Marks         discovered;
+    private final Marks         processed;
+
+    private ProbabilisticSeenStore(Builder builder) {
+        this.normalizer = builder.normalizer;
+        this.discovered = Marks.create(builder, "discovered");
+        this.processed = Marks.create(builder, "processed");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean markDiscovered(URI url) {
+        return discovered.mark(fingerprint(url));
+    }
+
+    @Override
+    public boolean markProcessed(URI url) {
+        return processed.mark(fingerprint(url));
+    }
+
+    @Override
+    public boolean isDiscovered(URI url) {
+        return discovered.contains(fingerprint(url));
+    }
+
+    @Override
+    public boolean isProcessed(URI url) {
+        return processed.contains(fingerprint(url));
+    }
+
+    /**
+     * @return off-heap bytes held by the Bloom filters
+     */
+    public long filterBytes() {
+        return discovered.filter.bytes() + processed.filter.bytes();
+    }
+
+    private long fingerprint(URI url) {
+        return UrlFingerprint.of(normalizer.normalize(url));
+    }
+
+    /**
+     * Bloom filter with an optional exact store behind it.
+     */
+    private record Marks(ScalableBloomFilter filter, FingerprintStore exact) {
+
+        static Marks create(Builder builder, String name) {
+            ScalableBloomFilter filter = new ScalableBloomFilter(builder.expectedUrls, builder.falsePositiveRate);
+            FingerprintStore    exact  = null;
+
+            if (builder.exactDirectory != null) {
+                exact = new MappedFingerprintStore(builder.exactDirectory.resolve(name));
+                // fingerprints remembered from an earlier run must not be filter negatives
+                exact.forEach(filter::put);
+            }
+
+            return new Marks(filter, exact);
+        }
+
+        boolean mark(long fingerprint) {
+            boolean fresh = filter.put(fingerprint);
+            return exact == null ? fresh : exact.add(fingerprint);
+        }
+
+        boolean contains(long fingerprint) {
+            return filter.mightContain(fingerprint) && (exact == null || exact.contains(fingerprint));
+        }
+    }
+
+    public static final class Builder {
+        private UrlNormalizer normalizer        = UrlNormalizer.CANONICAL;
+        private long          expectedUrls      = 1_000_000;
+        private double        falsePositiveRate = 0.001;
+        private Path          exactDirectory;
+
+        public Builder normalizer(UrlNormalizer value) {
+            this.normalizer = Verify.nonNull(value, "normalizer");
+            return this;
+        }
+
+        /**
+         * Initial capacity of the filters; they grow beyond it at a higher memory cost.
+         */
+        public Builder expectedUrls(long value) {
+            Verify.state(value > 0, "expectedUrls must be > 0");
+            this.expectedUrls = value;
+            return this;
+        }
+
+        public Builder falsePositiveRate(double value) {
+            Verify.state(value > 0 && value < 1, "falsePositiveRate must be in (0, 1)");
+            this.falsePositiveRate = value;
+            return this;
+        }
+
+        /**
+         * Confirm positives with exact on-disk fingerprint stores in {@code directory}.
+         */
+        public Builder exact(Path directory) {
+            this.exactDirectory = Verify.nonNull(directory, "directory");
+            return this;
+        }
+
+        public ProbabilisticSeenStore build() {
+            return new ProbabilisticSeenStore(this);
+        }
+    }
+}
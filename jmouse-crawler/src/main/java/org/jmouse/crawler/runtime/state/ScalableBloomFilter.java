@@ -0,0 +1,174 @@
+package org.jmouse.crawler.runtime.state;
+
+import org.jmouse.core.Hash;
+import org.jmouse.core.Verify;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Off-heap, scalable Bloom filter over 64-bit fingerprints. 🌸
+ *
+ * <p>Bits live in direct buffers and are set with atomic {@code getAndBitwiseOr}, so concurrent
+ * {@link #put(long)} calls never lock. When the current stage reaches its capacity a new stage with
+ * twice the capacity and half the false-positive rate is added; starting at half the target rate, the
+ * compound rate stays below the configured one however far the filter grows.</p>
+ *
+ * <p>Indexes are derived by double hashing ({@code h1 + i·h2}) from the fingerprint. At 0.1%
+ * a stage takes about 1.8 bytes per fingerprint, counted against {@code -XX:MaxDirectMemorySize}.</p>
+ *
+ * <p>⚠️ {@link #put(long)} is exact only up to false positives, and two threads putting the same
+ * fingerprint at the same time may both see it as new.</p>
+ */
+public final class ScalableBloomFilter {
+
+    private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private static final long   MAX_BITS   = (long) (Integer.MAX_VALUE - 7) * 8;
+    private static final double LN2_SQUARE = Math.log(2) * Math.log(2);
+
+    private volatile Stage[] stages;
+
+    /**
+     * @param expected          number of fingerprints the first stage is sized for
+     * @param falsePositiveRate target false-positive rate of the whole filter
+     */
+    public ScalableBloomFilter(long expected, double falsePositiveRate) {
+        Verify.state(expected > 0, "expected must be > 0");
+        Verify.state(falsePositiveRate > 0 && falsePositiveRate < 1, "falsePositiveRate must be in (0, 1)");
+        this.stages = new Stage[]{new Stage(expected, falsePositiveRate / 2)};
+    }
+
+    /**
+     * Add a fingerprint.
+     *
+     * @return {@code true} if the fingerprint was definitely not present before
+     */
+    public boolean put(long fingerprint) {
+        Stage[] current = stages;
+        int     last    = current.length - 1;
+
+        for (int index = 0; index < last; index++) {
+            if (current[index].mightContain(fingerprint)) {
+                return false;
+            }
+        }
+
+        Stage stage = current[last];
+
+        if (!stage.put(fingerprint)) {
+            return false;
+        }
+
+        if (stage.count.incrementAndGet() >= stage.capacity) {
+            grow(stage);
+        }
+
+        return true;
+    }
+
+    public boolean mightContain(long fingerprint) {
+        for (Stage stage : stages) {
+            if (stage.mightContain(fingerprint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return approximate number of distinct fingerprints added
+     */
+    public long size() {
+        long size = 0;
+        for (Stage stage : stages) {
+            size += stage.count.get();
+        }
+        return size;
+    }
+
+    /**
+     * @return off-heap bytes used by all stages
+     */
+    public long bytes() {
+        long bytes = 0;
+        for (Stage stage : stages) {
+            bytes += stage.words.capacity();
+        }
+        return bytes;
+    }
+
+    public int stages() {
+        return stages.length;
+    }
+
+    private synchronized void grow(Stage full) {
+        Stage[] current = stages;
+
+        if (current[current.length - 1] != full) {
+            return;
+        }
+
+        Stage[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = new Stage(full.capacity * 2, full.falsePositiveRate / 2);
+        stages = next;
+    }
+
+    /**
+     * Fixed-size Bloom filter stage.
+     */
+    private static final class Stage {
+
+        private final long       capacity;
+        private final double     falsePositiveRate;
+        private final long       bits;
+        private final int        hashes;
+        private final ByteBuffer words;
+        private final AtomicLong count = new AtomicLong();
+
+        Stage(long capacity, double falsePositiveRate) {
+            long optimal = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / LN2_SQUARE);
+
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            this.bits = Math.min(MAX_BITS, Math.max(64, (optimal + 63) & ~63L));
+            this.hashes = Math.max(1, (int) Math.round((double) bits / capacity * Math.log(2)));
+            this.words = ByteBuffer.allocateDirect((int) (bits / 8));
+        }
+
+        boolean put(long fingerprint) {
+            long    first   = fingerprint;
+            long    second  = Hash.stafford13(fingerprint) | 1;
+            boolean changed = false;
+
+            for (int index = 0; index < hashes; index++) {
+                long bit  = Long.remainderUnsigned(first + index * second, bits);
+                long mask = 1L << bit;
+                long word = (long) WORDS.getAndBitwiseOr(words, (int) (bit >>> 6) << 3, mask);
+
+                changed |= (word & mask) == 0;
+            }
+
+            return changed;
+        }
+
+        boolean mightContain(long fingerprint) {
+            long first  = fingerprint;
+            long second = Hash.stafford13(fingerprint) | 1;
+
+            for (int index = 0; index < hashes; index++) {
+                long bit = Long.remainderUnsigned(first + index * second, bits);
+
+                if (((long) WORDS.getVolatile(words, (int) (bit >>> 6) << 3) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
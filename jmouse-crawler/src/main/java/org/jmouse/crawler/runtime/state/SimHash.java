@@ -0,0 +1,100 @@
+package org.jmouse.crawler.runtime.state;
+
+import org.jmouse.core.Hash;
+import org.jmouse.core.Verify;
+
+/**
+ * 64-bit SimHash of a text. 🧬
+ *
+ * <p>The text is split into lower-cased alphanumeric words; every run of {@code shingle}
+ * consecutive words is a feature. Each bit of the fingerprint is the majority vote of that bit
+ * over all feature hashes, so texts sharing most of their features differ in only a few bits
+ * while unrelated texts differ in about 32.</p>
+ *
+ * @param value    fingerprint bits
+ * @param features number of features the fingerprint was computed from
+ */
+public record SimHash(long value, int features) {
+
+    public static final int DEFAULT_SHINGLE = 3;
+
+    public static SimHash of(CharSequence text) {
+        return of(text, DEFAULT_SHINGLE);
+    }
+
+    public static SimHash of(CharSequence text, int shingle) {
+        Verify.nonNull(text, "text");
+        Verify.positive(shingle, "shingle");
+
+        int[]  votes    = new int[Long.SIZE];
+        long[] window   = new long[shingle];
+        int    words    = 0;
+        int    features = 0;
+        long   word     = Hash.PHI64;
+        int    length   = 0;
+
+        for (int index = 0, size = text.length(); index <= size; index++) {
+            char character = index < size ? text.charAt(index) : ' ';
+
+            if (Character.isLetterOrDigit(character)) {
+                word = Hash.stafford13(word ^ Character.toLowerCase(character)) * Hash.PHI64;
+                length++;
+                continue;
+            }
+
+            if (length == 0) {
+                continue;
+            }
+
+            window[words++ % shingle] = Hash.stafford13(word ^ length);
+            word = Hash.PHI64;
+            length = 0;
+
+            if (words >= shingle) {
+                vote(votes, feature(window, words, shingle));
+                features++;
+            }
+        }
+
+        // texts shorter than one shingle still get a fingerprint of their words
+        if (features == 0 && words > 0) {
+            vote(votes, feature(window, words, words));
+            features = 1;
+        }
+
+        long value = 0;
+
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (votes[bit] > 0) {
+                value |= 1L << bit;
+            }
+        }
+
+        return new SimHash(value, features);
+    }
+
+    /**
+     * @return number of differing bits
+     */
+    public int distance(long other) {
+        return Long.bitCount(value ^ other);
+    }
+
+    private static long feature(long[] window, int words, int count) {
+        int  shingle = window.length;
+        long hash    = Hash.PHI64;
+
+        // oldest word first, so the feature depends on word order
+        for (int offset = count; offset > 0; offset--) {
+            hash = Hash.stafford13(hash ^ window[(words - offset) % shingle]);
+        }
+
+        return hash;
+    }
+
+    private static void vote(int[] votes, long hash) {
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            votes[bit] += (int) ((hash >>> bit) & 1L) * 2 - 1;
+        }
+    }
+}
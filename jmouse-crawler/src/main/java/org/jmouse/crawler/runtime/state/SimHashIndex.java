@@ -0,0 +1,207 @@
+package org.jmouse.crawler.runtime.state;
+
+import org.jmouse.core.Verify;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Index of {@link SimHash} fingerprints answering "is there a fingerprint within Hamming distance
+ * {@code k}" without scanning all of them. 🗂️
+ *
+ * <p>Fingerprints are cut into {@code k + 1} bands. Two fingerprints differing in at most
+ * {@code k} bits agree exactly on at least one band (pigeonhole), so only fingerprints sharing
+ * a band value are candidates. With 64-bit fingerprints and {@code k = 3} the bands are 16 bits
+ * wide and a lookup inspects about {@code 4·n/65536} candidates.</p>
+ *
+ * <p>Larger distances catch more variants of short pages (a 300-word page with a few changed
+ * lines typically lands within 3..7 bits) at the cost of more candidates per lookup and more
+ * false matches between pages sharing a site template.</p>
+ *
+ * <p>Every fingerprint belongs to a document key (usually the URL). A document never matches its
+ * own entry, so a retried or re-crawled page is not reported as a duplicate of itself; storing it
+ * again replaces its previous fingerprint. The index keeps at most {@code capacity} documents and
+ * evicts the oldest stored one beyond that.</p>
+ *
+ * <p>All operations are synchronized; {@link #putIfDistinct(String, long)} is atomic, so two
+ * concurrent near-duplicates cannot both be accepted as originals.</p>
+ */
+public final class SimHashIndex {
+
+    public static final int DEFAULT_MAX_DISTANCE = 3;
+    public static final int DEFAULT_CAPACITY     = 1 << 20;
+
+    private final int                  maxDistance;
+    private final int                  capacity;
+    private final int[]                shifts;
+    private final long[]               masks;
+    private final Map<Long, Bucket>[]  bands;
+    private final Map<String, Entry>   documents = new LinkedHashMap<>();
+
+    public SimHashIndex() {
+        this(DEFAULT_MAX_DISTANCE, DEFAULT_CAPACITY);
+    }
+
+    public SimHashIndex(int maxDistance) {
+        this(maxDistance, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param maxDistance largest Hamming distance still considered a near-duplicate (0..15)
+     * @param capacity    maximal number of documents kept; the oldest ones are evicted first
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public SimHashIndex(int maxDistance, int capacity) {
+        Verify.state(maxDistance >= 0 && maxDistance < 16, "maxDistance must be within 0..15");
+
+        int count = maxDistance + 1;
+
+        this.maxDistance = maxDistance;
+        this.capacity = Verify.positive(capacity, "capacity");
+        this.shifts = new int[count];
+        this.masks = new long[count];
+        this.bands = new Map[count];
+
+        for (int band = 0, shift = 0; band < count; band++) {
+            int width = Long.SIZE / count + (band < Long.SIZE % count ? 1 : 0);
+
+            shifts[band] = shift;
+            masks[band] = width == Long.SIZE ? -1L : (1L << width) - 1;
+            bands[band] = new HashMap<>();
+            shift += width;
+        }
+    }
+
+    /**
+     * Find a document other than {@code document} whose fingerprint lies within {@link #maxDistance()}.
+     */
+    public synchronized Optional<Match> findNear(String document, long fingerprint) {
+        for (int band = 0; band < bands.length; band++) {
+            Bucket bucket = bands[band].get(key(fingerprint, band));
+
+            if (bucket == null) {
+                continue;
+            }
+
+            for (int index = 0; index < bucket.size; index++) {
+                Entry entry = bucket.entries[index];
+
+                if (Long.bitCount(entry.fingerprint ^ fingerprint) <= maxDistance && !entry.document.equals(document)) {
+                    return Optional.of(new Match(entry.document, entry.fingerprint));
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Store the fingerprint of {@code document} unless another document with a near-duplicate
+     * fingerprint is already stored. A previous fingerprint of the same document is replaced.
+     *
+     * @return the stored near-duplicate, or empty if the fingerprint was added
+     */
+    public synchronized Optional<Match> putIfDistinct(String document, long fingerprint) {
+        Verify.nonNull(document, "document");
+
+        Optional<Match> near = findNear(document, fingerprint);
+
+        if (near.isEmpty()) {
+            Entry previous = documents.remove(document);
+
+            if (previous != null) {
+                unlink(previous);
+            }
+
+            Entry entry = new Entry(document, fingerprint);
+
+            documents.put(document, entry);
+
+            for (int band = 0; band < bands.length; band++) {
+                bands[band].computeIfAbsent(key(fingerprint, band), ignored -> new Bucket()).add(entry);
+            }
+
+            evict();
+        }
+
+        return near;
+    }
+
+    public int maxDistance() {
+        return maxDistance;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public synchronized int size() {
+        return documents.size();
+    }
+
+    private void evict() {
+        Iterator<Entry> oldest = documents.values().iterator();
+
+        while (documents.size() > capacity) {
+            Entry entry = oldest.next();
+            oldest.remove();
+            unlink(entry);
+        }
+    }
+
+    private void unlink(Entry entry) {
+        for (int band = 0; band < bands.length; band++) {
+            long   key    = key(entry.fingerprint, band);
+            Bucket bucket = bands[band].get(key);
+
+            if (bucket != null && bucket.remove(entry) && bucket.size == 0) {
+                bands[band].remove(key);
+            }
+        }
+    }
+
+    private long key(long fingerprint, int band) {
+        return (fingerprint >>> shifts[band]) & masks[band];
+    }
+
+    /**
+     * Stored document found within the distance limit.
+     *
+     * @param document    key of the stored document
+     * @param fingerprint its fingerprint
+     */
+    public record Match(String document, long fingerprint) { }
+
+    private record Entry(String document, long fingerprint) { }
+
+    /**
+     * Entries sharing one band value.
+     */
+    private static final class Bucket {
+
+        private Entry[] entries = new Entry[2];
+        private int     size;
+
+        void add(Entry entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = entry;
+        }
+
+        boolean remove(Entry entry) {
+            for (int index = 0; index < size; index++) {
+                if (entries[index] == entry) {
+                    entries[index] = entries[--size];
+                    entries[size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
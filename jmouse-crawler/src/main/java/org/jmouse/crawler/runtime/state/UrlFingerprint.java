@@ -0,0 +1,37 @@
+package org.jmouse.crawler.runtime.state;
+
+import org.jmouse.core.Hash;
+
+/**
+ * 64-bit fingerprints of normalized URLs. 🔑
+ *
+ * <p>Characters are consumed four at a time and every 64-bit block goes through the Stafford mix13
+ * finalizer. For well-mixed 64-bit values the expected number of colliding pairs among
+ * 100M URLs is about 3·10<sup>-4</sup>.</p>
+ */
+public final class UrlFingerprint {
+
+    private UrlFingerprint() {}
+
+    public static long of(CharSequence value) {
+        int  length = value.length();
+        long hash   = Hash.PHI64 ^ length;
+        int  index  = 0;
+
+        for (; index + 4 <= length; index += 4) {
+            long block = value.charAt(index)
+                    | (long) value.charAt(index + 1) << 16
+                    | (long) value.charAt(index + 2) << 32
+                    | (long) value.charAt(index + 3) << 48;
+            hash = Hash.stafford13(hash ^ block) * Hash.PHI64;
+        }
+
+        long tail = 0;
+
+        for (int shift = 0; index < length; index++, shift += 16) {
+            tail |= (long) value.charAt(index) << shift;
+        }
+
+        return Hash.stafford13(hash ^ tail ^ Hash.fibStep64(length));
+    }
+}
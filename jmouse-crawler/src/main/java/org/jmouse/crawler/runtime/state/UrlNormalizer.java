@@ -0,0 +1,22 @@
+package org.jmouse.crawler.runtime.state;
+
+import java.net.URI;
+
+/**
+ * Maps a URL to the string used for duplicate detection. 🔗
+ */
+@FunctionalInterface
+public interface UrlNormalizer {
+
+    /**
+     * The URL as written.
+     */
+    UrlNormalizer IDENTITY = URI::toString;
+
+    /**
+     * Canonical form, see {@link CanonicalUrlNormalizer}.
+     */
+    UrlNormalizer CANONICAL = new CanonicalUrlNormalizer();
+
+    String normalize(URI url);
+}
@@ -0,0 +1,296 @@
+package org.jmouse.crawler.runtime.telemetry;
+
+import org.jmouse.core.Verify;
+import org.jmouse.core.metrics.LatencyHistogram;
+import org.jmouse.crawler.api.CrawlTelemetry;
+import org.jmouse.crawler.api.FetchRequest;
+import org.jmouse.crawler.api.FetchResult;
+import org.jmouse.crawler.api.ProcessingTask;
+import org.jmouse.crawler.api.RunContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link CrawlTelemetry} aggregating counters and latency histograms, with a pull
+ * {@link #snapshot()} API. 📊
+ *
+ * <ul>
+ *   <li>fetch totals and rates over the last minute (fetches/s, bytes/s), status code distribution,
+ *       fetch latency</li>
+ *   <li>per-host fetches, errors, bytes and latency; hosts above {@code maxHosts} are folded into
+ *       {@link #OTHER_HOSTS}</li>
+ *   <li>politeness deferrals and wait time, scheduler parks</li>
+ *   <li>per-route, per-step failure counts and latency histograms</li>
+ *   <li>queue depths (frontier, retry buffer, dead letters, in flight), read at snapshot time</li>
+ * </ul>
+ *
+ * <p>Recording is lock-free; snapshots are consistent per counter, not across counters. Snapshots have
+ * no side effects, so any number of consumers may take them.</p>
+ *
+ * @see TelemetryReporter
+ */
+public final class DefaultCrawlTelemetry implements CrawlTelemetry {
+
+    public static final String OTHER_HOSTS       = "*";
+    public static final int    DEFAULT_MAX_HOSTS = 10_000;
+
+    private static final int MAX_STATUS = 600;
+
+    /**
+     * Length of the rate window in one-second slots.
+     */
+    private static final int RATE_SLOTS = 60;
+
+    private final Clock   clock;
+    private final int     maxHosts;
+    private final Instant started;
+
+    private final LongAdder        fetches       = new LongAdder();
+    private final LongAdder        failures      = new LongAdder();
+    private final LongAdder        bytes         = new LongAdder();
+    private final AtomicLongArray  statuses      = new AtomicLongArray(MAX_STATUS);
+    private final LatencyHistogram fetchLatency  = new LatencyHistogram();
+    private final LongAdder        deferrals     = new LongAdder();
+    private final LongAdder        deferredNanos = new LongAdder();
+    private final LongAdder        parks         = new LongAdder();
+    private final LongAdder        parkedNanos   = new LongAdder();
+    private final RateWindow       fetchRate     = new RateWindow();
+    private final RateWindow       byteRate      = new RateWindow();
+
+    private final Map<String, HostStats>              hosts = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, StepStats>> steps = new ConcurrentHashMap<>();
+
+    private volatile RunContext run;
+
+    public DefaultCrawlTelemetry(Clock clock) {
+        this(clock, DEFAULT_MAX_HOSTS);
+    }
+
+    /**
+     * @param clock    time source for snapshots and rates
+     * @param maxHosts maximal number of individually tracked hosts
+     */
+    public DefaultCrawlTelemetry(Clock clock, int maxHosts) {
+        this.clock = Verify.nonNull(clock, "clock");
+        this.maxHosts = Verify.positive(maxHosts, "maxHosts");
+        this.started = clock.instant();
+    }
+
+    @Override
+    public void attach(RunContext run) {
+        this.run = run;
+    }
+
+    /**
+     * @return run the telemetry is attached to, or {@code null} before the run is built
+     */
+    public RunContext run() {
+        return run;
+    }
+
+    @Override
+    public void onResponse(FetchRequest request, FetchResult result, Duration latency) {
+        int  status = result.status();
+        long size   = result.body() == null ? 0 : result.body().length;
+
+        long second = clock.instant().getEpochSecond();
+
+        fetches.increment();
+        bytes.add(size);
+        fetchRate.add(second, 1);
+        byteRate.add(second, size);
+        statuses.incrementAndGet(status >= 0 && status < MAX_STATUS ? status : 0);
+        fetchLatency.record(latency);
+
+        HostStats host = host(request);
+
+        host.fetches.increment();
+        host.bytes.add(size);
+        host.latency.record(latency);
+
+        if (status == 429 || status >= 500) {
+            host.errors.increment();
+        }
+    }
+
+    @Override
+    public void onFailure(FetchRequest request, Throwable error, Duration latency) {
+        failures.increment();
+        host(request).failures.increment();
+    }
+
+    @Override
+    public void politenessDeferred(ProcessingTask task, Duration wait) {
+        deferrals.increment();
+        deferredNanos.add(wait.toNanos());
+    }
+
+    @Override
+    public void parked(Duration duration) {
+        parks.increment();
+        parkedNanos.add(duration.toNanos());
+    }
+
+    @Override
+    public void stepFinished(String routeId, String stepId, Duration duration, boolean failed) {
+        StepStats stats = steps.computeIfAbsent(routeId == null ? "" : routeId, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(stepId, ignored -> new StepStats());
+
+        stats.latency.record(duration);
+
+        if (failed) {
+            stats.failures.increment();
+        }
+    }
+
+    /**
+     * Take a snapshot; queue depths are read from the attached run (zero before it is attached).
+     */
+    public TelemetrySnapshot snapshot() {
+        RunContext run    = this.run;
+        Instant    now    = clock.instant();
+        Instant    from   = Instant.ofEpochSecond(now.getEpochSecond() - RATE_SLOTS + 1);
+        // the rate window covers the current, partial second and at most RATE_SLOTS - 1 full ones
+        Duration   span   = Duration.between(from.isAfter(started) ? from : started, now);
+        double     window = Math.max(1e-3, span.toNanos() / 1e9);
+
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+
+        for (int status = 0; status < MAX_STATUS; status++) {
+            long count = statuses.get(status);
+            if (count > 0) {
+                statusCounts.put(status, count);
+            }
+        }
+
+        Map<String, Map<String, StepSnapshot>> stepCounters = new TreeMap<>();
+
+        steps.forEach((route, stats) -> {
+            Map<String, StepSnapshot> byStep = new TreeMap<>();
+            stats.forEach((step, counters) -> byStep.put(step, counters.snapshot()));
+            stepCounters.put(route, byStep);
+        });
+
+        Map<String, HostSnapshot> hostCounters = new TreeMap<>();
+
+        hosts.forEach((host, stats) -> hostCounters.put(host, stats.snapshot(host)));
+
+        return new TelemetrySnapshot(
+                now,
+                Duration.between(started, now),
+                fetches.sum(),
+                failures.sum(),
+                bytes.sum(),
+                fetchRate.sum(now.getEpochSecond()) / window,
+                byteRate.sum(now.getEpochSecond()) / window,
+                statusCounts,
+                LatencySnapshot.of(fetchLatency.snapshot()),
+                run == null ? 0 : run.frontier().size(),
+                run == null ? 0 : run.retryBuffer().size(),
+                run == null ? 0 : run.deadLetterQueue().size(),
+                run == null ? 0 : run.inFlight().size(),
+                deferrals.sum(),
+                Duration.ofNanos(deferredNanos.sum()),
+                parks.sum(),
+                Duration.ofNanos(parkedNanos.sum()),
+                stepCounters,
+                hostCounters
+        );
+    }
+
+    private HostStats host(FetchRequest request) {
+        String host = request.url() == null ? null : request.url().getHost();
+        String key  = host == null ? OTHER_HOSTS : host.toLowerCase(Locale.ROOT);
+
+        HostStats stats = hosts.get(key);
+
+        if (stats == null) {
+            if (hosts.size() >= maxHosts) {
+                key = OTHER_HOSTS;
+            }
+            stats = hosts.computeIfAbsent(key, ignored -> new HostStats());
+        }
+
+        return stats;
+    }
+
+    /**
+     * Amounts per second over the last {@link #RATE_SLOTS} seconds. A slot is recycled by swapping in a
+     * fresh counter, so a late increment lands in the counter of the second it was recorded for.
+     */
+    private static final class RateWindow {
+
+        private final AtomicReferenceArray<Slot> slots = new AtomicReferenceArray<>(RATE_SLOTS);
+
+        void add(long second, long amount) {
+            int  index = Math.floorMod(second, RATE_SLOTS);
+            Slot slot  = slots.get(index);
+
+            while (slot == null || slot.second < second) {
+                Slot fresh = new Slot(second);
+
+                if (slots.compareAndSet(index, slot, fresh)) {
+                    slot = fresh;
+                } else {
+                    slot = slots.get(index);
+                }
+            }
+
+            // a clock stepping back lands here with an older second, its slot is reused as is
+            slot.amount.add(amount);
+        }
+
+        long sum(long now) {
+            long sum = 0;
+
+            for (int index = 0; index < RATE_SLOTS; index++) {
+                Slot slot = slots.get(index);
+
+                if (slot != null && slot.second > now - RATE_SLOTS && slot.second <= now) {
+                    sum += slot.amount.sum();
+                }
+            }
+
+            return sum;
+        }
+
+        private record Slot(long second, LongAdder amount) {
+            Slot(long second) {
+                this(second, new LongAdder());
+            }
+        }
+    }
+
+    private static final class StepStats {
+
+        private final LongAdder        failures = new LongAdder();
+        private final LatencyHistogram latency  = new LatencyHistogram();
+
+        StepSnapshot snapshot() {
+            return new StepSnapshot(failures.sum(), LatencySnapshot.of(latency.snapshot()));
+        }
+    }
+
+    private static final class HostStats {
+
+        private final LongAdder        fetches  = new LongAdder();
+        private final LongAdder        failures = new LongAdder();
+        private final LongAdder        errors   = new LongAdder();
+        private final LongAdder        bytes    = new LongAdder();
+        private final LatencyHistogram latency  = new LatencyHistogram();
+
+        HostSnapshot snapshot(String host) {
+            return new HostSnapshot(
+                    host, fetches.sum(), failures.sum(), errors.sum(), bytes.sum(), LatencySnapshot.of(latency.snapshot()));
+        }
+    }
+}
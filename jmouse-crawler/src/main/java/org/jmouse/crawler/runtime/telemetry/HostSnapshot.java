@@ -0,0 +1,20 @@
+package org.jmouse.crawler.runtime.telemetry;
+
+/**
+ * Counters of one host.
+ *
+ * @param host     host name, or {@link DefaultCrawlTelemetry#OTHER_HOSTS} for hosts over the limit
+ * @param fetches  responses received
+ * @param failures fetches that failed without a response
+ * @param errors   responses with status 429 or 5xx
+ * @param bytes    body bytes received
+ * @param latency  fetch latency distribution
+ */
+public record HostSnapshot(
+        String host,
+        long fetches,
+        long failures,
+        long errors,
+        long bytes,
+        LatencySnapshot latency
+) { }
@@ -0,0 +1,42 @@
+package org.jmouse.crawler.runtime.telemetry;
+
+import org.jmouse.core.metrics.LatencyHistogram;
+
+import java.time.Duration;
+
+/**
+ * Summary of a {@link LatencyHistogram}.
+ */
+public record LatencySnapshot(
+        long count,
+        Duration mean,
+        Duration p50,
+        Duration p90,
+        Duration p99,
+        Duration max
+) {
+
+    public static final LatencySnapshot EMPTY = new LatencySnapshot(
+            0, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+    public static LatencySnapshot of(LatencyHistogram.Snapshot histogram) {
+        if (histogram.count() == 0) {
+            return EMPTY;
+        }
+
+        return new LatencySnapshot(
+                histogram.count(),
+                histogram.mean(),
+                histogram.percentile(50),
+                histogram.percentile(90),
+                histogram.percentile(99),
+                histogram.max()
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "n=%d mean=%dms p50=%dms p90=%dms p99=%dms max=%dms".formatted(
+                count, mean.toMillis(), p50.toMillis(), p90.toMillis(), p99.toMillis(), max.toMillis());
+    }
+}
@@ -0,0 +1,18 @@
+package org.jmouse.crawler.runtime.telemetry;
+
+/**
+ * Counters of one pipeline step of a route.
+ *
+ * @param failures executions that failed
+ * @param latency  latency distribution of all executions, failed ones included
+ */
+public record StepSnapshot(
+        long failures,
+        LatencySnapshot latency
+) {
+
+    @Override
+    public String toString() {
+        return "failures=%d latency={%s}".formatted(failures, latency);
+    }
+}
@@ -0,0 +1,87 @@
+package org.jmouse.crawler.runtime.telemetry;
+
+import org.jmouse.core.Verify;
+import org.jmouse.core.events.EventManager;
+import org.jmouse.crawler.api.CrawlEvent;
+import org.jmouse.crawler.api.CrawlEventName;
+import org.jmouse.crawler.api.CrawlEventPayload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes a {@link TelemetrySnapshot} of the run every {@code interval} as a
+ * {@link CrawlEventName#TELEMETRY_SNAPSHOT} event. ⏲️
+ *
+ * <pre>{@code
+ * DefaultCrawlTelemetry telemetry = new DefaultCrawlTelemetry(Clock.systemUTC());
+ *
+ * Crawler crawler = FacadeBuilder.create()
+ *         .runtime(runtime -> runtime.telemetry(telemetry) ...)
+ *         .build();
+ *
+ * try (TelemetryReporter reporter = TelemetryReporter.start(telemetry, events, Duration.ofSeconds(10))) {
+ *     crawler.runUntilDrained();
+ * }
+ * }</pre>
+ *
+ * <p>Each snapshot is logged at DEBUG as well. Closing the reporter publishes a final snapshot.</p>
+ */
+public final class TelemetryReporter implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TelemetryReporter.class);
+
+    private final DefaultCrawlTelemetry    telemetry;
+    private final EventManager             events;
+    private final ScheduledExecutorService timer;
+
+    private TelemetryReporter(DefaultCrawlTelemetry telemetry, EventManager events) {
+        this.telemetry = Verify.nonNull(telemetry, "telemetry");
+        this.events = Verify.nonNull(events, "events");
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "crawler-telemetry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static TelemetryReporter start(DefaultCrawlTelemetry telemetry, EventManager events, Duration interval) {
+        Verify.nonNull(interval, "interval");
+        Verify.state(interval.isPositive(), "interval must be positive");
+
+        TelemetryReporter reporter = new TelemetryReporter(telemetry, events);
+        long              millis   = interval.toMillis();
+
+        reporter.timer.scheduleAtFixedRate(reporter::report, millis, millis, TimeUnit.MILLISECONDS);
+
+        return reporter;
+    }
+
+    /**
+     * Take a snapshot and publish it.
+     */
+    public TelemetrySnapshot report() {
+        TelemetrySnapshot snapshot = telemetry.snapshot();
+
+        LOGGER.debug("{}", snapshot);
+
+        try {
+            events.publish(new CrawlEvent(
+                    CrawlEventName.TELEMETRY_SNAPSHOT, new CrawlEventPayload.TelemetryPayload(telemetry.run(), snapshot), this));
+        } catch (RuntimeException exception) {
+            LOGGER.warn("Telemetry snapshot could not be published: {}", exception.toString());
+        }
+
+        return snapshot;
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        report();
+    }
+}
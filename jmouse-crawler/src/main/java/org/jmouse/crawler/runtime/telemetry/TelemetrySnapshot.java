@@ -0,0 +1,63 @@
+package org.jmouse.crawler.runtime.telemetry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Point-in-time view of crawl telemetry. 📋
+ *
+ * <p>Totals count from the start of the run; rates cover the last minute, or the time since the
+ * start when the run is younger. Taking a snapshot does not change what the next one reports.</p>
+ *
+ * @param at                 snapshot time
+ * @param uptime             time since telemetry started
+ * @param fetches            responses received
+ * @param failures           fetches failed without a response
+ * @param bytes              body bytes received
+ * @param fetchesPerSecond   responses per second over the last minute
+ * @param bytesPerSecond     body bytes per second over the last minute
+ * @param statuses           number of responses per HTTP status
+ * @param fetchLatency       fetch latency distribution
+ * @param frontier           frontier size
+ * @param retries            retry buffer size
+ * @param deadLetters        dead-letter queue size
+ * @param inFlight           tasks currently executing
+ * @param politenessDeferrals number of tasks held back by politeness
+ * @param politenessWait     total time tasks were held back by politeness
+ * @param parks              number of scheduler parks
+ * @param parked             total suggested park time
+ * @param steps              step failures and latency per route id and step id
+ * @param hosts              per-host counters
+ */
+public record TelemetrySnapshot(
+        Instant at,
+        Duration uptime,
+        long fetches,
+        long failures,
+        long bytes,
+        double fetchesPerSecond,
+        double bytesPerSecond,
+        Map<Integer, Long> statuses,
+        LatencySnapshot fetchLatency,
+        int frontier,
+        int retries,
+        int deadLetters,
+        int inFlight,
+        long politenessDeferrals,
+        Duration politenessWait,
+        long parks,
+        Duration parked,
+        Map<String, Map<String, StepSnapshot>> steps,
+        Map<String, HostSnapshot> hosts
+) {
+
+    @Override
+    public String toString() {
+        return ("TELEMETRY[fetches=%d (%.1f/s), bytes=%d (%.0f/s), failures=%d, statuses=%s, latency={%s}, "
+                + "frontier=%d, retries=%d, dlq=%d, inFlight=%d, politeness=%d/%ss, parks=%d, hosts=%d]").formatted(
+                fetches, fetchesPerSecond, bytes, bytesPerSecond, failures, statuses, fetchLatency,
+                frontier, retries, deadLetters, inFlight, politenessDeferrals, politenessWait.toSeconds(),
+                parks, hosts.size());
+    }
+}
@@ -43,7 +43,7 @@ public class ExpressionLanguage {
         this.extensions = new StandardExtensionContainer() {{
             importExtension(new CoreExtension());
         }};
-        this.lexer = new DefaultLexer(new DefaultTokenizer(new ExpressionSplitter(), new ExpressionRecognizer()));
+        this.lexer = new DefaultLexer(new DefaultTokenizer(new ExpressionScanner(), new ExpressionRecognizer()));
         this.context = new DefaultParserContext(getExtensions());
         this.cache = Cache.memory();
         this.parser = (ExpressionParser) context.getParser(ExpressionParser.class);
@@ -9,6 +9,7 @@ import org.jmouse.el.extension.ExtensionContainer;
 import org.jmouse.el.extension.StandardExtensionContainer;
 import org.jmouse.el.renderable.Inheritance;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,12 +25,17 @@ public class DefaultEvaluationContext implements EvaluationContext {
     private       ObjectAccessor          accessor;
 
     public DefaultEvaluationContext(ScopedChain chain, ExtensionContainer extensions, Conversion conversion) {
+        this(chain, extensions, conversion, Inheritance.empty());
+    }
+
+    private DefaultEvaluationContext(
+            ScopedChain chain, ExtensionContainer extensions, Conversion conversion, Inheritance stack) {
         this.chain = chain;
         this.extensions = extensions;
         this.conversion = conversion;
         this.resolver = new VirtualPropertyResolver.Default();
         this.objects = new HashMap<>();
-        this.stack = Inheritance.empty();
+        this.stack = stack;
     }
 
     public DefaultEvaluationContext(ExtensionContainer extensions) {
@@ -55,6 +61,26 @@ public class DefaultEvaluationContext implements EvaluationContext {
         objects.put(key, object);
     }
 
+    @Override
+    public EvaluationContext fork() {
+        ScopedChain       snapshot = new BasicValuesChain();
+        List<ScopeValues> scopes   = new ArrayList<>();
+
+        chain.chain().forEach(scopes::add);
+
+        // chain() iterates from the top-most scope, so apply the outermost scope first
+        for (int i = scopes.size() - 1; i >= 0; i--) {
+            snapshot.peek().getValues().putAll(scopes.get(i).getValues());
+        }
+
+        DefaultEvaluationContext fork = new DefaultEvaluationContext(snapshot, extensions, conversion, stack.copy());
+
+        fork.resolver = resolver;
+        fork.objects.putAll(objects);
+
+        return fork;
+    }
+
     @Override
     public ScopedChain getScopedChain() {
         return chain;
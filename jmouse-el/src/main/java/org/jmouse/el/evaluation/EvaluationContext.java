@@ -46,6 +46,18 @@ public interface EvaluationContext extends VirtualPropertyResolver.Aware {
      */
     void setObject(Object key, Object object);
 
+    /**
+     * Creates a detached copy of this context for evaluation on another thread.
+     * <p>
+     * The fork sees a snapshot of all currently visible variables and the same inheritance position,
+     * extensions and conversion, but writes into its own scopes, so neither context observes the
+     * other's later changes.
+     * </p>
+     *
+     * @return a new forked {@link EvaluationContext}
+     */
+    EvaluationContext fork();
+
     /**
      * Returns the current scope chain for variable resolution.
      *
@@ -120,11 +132,7 @@ public interface EvaluationContext extends VirtualPropertyResolver.Aware {
             String key       = entries.first().toString();
             Object container = getScopedChain().getValue(key);
 
-            for (AttributeResolver resolver : getAttributeResolvers()) {
-                if ((value = resolver.resolve(container, last)) != null) {
-                    break;
-                }
-            }
+            value = getAttribute(container, last);
         } else {
             value = getValueResolver().getProperty(name);
         }
@@ -132,6 +140,27 @@ public interface EvaluationContext extends VirtualPropertyResolver.Aware {
         return value;
     }
 
+    /**
+     * Resolves an attribute of the given container using the registered {@link AttributeResolver}s.
+     * <p>
+     * Resolvers are consulted in order and the first non-null result wins.
+     * </p>
+     *
+     * @param container the object that owns the attribute
+     * @param name      the attribute name
+     * @return the resolved value, or {@code null} if no resolver produced one
+     */
+    default Object getAttribute(Object container, String name) {
+        Object value = null;
+
+        for (AttributeResolver resolver : getAttributeResolvers()) {
+            if ((value = resolver.resolve(container, name)) != null) {
+                break;
+            }
+        }
+
+        return value;
+    }
 
 
     /**
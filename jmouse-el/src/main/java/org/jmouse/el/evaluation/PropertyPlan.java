@@ -0,0 +1,200 @@
+package org.jmouse.el.evaluation;
+
+import org.jmouse.core.Getter;
+import org.jmouse.core.access.AbstractBeanAccessor;
+import org.jmouse.core.access.ObjectAccessor;
+import org.jmouse.core.access.PropertyPath;
+import org.jmouse.core.access.PropertyPath.Entries;
+import org.jmouse.core.access.accessor.MapAccessor;
+import org.jmouse.core.access.descriptor.structured.ObjectDescriptor;
+import org.jmouse.core.access.descriptor.structured.PropertyDescriptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🧭 Precompiled resolution plan for a property path such as {@code user.address.city}.
+ * <p>
+ * The path is tokenized once and, for nested paths, every segment keeps a small cache of
+ * per-receiver-class {@link Step steps}: the accessor kind that the {@link ObjectAccessor} chain
+ * would have selected for that class, plus the getter handle it would have invoked. Repeated
+ * evaluation therefore skips re-parsing the path and re-wrapping every intermediate value.
+ * </p>
+ * <p>
+ * The plan produces the same values as {@link EvaluationContext#getValue(String)}. Whenever a
+ * step cannot be served directly (indexed segments, unknown properties, accessors other than
+ * maps and beans, or a failing getter) evaluation falls back to the regular resolver, so virtual
+ * properties and error handling keep working as before.
+ * </p>
+ */
+public final class PropertyPlan {
+
+    private final String       name;
+    private final PropertyPath path;
+    private final String[]     segments;
+    private final StepCache[]  steps;
+    private final boolean      compiled;
+
+    private PropertyPlan(String name) {
+        PropertyPath path    = PropertyPath.forPath(name);
+        Entries      entries = path.entries();
+        boolean      plain   = entries.size() > 0;
+
+        this.name = name;
+        this.path = path;
+        this.segments = new String[entries.size()];
+        this.steps = new StepCache[entries.size()];
+
+        for (int index = 0; index < entries.size(); index++) {
+            PropertyPath.Type type = entries.type(index);
+            segments[index] = entries.get(index).toString();
+            steps[index] = new StepCache();
+            plain &= !type.isEmpty() && !type.isIndexed() && !type.isNumeric();
+        }
+
+        this.compiled = plain;
+    }
+
+    /**
+     * Compiles a plan for the given property path.
+     *
+     * @param name the raw property path
+     * @return the compiled plan
+     */
+    public static PropertyPlan compile(String name) {
+        return new PropertyPlan(name);
+    }
+
+    /**
+     * Returns the precompiled property path.
+     *
+     * @return the property path
+     */
+    public PropertyPath getPath() {
+        return path;
+    }
+
+    /**
+     * Evaluates the plan against the given context.
+     *
+     * @param context the evaluation context
+     * @return the resolved value, or {@code null} if not found
+     */
+    public Object evaluate(EvaluationContext context) {
+        int size = segments.length;
+
+        if (size == 1) {
+            return context.getScopedChain().getValue(name);
+        }
+
+        if (size == 2 && !path.entries().type(1).isNumeric()) {
+            return context.getAttribute(context.getScopedChain().getValue(segments[0]), segments[1]);
+        }
+
+        if (!compiled) {
+            return context.getValue(name);
+        }
+
+        Object value = context.getScopedChain().getValue(segments[0]);
+
+        try {
+            for (int index = 1; index < size && value != null; index++) {
+                Step step = steps[index].get(value.getClass(), segments[index], value, context);
+
+                value = step.resolve(value, segments[index]);
+
+                if (value == Step.MISSING) {
+                    return context.getValue(name);
+                }
+            }
+        } catch (RuntimeException exception) {
+            // let the regular resolver apply its own fallbacks (e.g. virtual properties)
+            return context.getValue(name);
+        }
+
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "PLAN['%s', compiled=%s]".formatted(name, compiled);
+    }
+
+    /**
+     * Accessor kinds that can be served without going through the {@link ObjectAccessor} chain.
+     */
+    enum Kind {
+        MAP, BEAN, GENERIC
+    }
+
+    /**
+     * A resolution step for one segment and one receiver class.
+     *
+     * @param type   the receiver class this step was created for
+     * @param kind   the accessor kind selected for the receiver class
+     * @param getter the property getter for {@link Kind#BEAN}, {@code null} if not readable
+     */
+    record Step(Class<?> type, Kind kind, Getter<Object, Object> getter) {
+
+        static final Object MISSING = new Object();
+
+        static Step create(Object receiver, String segment, EvaluationContext context) {
+            ObjectAccessor accessor = context.getValueAccessor().wrap(receiver);
+            Class<?>       type     = receiver.getClass();
+            Step           step     = new Step(type, Kind.GENERIC, null);
+
+            if (accessor instanceof MapAccessor) {
+                step = new Step(type, Kind.MAP, null);
+            } else if (accessor instanceof AbstractBeanAccessor bean) {
+                ObjectDescriptor<Object> descriptor = bean.getDescriptor();
+
+                if (descriptor.hasProperty(segment)) {
+                    PropertyDescriptor<Object> property = descriptor.getProperty(segment);
+                    step = new Step(type, Kind.BEAN, property.isReadable() ? property.getGetter() : null);
+                }
+            }
+
+            return step;
+        }
+
+        Object resolve(Object receiver, String segment) {
+            return switch (kind) {
+                case MAP -> {
+                    Map<?, ?> map   = (Map<?, ?>) receiver;
+                    Object    value = map.get(segment);
+                    // non-string keys are matched by their string form in the accessor chain
+                    yield value != null || map.containsKey(segment) ? value : MISSING;
+                }
+                case BEAN -> getter == null ? null : getter.get(receiver);
+                case GENERIC -> MISSING;
+            };
+        }
+    }
+
+    /**
+     * Per-segment step cache: a monomorphic fast slot backed by a per-class map.
+     */
+    static final class StepCache {
+
+        private final    Map<Class<?>, Step> steps = new ConcurrentHashMap<>();
+        private volatile Step                last;
+
+        Step get(Class<?> type, String segment, Object receiver, EvaluationContext context) {
+            Step step = last;
+
+            if (step == null || step.type() != type) {
+                step = steps.get(type);
+
+                if (step == null) {
+                    step = Step.create(receiver, segment, context);
+                    steps.put(type, step);
+                }
+
+                last = step;
+            }
+
+            return step;
+        }
+    }
+
+}
@@ -23,14 +23,8 @@ public class ScopedChainValuesAccessor extends AbstractAccessor {
      */
     @Override
     public ObjectAccessor get(String name) {
-        ScopedChain chain = asType(ScopedChain.class);
-        Object      value = null;
-
-        if (chain.contains(name)) {
-            value = chain.getValue(name);
-        }
-
-        return wrap(value);
+        // ScopedChain#contains is a null check over getValue, so a single lookup is enough
+        return wrap(asType(ScopedChain.class).getValue(name));
     }
 
     /**
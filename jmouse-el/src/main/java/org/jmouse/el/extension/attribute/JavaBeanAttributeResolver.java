@@ -13,8 +13,8 @@ import org.jmouse.core.reflection.TypeInformation;
 import org.jmouse.core.scope.Context;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.jmouse.core.Verify.nonNull;
 import static org.jmouse.core.invoke.InvocationMethodContext.createDefault;
@@ -35,7 +35,7 @@ import static org.jmouse.core.invoke.InvocationMethodContext.createDefault;
 @Priority(-10)
 public class JavaBeanAttributeResolver implements AttributeResolver {
 
-    private static final Map<CacheKey, InvocableMethod> CACHE = new HashMap<>();
+    private static final Map<CacheKey, InvocableMethod> CACHE = new ConcurrentHashMap<>();
 
     private final Context       context;
     private final MethodInvoker invoker;
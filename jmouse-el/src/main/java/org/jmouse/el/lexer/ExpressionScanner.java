@@ -0,0 +1,228 @@
+package org.jmouse.el.lexer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass, character-level replacement for {@link ExpressionSplitter}.
+ *
+ * <p>Produces exactly the same {@link RawToken} sequence as the regex-based splitter
+ * (identifiers, numbers, strings, operators and single "other" characters), but walks the
+ * source once by offset and only materializes the value of each emitted token.</p>
+ *
+ * @author Ivan Hontarenko (Mr. Jerry Mouse)
+ * @author ihontarenko@gmail.com
+ */
+public class ExpressionScanner implements Splitter<List<RawToken>, TokenizableSource> {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(ExpressionScanner.class);
+
+    /**
+     * Multi-character operators in the order the regex alternation tries them.
+     */
+    private static final String[] OPERATORS = {
+            "??", "->", "..", "<=", ">=", "!=", "==", "&&", "||", "-=", "+=", "++", "--", "**"
+    };
+
+    /**
+     * Single-character operators.
+     */
+    private static final String SINGLE_OPERATORS = "-+*/%^><=!";
+
+    /**
+     * Number type qualifiers accepted as a suffix.
+     */
+    private static final String NUMBER_SUFFIXES = "FLIDSBClfidsbc";
+
+    /**
+     * Splits the provided text into a list of {@link RawToken}.
+     *
+     * @param text   the input character sequence
+     * @param offset the starting offset for tokenization
+     * @param length the end offset (exclusive) of the segment to process
+     * @return a list of {@link RawToken} extracted from the input text
+     */
+    @Override
+    public List<RawToken> split(TokenizableSource text, int offset, int length) {
+        List<RawToken> tokens = new ArrayList<>();
+
+        scan(text, offset, length, new LineTracker(text), tokens);
+
+        LOGGER.debug("Segment at offset '{}' and length '{}' scanned to: {} tokens", offset, length, tokens.size());
+
+        return tokens;
+    }
+
+    /**
+     * Scans the segment {@code [offset, end)} and appends the produced tokens.
+     *
+     * @param source the source
+     * @param offset the segment start
+     * @param end    the segment end (exclusive)
+     * @param lines  the line tracker positioned at or before {@code offset}
+     * @param tokens the output list
+     */
+    public void scan(CharSequence source, int offset, int end, LineTracker lines, List<RawToken> tokens) {
+        int position = offset;
+
+        while (true) {
+            while (position < end && isWhitespace(source.charAt(position))) {
+                position++;
+            }
+
+            if (position >= end) {
+                break;
+            }
+
+            int           start = position;
+            RawToken.Type type;
+
+            if ((position = identifier(source, start, end)) > start) {
+                type = RawToken.Type.IDENTIFIER;
+            } else if ((position = number(source, offset, start, end)) > start) {
+                type = RawToken.Type.NUMBER;
+            } else if ((position = string(source, start, end)) > start) {
+                type = RawToken.Type.STRING;
+            } else if ((position = operator(source, start, end)) > start) {
+                type = RawToken.Type.OPERATOR;
+            } else {
+                position = start + (Character.isHighSurrogate(source.charAt(start)) && start + 1 < end
+                        && Character.isLowSurrogate(source.charAt(start + 1)) ? 2 : 1);
+                type = RawToken.Type.UNKNOWN;
+            }
+
+            tokens.add(new RawToken(source.subSequence(start, position).toString(),
+                                    lines.getLineNumber(start), start, type));
+        }
+    }
+
+    /**
+     * {@code [a-zA-Z_][a-zA-Z0-9_]*}
+     */
+    private static int identifier(CharSequence source, int position, int end) {
+        char character = source.charAt(position);
+
+        if (isLetter(character) || character == '_') {
+            position++;
+            while (position < end && (isLetter(character = source.charAt(position))
+                    || isDigit(character) || character == '_')) {
+                position++;
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * {@code (?<!\d)[+-]?\d+(\.\d+)?([Ee][+-]?\d+)?[FLIDSBClfidsbc]?}
+     */
+    private static int number(CharSequence source, int offset, int start, int end) {
+        int position = start;
+
+        if (position > offset && isDigit(source.charAt(position - 1))) {
+            return start;
+        }
+
+        char character = source.charAt(position);
+
+        if ((character == '+' || character == '-') && position + 1 < end && isDigit(source.charAt(position + 1))) {
+            position++;
+        }
+
+        int digits = digits(source, position, end);
+
+        if (digits == position) {
+            return start;
+        }
+
+        position = digits;
+
+        // fraction
+        if (position + 1 < end && source.charAt(position) == '.') {
+            int fraction = digits(source, position + 1, end);
+            if (fraction > position + 1) {
+                position = fraction;
+            }
+        }
+
+        // exponent
+        if (position < end && (source.charAt(position) == 'e' || source.charAt(position) == 'E')) {
+            int exponent = position + 1;
+
+            if (exponent < end && (source.charAt(exponent) == '+' || source.charAt(exponent) == '-')) {
+                exponent++;
+            }
+
+            int digitsEnd = digits(source, exponent, end);
+
+            if (digitsEnd > exponent) {
+                position = digitsEnd;
+            }
+        }
+
+        // type qualifier
+        if (position < end && NUMBER_SUFFIXES.indexOf(source.charAt(position)) >= 0) {
+            position++;
+        }
+
+        return position;
+    }
+
+    /**
+     * {@code '[^']*'|"[^"]*"}
+     */
+    private static int string(CharSequence source, int start, int end) {
+        char quote = source.charAt(start);
+
+        if (quote == '\'' || quote == '"') {
+            for (int position = start + 1; position < end; position++) {
+                if (source.charAt(position) == quote) {
+                    return position + 1;
+                }
+            }
+        }
+
+        return start;
+    }
+
+    private static int operator(CharSequence source, int start, int end) {
+        if (start + 1 < end) {
+            char first  = source.charAt(start);
+            char second = source.charAt(start + 1);
+            for (String operator : OPERATORS) {
+                if (operator.charAt(0) == first && operator.charAt(1) == second) {
+                    return start + 2;
+                }
+            }
+        }
+
+        return SINGLE_OPERATORS.indexOf(source.charAt(start)) >= 0 ? start + 1 : start;
+    }
+
+    private static int digits(CharSequence source, int position, int end) {
+        while (position < end && isDigit(source.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean isLetter(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z');
+    }
+
+    /**
+     * Same character class as regex {@code \s}.
+     */
+    public static boolean isWhitespace(char character) {
+        return character == ' ' || character == '\t' || character == '\n'
+                || character == '\u000B' || character == '\f' || character == '\r';
+    }
+
+}
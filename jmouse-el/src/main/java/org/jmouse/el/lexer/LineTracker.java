@@ -0,0 +1,48 @@
+package org.jmouse.el.lexer;
+
+/**
+ * Computes line numbers for monotonically increasing offsets in a single pass.
+ *
+ * <p>Produces the same numbering as {@link TokenizableSource#getLineNumber(int)} of
+ * {@link org.jmouse.el.StringSource} ({@code \r\n}, {@code \n} and {@code \r} each end a line),
+ * but continues from the previously requested offset instead of rescanning from the start.</p>
+ *
+ * @author Ivan Hontarenko (Mr. Jerry Mouse)
+ * @author ihontarenko@gmail.com
+ */
+public final class LineTracker {
+
+    private final CharSequence source;
+    private       int          position = 0;
+    private       int          line     = 1;
+
+    public LineTracker(CharSequence source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns the line number of the given offset.
+     *
+     * @param offset the offset, must not be lower than the previously requested one
+     * @return the line number (1-based)
+     */
+    public int getLineNumber(int offset) {
+        int limit = Math.min(offset, source.length());
+
+        while (position < limit) {
+            char character = source.charAt(position);
+
+            if (character == '\r' && position + 1 < source.length() && source.charAt(position + 1) == '\n') {
+                line++;
+                position++;
+            } else if (character == '\n' || character == '\r') {
+                line++;
+            }
+
+            position++;
+        }
+
+        return line;
+    }
+
+}
@@ -15,12 +15,12 @@ public class CompositeRecognizer implements Recognizer<Token.Type, RawToken> {
 
     public void addRecognizer(Recognizer<Token.Type, RawToken> recognizer) {
         recognizers.add(recognizer);
+        // sorted once here: recognize() only reads the list, so a recognizer may be shared between threads
+        Sorter.sort(this.recognizers);
     }
 
     @Override
     public Optional<Token.Type> recognize(RawToken subject) {
-        Sorter.sort(this.recognizers);
-
         Optional<Token.Type>                       token    = Optional.empty();
         Iterator<Recognizer<Token.Type, RawToken>> iterator = recognizers.iterator();
 
@@ -1,6 +1,7 @@
 package org.jmouse.el.node.expression;
 
 import org.jmouse.el.evaluation.EvaluationContext;
+import org.jmouse.el.evaluation.PropertyPlan;
 import org.jmouse.el.node.AbstractExpression;
 import org.jmouse.el.node.Visitor;
 
@@ -8,12 +9,14 @@ import org.jmouse.el.node.Visitor;
  * Represents a property expression node.
  * <p>
  * This node encapsulates a property path used to retrieve a value from the evaluation context.
- * When evaluated, it delegates to the context's {@code getValue} method using the stored property path.
+ * The path is compiled once into a {@link PropertyPlan}, which caches per-receiver-class
+ * resolution steps so that repeated evaluation (e.g. inside loops) avoids re-parsing the path.
  * </p>
  */
 public class PropertyNode extends AbstractExpression {
 
-    private final String path;
+    private final String       path;
+    private final PropertyPlan plan;
 
     /**
      * Constructs a new PropertyNode with the specified property path.
@@ -22,6 +25,7 @@ public class PropertyNode extends AbstractExpression {
      */
     public PropertyNode(String path) {
         this.path = path;
+        this.plan = PropertyPlan.compile(path);
     }
 
     /**
@@ -34,15 +38,24 @@ public class PropertyNode extends AbstractExpression {
     }
 
     /**
-     * Evaluates this property node by retrieving the value associated with the property path
-     * from the evaluation context.
+     * Returns the compiled resolution plan for the property path.
+     *
+     * @return the property plan
+     */
+    public PropertyPlan getPlan() {
+        return plan;
+    }
+
+    /**
+     * Evaluates this property node by resolving the compiled property path
+     * against the evaluation context.
      *
      * @param context the evaluation context providing value resolution
      * @return the value obtained from the context using the property path
      */
     @Override
     public Object evaluate(EvaluationContext context) {
-        return context.getValue(getPath());
+        return plan.evaluate(context);
     }
 
     /**
@@ -3,6 +3,7 @@ package org.jmouse.el.renderable;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 public interface Cache<K extends Cache.Key, V> {
@@ -11,6 +12,10 @@ public interface Cache<K extends Cache.Key, V> {
         return new Memory<>();
     }
 
+    static <K extends Cache.Key, V> Cache<K, V> concurrent() {
+        return new Concurrent<>();
+    }
+
     class Memory<K extends Cache.Key, V> implements Cache<K, V> {
 
         private final Map<K, V> cache = new HashMap<>();
@@ -27,6 +32,27 @@ public interface Cache<K extends Cache.Key, V> {
 
     }
 
+    class Concurrent<K extends Cache.Key, V> implements Cache<K, V> {
+
+        private final Map<K, V> cache = new ConcurrentHashMap<>();
+
+        @Override
+        public V get(K key) {
+            return cache.get(key);
+        }
+
+        @Override
+        public V get(K key, Supplier<V> supplier) {
+            return supplier == null ? cache.get(key) : cache.computeIfAbsent(key, k -> supplier.get());
+        }
+
+        @Override
+        public void put(K key, V value) {
+            cache.put(key, value);
+        }
+
+    }
+
     V get(K key);
 
     default V get(K key, Supplier<V> supplier) {
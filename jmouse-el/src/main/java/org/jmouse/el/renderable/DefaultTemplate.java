@@ -5,21 +5,27 @@ import org.jmouse.el.evaluation.EvaluationContext;
 import org.jmouse.el.lexer.TokenizableSource;
 import org.jmouse.el.node.Node;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
 public class DefaultTemplate implements Template {
 
-    private final TokenizableSource         source;
-    private final TemplateRegistry          registry;
-    private final Engine                    engine;
-    private final Node                      root;
-    private final Cache<Cache.Key, Content> cache;
-    private       boolean                   initialized = false;
+    private final    TokenizableSource               source;
+    private final    TemplateRegistry                registry;
+    private final    Engine                          engine;
+    private final    Node                            root;
+    private final    Cache<Cache.Key, Content>       cache;
+    private final    AtomicReference<Initialization> initialization = new AtomicReference<>();
+    private volatile boolean                         initialized    = false;
 
     public DefaultTemplate(Node root, TokenizableSource source, Engine engine) {
         this.source = source;
         this.engine = engine;
         this.root = root;
         this.registry = new TemplateRegistry(engine);
-        this.cache = new Cache.Memory<>();
+        this.cache = Cache.concurrent();
     }
 
     @Override
@@ -32,6 +38,54 @@ public class DefaultTemplate implements Template {
         return initialized;
     }
 
+    @Override
+    public void initialize(Runnable initializer) {
+        if (!initialized) {
+            prepareInitialization(initializer);
+            awaitInitialization();
+        }
+    }
+
+    @Override
+    public void prepareInitialization(Runnable initializer) {
+        if (!initialized) {
+            initialization.compareAndSet(null, new Initialization(() -> {
+                initializer.run();
+                initialized = true;
+            }));
+        }
+    }
+
+    @Override
+    public void awaitInitialization() {
+        Initialization running = initialization.get();
+
+        // re-entered through a cyclic reference: the outer call completes the initialization
+        if (running == null || initialized || running.runner == Thread.currentThread()) {
+            return;
+        }
+
+        try {
+            running.runOrAwait();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while initializing view '%s'".formatted(getName()));
+        } catch (ExecutionException exception) {
+            // a failed initialization may be prepared again by the next caller
+            initialization.compareAndSet(running, null);
+
+            if (exception.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (exception.getCause() instanceof Error error) {
+                throw error;
+            }
+
+            throw new IllegalStateException("Failed to initialize view '%s'".formatted(getName()),
+                                            exception.getCause());
+        }
+    }
+
     @Override
     public EvaluationContext newContext() {
         EvaluationContext context = new DefaultEvaluationContext(engine.getExtensions());
@@ -103,4 +157,35 @@ public class DefaultTemplate implements Template {
     public String toString() {
         return "TEMPLATE: " + getName();
     }
+
+    /**
+     * Once-only initialization of a view, run by whichever thread gets to it first.
+     */
+    private static final class Initialization {
+
+        private final    Runnable                initializer;
+        private final    AtomicBoolean           started = new AtomicBoolean();
+        private final    CompletableFuture<Void> done    = new CompletableFuture<>();
+        private volatile Thread                  runner;
+
+        Initialization(Runnable initializer) {
+            this.initializer = initializer;
+        }
+
+        void runOrAwait() throws InterruptedException, ExecutionException {
+            if (started.compareAndSet(false, true)) {
+                runner = Thread.currentThread();
+                try {
+                    initializer.run();
+                    done.complete(null);
+                } catch (Throwable throwable) {
+                    done.completeExceptionally(throwable);
+                } finally {
+                    runner = null;
+                }
+            }
+
+            done.get();
+        }
+    }
 }
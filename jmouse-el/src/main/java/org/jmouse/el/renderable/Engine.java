@@ -7,17 +7,28 @@ import org.jmouse.el.node.Node;
 import org.jmouse.el.renderable.loader.TemplateLoader;
 
 import java.io.Reader;
+import java.util.Collection;
 
 public interface Engine {
 
     Template getTemplate(String name);
 
+    void link(Template template);
+
+    TemplateGraph getGraph();
+
+    Collection<Template> warmUp(String location);
+
     ExtensionContainer getExtensions();
 
     TemplateLoader<String> getLoader();
 
     void setLoader(TemplateLoader<String> loader);
 
+    TemplateStore getStore();
+
+    void setStore(TemplateStore store);
+
     Reader loadTemplate(String name);
 
     Template parseTemplate(String name, Reader reader);
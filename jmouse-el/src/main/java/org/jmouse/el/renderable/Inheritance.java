@@ -78,6 +78,13 @@ public sealed interface Inheritance permits LinkedListInheritance {
      */
     List<Template> getStack();
 
+    /**
+     * Returns an independent copy of this stack, including the current position in the hierarchy.
+     *
+     * @return a copy of this {@code Inheritance}
+     */
+    Inheritance copy();
+
     default Template getLower() {
         return getStack().getFirst();
     }
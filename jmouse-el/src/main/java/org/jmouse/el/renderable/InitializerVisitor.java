@@ -22,6 +22,10 @@ import org.slf4j.LoggerFactory;
  * For {@code ExtendsNode} instances, it evaluates the parent view location, loads the parent view,
  * and sets up the inheritance relationship.
  * </p>
+ * <p>
+ * Views that were already initialized (e.g. pre-initialized by {@link Engine#link(Template)}) keep their
+ * registered definitions, so only the inheritance relationship is established for them.
+ * </p>
  */
 public class InitializerVisitor implements NodeVisitor {
 
@@ -73,6 +77,10 @@ public class InitializerVisitor implements NodeVisitor {
      */
     @Override
     public void visit(UseNode useNode) {
+        if (template.isInitialized()) {
+            return;
+        }
+
         Conversion       conversion = context.getConversion();
         Object           source     = useNode.getPath().evaluate(context);
         String           name       = conversion.convert(source, String.class);
@@ -82,10 +90,9 @@ public class InitializerVisitor implements NodeVisitor {
 
         // Initialize the imported view if it has not been initialized already.
         if (!imported.isInitialized()) {
-            imported.getRoot().accept(new InitializerVisitor(imported, context));
-            imported.setInitialized();
+            imported.initialize(() -> imported.getRoot().accept(new InitializerVisitor(imported, context)));
         } else {
-            LOGGER.info("Already initialized: {}", useNode);
+            LOGGER.debug("Already initialized: {}", useNode);
         }
 
         // If specific names are provided, register each corresponding definition.
@@ -123,7 +130,11 @@ public class InitializerVisitor implements NodeVisitor {
      */
     @Override
     public void visit(MacroNode node) {
-        LOGGER.info("Registering macro '{}' into view '{}'", node.getName(), template.getName());
+        if (template.isInitialized()) {
+            return;
+        }
+
+        LOGGER.debug("Registering macro '{}' into view '{}'", node.getName(), template.getName());
         template.setMacro(new TemplateMacro(node.getName(), node, template.getName()));
     }
 
@@ -138,6 +149,10 @@ public class InitializerVisitor implements NodeVisitor {
      */
     @Override
     public void visit(BlockNode node) {
+        if (template.isInitialized()) {
+            return;
+        }
+
         Object           evaluated  = node.getName().evaluate(context);
         Conversion       conversion = context.getConversion();
         String           name       = conversion.convert(evaluated, String.class);
@@ -145,7 +160,7 @@ public class InitializerVisitor implements NodeVisitor {
 
 
         if (!registry.hasBlock(name) || node.isOverride()) {
-            LOGGER.info("Registering block '{}' into view '{}'", name, template.getName());
+            LOGGER.debug("Registering block '{}' into view '{}'", name, template.getName());
             registry.registerBlock(name, new TemplateBlock(name, node, template.getName()));
         } else {
             LOGGER.warn("Template '{}' already has '{}' block", template, name);
@@ -173,7 +188,7 @@ public class InitializerVisitor implements NodeVisitor {
 
         }
 
-        LOGGER.info("Inherited parent view '{}' for view '{}'", location, template.getName());
+        LOGGER.debug("Inherited parent view '{}' for view '{}'", location, template.getName());
 
         template.setParent(parent, context);
     }
@@ -101,4 +101,19 @@ public final class LinkedListInheritance implements Inheritance {
     public List<Template> getStack() {
         return List.copyOf(stack);
     }
+
+    /**
+     * Returns an independent copy of this stack with the same depth.
+     *
+     * @return a copy of this inheritance stack
+     */
+    @Override
+    public Inheritance copy() {
+        LinkedListInheritance copy = new LinkedListInheritance();
+
+        copy.stack.addAll(stack);
+        copy.depth = depth;
+
+        return copy;
+    }
 }
@@ -0,0 +1,809 @@
+package org.jmouse.el.renderable;
+
+import org.jmouse.el.extension.Operator;
+import org.jmouse.el.lexer.Token;
+import org.jmouse.el.node.Expression;
+import org.jmouse.el.node.Node;
+import org.jmouse.el.node.expression.*;
+import org.jmouse.el.node.expression.literal.*;
+import org.jmouse.el.node.expression.unary.NegateUnaryOperation;
+import org.jmouse.el.node.expression.unary.PostfixUnaryOperation;
+import org.jmouse.el.node.expression.unary.PrefixUnaryOperation;
+import org.jmouse.el.renderable.node.*;
+import org.jmouse.el.renderable.node.sub.ConditionBranch;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 🧬 Compact binary encoding of template ASTs, used by {@link TemplateStore}.
+ * <p>
+ * Every node type produced by the template parser is a {@link Kind} that writes the fields of the node and
+ * rebuilds the node from them. Children are written after the fields and re-attached with
+ * {@link Node#add(Node)}, which also restores their parent links. Strings are pooled, operators and token
+ * types are recorded once by enum class and constant name, and a node reachable from several places is
+ * written once and referenced by id afterwards. Integers are written as variable-length quantities.
+ * </p>
+ * <p>
+ * A tree holding a node type without a kind (e.g. a node contributed by an extension), a non-enum operator
+ * or a reference cycle is rejected with an {@link IllegalArgumentException}, and a malformed entry with an
+ * {@link IllegalStateException}. {@link #SCHEMA} changes whenever kinds are added, removed or reordered;
+ * bump {@link #REVISION} whenever the fields written for an existing kind change.
+ * </p>
+ */
+final class NodeCodec {
+
+    static final int REVISION = 1;
+    static final int SCHEMA;
+
+    private static final int NULL      = 0;
+    private static final int NEW       = 1;
+    private static final int REFERENCE = 2;
+
+    static {
+        int schema = REVISION;
+
+        for (Kind kind : Kind.values()) {
+            schema = 31 * schema + kind.type.getName().hashCode();
+        }
+
+        SCHEMA = schema;
+    }
+
+    private NodeCodec() {
+    }
+
+    /**
+     * Encodes the tree below the given root.
+     *
+     * @param root the root node
+     * @return the encoded tree
+     * @throws IllegalArgumentException if the tree cannot be encoded
+     */
+    static byte[] encode(Node root) {
+        Output output = new Output();
+        output.node(root);
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes a tree from the remaining bytes of the given buffer.
+     *
+     * @param buffer the buffer positioned at an encoded tree
+     * @return the root node
+     * @throws IllegalStateException if the entry is malformed or refers to unknown classes
+     */
+    static Node decode(ByteBuffer buffer) {
+        Node root = new Input(buffer).node(Node.class);
+
+        if (buffer.hasRemaining()) {
+            throw new IllegalStateException("Corrupted entry: %d trailing bytes".formatted(buffer.remaining()));
+        }
+
+        return root;
+    }
+
+    /**
+     * Node types and the fields each of them carries besides its children.
+     */
+    private enum Kind {
+
+        CONTAINER(ContainerNode.class, ContainerNode::new),
+        EMPTY(EmptyNode.class, EmptyNode::new),
+        TEXT(TextNode.class, (out, node) -> out.string(node.getString()), in -> new TextNode(in.string())),
+        PRINT(PrintNode.class, (out, node) -> out.node(node.getExpression()),
+              in -> new PrintNode(in.node(Expression.class))),
+        DO(DoNode.class, (out, node) -> out.node(node.getExpression()), in -> new DoNode(in.node(Expression.class))),
+        SET(SetNode.class, (out, node) -> {
+            out.string(node.getVariable());
+            out.node(node.getValue());
+        }, in -> {
+            SetNode node = new SetNode();
+            node.setVariable(in.string());
+            node.setValue(in.node(Expression.class));
+            return node;
+        }),
+        IF(IfNode.class, (out, node) -> out.nodes(node.getBranches()), in -> {
+            IfNode node = new IfNode();
+            in.nodes(ConditionBranch.class).forEach(node::addBranch);
+            return node;
+        }),
+        BRANCH(ConditionBranch.class, (out, node) -> {
+            out.node(node.getWhen());
+            out.node(node.getThen());
+        }, in -> new ConditionBranch(in.node(Expression.class), in.node(Node.class))),
+        FOR(ForNode.class, (out, node) -> {
+            out.string(node.getItem());
+            out.node(node.getIterable());
+            out.node(node.getBody());
+            out.node(node.getEmpty());
+        }, in -> {
+            ForNode node = new ForNode();
+            node.setItem(in.string());
+            node.setIterable(in.node(Expression.class));
+            node.setBody(in.node(Node.class));
+            node.setEmpty(in.node(Node.class));
+            return node;
+        }),
+        BLOCK(BlockNode.class, (out, node) -> {
+            out.node(node.getName());
+            out.node(node.getBody());
+            out.bool(node.isOverride());
+            out.bool(node.isParallel());
+        }, in -> {
+            BlockNode node = new BlockNode();
+            node.setName(in.node(Expression.class));
+            node.setBody(in.node(Node.class));
+            node.setOverride(in.bool());
+            node.setParallel(in.bool());
+            return node;
+        }),
+        EXTENDS(ExtendsNode.class, (out, node) -> out.node(node.getPath()), in -> {
+            ExtendsNode node = new ExtendsNode();
+            node.setPath(in.node(Expression.class));
+            return node;
+        }),
+        INCLUDE(IncludeNode.class, (out, node) -> {
+            out.node(node.getPath());
+            out.bool(node.isParallel());
+        }, in -> {
+            IncludeNode node = new IncludeNode(in.node(Expression.class));
+            node.setParallel(in.bool());
+            return node;
+        }),
+        EMBED(EmbedNode.class, (out, node) -> {
+            out.node(node.getPath());
+            out.node(node.getWith());
+            out.node(node.getBody());
+        }, in -> {
+            EmbedNode node = new EmbedNode();
+            node.setPath(in.node(Expression.class));
+            node.setWith(in.node(Expression.class));
+            node.setBody(in.node(Node.class));
+            return node;
+        }),
+        USE(UseNode.class, (out, node) -> {
+            out.node(node.getPath());
+            out.constant(node.getType());
+            out.node(node.getNames());
+            out.node(node.getAlias());
+        }, in -> {
+            UseNode node = new UseNode();
+            node.setPath(in.node(Expression.class));
+            node.setType(in.constant(Token.Type.class));
+            node.setNames(in.node(NameSetNode.class));
+            node.setAlias(in.node(Expression.class));
+            return node;
+        }),
+        MACRO(MacroNode.class, (out, node) -> {
+            out.string(node.getName());
+            out.strings(node.getArguments());
+            out.node(node.getBody());
+            out.map(node.getDefaultValues());
+        }, in -> {
+            MacroNode node = new MacroNode();
+            node.setName(in.string());
+            node.setArguments(in.strings());
+            node.setBody(in.node(Node.class));
+            node.setDefaultValues(in.map(Expression.class));
+            return node;
+        }),
+        PARENT(ParentNode.class, (out, node) -> out.node(node.getName()), in -> {
+            ParentNode node = new ParentNode();
+            node.setName(in.node(Expression.class));
+            return node;
+        }),
+        RENDER(RenderNode.class, (out, node) -> out.node(node.getName()), in -> {
+            RenderNode node = new RenderNode();
+            node.setName(in.node(Expression.class));
+            return node;
+        }),
+        SCOPE(ScopeNode.class, (out, node) -> {
+            out.node(node.getWith());
+            out.node(node.getBody());
+        }, in -> {
+            ScopeNode node = new ScopeNode();
+            node.setWith(in.node(MapNode.class));
+            node.setBody(in.node(Node.class));
+            return node;
+        }),
+        APPLY(ApplyNode.class, (out, node) -> {
+            out.nodes(node.getChain());
+            out.node(node.getBody());
+        }, in -> {
+            ApplyNode node = new ApplyNode();
+            node.setChain(in.nodes(FilterNode.class));
+            node.setBody(in.node(Node.class));
+            return node;
+        }),
+        CACHE(CacheNode.class, (out, node) -> {
+            out.node(node.getKey());
+            out.node(node.getContent());
+        }, in -> {
+            CacheNode node = new CacheNode();
+            node.setKey(in.node(Expression.class));
+            node.setContent(in.node(Node.class));
+            return node;
+        }),
+        URL(URLNode.class, (out, node) -> out.string(node.getRawURL()), in -> {
+            URLNode node   = new URLNode();
+            String  rawURL = in.string();
+            // the setter unquotes its argument, so quote the already unquoted value once more
+            node.setRawURL(rawURL == null ? null : '"' + rawURL + '"');
+            return node;
+        }),
+
+        ARGUMENTS(ArgumentsNode.class, ArgumentsNode::new),
+        ARRAY(ArrayNode.class, ArrayNode::new),
+        NAME_SET(NameSetNode.class, NameSetNode::new),
+        MAP(MapNode.class, MapNode::new),
+        PARAMETER_SET(ParameterSetNode.class, ParameterSetNode::new),
+        KEY_VALUE(KeyValueNode.class, (out, node) -> {
+            out.node(node.getKey());
+            out.node(node.getValue());
+        }, in -> {
+            KeyValueNode node = new KeyValueNode();
+            node.setKey(in.node(Expression.class));
+            node.setValue(in.node(Expression.class));
+            return node;
+        }),
+        LAMBDA(LambdaNode.class, (out, node) -> {
+            out.node(node.getParameters());
+            out.node(node.getBody());
+        }, in -> {
+            LambdaNode node = new LambdaNode();
+            node.setParameters(in.node(ParameterSetNode.class));
+            node.setBody(in.node(Expression.class));
+            return node;
+        }),
+        NAME(NameNode.class, (out, node) -> {
+            out.string(node.getName());
+            out.string(node.getAlias());
+        }, in -> {
+            NameNode node = new NameNode(in.string());
+            node.setAlias(in.string());
+            return node;
+        }),
+        NULL_SAFE(NullSafeFallbackNode.class, (out, node) -> {
+            out.node(node.getNullable());
+            out.node(node.getOtherwise());
+        }, in -> {
+            NullSafeFallbackNode node = new NullSafeFallbackNode();
+            node.setNullable(in.node(Expression.class));
+            node.setOtherwise(in.node(Expression.class));
+            return node;
+        }),
+        PARAMETER(ParameterNode.class, (out, node) -> {
+            out.string(node.getName());
+            out.node(node.getDefaultValue());
+        }, in -> {
+            ParameterNode node = new ParameterNode();
+            node.setName(in.string());
+            node.setDefaultValue(in.node(Expression.class));
+            return node;
+        }),
+        PROPERTY(PropertyNode.class, (out, node) -> out.string(node.getPath()), in -> new PropertyNode(in.string())),
+        RANGE(RangeNode.class, (out, node) -> {
+            out.signed(node.getStart());
+            out.signed(node.getEnd());
+        }, in -> {
+            RangeNode node = new RangeNode();
+            node.setStart(in.signed());
+            node.setEnd(in.signed());
+            return node;
+        }),
+        FUNCTION(FunctionNode.class, (out, node) -> {
+            out.string(node.getName());
+            out.node(node.getArguments());
+        }, in -> {
+            FunctionNode node = new FunctionNode(in.string());
+            node.setArguments(in.node(Expression.class));
+            return node;
+        }),
+        SCOPED_CALL(ScopedCallNode.class, (out, node) -> {
+            // the name is reported qualified by the scope
+            out.string(node.getScope());
+            out.string(node.getName().substring(String.valueOf(node.getScope()).length() + 1));
+            out.node(node.getArguments());
+        }, in -> {
+            String         scope = in.string();
+            ScopedCallNode node  = new ScopedCallNode(in.string());
+            node.setScope(scope);
+            node.setArguments(in.node(Expression.class));
+            return node;
+        }),
+        FILTER(FilterNode.class, (out, node) -> {
+            out.string(node.getName());
+            out.node(node.getLeft());
+            out.node(node.getArguments());
+        }, in -> {
+            FilterNode node = new FilterNode(in.string());
+            node.setLeft(in.node(Expression.class));
+            node.setArguments(in.node(Expression.class));
+            return node;
+        }),
+        TEST(TestNode.class, (out, node) -> {
+            out.string(node.getName());
+            out.node(node.getLeft());
+            out.node(node.getArguments());
+            out.bool(node.isNegated());
+        }, in -> {
+            TestNode node = new TestNode(in.string());
+            node.setLeft(in.node(Expression.class));
+            node.setArguments(in.node(Expression.class));
+            node.setNegated(in.bool());
+            return node;
+        }),
+        TERNARY(TernaryNode.class, (out, node) -> {
+            out.node(node.getCondition());
+            out.node(node.getThenBranch());
+            out.node(node.getElseBranch());
+        }, in -> {
+            TernaryNode node = new TernaryNode();
+            node.setCondition(in.node(Expression.class));
+            node.setThenBranch(in.node(Expression.class));
+            node.setElseBranch(in.node(Expression.class));
+            return node;
+        }),
+        BINARY(BinaryOperation.class, (out, node) -> {
+            out.node(node.getLeft());
+            out.constant(node.getOperator());
+            out.node(node.getRight());
+        }, in -> new BinaryOperation(
+                in.node(Expression.class), in.constant(Operator.class), in.node(Expression.class))),
+        NEGATE(NegateUnaryOperation.class, (out, node) -> out.node(node.getOperand()),
+               in -> new NegateUnaryOperation(in.node(Expression.class))),
+        PREFIX(PrefixUnaryOperation.class, (out, node) -> {
+            out.node(node.getOperand());
+            out.constant(node.getOperator());
+        }, in -> new PrefixUnaryOperation(in.node(Expression.class), in.constant(Operator.class))),
+        POSTFIX(PostfixUnaryOperation.class, (out, node) -> {
+            out.node(node.getOperand());
+            out.constant(node.getOperator());
+        }, in -> new PostfixUnaryOperation(in.node(Expression.class), in.constant(Operator.class))),
+
+        NULL_LITERAL(NullLiteralNode.class, NullLiteralNode::new),
+        BOOLEAN(BooleanLiteralNode.class, (out, node) -> out.bool(node.getValue()),
+                in -> new BooleanLiteralNode(in.bool())),
+        BYTE(ByteLiteralNode.class, (out, node) -> out.signed(node.getValue()),
+             in -> new ByteLiteralNode((byte) in.signed())),
+        SHORT(ShortLiteralNode.class, (out, node) -> out.signed(node.getValue()),
+              in -> new ShortLiteralNode((short) in.signed())),
+        INTEGER(IntegerLiteralNode.class, (out, node) -> out.signed(node.getValue()),
+                in -> new IntegerLiteralNode(in.signed())),
+        LONG(LongLiteralNode.class, (out, node) -> out.signedLong(node.getValue()),
+             in -> new LongLiteralNode(in.signedLong())),
+        FLOAT(FloatLiteralNode.class, (out, node) -> out.signed(Float.floatToRawIntBits(node.getValue())),
+              in -> new FloatLiteralNode(Float.intBitsToFloat(in.signed()))),
+        DOUBLE(DoubleLiteralNode.class, (out, node) -> out.signedLong(Double.doubleToRawLongBits(node.getValue())),
+               in -> new DoubleLiteralNode(Double.longBitsToDouble(in.signedLong()))),
+        BIG_INTEGER(BigIntegerLiteralNode.class, (out, node) -> out.string(node.getValue().toString()),
+                    in -> new BigIntegerLiteralNode(new BigInteger(in.string()))),
+        BIG_DECIMAL(BigDecimalLiteralNode.class, (out, node) -> out.string(node.getValue().toString()),
+                    in -> new BigDecimalLiteralNode(new BigDecimal(in.string()))),
+        CHARACTER(CharacterLiteralNode.class, (out, node) -> out.unsigned(node.getValue()),
+                  in -> new CharacterLiteralNode((char) in.unsigned())),
+        STRING(StringLiteralNode.class, (out, node) -> out.string(node.getValue()),
+               in -> new StringLiteralNode(in.string()));
+
+        private static final Map<Class<?>, Kind> KINDS = new HashMap<>();
+
+        static {
+            for (Kind kind : values()) {
+                KINDS.put(kind.type, kind);
+            }
+        }
+
+        private final Class<? extends Node> type;
+        private final Encoder<Node>         encoder;
+        private final Decoder<Node>         decoder;
+
+        @SuppressWarnings("unchecked")
+        <T extends Node> Kind(Class<T> type, Encoder<T> encoder, Decoder<T> decoder) {
+            this.type = type;
+            this.encoder = (Encoder<Node>) encoder;
+            this.decoder = (Decoder<Node>) decoder;
+        }
+
+        <T extends Node> Kind(Class<T> type, Supplier<T> factory) {
+            this(type, (out, node) -> { }, in -> factory.get());
+        }
+
+        /**
+         * Returns the kind of exactly the class of the given node; subclasses may carry additional state.
+         */
+        static Kind of(Node node) {
+            Kind kind = KINDS.get(node.getClass());
+
+            if (kind == null) {
+                throw new IllegalArgumentException("Node type '%s' cannot be stored".formatted(node.getClass()));
+            }
+
+            return kind;
+        }
+
+        static Kind of(int ordinal) {
+            Kind[] kinds = values();
+
+            if (ordinal < 0 || ordinal >= kinds.length) {
+                throw new IllegalStateException("Corrupted entry: node kind %d".formatted(ordinal));
+            }
+
+            return kinds[ordinal];
+        }
+    }
+
+    @FunctionalInterface
+    private interface Encoder<T extends Node> {
+        void encode(Output output, T node);
+    }
+
+    @FunctionalInterface
+    private interface Decoder<T extends Node> {
+        T decode(Input input);
+    }
+
+    /**
+     * Writes nodes into a body and collects the string pool and constant table that precede it.
+     */
+    private static final class Output {
+
+        private final ByteArrayOutputStream body      = new ByteArrayOutputStream();
+        private final Map<String, Integer>  strings   = new LinkedHashMap<>();
+        private final Map<Enum<?>, Integer> constants = new LinkedHashMap<>();
+        private final Map<Node, Integer>    nodes     = new IdentityHashMap<>();
+        private final Set<Node>             pending   = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        void node(Node node) {
+            if (node == null) {
+                unsigned(NULL);
+                return;
+            }
+
+            Integer id = nodes.get(node);
+
+            if (id != null) {
+                unsigned(REFERENCE + id);
+                return;
+            }
+
+            // a node is referenced by id only once its fields are written, just like it is created on decoding
+            if (!pending.add(node)) {
+                throw new IllegalArgumentException("Cyclic reference to node '%s'".formatted(node));
+            }
+
+            Kind kind = Kind.of(node);
+
+            unsigned(NEW);
+            unsigned(kind.ordinal());
+            kind.encoder.encode(this, node);
+
+            pending.remove(node);
+            nodes.put(node, nodes.size());
+
+            unsigned(node.getChildren().size());
+            for (Node child : node.getChildren()) {
+                node(child);
+            }
+        }
+
+        void nodes(List<? extends Node> values) {
+            if (values == null) {
+                unsigned(NULL);
+            } else {
+                unsigned(values.size() + 1);
+                for (Node value : values) {
+                    node(value);
+                }
+            }
+        }
+
+        void map(Map<String, ? extends Node> values) {
+            unsigned(values.size());
+            for (Map.Entry<String, ? extends Node> entry : values.entrySet()) {
+                string(entry.getKey());
+                node(entry.getValue());
+            }
+        }
+
+        void string(String value) {
+            unsigned(value == null ? NULL : intern(value) + 1);
+        }
+
+        void strings(List<String> values) {
+            if (values == null) {
+                unsigned(NULL);
+            } else {
+                unsigned(values.size() + 1);
+                for (String value : values) {
+                    string(value);
+                }
+            }
+        }
+
+        void constant(Object value) {
+            if (!(value instanceof Enum<?> constant)) {
+                throw new IllegalArgumentException("'%s' is not an enum constant".formatted(value));
+            }
+
+            Integer index = constants.get(constant);
+
+            if (index == null) {
+                index = constants.size();
+                constants.put(constant, index);
+                intern(constant.getDeclaringClass().getName());
+                intern(constant.name());
+            }
+
+            unsigned(index);
+        }
+
+        void bool(boolean value) {
+            body.write(value ? 1 : 0);
+        }
+
+        void signed(int value) {
+            unsigned((value << 1) ^ (value >> 31));
+        }
+
+        void signedLong(long value) {
+            long encoded = (value << 1) ^ (value >> 63);
+
+            while ((encoded & ~0x7FL) != 0) {
+                body.write((int) ((encoded & 0x7F) | 0x80));
+                encoded >>>= 7;
+            }
+
+            body.write((int) encoded);
+        }
+
+        void unsigned(int value) {
+            write(body, value);
+        }
+
+        private int intern(String value) {
+            Integer index = strings.get(value);
+
+            if (index == null) {
+                index = strings.size();
+                strings.put(value, index);
+            }
+
+            return index;
+        }
+
+        byte[] toByteArray() {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(body.size() + strings.size() * 16 + 16);
+
+            write(output, strings.size());
+            for (String value : strings.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                write(output, bytes.length);
+                output.writeBytes(bytes);
+            }
+
+            write(output, constants.size());
+            for (Enum<?> constant : constants.keySet()) {
+                write(output, strings.get(constant.getDeclaringClass().getName()));
+                write(output, strings.get(constant.name()));
+            }
+
+            write(output, nodes.size());
+            output.writeBytes(body.toByteArray());
+
+            return output.toByteArray();
+        }
+
+        private static void write(ByteArrayOutputStream output, int value) {
+            while ((value & ~0x7F) != 0) {
+                output.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+
+            output.write(value);
+        }
+    }
+
+    /**
+     * Reads the string pool and constant table, then nodes in the order {@link Output} wrote them.
+     */
+    private static final class Input {
+
+        private final ByteBuffer buffer;
+        private final String[]   strings;
+        private final Object[]   constants;
+        private final List<Node> nodes;
+
+        Input(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.strings = new String[count()];
+
+            for (int index = 0; index < strings.length; index++) {
+                byte[] bytes = new byte[count()];
+                buffer.get(bytes);
+                strings[index] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            this.constants = new Object[count()];
+
+            for (int index = 0; index < constants.length; index++) {
+                constants[index] = resolveConstant(pooled(unsigned()), pooled(unsigned()));
+            }
+
+            this.nodes = new ArrayList<>(count());
+        }
+
+        <T> T node(Class<T> type) {
+            int  reference = unsigned();
+            Node node;
+
+            if (reference == NULL) {
+                return null;
+            } else if (reference >= REFERENCE) {
+                int id = reference - REFERENCE;
+
+                if (id >= nodes.size()) {
+                    throw new IllegalStateException("Corrupted entry: node reference %d".formatted(id));
+                }
+
+                node = nodes.get(id);
+            } else {
+                node = Kind.of(unsigned()).decoder.decode(this);
+                nodes.add(node);
+
+                int children = count();
+
+                for (int index = 0; index < children; index++) {
+                    Node child = node(Node.class);
+
+                    if (child == null) {
+                        throw new IllegalStateException("Corrupted entry: null child of '%s'".formatted(node));
+                    }
+
+                    node.add(child);
+                }
+            }
+
+            if (!type.isInstance(node)) {
+                throw new IllegalStateException("Corrupted entry: '%s' is not a %s".formatted(node, type.getName()));
+            }
+
+            return type.cast(node);
+        }
+
+        <T> List<T> nodes(Class<T> type) {
+            int     size   = count();
+            List<T> values = null;
+
+            if (size != NULL) {
+                values = new ArrayList<>(size - 1);
+                for (int index = 1; index < size; index++) {
+                    values.add(node(type));
+                }
+            }
+
+            return values;
+        }
+
+        <T> Map<String, T> map(Class<T> type) {
+            int            size   = count();
+            Map<String, T> values = new HashMap<>(size * 2);
+
+            for (int index = 0; index < size; index++) {
+                values.put(string(), node(type));
+            }
+
+            return values;
+        }
+
+        String string() {
+            int index = unsigned();
+            return index == NULL ? null : pooled(index - 1);
+        }
+
+        List<String> strings() {
+            int          size   = count();
+            List<String> values = null;
+
+            if (size != NULL) {
+                values = new ArrayList<>(size - 1);
+                for (int index = 1; index < size; index++) {
+                    values.add(string());
+                }
+            }
+
+            return values;
+        }
+
+        <T> T constant(Class<T> type) {
+            int index = unsigned();
+
+            if (index >= constants.length || !type.isInstance(constants[index])) {
+                throw new IllegalStateException("Corrupted entry: constant %d is not a %s".formatted(index, type));
+            }
+
+            return type.cast(constants[index]);
+        }
+
+        boolean bool() {
+            return buffer.get() != 0;
+        }
+
+        int signed() {
+            int value = unsigned();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        long signedLong() {
+            long value = 0;
+
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte current = buffer.get();
+                value |= (long) (current & 0x7F) << shift;
+
+                if (current >= 0) {
+                    return (value >>> 1) ^ -(value & 1);
+                }
+            }
+
+            throw new IllegalStateException("Corrupted entry: malformed long");
+        }
+
+        int unsigned() {
+            int value = 0;
+
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte current = buffer.get();
+                value |= (current & 0x7F) << shift;
+
+                if (current >= 0) {
+                    return value;
+                }
+            }
+
+            throw new IllegalStateException("Corrupted entry: malformed integer");
+        }
+
+        /**
+         * Reads an element count, rejecting counts that cannot possibly fit into the rest of the entry.
+         */
+        private int count() {
+            int count = unsigned();
+
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IllegalStateException("Corrupted entry: element count %d".formatted(count));
+            }
+
+            return count;
+        }
+
+        private String pooled(int index) {
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalStateException("Corrupted entry: string %d".formatted(index));
+            }
+
+            return strings[index];
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Object resolveConstant(String className, String name) {
+            try {
+                Class<?> type = Class.forName(className, false, NodeCodec.class.getClassLoader());
+
+                if (!type.isEnum()) {
+                    throw new IllegalStateException("'%s' is not an enum".formatted(className));
+                }
+
+                return Enum.valueOf((Class<? extends Enum>) type, name);
+            } catch (ClassNotFoundException exception) {
+                throw new IllegalStateException("Unknown constant type '%s'".formatted(className), exception);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,328 @@
+package org.jmouse.el.renderable;
+
+import org.jmouse.core.context.execution.ExecutionContextHolder;
+import org.jmouse.el.evaluation.EvaluationContext;
+import org.jmouse.el.node.Expression;
+import org.jmouse.el.node.Node;
+import org.jmouse.el.node.expression.literal.StringLiteralNode;
+import org.jmouse.el.renderable.node.*;
+import org.jmouse.el.renderable.node.sub.ConditionBranch;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Opt-in strategy for rendering independent view regions concurrently.
+ * <p>
+ * When enabled and a container has at least two independent {@code block} or {@code include} children,
+ * {@link RendererVisitor} forks each of them onto a virtual thread. A forked region renders into its own
+ * {@link Content} buffer using a {@link EvaluationContext#fork() forked} context taken at its position in
+ * the document, while the remaining children are rendered in order on the calling thread. The buffers are
+ * then appended in document order.
+ * </p>
+ * <ul>
+ *     <li>{@link Mode#DISABLED} renders everything sequentially (default).</li>
+ *     <li>{@link Mode#MARKED} forks only regions marked with the {@code parallel} keyword,
+ *         e.g. {@code {% block 'widget' parallel %}} or {@code {% include 'widget' parallel %}}.</li>
+ *     <li>{@link Mode#AUTO} additionally forks regions whose subtree has no {@code set}, {@code do},
+ *         {@code use} or {@code extends} side effects and includes with a static path.</li>
+ * </ul>
+ * <p>
+ * Forked regions only read shared view state: a region is forked only when every view it includes,
+ * directly or transitively, has a static path and is already {@link Template#isInitialized() initialized},
+ * so no {@link InitializerVisitor} registers definitions into a shared view from a forked thread.
+ * Forks inherit the current {@link ExecutionContextHolder execution context}.
+ * </p>
+ * <p>
+ * A strategy created by {@link #virtual(Mode)} owns its executor and must be {@link #close() closed}
+ * when the renderer is no longer used.
+ * </p>
+ */
+public class ParallelRendering implements AutoCloseable {
+
+    private static final ParallelRendering DISABLED = new ParallelRendering(Mode.DISABLED, null, false);
+
+    private final Mode                mode;
+    private final ExecutorService     executor;
+    private final boolean             owned;
+    private final Map<Node, Analysis> analyzed = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a parallel rendering strategy using an executor managed by the caller.
+     *
+     * @param mode     the rendering mode
+     * @param executor the executor used to render forked regions
+     */
+    public ParallelRendering(Mode mode, ExecutorService executor) {
+        this(mode, executor, false);
+    }
+
+    private ParallelRendering(Mode mode, ExecutorService executor, boolean owned) {
+        this.mode = mode;
+        this.executor = executor;
+        this.owned = owned;
+    }
+
+    /**
+     * Returns the strategy that renders everything sequentially.
+     */
+    public static ParallelRendering disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Creates a strategy for the given mode that forks regions onto virtual threads.
+     * The strategy owns its executor, which is shut down by {@link #close()}.
+     *
+     * @param mode the rendering mode
+     * @return a new strategy
+     */
+    public static ParallelRendering virtual(Mode mode) {
+        return new ParallelRendering(mode, Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("template-render-", 0).factory()), true);
+    }
+
+    /**
+     * Returns {@code true} unless this strategy is {@link Mode#DISABLED}.
+     */
+    public boolean isEnabled() {
+        return mode != Mode.DISABLED;
+    }
+
+    /**
+     * Returns the rendering mode.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Submits a forked region for rendering with the current execution context installed.
+     *
+     * @param task the rendering task
+     * @return the future of the task
+     */
+    public Future<?> submit(Runnable task) {
+        return executor.submit(ExecutionContextHolder.wrap(task));
+    }
+
+    /**
+     * Shuts down the executor if this strategy owns it; regions already forked complete first.
+     */
+    @Override
+    public void close() {
+        if (owned) {
+            executor.close();
+        }
+    }
+
+    /**
+     * Determines whether the given child may be rendered on another thread.
+     *
+     * @param node     the container child
+     * @param registry the effective registry used to resolve blocks
+     * @param context  the current evaluation context
+     * @return {@code true} if the region can be forked
+     */
+    public boolean isForkable(Node node, TemplateRegistry registry, EvaluationContext context) {
+        Engine engine = registry.getEngine();
+
+        if (node instanceof BlockNode block) {
+            Node actual = resolveBlock(block, registry, context);
+
+            if (actual == null) {
+                return false;
+            }
+
+            boolean marked = block.isParallel() || (actual instanceof BlockNode resolved && resolved.isParallel());
+
+            return (marked || (mode == Mode.AUTO && isSideEffectFree(actual)))
+                    && isReadOnly(actual, engine, new HashSet<>());
+        }
+
+        if (node instanceof IncludeNode include) {
+            boolean marked = include.isParallel() || (mode == Mode.AUTO && include.getPath() instanceof StringLiteralNode);
+
+            return marked && include.getPath().evaluate(context) instanceof String name
+                    && isReadOnly(name, engine, new HashSet<>());
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if the subtree of the given node contains no statements that modify the
+     * evaluation context, the inheritance stack or the registry. Results are cached per node.
+     *
+     * @param node the root of the subtree
+     * @return {@code true} if the subtree is side-effect free
+     */
+    public boolean isSideEffectFree(Node node) {
+        return analyze(node).sideEffectFree();
+    }
+
+    /**
+     * Checks that rendering the subtree only reads shared view state: every included view has a static
+     * path and is initialized, transitively.
+     */
+    private boolean isReadOnly(Node node, Engine engine, Set<String> visited) {
+        Analysis analysis = analyze(node);
+
+        if (analysis.dynamicInclude()) {
+            return false;
+        }
+
+        for (String include : analysis.includes()) {
+            if (!isReadOnly(include, engine, visited)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isReadOnly(String name, Engine engine, Set<String> visited) {
+        // an include cycle is left to the cyclic reference detector of the forked region
+        if (!visited.add(name)) {
+            return true;
+        }
+
+        Template template = engine.getTemplate(name);
+
+        return template.isInitialized() && isReadOnly(template.getRoot(), engine, visited);
+    }
+
+    private Analysis analyze(Node node) {
+        return analyzed.computeIfAbsent(node, key -> {
+            SideEffectVisitor visitor = new SideEffectVisitor();
+            key.accept(visitor);
+            return new Analysis(!visitor.detected, visitor.dynamic, Set.copyOf(visitor.includes));
+        });
+    }
+
+    private Node resolveBlock(BlockNode node, TemplateRegistry registry, EvaluationContext context) {
+        if (node.getName().evaluate(context) instanceof String name && registry.getBlock(name) instanceof Block block) {
+            return block.node();
+        }
+
+        return null;
+    }
+
+    /**
+     * Cached analysis of a subtree.
+     *
+     * @param sideEffectFree  no {@code set}, {@code do}, {@code use} or {@code extends} statements
+     * @param dynamicInclude  an include whose path is evaluated at render time
+     * @param includes        static include paths
+     */
+    private record Analysis(boolean sideEffectFree, boolean dynamicInclude, Set<String> includes) {}
+
+    /**
+     * Rendering modes.
+     */
+    public enum Mode {
+        DISABLED, MARKED, AUTO
+    }
+
+    /**
+     * Walks a subtree, detects statements with side effects and collects include paths.
+     */
+    private static final class SideEffectVisitor implements NodeVisitor {
+
+        private final Set<String> includes = new HashSet<>();
+        private       boolean     detected = false;
+        private       boolean     dynamic  = false;
+
+        @Override
+        public void visit(SetNode setNode) {
+            detected = true;
+        }
+
+        @Override
+        public void visit(DoNode doNode) {
+            detected = true;
+        }
+
+        @Override
+        public void visit(UseNode useNode) {
+            detected = true;
+        }
+
+        @Override
+        public void visit(ExtendsNode extendsNode) {
+            detected = true;
+        }
+
+        @Override
+        public void visit(IncludeNode includeNode) {
+            include(includeNode.getPath());
+        }
+
+        @Override
+        public void visit(ContainerNode container) {
+            for (Node child : container.getChildren()) {
+                child.accept(this);
+            }
+        }
+
+        @Override
+        public void visit(BlockNode blockNode) {
+            descend(blockNode.getBody());
+        }
+
+        @Override
+        public void visit(EmbedNode embedNode) {
+            // the embedded view is initialized as the parent of the embedding one
+            include(embedNode.getPath());
+            descend(embedNode.getBody());
+        }
+
+        @Override
+        public void visit(IfNode ifNode) {
+            for (ConditionBranch branch : ifNode.getBranches()) {
+                descend(branch.getThen());
+            }
+        }
+
+        @Override
+        public void visit(ForNode forNode) {
+            descend(forNode.getBody());
+            descend(forNode.getEmpty());
+        }
+
+        @Override
+        public void visit(ScopeNode scopeNode) {
+            descend(scopeNode.getBody());
+        }
+
+        @Override
+        public void visit(ApplyNode applyNode) {
+            descend(applyNode.getBody());
+        }
+
+        @Override
+        public void visit(CacheNode cacheNode) {
+            descend(cacheNode.getContent());
+        }
+
+        private void include(Expression path) {
+            // dynamic includes may initialize templates that were not linked at load time
+            if (path instanceof StringLiteralNode literal && literal.evaluate(null) instanceof String name) {
+                includes.add(name);
+            } else {
+                detected = true;
+                dynamic = true;
+            }
+        }
+
+        private void descend(Node node) {
+            if (node != null) {
+                node.accept(this);
+            }
+        }
+
+    }
+
+}
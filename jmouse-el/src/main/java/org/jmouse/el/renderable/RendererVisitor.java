@@ -20,8 +20,12 @@ import org.jmouse.util.Iterables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * The RendererVisitor traverses the view AST and produces the final rendered output.
@@ -39,20 +43,36 @@ public class RendererVisitor implements NodeVisitor {
     private final TemplateRegistry                registry;
     private final Content                         content;
     private final CyclicReferenceDetector<String> detector;
+    private final ParallelRendering               parallel;
 
     /**
-     * Creates a renderer with explicit cyclic reference detector. 🧩
+     * Creates a renderer with explicit cyclic reference detector and parallel rendering strategy. ⚡
      *
      * @param content   output accumulator
      * @param registry  template registry (blocks/macros)
      * @param context   evaluation context (variables, expressions)
      * @param detector  cyclic reference detector
+     * @param parallel  parallel rendering strategy
      */
-    public RendererVisitor(Content content, TemplateRegistry registry, EvaluationContext context, CyclicReferenceDetector<String> detector) {
+    public RendererVisitor(Content content, TemplateRegistry registry, EvaluationContext context,
+                           CyclicReferenceDetector<String> detector, ParallelRendering parallel) {
         this.context = context;
         this.registry = registry;
         this.content = content;
         this.detector = detector;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Creates a renderer with explicit cyclic reference detector. 🧩
+     *
+     * @param content   output accumulator
+     * @param registry  template registry (blocks/macros)
+     * @param context   evaluation context (variables, expressions)
+     * @param detector  cyclic reference detector
+     */
+    public RendererVisitor(Content content, TemplateRegistry registry, EvaluationContext context, CyclicReferenceDetector<String> detector) {
+        this(content, registry, context, detector, ParallelRendering.disabled());
     }
 
     /**
@@ -68,16 +88,102 @@ public class RendererVisitor implements NodeVisitor {
 
     /**
      * Processes a ContainerNode by recursively visiting its children.
+     * <p>
+     * If parallel rendering is enabled and at least two children are independent regions,
+     * the container is rendered via {@link #renderParallel(List, boolean[])}.
+     * </p>
      *
      * @param container the container node holding child nodes
      */
     @Override
     public void visit(ContainerNode container) {
-        for (Node child : container.getChildren()) {
+        List<Node> children = container.getChildren();
+
+        if (parallel.isEnabled()) {
+            boolean[] forkable = new boolean[children.size()];
+            int       forks    = 0;
+
+            for (int i = 0; i < forkable.length; i++) {
+                if (forkable[i] = parallel.isForkable(children.get(i), registry, context)) {
+                    forks++;
+                }
+            }
+
+            if (forks > 1) {
+                renderParallel(children, forkable);
+                return;
+            }
+        }
+
+        for (Node child : children) {
             child.accept(this);
         }
     }
 
+    /**
+     * Renders container children, forking independent regions onto the parallel executor.
+     * <p>
+     * Each forked region renders into its own buffer with a context forked at its position, so it
+     * observes all preceding {@code set} statements, and with a cyclic reference detector continuing
+     * the current include chain. Other children are rendered in order on the current thread.
+     * Buffers are appended to the output in document order.
+     * </p>
+     *
+     * @param children the container children
+     * @param forkable flags marking the children to fork
+     */
+    private void renderParallel(List<Node> children, boolean[] forkable) {
+        List<Object> parts  = new ArrayList<>();
+        Content      inline = null;
+
+        for (int i = 0; i < forkable.length; i++) {
+            Node child = children.get(i);
+
+            if (forkable[i]) {
+                Content         buffer   = Content.array();
+                RendererVisitor renderer = new RendererVisitor(
+                        buffer, registry, context.fork(), detector.fork(), parallel);
+
+                parts.add(buffer);
+                parts.add(parallel.submit(() -> child.accept(renderer)));
+                inline = null;
+            } else {
+                if (inline == null) {
+                    inline = Content.array();
+                    parts.add(inline);
+                }
+                child.accept(new RendererVisitor(inline, registry, context, detector, parallel));
+            }
+        }
+
+        // Wait for every forked region before appending, so a failure is reported in document order.
+        for (Object part : parts) {
+            if (part instanceof Future<?> future) {
+                await(future);
+            }
+        }
+
+        for (Object part : parts) {
+            if (part instanceof Content buffer) {
+                content.append(buffer);
+            }
+        }
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RenderingException("Interrupted while rendering parallel region", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RenderingException("Failed to render parallel region", exception.getCause());
+        }
+    }
+
     /**
      * Processes a TextNode by appending its text content to the output.
      *
@@ -264,12 +370,16 @@ public class RendererVisitor implements NodeVisitor {
             Node              root     = included.getRoot();
             EvaluationContext context  = included.newContext();
 
-            LOGGER.info("Include '{}' view", name);
+            LOGGER.debug("Include '{}' view", name);
 
             detector.detect(included::getName, TemplateRenderer.EXCEPTION_SUPPLIER);
-            root.accept(new InitializerVisitor(included, context));
-            root.accept(new RendererVisitor(content, included.getRegistry(), context, detector));
-            detector.remove(included::getName);
+
+            try {
+                root.accept(new InitializerVisitor(included, context));
+                root.accept(new RendererVisitor(content, included.getRegistry(), context, detector, parallel));
+            } finally {
+                detector.remove(included::getName);
+            }
         }
     }
 
@@ -308,7 +418,7 @@ public class RendererVisitor implements NodeVisitor {
             fake.setParent(real, embeddedContext);
 
             // Render the fake view using a new renderer instance and the fresh context.
-            Content inner = new TemplateRenderer(engine).render(fake, embeddedContext);
+            Content inner = new TemplateRenderer(engine, parallel).render(fake, embeddedContext);
 
             LOGGER.info("Embed '{}' rendered", path);
 
@@ -35,6 +35,39 @@ public interface Template {
         return !isInitialized();
     }
 
+    /**
+     * Runs {@code initializer} and marks this view as initialized, unless it already is.
+     * <p>
+     * Implementations shared between threads run one initializer once: an initializer registered earlier
+     * with {@link #prepareInitialization(Runnable)} takes precedence, and concurrent callers wait for a
+     * running initialization instead of starting their own.
+     * </p>
+     *
+     * @param initializer registers the blocks, macros and imports of this view
+     */
+    default void initialize(Runnable initializer) {
+        if (isUninitialized()) {
+            initializer.run();
+            setInitialized();
+        }
+    }
+
+    /**
+     * Registers the initializer of this view without running it, so that the view can be published before
+     * it is initialized; {@link #awaitInitialization()} then runs or waits for it.
+     *
+     * @param initializer registers the blocks, macros and imports of this view
+     */
+    default void prepareInitialization(Runnable initializer) {
+    }
+
+    /**
+     * Completes a prepared initialization: runs it if no thread has started it yet, otherwise waits for it.
+     * Returns immediately when no initialization was prepared.
+     */
+    default void awaitInitialization() {
+    }
+
     /**
      * Creates a new evaluation context for rendering this view.
      * <p>
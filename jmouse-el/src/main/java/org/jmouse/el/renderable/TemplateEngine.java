@@ -17,6 +17,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 
 /**
  * TemplateEngine is the core class responsible for loading, parsing, and caching templates.
@@ -32,7 +36,9 @@ public class TemplateEngine implements Engine {
 
     private ExtensionContainer         extensions;
     private Cache<Cache.Key, Template> cache;
+    private TemplateGraph              graph;
     private TemplateLoader<String>     loader;
+    private TemplateStore              store;
     private Lexer                      lexer;
     private ParserContext              parserContext;
 
@@ -54,7 +60,8 @@ public class TemplateEngine implements Engine {
     public void initialize() {
         this.extensions = new StandardExtensionContainer();
         this.extensions.importExtension(new TemplateCoreExtension());
-        this.cache = Cache.memory();
+        this.cache = Cache.concurrent();
+        this.graph = new TemplateGraph();
         this.lexer = new DefaultLexer(new TemplateTokenizer(new TemplateRecognizer()));
         this.parserContext = new DefaultParserContext(this.extensions);
     }
@@ -63,8 +70,10 @@ public class TemplateEngine implements Engine {
      * Retrieves a view by its name.
      * <p>
      * The method checks the cache for an existing view instance. If found, it returns the cached view;
-     * otherwise, it loads the view using {@link #loadTemplate(String)}, parses it, caches the new instance,
-     * and returns it.
+     * otherwise, it loads the view using {@link #loadTemplate(String)}, parses it (or restores its AST from the
+     * configured {@link TemplateStore}, if any) and caches the new instance.
+     * The view is linked via {@link #link(Template)} and its prepared initialization is completed before it
+     * is returned, so callers never render a half-initialized view.
      * </p>
      *
      * @param name the name of the view to retrieve
@@ -72,24 +81,112 @@ public class TemplateEngine implements Engine {
      */
     @Override
     public Template getTemplate(String name) {
-        Template  cached;
-        Cache.Key cacheKey = Cache.Key.forObject(name);
+        Template template = resolveTemplate(name);
 
-        if (cache.contains(cacheKey)) {
-            cached = cache.get(cacheKey);
+        // No-op for already linked views.
+        link(template);
 
-            LOGGER.info("Retrieved '{}' from cache", name);
-        } else {
-            Reader   reader   = loadTemplate(name);
-            Template template = parseTemplate(name, reader);
+        // a view linked by another thread may not be initialized yet
+        template.awaitInitialization();
 
-            cache.put(cacheKey, template);
-            cached = template;
+        return template;
+    }
 
-            LOGGER.info("Parsed and cached new view '{}'", name);
+    /**
+     * Links the given view and everything it statically references into the {@link TemplateGraph}.
+     * <p>
+     * The dependency set is walked first: static {@code extends}, {@code include}, {@code embed} and
+     * {@code use} targets are collected by {@link TemplateLinker}, loaded and registered in the graph.
+     * Registration doubles as a once-flag, so each view is linked by exactly one caller. Statically
+     * resolvable views then get their blocks, macros and imports initialized, dependencies first, so
+     * rendering does not need to register them again.
+     * </p>
+     * <p>
+     * The initialization of a resolvable view is {@link Template#prepareInitialization(Runnable) prepared}
+     * before the view is registered and runs once: a concurrent {@link #getTemplate(String)} that finds the
+     * view in the graph runs it itself or waits for the thread running it. No lock is held while views are
+     * loaded, and only cyclic {@code use} references can make two initializations wait for each other.
+     * </p>
+     *
+     * @param template the view to link
+     */
+    @Override
+    public void link(Template template) {
+        if (graph.contains(template.getName())) {
+            return;
         }
 
-        return cached;
+        Deque<Template> pending    = new ArrayDeque<>(List.of(template));
+        Deque<Template> resolvable = new ArrayDeque<>();
+
+        while (!pending.isEmpty()) {
+            Template       current = pending.pop();
+            String         name    = current.getName();
+            TemplateLinker linker  = new TemplateLinker();
+
+            if (graph.contains(name)) {
+                continue;
+            }
+
+            current.getRoot().accept(linker);
+
+            // prepared before registration: whoever finds the view in the graph can complete its initialization
+            if (linker.isResolvable()) {
+                current.prepareInitialization(
+                        () -> current.getRoot().accept(new InitializerVisitor(current, current.newContext())));
+            }
+
+            if (!graph.register(name, linker.getReferences())) {
+                continue;
+            }
+
+            LOGGER.debug("Linked view '{}' -> {}", name, linker.getReferences());
+
+            if (linker.isResolvable()) {
+                resolvable.push(current);
+            }
+
+            for (TemplateReference reference : linker.getReferences()) {
+                pending.push(resolveTemplate(reference.name()));
+            }
+        }
+
+        // dependencies were discovered last, so they are initialized first
+        for (Template current : resolvable) {
+            current.awaitInitialization();
+        }
+    }
+
+    /**
+     * Returns the dependency graph of all linked views.
+     *
+     * @return the {@link TemplateGraph}
+     */
+    @Override
+    public TemplateGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Parses and links all views found by the loader under the given location in parallel.
+     * <p>
+     * Intended to be called at startup so that the first request does not pay parsing and linking cost.
+     * </p>
+     *
+     * @param location the location relative to the loader prefix
+     * @return the warmed-up views
+     */
+    @Override
+    public Collection<Template> warmUp(String location) {
+        Collection<String> names = loader.list(location);
+
+        LOGGER.info("Warming up {} view(s) under '{}'", names.size(), location);
+
+        List<Template> templates = names.parallelStream().map(this::getTemplate).toList();
+
+        LOGGER.info("Warmed up {} view(s), {} linked", templates.size(), graph.getTemplates().size());
+
+        return templates;
     }
 
     /**
@@ -103,6 +200,69 @@ public class TemplateEngine implements Engine {
         return loader.load(name);
     }
 
+    /**
+     * Returns the cached view with the given name, parsing it on first access. The view is not linked.
+     *
+     * @param name the name of the view
+     * @return the {@link Template} instance
+     */
+    private Template resolveTemplate(String name) {
+        Cache.Key cacheKey = Cache.Key.forObject(name);
+        Template  cached   = cache.get(cacheKey);
+
+        if (cached != null) {
+            LOGGER.debug("Retrieved '{}' from cache", name);
+        } else {
+            cached = cache.get(cacheKey, () -> createTemplate(name));
+            LOGGER.info("Parsed and cached new view '{}'", name);
+        }
+
+        return cached;
+    }
+
+    /**
+     * Loads the named view and builds its AST.
+     * <p>
+     * When a {@link TemplateStore} is configured, the stored AST is reused instead of lexing and parsing the
+     * source again. An entry stored with the loader's current timestamp is used without reading the source at
+     * all; otherwise the source is read and the entry is used if its fingerprint still matches, in which case
+     * it is re-stamped so that the next start takes the short path. Freshly parsed views are written back.
+     * </p>
+     *
+     * @param name the name of the view
+     * @return the created {@link Template} instance
+     */
+    private Template createTemplate(String name) {
+        if (store == null) {
+            return parseTemplate(name, loadTemplate(name));
+        }
+
+        long                timestamp = loader.lastModified(name);
+        TemplateStore.Entry entry     = store.load(name, timestamp);
+
+        if (entry != null) {
+            return newTemplate(entry.root(), new StringSource(name, entry.source()));
+        }
+
+        TokenizableSource source = getSource(name, loadTemplate(name));
+        Node              root;
+
+        entry = store.load(name, source, timestamp);
+
+        if (entry == null) {
+            root = parseRoot(getTokenCursor(source));
+            store.store(name, source, timestamp, root);
+        } else {
+            root = entry.root();
+
+            if (timestamp > 0) {
+                store.store(name, source, timestamp, root);
+            }
+        }
+
+        return newTemplate(root, source);
+    }
+
     /**
      * Parses the view source into an AST and creates a new view instance.
      * <p>
@@ -117,14 +277,22 @@ public class TemplateEngine implements Engine {
     @Override
     public Template parseTemplate(String name, Reader reader) {
         TokenizableSource source = getSource(name, reader);
-        TokenCursor       cursor = getTokenCursor(source);
-        Parser            parser = parserContext.getParser(TemplateParser.class);
+        return newTemplate(parseRoot(getTokenCursor(source)), source);
+    }
+
+    /**
+     * Parses the given tokens into the root node of the view AST.
+     *
+     * @param cursor the token cursor positioned at the first token
+     * @return the root node
+     */
+    private Node parseRoot(TokenCursor cursor) {
+        Parser parser = parserContext.getParser(TemplateParser.class);
 
         // Optionally skip starting token.
         cursor.currentIf(BasicToken.T_SOL);
-        Node root = parser.parse(cursor, parserContext);
 
-        return newTemplate(root, source);
+        return parser.parse(cursor, parserContext);
     }
 
     /**
@@ -215,4 +383,24 @@ public class TemplateEngine implements Engine {
     public void setLoader(TemplateLoader<String> loader) {
         this.loader = loader;
     }
+
+    /**
+     * Returns the persistent store of parsed views, if any.
+     *
+     * @return the {@link TemplateStore}, or {@code null} if views are not persisted
+     */
+    @Override
+    public TemplateStore getStore() {
+        return store;
+    }
+
+    /**
+     * Sets the persistent store used to restore parsed views across restarts.
+     *
+     * @param store the {@link TemplateStore} to use, or {@code null} to disable persistence
+     */
+    @Override
+    public void setStore(TemplateStore store) {
+        this.store = store;
+    }
 }
@@ -0,0 +1,87 @@
+package org.jmouse.el.renderable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the statically resolved dependency graph between templates.
+ * <p>
+ * Every template linked by the {@link Engine} is registered here together with the
+ * {@link TemplateReference references} found in its AST. The graph is safe for concurrent
+ * registration, so templates may be linked in parallel during warm-up.
+ * </p>
+ */
+public class TemplateGraph {
+
+    private final Map<String, Set<TemplateReference>> references = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the references of the given template.
+     *
+     * @param name       the template name
+     * @param references the static references found in the template
+     * @return {@code true} if the template was registered by this call; {@code false} if already present
+     */
+    public boolean register(String name, Collection<TemplateReference> references) {
+        return this.references.putIfAbsent(name, Set.copyOf(references)) == null;
+    }
+
+    /**
+     * Returns {@code true} if the template with the given name has been linked.
+     *
+     * @param name the template name
+     * @return {@code true} if the template is present in the graph
+     */
+    public boolean contains(String name) {
+        return references.containsKey(name);
+    }
+
+    /**
+     * Returns the static references of the given template.
+     *
+     * @param name the template name
+     * @return the references, or an empty set if the template is unknown
+     */
+    public Set<TemplateReference> getReferences(String name) {
+        return references.getOrDefault(name, Set.of());
+    }
+
+    /**
+     * Returns the names of all templates that statically reference the given template.
+     *
+     * @param name the referenced template name
+     * @return the names of dependent templates
+     */
+    public Set<String> getDependents(String name) {
+        Set<String> dependents = new HashSet<>();
+
+        references.forEach((source, targets) -> {
+            for (TemplateReference reference : targets) {
+                if (reference.name().equals(name)) {
+                    dependents.add(source);
+                }
+            }
+        });
+
+        return dependents;
+    }
+
+    /**
+     * Returns the names of all linked templates.
+     *
+     * @return an unmodifiable set of template names
+     */
+    public Set<String> getTemplates() {
+        return Collections.unmodifiableSet(references.keySet());
+    }
+
+    /**
+     * Removes the given template from the graph.
+     *
+     * @param name the template name
+     */
+    public void remove(String name) {
+        references.remove(name);
+    }
+
+}
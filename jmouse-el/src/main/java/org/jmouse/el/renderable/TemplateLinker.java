@@ -0,0 +1,135 @@
+package org.jmouse.el.renderable;
+
+import org.jmouse.el.node.Expression;
+import org.jmouse.el.node.Node;
+import org.jmouse.el.node.expression.literal.StringLiteralNode;
+import org.jmouse.el.renderable.node.*;
+import org.jmouse.el.renderable.node.sub.ConditionBranch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The TemplateLinker traverses a view AST at load time and collects static references to other templates.
+ * <p>
+ * Only references whose path is a string literal are resolvable without an evaluation context and are
+ * therefore collected. If the view contains an {@code extends} or {@code use} tag with a dynamic path,
+ * or a block with a dynamic name, the view is marked as not statically resolvable and its definitions
+ * must be initialized at render time as before.
+ * </p>
+ */
+public class TemplateLinker implements NodeVisitor {
+
+    private final List<TemplateReference> references = new ArrayList<>();
+    private       boolean                 resolvable = true;
+
+    /**
+     * Returns the references collected so far.
+     *
+     * @return an unmodifiable list of template references
+     */
+    public List<TemplateReference> getReferences() {
+        return Collections.unmodifiableList(references);
+    }
+
+    /**
+     * Indicates whether blocks, macros and inheritance of the visited view can be initialized
+     * without a render-time evaluation context.
+     *
+     * @return {@code true} if the view is statically resolvable
+     */
+    public boolean isResolvable() {
+        return resolvable;
+    }
+
+    @Override
+    public void visit(ContainerNode container) {
+        for (Node child : container.getChildren()) {
+            child.accept(this);
+        }
+    }
+
+    @Override
+    public void visit(ExtendsNode extendsNode) {
+        resolvable &= reference(TemplateReference.Kind.EXTENDS, extendsNode.getPath());
+    }
+
+    @Override
+    public void visit(UseNode useNode) {
+        resolvable &= reference(TemplateReference.Kind.USE, useNode.getPath());
+    }
+
+    @Override
+    public void visit(IncludeNode includeNode) {
+        reference(TemplateReference.Kind.INCLUDE, includeNode.getPath());
+    }
+
+    @Override
+    public void visit(EmbedNode embedNode) {
+        reference(TemplateReference.Kind.EMBED, embedNode.getPath());
+        descend(embedNode.getBody());
+    }
+
+    @Override
+    public void visit(BlockNode blockNode) {
+        resolvable &= blockNode.getName() instanceof StringLiteralNode;
+        descend(blockNode.getBody());
+    }
+
+    @Override
+    public void visit(MacroNode macroNode) {
+        descend(macroNode.getBody());
+    }
+
+    @Override
+    public void visit(IfNode ifNode) {
+        for (ConditionBranch branch : ifNode.getBranches()) {
+            descend(branch.getThen());
+        }
+    }
+
+    @Override
+    public void visit(ForNode forNode) {
+        descend(forNode.getBody());
+        descend(forNode.getEmpty());
+    }
+
+    @Override
+    public void visit(ScopeNode scopeNode) {
+        descend(scopeNode.getBody());
+    }
+
+    @Override
+    public void visit(ApplyNode applyNode) {
+        descend(applyNode.getBody());
+    }
+
+    @Override
+    public void visit(CacheNode cacheNode) {
+        descend(cacheNode.getContent());
+    }
+
+    /**
+     * Registers a reference if the path expression is a string literal.
+     *
+     * @param kind the reference kind
+     * @param path the path expression of the tag
+     * @return {@code true} if the path was resolved statically
+     */
+    private boolean reference(TemplateReference.Kind kind, Expression path) {
+        if (path instanceof StringLiteralNode literal && literal.evaluate(null) instanceof String name) {
+            references.add(new TemplateReference(kind, name));
+            return true;
+        }
+
+        return false;
+    }
+
+    private void descend(Node node) {
+        if (node != null) {
+            node.accept(this);
+        }
+    }
+
+}
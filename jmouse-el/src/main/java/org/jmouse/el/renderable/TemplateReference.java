@@ -0,0 +1,22 @@
+package org.jmouse.el.renderable;
+
+/**
+ * Represents a static reference from one template to another.
+ * <p>
+ * References are collected by {@link TemplateLinker} at load time from {@code extends},
+ * {@code include}, {@code embed} and {@code use} tags whose target path is a string literal.
+ * </p>
+ *
+ * @param kind the kind of tag that produced the reference
+ * @param name the name of the referenced template
+ */
+public record TemplateReference(Kind kind, String name) {
+
+    /**
+     * The tag that produced a {@link TemplateReference}.
+     */
+    public enum Kind {
+        EXTENDS, INCLUDE, EMBED, USE
+    }
+
+}
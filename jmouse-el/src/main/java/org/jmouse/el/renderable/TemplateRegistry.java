@@ -1,5 +1,6 @@
 package org.jmouse.el.renderable;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -10,8 +11,8 @@ import java.util.Map;
  */
 public class TemplateRegistry {
 
-    private final Map<String, Block> blocks = new HashMap<>();
-    private final Map<String, Macro> macros = new HashMap<>();
+    private final Map<String, Block> blocks = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, Macro> macros = Collections.synchronizedMap(new HashMap<>());
     private final Engine             engine;
 
     /**
@@ -33,6 +33,7 @@ public class TemplateRenderer implements Renderer {
 
     private final Engine                          engine;
     private final CyclicReferenceDetector<String> detector;
+    private final ParallelRendering               parallel;
 
     /**
      * Constructs a Default renderer with the specified engine.
@@ -40,8 +41,19 @@ public class TemplateRenderer implements Renderer {
      * @param engine the view engine to use for loading templates and registries
      */
     public TemplateRenderer(Engine engine) {
+        this(engine, ParallelRendering.disabled());
+    }
+
+    /**
+     * Constructs a renderer with the specified engine and parallel rendering strategy.
+     *
+     * @param engine   the view engine to use for loading templates and registries
+     * @param parallel the strategy for rendering independent blocks and includes concurrently
+     */
+    public TemplateRenderer(Engine engine, ParallelRendering parallel) {
         this.engine = engine;
         this.detector = new DefaultCyclicReferenceDetector<>();
+        this.parallel = parallel;
     }
 
     /**
@@ -72,8 +84,12 @@ public class TemplateRenderer implements Renderer {
 
         // Render the node using RendererVisitor.
         detector.detect(identifier, EXCEPTION_SUPPLIER);
-        node.accept(new RendererVisitor(content, registry, context, detector));
-        detector.remove(identifier);
+
+        try {
+            node.accept(new RendererVisitor(content, registry, context, detector, parallel));
+        } finally {
+            detector.remove(identifier);
+        }
 
         return content;
     }
@@ -118,20 +134,22 @@ public class TemplateRenderer implements Renderer {
     private void initialize(Template template, EvaluationContext context) {
         detector.detect(template::getName, EXCEPTION_SUPPLIER);
 
-        Node root = template.getRoot();
+        try {
+            Node root = template.getRoot();
 
-        // Link macros, blocks and perform pre-processing.
-        root.accept(new InitializerVisitor(template, context));
+            // Link macros, blocks and perform pre-processing.
+            root.accept(new InitializerVisitor(template, context));
 
-        Template parent = template.getParent(context);
+            Template parent = template.getParent(context);
 
-        if (parent != null) {
-            Inheritance inheritance = context.getInheritance();
-            inheritance.ascend();
-            initialize(parent, context);
-            inheritance.descend();
+            if (parent != null) {
+                Inheritance inheritance = context.getInheritance();
+                inheritance.ascend();
+                initialize(parent, context);
+                inheritance.descend();
+            }
+        } finally {
+            detector.remove(template::getName);
         }
-
-        detector.remove(template::getName);
     }
 }
@@ -0,0 +1,245 @@
+package org.jmouse.el.renderable;
+
+import org.jmouse.el.node.Node;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * 💾 Persistent on-disk store of parsed templates.
+ * <p>
+ * Each template is stored as a single file under the configured directory. An entry carries the template
+ * name, the loader's last-modified timestamp and a CRC-32C fingerprint of the source, followed by the source
+ * text and the compact binary AST of the template (see {@link NodeCodec}). A restored template is neither
+ * lexed nor parsed again.
+ * </p>
+ * <p>
+ * On load the file is memory-mapped and its header is validated before anything else is decoded. When the
+ * loader reports a timestamp equal to the stored one, the entry is used without reading or hashing the
+ * template source at all; otherwise the caller provides the current source and the entry is used only if
+ * its fingerprint matches. Any mismatch, truncated entry, changed node schema or unknown operator class is
+ * treated as a cache miss, so a stale store never produces a stale template. Entries are written to a
+ * temporary file and atomically moved into place, which makes a directory safe to share between several
+ * engine instances (e.g. during rolling restarts).
+ * </p>
+ */
+public class TemplateStore {
+
+    private static final Logger LOGGER    = LoggerFactory.getLogger(TemplateStore.class);
+    private static final int    MAGIC     = 0x4A4D5441; // "JMTA"
+    private static final int    VERSION   = 2;
+    private static final String EXTENSION = ".ast";
+
+    private final Path directory;
+
+    /**
+     * Creates a store backed by the given directory. The directory is created on first write.
+     *
+     * @param directory the directory holding stored entries
+     */
+    public TemplateStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the directory backing this store.
+     *
+     * @return the store directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Loads the stored template if it was stored with the given loader timestamp. The template source is not
+     * needed, so a hit skips reading the source entirely.
+     *
+     * @param name      the template name
+     * @param timestamp the loader's last-modified timestamp, or a non-positive value if unknown
+     * @return the stored template, or {@code null} if the timestamp is unknown or differs
+     */
+    public Entry load(String name, long timestamp) {
+        return timestamp > 0 ? read(name, timestamp, null) : null;
+    }
+
+    /**
+     * Loads the stored template if it was stored from the given source, whatever its timestamp.
+     *
+     * @param name      the template name
+     * @param source    the current template source
+     * @param timestamp the loader's last-modified timestamp, or a non-positive value if unknown
+     * @return the stored template, or {@code null} if there is no valid entry
+     */
+    public Entry load(String name, CharSequence source, long timestamp) {
+        return read(name, timestamp, source);
+    }
+
+    /**
+     * Stores the parsed template.
+     * <p>
+     * Trees that cannot be encoded, e.g. because an extension contributed its own node types, are not stored.
+     * </p>
+     *
+     * @param name      the template name
+     * @param source    the template source the tree was parsed from
+     * @param timestamp the loader's last-modified timestamp, or a non-positive value if unknown
+     * @param root      the root node of the parsed template
+     */
+    public void store(String name, CharSequence source, long timestamp, Node root) {
+        Path file = resolve(name);
+
+        try {
+            byte[] tree = NodeCodec.encode(root);
+
+            Files.createDirectories(directory);
+
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(NodeCodec.SCHEMA);
+                output.writeLong(timestamp);
+                output.writeLong(fingerprint(source));
+                writeBytes(output, name.getBytes(StandardCharsets.UTF_8));
+                writeBytes(output, source.toString().getBytes(StandardCharsets.UTF_8));
+                writeBytes(output, tree);
+            } catch (IOException exception) {
+                Files.deleteIfExists(temporary);
+                throw exception;
+            }
+
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug("Stored '{}' into '{}' ({} bytes of AST)", name, file, tree.length);
+        } catch (IOException | RuntimeException exception) {
+            LOGGER.warn("Unable to store '{}': {}", name, exception.getMessage());
+        }
+    }
+
+    /**
+     * Removes the stored entry of the given template, if present.
+     *
+     * @param name the template name
+     */
+    public void evict(String name) {
+        try {
+            Files.deleteIfExists(resolve(name));
+        } catch (IOException exception) {
+            LOGGER.warn("Unable to evict '{}': {}", name, exception.getMessage());
+        }
+    }
+
+    private Entry read(String name, long timestamp, CharSequence source) {
+        Path  file  = resolve(name);
+        Entry entry = null;
+
+        if (Files.isRegularFile(file)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                if (isValid(buffer, name, timestamp, source)) {
+                    String text = readString(buffer);
+                    Node   root = NodeCodec.decode(section(buffer));
+
+                    entry = new Entry(text, root);
+                    LOGGER.debug("Restored '{}' from store '{}'", name, file);
+                } else {
+                    LOGGER.debug("Stored entry for '{}' is stale", name);
+                }
+            } catch (IOException | RuntimeException exception) {
+                LOGGER.warn("Unable to restore '{}' from store: {}", name, exception.getMessage());
+            }
+        }
+
+        return entry;
+    }
+
+    private static boolean isValid(ByteBuffer buffer, String name, long timestamp, CharSequence source) {
+        if (buffer.remaining() < 4 + 4 + 4 + 8 + 8 + 4) {
+            return false;
+        }
+
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt() != NodeCodec.SCHEMA) {
+            return false;
+        }
+
+        long storedTimestamp   = buffer.getLong();
+        long storedFingerprint = buffer.getLong();
+
+        // file names are shortened, so also guard against collisions on the template name itself
+        if (!name.equals(readString(buffer))) {
+            return false;
+        }
+
+        // a matching timestamp is trusted without hashing the source
+        if (timestamp > 0 && storedTimestamp == timestamp) {
+            return true;
+        }
+
+        return source != null && storedFingerprint == fingerprint(source);
+    }
+
+    private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(section(buffer)).toString();
+    }
+
+    /**
+     * Returns the length-prefixed section at the buffer position as a view of the mapped entry and skips it.
+     */
+    private static ByteBuffer section(ByteBuffer buffer) {
+        int length = buffer.getInt();
+
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalStateException("Corrupted entry: section length %d".formatted(length));
+        }
+
+        ByteBuffer section = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+
+        return section;
+    }
+
+    private Path resolve(String name) {
+        String prefix = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        return directory.resolve("%s-%016x%s".formatted(prefix, fingerprint(name), EXTENSION));
+    }
+
+    /**
+     * Fingerprint of the given text: the CRC-32C of its UTF-8 bytes combined with their length.
+     */
+    private static long fingerprint(CharSequence text) {
+        byte[] bytes    = text.toString().getBytes(StandardCharsets.UTF_8);
+        CRC32C checksum = new CRC32C();
+
+        checksum.update(bytes);
+
+        return ((long) bytes.length << 32) | checksum.getValue();
+    }
+
+    /**
+     * A restored template.
+     *
+     * @param source the source text the template was parsed from
+     * @param root   the root node of the restored AST
+     */
+    public record Entry(String source, Node root) {
+    }
+
+}
@@ -0,0 +1,121 @@
+package org.jmouse.el.renderable.lexer;
+
+import org.jmouse.el.lexer.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.jmouse.el.lexer.ExpressionScanner.isWhitespace;
+import static org.jmouse.el.lexer.RawToken.Type.*;
+
+/**
+ * Single-pass, character-level replacement for {@link TemplateSplitter}.
+ *
+ * <p>Recognizes the same view delimiters ({@code {{ }}}, {@code {% %}}, {@code {! !}}, {@code {# #}},
+ * {@code {$ $}}, {@code {* *}}, {@code {@ @}}) and produces the same {@link RawToken} sequence, but
+ * tokenizes tag content in place with {@link ExpressionScanner} and tracks line numbers incrementally
+ * instead of copying every segment and recounting lines for each token.</p>
+ *
+ * @author Ivan Hontarenko (Mr. Jerry Mouse)
+ * @author ihontarenko@gmail.com
+ */
+public class TemplateScanner implements Splitter<List<RawToken>, TokenizableSource> {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(TemplateScanner.class);
+
+    private static final String TAG_TYPES = "{%!#$*@";
+
+    private final ExpressionScanner scanner;
+
+    public TemplateScanner() {
+        this.scanner = new ExpressionScanner();
+    }
+
+    /**
+     * Splits the given source into raw tokens, distinguishing between plain source and view expressions.
+     *
+     * @param source the input character sequence
+     * @param offset the starting offset for tokenization
+     * @param length the end offset (exclusive) of the segment to process
+     * @return a list of {@link RawToken} representing the parsed components
+     */
+    @Override
+    public List<RawToken> split(TokenizableSource source, int offset, int length) {
+        List<RawToken> tokens    = new ArrayList<>();
+        LineTracker    lines     = new LineTracker(source);
+        int            lastIndex = offset;
+        int            position  = offset;
+
+        while (position + 1 < length) {
+            char type = source.charAt(position + 1);
+
+            if (source.charAt(position) != '{' || TAG_TYPES.indexOf(type) < 0) {
+                position++;
+                continue;
+            }
+
+            int innerStart = position + 2;
+
+            while (innerStart < length && isWhitespace(source.charAt(innerStart))) {
+                innerStart++;
+            }
+
+            int close = findClose(source, innerStart, length, type);
+
+            if (close < 0) {
+                position++;
+                continue;
+            }
+
+            int innerEnd = close;
+
+            while (innerEnd > innerStart && isWhitespace(source.charAt(innerEnd - 1))) {
+                innerEnd--;
+            }
+
+            // Plain text between expressions.
+            if (position > lastIndex) {
+                tokens.add(token(source, lines, lastIndex, position, RAW_TEXT));
+            }
+
+            tokens.add(token(source, lines, position, innerStart, OPEN_TAG));
+            scanner.scan(source, innerStart, innerEnd, lines, tokens);
+            tokens.add(token(source, lines, close, close + 2, CLOSE_TAG));
+
+            position = lastIndex = close + 2;
+        }
+
+        // Remaining plain text.
+        if (lastIndex < length) {
+            tokens.add(token(source, lines, lastIndex, length, RAW_TEXT));
+        }
+
+        LOGGER.debug("Template '{}' scanned to: {} raw tokens", source.getName(), tokens.size());
+
+        return tokens;
+    }
+
+    /**
+     * Finds the first closing delimiter at or after {@code from}: either {@code }}} or the tag type
+     * character followed by {@code }}.
+     *
+     * @return the offset of the closing delimiter, or {@code -1} if none
+     */
+    private static int findClose(CharSequence source, int from, int end, char type) {
+        for (int position = from; position + 1 < end; position++) {
+            char character = source.charAt(position);
+            if ((character == '}' || character == type) && source.charAt(position + 1) == '}') {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+
+    private static RawToken token(CharSequence source, LineTracker lines, int start, int end, RawToken.Type type) {
+        return new RawToken(source.subSequence(start, end).toString(), lines.getLineNumber(start), start, type);
+    }
+
+}
@@ -232,6 +232,11 @@ public enum TemplateToken implements Token.Type {
      */
     T_OVERRIDE(21010, "override"),
 
+    /**
+     * 'parallel' keyword type.
+     */
+    T_PARALLEL(21040, "parallel"),
+
     /**
      * raw piece of html or text
      */
@@ -14,7 +14,7 @@ public class TemplateTokenizer extends DefaultTokenizer {
      * Registers standard and view tokens with specific priority values.
      */
     public TemplateTokenizer(Recognizer<Token.Type, RawToken> recognizer) {
-        super(new TemplateSplitter(), recognizer);
+        super(new TemplateScanner(), recognizer);
     }
 
 }
@@ -1,9 +1,24 @@
 package org.jmouse.el.renderable.loader;
 
+import org.jmouse.core.io.ClasspathResourceLoader;
+import org.jmouse.core.io.Resource;
+import org.jmouse.core.matcher.Matcher;
+
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static org.jmouse.util.Files.SLASH;
+import static org.jmouse.util.Files.normalizePath;
 
 public class ClasspathLoader extends AbstractLoader<String> {
 
@@ -35,6 +50,52 @@ public class ClasspathLoader extends AbstractLoader<String> {
         return reader;
     }
 
+    @Override
+    public long lastModified(String name) {
+        long timestamp = -1L;
+        URL  resource  = classLoader.getResource(resolvePath(name));
+
+        if (resource != null) {
+            try {
+                if ("file".equals(resource.getProtocol())) {
+                    timestamp = Files.getLastModifiedTime(Path.of(resource.toURI())).toMillis();
+                } else {
+                    URLConnection connection = resource.openConnection();
+                    timestamp = connection.getLastModified();
+                }
+            } catch (IOException | URISyntaxException | IllegalArgumentException ignored) {
+                // timestamp stays unknown
+            }
+        }
+
+        return timestamp;
+    }
+
+    @Override
+    public Collection<String> list(String location) {
+        Collection<String> names  = new ArrayList<>();
+        String             base   = resolveBase();
+        String             suffix = getSuffix() == null ? "" : getSuffix();
+        Matcher<String>    filter = name -> name.contains(base + location) && name.endsWith(suffix);
+
+        for (Resource resource : new ClasspathResourceLoader().loadResources(
+                Resource.CLASSPATH_PROTOCOL + ":" + base + location, filter)) {
+            String name  = normalizePath(resource.getName(), SLASH);
+            int    index = name.lastIndexOf(base + location);
+
+            if (index >= 0) {
+                names.add(name.substring(index + base.length(), name.length() - suffix.length()));
+            }
+        }
+
+        return names;
+    }
+
+    private String resolveBase() {
+        String base = getPrefix() == null ? "" : getPrefix();
+        return base.startsWith(SLASH) ? base.substring(1) : base;
+    }
+
     private String resolvePath(String path) {
         StringBuilder builder = new StringBuilder();
 
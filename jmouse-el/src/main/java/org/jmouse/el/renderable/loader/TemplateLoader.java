@@ -3,11 +3,30 @@ package org.jmouse.el.renderable.loader;
 import org.jmouse.core.Charset;
 
 import java.io.Reader;
+import java.util.Collection;
+import java.util.List;
 
 public interface TemplateLoader<T> {
 
     Reader load(T key);
 
+    /**
+     * Returns the last-modified timestamp of the template in milliseconds since the epoch, or {@code -1} if the
+     * loader cannot tell. A known timestamp lets a {@code TemplateStore} validate an entry without reading the
+     * template source.
+     */
+    default long lastModified(T key) {
+        return -1L;
+    }
+
+    /**
+     * Lists the keys of all templates available under the given location, relative to the loader prefix.
+     * Loaders that cannot enumerate their templates return an empty collection.
+     */
+    default Collection<T> list(String location) {
+        return List.of();
+    }
+
     default void setPrefix(String prefix) {
 
     }
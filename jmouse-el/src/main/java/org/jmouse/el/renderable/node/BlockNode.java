@@ -11,6 +11,7 @@ public class BlockNode extends AbstractNode {
     private Expression name;
     private Node       body;
     private boolean override = false;
+    private boolean parallel = false;
 
     public Expression getName() {
         return name;
@@ -36,6 +37,14 @@ public class BlockNode extends AbstractNode {
         this.override = override;
     }
 
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     /**
      * Recursively executes the given consumer on this node and all its children.
      *
@@ -8,6 +8,7 @@ import org.jmouse.el.renderable.NodeVisitor;
 public class IncludeNode extends AbstractNode {
 
     private final Expression path;
+    private       boolean    parallel = false;
 
     public IncludeNode(Expression path) {
         this.path = path;
@@ -17,6 +18,14 @@ public class IncludeNode extends AbstractNode {
         return path;
     }
 
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     /**
      * Recursively executes the given consumer on this node and all its children.
      *
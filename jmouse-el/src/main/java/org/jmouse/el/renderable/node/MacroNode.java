@@ -6,6 +6,7 @@ import org.jmouse.el.node.Node;
 import org.jmouse.el.node.Visitor;
 import org.jmouse.el.renderable.NodeVisitor;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,10 @@ public class MacroNode extends AbstractNode {
         return defaultValues.get(name);
     }
 
+    public Map<String, Expression> getDefaultValues() {
+        return Collections.unmodifiableMap(defaultValues);
+    }
+
     public void setDefaultValues(Map<String, Expression> defaultValues) {
         this.defaultValues.putAll(defaultValues);
     }
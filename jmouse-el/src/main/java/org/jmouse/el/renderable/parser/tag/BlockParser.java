@@ -48,6 +48,8 @@ public class BlockParser implements TagParser {
 
         // Consume 'override' keyword if any
         block.setOverride(cursor.currentIf(T_OVERRIDE));
+        // Consume 'parallel' keyword if any
+        block.setParallel(cursor.currentIf(T_PARALLEL));
 
         // Consume closing '%}'
         cursor.ensure(T_CLOSE_EXPRESSION);
@@ -14,7 +14,12 @@ public class IncludeParser implements TagParser {
     @Override
     public Node parse(TokenCursor cursor, ParserContext context) {
         cursor.ensure(TemplateToken.T_INCLUDE);
-        return new IncludeNode((Expression) context.getParser(LiteralParser.class).parse(cursor, context));
+
+        IncludeNode include = new IncludeNode((Expression) context.getParser(LiteralParser.class).parse(cursor, context));
+
+        include.setParallel(cursor.currentIf(TemplateToken.T_PARALLEL));
+
+        return include;
     }
 
     @Override
@@ -5,11 +5,13 @@ import org.jmouse.core.chain.Chain;
 import org.jmouse.jdbc.intercept.*;
 import org.jmouse.jdbc.mapping.KeyExtractor;
 import org.jmouse.jdbc.mapping.ResultSetExtractor;
+import org.jmouse.jdbc.mapping.RowMapper;
 import org.jmouse.jdbc.statement.*;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * {@link JdbcExecutor} implementation that supports interception via a
@@ -116,6 +118,36 @@ public final class InterceptableJdbcExecutor implements JdbcExecutor {
         return result;
     }
 
+    /**
+     * Executes a streaming query through the interceptor chain.
+     * <p>
+     * Interceptors observe the call until the stream is returned; reading the stream happens afterwards.
+     *
+     * @param sql        SQL query
+     * @param binder     parameter binder
+     * @param configurer statement configuration
+     * @param callback   JDBC query callback
+     * @param mapper     row mapper
+     * @param <T>        element type
+     * @return closeable stream of mapped rows
+     * @throws SQLException if execution fails
+     */
+    @Override
+    public <T> Stream<T> executeStream(
+            String sql,
+            StatementBinder binder,
+            StatementConfigurer configurer,
+            StatementHandler<ResultSet> handler,
+            StatementCallback<ResultSet> callback,
+            RowMapper<T> mapper
+    ) throws SQLException {
+        JdbcExecutionContext context = newContext();
+        JdbcStreamCall<T>    call    = new JdbcStreamCall<>(sql, binder, configurer, handler, callback, mapper);
+        @SuppressWarnings("unchecked")
+        Stream<T> result = (Stream<T>) chain.run(context, call);
+        return result;
+    }
+
     /**
      * Executes an update operation (INSERT / UPDATE / DELETE) through the interceptor chain.
      *
@@ -2,11 +2,13 @@ package org.jmouse.jdbc;
 
 import org.jmouse.jdbc.mapping.KeyExtractor;
 import org.jmouse.jdbc.mapping.ResultSetExtractor;
+import org.jmouse.jdbc.mapping.RowMapper;
 import org.jmouse.jdbc.statement.*;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Low-level JDBC execution contract for jMouse.
@@ -156,6 +158,33 @@ public interface JdbcExecutor {
         return execute(sql, StatementBinder.NOOP, StatementConfigurer.NOOP, StatementHandler.NOOP_QUERY, callback, extractor);
     }
 
+    /**
+     * Executes a query and returns its rows as a lazily mapped stream.
+     * <p>
+     * The statement is prepared forward-only and read-only with a driver-appropriate fetch size
+     * (see {@link org.jmouse.jdbc.stream.CursorDialect}); {@code configurer} runs afterwards and may
+     * override it. The connection, statement and result set stay open until the stream is exhausted
+     * or closed, so the stream must be closed, typically with try-with-resources.
+     *
+     * @param sql        SQL to execute
+     * @param binder     binds statement parameters
+     * @param configurer configures statement options
+     * @param handler    execution hook for statement lifecycle/metadata
+     * @param callback   performs the JDBC operation and returns a {@link ResultSet}
+     * @param mapper     maps each row
+     * @param <T>        element type
+     * @return closeable stream of mapped rows
+     * @throws SQLException if the query cannot be executed
+     */
+    <T> Stream<T> executeStream(
+            String sql,
+            StatementBinder binder,
+            StatementConfigurer configurer,
+            StatementHandler<ResultSet> handler,
+            StatementCallback<ResultSet> callback,
+            RowMapper<T> mapper
+    ) throws SQLException;
+
     /**
      * Executes a SQL update (INSERT/UPDATE/DELETE) using a prepared statement.
      * <p>
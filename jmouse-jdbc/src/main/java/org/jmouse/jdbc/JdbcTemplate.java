@@ -7,6 +7,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * High-level JDBC operations facade.
@@ -334,6 +335,58 @@ public interface JdbcTemplate {
         return query(sql, StatementBinder.NOOP, StatementConfigurer.NOOP, StatementHandler.noop(), extractor);
     }
 
+    /**
+     * Executes a query and returns its rows as a lazily mapped, closeable stream.
+     * <p>
+     * Rows are read with a forward-only, read-only cursor and a driver-appropriate fetch size,
+     * so memory use does not depend on the result size. The connection stays borrowed until the
+     * stream is exhausted or closed; always close it:
+     *
+     * <pre>{@code
+     * try (Stream<User> users = jdbc.stream("select * from users", BeanRowMapper.of(User.class))) {
+     *     users.forEach(exporter::write);
+     * }
+     * }</pre>
+     *
+     * @param sql        SQL query to execute
+     * @param binder     parameter binder
+     * @param configurer statement configuration (may override the fetch size)
+     * @param handler    statement lifecycle hook
+     * @param mapper     row mapperProvider
+     * @param <T>        mapped element type
+     * @return stream of mapped rows
+     * @throws SQLException if the query cannot be executed
+     */
+    <T> Stream<T> stream(
+            String sql,
+            StatementBinder binder,
+            StatementConfigurer configurer,
+            StatementHandler<ResultSet> handler,
+            RowMapper<T> mapper
+    ) throws SQLException;
+
+    /**
+     * Convenience overload: uses {@link StatementConfigurer#noop()} and {@link StatementHandler#noop()}.
+     */
+    default <T> Stream<T> stream(
+            String sql,
+            StatementBinder binder,
+            RowMapper<T> mapper
+    ) throws SQLException {
+        return stream(sql, binder, StatementConfigurer.NOOP, StatementHandler.noop(), mapper);
+    }
+
+    /**
+     * Convenience overload: uses {@link StatementBinder#noop()}, {@link StatementConfigurer#noop()},
+     * and {@link StatementHandler#noop()}.
+     */
+    default <T> Stream<T> stream(
+            String sql,
+            RowMapper<T> mapper
+    ) throws SQLException {
+        return stream(sql, StatementBinder.NOOP, StatementConfigurer.NOOP, StatementHandler.noop(), mapper);
+    }
+
     /**
      * Executes an update operation (INSERT / UPDATE / DELETE).
      *
@@ -694,6 +747,28 @@ public interface JdbcTemplate {
             return executor.execute(sql, binder, configurer, handler, StatementCallback.QUERY, extractor);
         }
 
+        /**
+         * Executes a query returning a lazily mapped stream of rows.
+         *
+         * @param sql        SQL query to execute
+         * @param binder     parameter binder
+         * @param configurer statement configuration
+         * @param mapper     row mapperProvider
+         * @param <T>        mapped element type
+         * @return closeable stream of mapped rows
+         * @throws SQLException if JDBC access fails
+         */
+        @Override
+        public <T> Stream<T> stream(
+                String sql,
+                StatementBinder binder,
+                StatementConfigurer configurer,
+                StatementHandler<ResultSet> handler,
+                RowMapper<T> mapper
+        ) throws SQLException {
+            return executor.executeStream(sql, binder, configurer, handler, StatementCallback.QUERY, mapper);
+        }
+
         /**
          * Executes an update operation (INSERT / UPDATE / DELETE).
          *
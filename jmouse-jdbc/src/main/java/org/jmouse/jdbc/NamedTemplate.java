@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Extension of {@link JdbcTemplate} for SQL with named parameters.
@@ -118,6 +119,17 @@ public interface NamedTemplate extends JdbcTemplate {
      */
     int update(String sql, ParameterSource parameterSource) throws SQLException;
 
+    /**
+     * Streams the rows of a query with named parameters; the stream must be closed.
+     *
+     * @see JdbcTemplate#stream(String, StatementBinder, RowMapper)
+     */
+    <T> Stream<T> stream(String sql, ParameterSource parameterSource, RowMapper<T> mapper) throws SQLException;
+
+    default <T> Stream<T> stream(String sql, Map<String, ?> parameters, RowMapper<T> mapper) throws SQLException {
+        return stream(sql, new MapParameterSource(parameters), mapper);
+    }
+
     /**
      * Executes a batch update using multiple parameter sources.
      *
@@ -193,6 +205,21 @@ public interface NamedTemplate extends JdbcTemplate {
             return super.queryOne(preparedExecution.sql(), binder, mapper);
         }
 
+        /**
+         * Executes a query returning a lazily mapped stream of rows.
+         *
+         * @param sql SQL with named parameters
+         * @param parameterSource parameter source
+         * @param mapper row mapper
+         * @return closeable stream of mapped rows
+         */
+        @Override
+        public <T> Stream<T> stream(String sql, ParameterSource parameterSource, RowMapper<T> mapper) throws SQLException {
+            NamedSqlPreparedExecution preparedExecution = executionFactory.prepare(sql, parameterSource);
+            StatementBinder           binder            = preparedExecution.binder();
+            return super.stream(preparedExecution.sql(), binder, mapper);
+        }
+
         /**
          * Executes a query returning multiple results.
          *
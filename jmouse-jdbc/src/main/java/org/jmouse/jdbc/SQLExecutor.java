@@ -2,10 +2,19 @@ package org.jmouse.jdbc;
 
 import java.sql.*;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.jmouse.jdbc.connection.ConnectionIntent;
 import org.jmouse.jdbc.connection.ConnectionProvider;
 import org.jmouse.jdbc.mapping.ResultSetExtractor;
+import org.jmouse.jdbc.mapping.RowMapper;
 import org.jmouse.jdbc.statement.*;
+import org.jmouse.jdbc.statement.cache.StatementCache;
+import org.jmouse.jdbc.statement.cache.StatementKey;
+import org.jmouse.jdbc.stream.CursorDialect;
+import org.jmouse.jdbc.stream.ResultSetSpliterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Default {@link JdbcExecutor} implementation performing direct JDBC execution.
@@ -35,25 +44,53 @@ import org.jmouse.jdbc.statement.*;
  * }</pre>
  *
  * <p>
+ * Prepared statements are obtained from and given back to a {@link StatementCache}. The default
+ * {@link StatementCache#NOOP} prepares and closes a statement per call; an
+ * {@link org.jmouse.jdbc.statement.cache.LruStatementCache} reuses statements per physical connection.
+ *
+ * <p>
  * ⚠️ Transaction participation is determined by the configured {@link ConnectionProvider}.
  * For example, a transaction-aware valueProvider may return a thread-bound connection.
+ * Queries and streams ask for the {@link ConnectionIntent#current() current} intent, which stays
+ * {@link ConnectionIntent#READ_WRITE} (the primary) unless the caller opened a {@link ConnectionIntent#READ_ONLY}
+ * scope; everything else always asks for {@link ConnectionIntent#READ_WRITE}. Failures of queries and streams are
+ * reported back through {@link ConnectionProvider#release(Connection, SQLException)}, so a replica-routing
+ * valueProvider can account them to the replica that served them.
  *
  * @author jMouse
  */
 public final class SQLExecutor implements JdbcExecutor {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SQLExecutor.class);
+
     /**
      * Provides JDBC connections (raw, pooled, or transaction-aware).
      */
     private final ConnectionProvider connectionProvider;
 
     /**
-     * Creates a new {@code SQLExecutor}.
+     * Source of prepared statements (non-caching by default).
+     */
+    private final StatementCache statementCache;
+
+    /**
+     * Creates a new {@code SQLExecutor} without statement caching.
      *
      * @param connectionProvider connection valueProvider used for all executions
      */
     public SQLExecutor(ConnectionProvider connectionProvider) {
+        this(connectionProvider, StatementCache.NOOP);
+    }
+
+    /**
+     * Creates a new {@code SQLExecutor}.
+     *
+     * @param connectionProvider connection valueProvider used for all executions
+     * @param statementCache     source of prepared statements
+     */
+    public SQLExecutor(ConnectionProvider connectionProvider, StatementCache statementCache) {
         this.connectionProvider = connectionProvider;
+        this.statementCache = statementCache != null ? statementCache : StatementCache.NOOP;
     }
 
     /**
@@ -77,12 +114,14 @@ public final class SQLExecutor implements JdbcExecutor {
             StatementCallback<ResultSet> callback,
             ResultSetExtractor<T> extractor
     ) throws SQLException {
-        Connection        connection = connectionProvider.getConnection();
+        Connection        connection = connectionProvider.getConnection(ConnectionIntent.current());
+        StatementKey      key        = StatementKey.of(sql);
         PreparedStatement statement  = null;
         ResultSet         resultSet  = null;
+        SQLException      failure    = null;
 
         try {
-            statement = connection.prepareStatement(sql);
+            statement = statementCache.prepare(connection, key);
 
             binder.bind(statement);
             configurer.configure(statement);
@@ -90,9 +129,69 @@ public final class SQLExecutor implements JdbcExecutor {
             resultSet = handler.handle(statement, callback::doStatementExecute);
             return extractor.extract(resultSet);
 
+        } catch (SQLException exception) {
+            failure = exception;
+            throw exception;
         } finally {
-            JdbcSupport.closeQuietly(resultSet, statement);
-            connectionProvider.release(connection);
+            JdbcSupport.closeQuietly(resultSet);
+            statementCache.release(connection, key, statement);
+            connectionProvider.release(connection, failure);
+        }
+    }
+
+    /**
+     * Executes a query and exposes its rows as a lazily mapped stream.
+     * <p>
+     * The statement is checked out of the {@link StatementCache} for the lifetime of the stream.
+     * When the {@link CursorDialect} requires it, an auto-commit connection is switched to manual commit
+     * and restored when the stream is released. Resources are released when the last row has been read,
+     * when reading fails, or when the stream is closed.
+     *
+     * @param sql        SQL to execute
+     * @param binder     binds statement parameters
+     * @param configurer configures statement options (applied after the dialect fetch size)
+     * @param callback   executes the statement and returns a {@link ResultSet}
+     * @param mapper     maps each row
+     * @param <T>        element type
+     * @return closeable stream of mapped rows
+     * @throws SQLException if JDBC access fails before the stream is returned
+     */
+    @Override
+    public <T> Stream<T> executeStream(
+            String sql,
+            StatementBinder binder,
+            StatementConfigurer configurer,
+            StatementHandler<ResultSet> handler,
+            StatementCallback<ResultSet> callback,
+            RowMapper<T> mapper
+    ) throws SQLException {
+        Connection     connection = connectionProvider.getConnection(ConnectionIntent.current());
+        StatementKey   key        = StatementKey.of(sql);
+        StreamResource resource   = new StreamResource(connection, key);
+
+        try {
+            CursorDialect dialect = CursorDialect.of(connection);
+
+            if (dialect.requiresManualCommit() && connection.getAutoCommit()) {
+                connection.setAutoCommit(false);
+                resource.manualCommit = true;
+            }
+
+            resource.statement = statementCache.prepare(connection, key);
+
+            binder.bind(resource.statement);
+            dialect.configure(resource.statement);
+            configurer.configure(resource.statement);
+
+            resource.resultSet = handler.handle(resource.statement, callback::doStatementExecute);
+
+            return ResultSetSpliterator.stream(resource.resultSet, mapper, resource::release);
+        } catch (SQLException exception) {
+            resource.release(exception);
+            throw exception;
+        } catch (RuntimeException | Error exception) {
+            resource.release(null);
+            throw exception;
         }
     }
 
@@ -114,18 +213,19 @@ public final class SQLExecutor implements JdbcExecutor {
             StatementHandler<Integer> handler,
             StatementCallback<Integer> callback
     ) throws SQLException {
-        Connection connection = connectionProvider.getConnection();
-        PreparedStatement statement = null;
+        Connection        connection = connectionProvider.getConnection(ConnectionIntent.READ_WRITE);
+        StatementKey      key        = StatementKey.of(sql);
+        PreparedStatement statement  = null;
 
         try {
-            statement = connection.prepareStatement(sql);
+            statement = statementCache.prepare(connection, key);
 
             binder.bind(statement);
             configurer.configure(statement);
 
             return handler.handle(statement, callback::doStatementExecute);
         } finally {
-            JdbcSupport.closeQuietly(statement);
+            statementCache.release(connection, key, statement);
             connectionProvider.release(connection);
         }
     }
@@ -154,11 +254,12 @@ public final class SQLExecutor implements JdbcExecutor {
             return new int[0];
         }
 
-        Connection        connection = connectionProvider.getConnection();
+        Connection        connection = connectionProvider.getConnection(ConnectionIntent.READ_WRITE);
+        StatementKey      key        = StatementKey.of(sql);
         PreparedStatement statement  = null;
 
         try {
-            statement = connection.prepareStatement(sql);
+            statement = statementCache.prepare(connection, key);
             configurer.configure(statement);
 
             for (StatementBinder binder : binders) {
@@ -170,7 +271,7 @@ public final class SQLExecutor implements JdbcExecutor {
 
             return handler.handle(statement, callback::doStatementExecute);
         } finally {
-            JdbcSupport.closeQuietly(statement);
+            statementCache.release(connection, key, statement);
             connectionProvider.release(connection);
         }
     }
@@ -198,9 +299,13 @@ public final class SQLExecutor implements JdbcExecutor {
             StatementHandler<K> handler,
             KeyUpdateCallback<K> callback
     ) throws SQLException {
-        Connection connection = connectionProvider.getConnection();
+        Connection        connection = connectionProvider.getConnection(ConnectionIntent.READ_WRITE);
+        StatementKey      key        = StatementKey.generatedKeys(sql);
+        PreparedStatement statement  = null;
+
+        try {
+            statement = statementCache.prepare(connection, key);
 
-        try (PreparedStatement statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
             binder.bind(statement);
             configurer.configure(statement);
 
@@ -211,6 +316,7 @@ public final class SQLExecutor implements JdbcExecutor {
                 }
             });
         } finally {
+            statementCache.release(connection, key, statement);
             connectionProvider.release(connection);
         }
     }
@@ -234,7 +340,7 @@ public final class SQLExecutor implements JdbcExecutor {
             StatementHandler<T> handler,
             CallableCallback<T> callback
     ) throws SQLException {
-        Connection connection = connectionProvider.getConnection();
+        Connection connection = connectionProvider.getConnection(ConnectionIntent.READ_WRITE);
         CallableStatement statement = null;
 
         try {
@@ -248,4 +354,38 @@ public final class SQLExecutor implements JdbcExecutor {
         }
     }
 
+    /**
+     * JDBC resources held open by a streamed query.
+     */
+    private final class StreamResource {
+
+        private final Connection        connection;
+        private final StatementKey      key;
+        private       PreparedStatement statement;
+        private       ResultSet         resultSet;
+        private       boolean           manualCommit;
+
+        StreamResource(Connection connection, StatementKey key) {
+            this.connection = connection;
+            this.key = key;
+        }
+
+        void release(SQLException failure) {
+            JdbcSupport.closeQuietly(resultSet);
+            statementCache.release(connection, key, statement);
+
+            if (manualCommit) {
+                try {
+                    // the stream only read, ending the implicit transaction before restoring auto-commit
+                    connection.commit();
+                    connection.setAutoCommit(true);
+                } catch (SQLException exception) {
+                    LOGGER.warn("Failed to restore auto-commit after streamed query: {}", exception.getMessage());
+                }
+            }
+
+            connectionProvider.release(connection, failure);
+        }
+    }
+
 }
@@ -0,0 +1,271 @@
+package org.jmouse.jdbc.async;
+
+import org.jmouse.core.Verify;
+import org.jmouse.core.context.execution.ExecutionContextHolder;
+import org.jmouse.core.context.execution.ExecutionSnapshot;
+import org.jmouse.jdbc.JdbcTemplate;
+import org.jmouse.jdbc.mapping.RowMapper;
+import org.jmouse.jdbc.statement.StatementBinder;
+import org.jmouse.jdbc.transaction.JdbcResourceHolder;
+import org.jmouse.transaction.infrastructure.TransactionContext;
+import org.jmouse.transaction.infrastructure.TransactionContextHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ⚡ Asynchronous facade over a {@link JdbcTemplate} (or {@link org.jmouse.jdbc.NamedTemplate}).
+ *
+ * <p>Every operation runs on the executor (virtual threads by default) and returns a
+ * {@link CompletableFuture}. The caller's state is captured at submission time and installed on the
+ * worker thread:</p>
+ * <ul>
+ *     <li>the {@link ExecutionContextHolder} snapshot;</li>
+ *     <li>the active {@link TransactionContext} and its {@link JdbcResourceHolder}, so work submitted inside a
+ *         transaction joins it. A JDBC connection is not thread-safe, therefore such work is serialized on
+ *         the transaction's connection, and the caller must join the futures before the transaction ends
+ *         and before using the connection itself.</li>
+ * </ul>
+ *
+ * <p>Outside of a transaction each task borrows its own connection, so {@link #all(List)} runs independent
+ * queries concurrently:</p>
+ * <pre>{@code
+ * AsyncJdbcTemplate<JdbcTemplate> async = AsyncJdbcTemplate.virtual(template, transactionContextHolder);
+ *
+ * CompletableFuture<List<User>>  users  = async.query("select * from users", BeanRowMapper.of(User.class));
+ * CompletableFuture<List<Order>> orders = async.supply(t -> t.query(ORDERS_SQL, binder, orderMapper));
+ *
+ * CompletableFuture.allOf(users, orders).join();
+ * }</pre>
+ *
+ * @param <T> template type handed to the submitted work
+ */
+public final class AsyncJdbcTemplate<T extends JdbcTemplate> implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncJdbcTemplate.class);
+
+    private final T                                       template;
+    private final TransactionContextHolder                contextHolder;
+    private final ExecutorService                         executor;
+    private final boolean                                 ownsExecutor;
+    private final Map<JdbcResourceHolder, ReentrantLock> locks = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Creates a facade running work on the given executor; the executor is not shut down by {@link #close()}.
+     *
+     * @param template      template handed to the submitted work
+     * @param contextHolder holder of the caller's transaction state
+     * @param executor      executor running the work
+     */
+    public AsyncJdbcTemplate(T template, TransactionContextHolder contextHolder, ExecutorService executor) {
+        this(template, contextHolder, executor, false);
+    }
+
+    private AsyncJdbcTemplate(
+            T template, TransactionContextHolder contextHolder, ExecutorService executor, boolean ownsExecutor) {
+        this.template = Verify.nonNull(template, "template");
+        this.contextHolder = Verify.nonNull(contextHolder, "contextHolder");
+        this.executor = Verify.nonNull(executor, "executor");
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Creates a facade running every task on its own virtual thread.
+     *
+     * @param template      template handed to the submitted work
+     * @param contextHolder holder of the caller's transaction state
+     * @return a new facade owning its executor
+     */
+    public static <T extends JdbcTemplate> AsyncJdbcTemplate<T> virtual(
+            T template, TransactionContextHolder contextHolder) {
+        return new AsyncJdbcTemplate<>(template, contextHolder, Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("jdbc-async-", 0).factory()), true);
+    }
+
+    /**
+     * Runs the work asynchronously with the caller's execution and transaction state.
+     *
+     * @param work operation on the template
+     * @return future completed with the work's result, or exceptionally with its failure
+     */
+    public <R> CompletableFuture<R> supply(Work<? super T, ? extends R> work) {
+        Verify.nonNull(work, "work");
+
+        CompletableFuture<R> future  = new CompletableFuture<>();
+        Carrier              carrier = capture();
+
+        executor.execute(() -> {
+            // cancelled (e.g. by a failed fan-out) before it started
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(carrier.run(work, template));
+            } catch (Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Runs independent operations concurrently and joins their results in submission order.
+     * <p>
+     * The returned future fails with the first failure; operations that have not started by then are
+     * cancelled. Inside a transaction the operations share its connection and run one after another.
+     *
+     * @param works operations on the template
+     * @return future of all results
+     */
+    public <R> CompletableFuture<List<R>> all(List<? extends Work<? super T, ? extends R>> works) {
+        Verify.nonNull(works, "works");
+
+        if (works.size() > 1 && contextHolder.hasResource(JdbcResourceHolder.class)) {
+            LOGGER.debug("Fan-out of {} operations joins the current transaction and runs sequentially", works.size());
+        }
+
+        List<CompletableFuture<? extends R>> futures = new ArrayList<>(works.size());
+        CompletableFuture<List<R>>           result  = new CompletableFuture<>();
+
+        for (Work<? super T, ? extends R> work : works) {
+            futures.add(supply(work));
+        }
+
+        for (CompletableFuture<? extends R> future : futures) {
+            future.whenComplete((value, failure) -> {
+                if (failure != null && result.completeExceptionally(unwrap(failure))) {
+                    futures.forEach(pending -> pending.cancel(false));
+                }
+            });
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenRun(() -> {
+            List<R> values = new ArrayList<>(futures.size());
+
+            for (CompletableFuture<? extends R> future : futures) {
+                values.add(future.join());
+            }
+
+            result.complete(values);
+        });
+
+        return result;
+    }
+
+    /**
+     * Varargs variant of {@link #all(List)}.
+     */
+    @SafeVarargs
+    public final <R> CompletableFuture<List<R>> all(Work<? super T, ? extends R>... works) {
+        return all(List.of(works));
+    }
+
+    public <R> CompletableFuture<List<R>> query(String sql, RowMapper<R> mapper) {
+        return supply(jdbc -> jdbc.query(sql, mapper));
+    }
+
+    public <R> CompletableFuture<List<R>> query(String sql, StatementBinder binder, RowMapper<R> mapper) {
+        return supply(jdbc -> jdbc.query(sql, binder, mapper));
+    }
+
+    public <R> CompletableFuture<Optional<R>> querySingle(String sql, StatementBinder binder, RowMapper<R> mapper) {
+        return supply(jdbc -> jdbc.querySingle(sql, binder, mapper));
+    }
+
+    public CompletableFuture<Integer> update(String sql, StatementBinder binder) {
+        return supply(jdbc -> jdbc.update(sql, binder));
+    }
+
+    public CompletableFuture<int[]> batchUpdate(String sql, List<? extends StatementBinder> binders) {
+        return supply(jdbc -> jdbc.batchUpdate(sql, binders));
+    }
+
+    public T getTemplate() {
+        return template;
+    }
+
+    /**
+     * Shuts down the executor if it was created by {@link #virtual(JdbcTemplate, TransactionContextHolder)}.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.close();
+        }
+    }
+
+    private Carrier capture() {
+        TransactionContext context  = contextHolder.getContext();
+        JdbcResourceHolder resource = contextHolder.getResource(JdbcResourceHolder.class);
+        ReentrantLock      lock     = resource == null ? null : locks.computeIfAbsent(resource, key -> new ReentrantLock());
+
+        return new Carrier(contextHolder, ExecutionContextHolder.capture(), context, resource, lock);
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    /**
+     * Operation executed against the template on a worker thread.
+     */
+    @FunctionalInterface
+    public interface Work<T, R> {
+        R run(T template) throws SQLException;
+    }
+
+    /**
+     * Caller state installed on the worker thread for the duration of one task.
+     */
+    private record Carrier(
+            TransactionContextHolder contextHolder,
+            ExecutionSnapshot snapshot,
+            TransactionContext context,
+            JdbcResourceHolder resource,
+            ReentrantLock lock
+    ) {
+
+        <T, R> R run(Work<? super T, ? extends R> work, T template) throws SQLException {
+            try (ExecutionContextHolder.Scope ignored = ExecutionContextHolder.open(snapshot)) {
+                if (context == null && resource == null) {
+                    return work.run(template);
+                }
+
+                boolean contextBound  = false;
+                boolean resourceBound = false;
+
+                try {
+                    if (context != null) {
+                        contextHolder.bindContext(context);
+                        contextBound = true;
+                    }
+
+                    if (resource != null) {
+                        contextHolder.bindResource(JdbcResourceHolder.class, resource);
+                        resourceBound = true;
+                        lock.lock();
+                    }
+
+                    return work.run(template);
+                } finally {
+                    if (resourceBound) {
+                        lock.unlock();
+                        contextHolder.unbindResource(JdbcResourceHolder.class);
+                    }
+                    if (contextBound) {
+                        contextHolder.unbindContext();
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package org.jmouse.jdbc.bulk;
+
+import java.util.List;
+
+/**
+ * Durable record of the chunks of a streaming bulk batch that have been committed, allowing an
+ * interrupted load to resume.
+ * <p>
+ * Every committed chunk is recorded as a {@link Range range} of source positions. A resumed run skips
+ * all recorded ranges of the (identically ordered) source, including chunks that committed after a failed
+ * or unfinished one, and writes only what is missing.
+ */
+public interface BulkCheckpoint {
+
+    BulkCheckpoint NOOP = new BulkCheckpoint() {
+        @Override
+        public List<Range> load() {
+            return List.of();
+        }
+
+        @Override
+        public void committed(Range range) {
+        }
+
+        @Override
+        public void clear() {
+        }
+    };
+
+    /**
+     * @return ranges committed by earlier runs, in any order; empty when there is nothing to resume
+     */
+    List<Range> load();
+
+    /**
+     * Records that the items of {@code range} are committed.
+     */
+    void committed(Range range);
+
+    /**
+     * Forgets all ranges once the whole source has been committed.
+     */
+    void clear();
+
+    /**
+     * Source positions {@code [offset, offset + size)} written by one chunk.
+     */
+    record Range(long offset, long size) {
+
+        public Range {
+            if (offset < 0 || size < 0) {
+                throw new IllegalArgumentException("Invalid range: offset=%d, size=%d".formatted(offset, size));
+            }
+        }
+
+        public long end() {
+            return offset + size;
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package org.jmouse.jdbc.bulk;
+
+/**
+ * Outcome of a single chunk of a bulk batch.
+ *
+ * @param chunk           zero-based chunk index within the current run
+ * @param offset          position of the chunk's first item in the source
+ * @param size            number of items in the chunk
+ * @param affectedRows    rows affected by the chunk ({@code 0} when it failed)
+ * @param committedItems  source items committed so far, including those of earlier runs
+ * @param error           failure of the chunk, or {@code null}
+ */
+public record BulkChunkProgress(
+        int chunk,
+        long offset,
+        int size,
+        long affectedRows,
+        long committedItems,
+        Throwable error
+) {
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+}
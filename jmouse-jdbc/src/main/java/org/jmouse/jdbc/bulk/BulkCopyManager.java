@@ -0,0 +1,32 @@
+package org.jmouse.jdbc.bulk;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * SPI for vendor bulk-load paths fed with CSV rows, modelled after PostgreSQL's {@code CopyManager}.
+ * <p>
+ * CSV follows PostgreSQL conventions: fields are separated by {@code ,}, records by {@code \n},
+ * strings are double-quoted with {@code ""} escaping, an unquoted empty field is {@code NULL}
+ * and a quoted empty field is an empty string.
+ *
+ * <ul>
+ *     <li>{@link PostgresCopyManager} — {@code COPY ... FROM STDIN} through the PostgreSQL driver</li>
+ *     <li>{@link InsertingCopyManager} — portable stand-in replaying the rows as batched {@code INSERT}s</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface BulkCopyManager {
+
+    /**
+     * Loads CSV rows into the target.
+     *
+     * @param connection connection of the current transaction
+     * @param target     table and columns to load
+     * @param csv        CSV rows
+     * @return number of rows loaded
+     */
+    long copyIn(Connection connection, BulkCopyTarget target, Reader csv) throws SQLException;
+
+}
@@ -0,0 +1,41 @@
+package org.jmouse.jdbc.bulk;
+
+import org.jmouse.core.Verify;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Table (and optionally columns) a {@link BulkCopyManager} loads CSV rows into.
+ *
+ * @param table   table name as written in the SQL
+ * @param columns column names, empty to load all columns in table order
+ */
+public record BulkCopyTarget(String table, List<String> columns) {
+
+    public BulkCopyTarget {
+        Verify.notBlank(table, "table");
+        columns = List.copyOf(Verify.nonNull(columns, "columns"));
+    }
+
+    /**
+     * @return PostgreSQL {@code COPY ... FROM STDIN} command reading CSV
+     */
+    public String copySql() {
+        return "COPY " + table + columnList() + " FROM STDIN WITH (FORMAT csv)";
+    }
+
+    /**
+     * @return single-row {@code INSERT} with one placeholder per column
+     */
+    public String insertSql() {
+        Verify.state(!columns.isEmpty(), "INSERT fallback requires an explicit column list");
+        return "INSERT INTO " + table + columnList() + " VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    }
+
+    private String columnList() {
+        return columns.isEmpty() ? "" : " (" + String.join(", ", columns) + ")";
+    }
+
+}
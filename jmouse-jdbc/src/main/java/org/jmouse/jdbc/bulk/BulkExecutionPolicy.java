@@ -2,19 +2,41 @@ package org.jmouse.jdbc.bulk;
 
 import org.jmouse.core.Verify;
 
+/**
+ * Chunking, concurrency and write strategy of a {@link ParallelBatchUpdater} run.
+ *
+ * @param chunkSize   items per chunk, each chunk is written in its own transaction
+ * @param parallelism chunks written concurrently, i.e. connections in use at once
+ * @param maxInFlight chunks held in memory (running or filled and waiting); at least {@code parallelism}
+ * @param failFast    whether to stop starting chunks after the first failure
+ * @param strategy    how each chunk is written, {@link BulkLoadStrategy#BATCH} by default
+ */
 public record BulkExecutionPolicy(
         int chunkSize,
         int parallelism,
         int maxInFlight,
-        boolean failFast
+        boolean failFast,
+        BulkLoadStrategy strategy
 ) {
     public BulkExecutionPolicy {
-        Verify.state(chunkSize <= 0, "chunkSize must be > 0");
-        Verify.state(parallelism <= 0, "parallelism must be > 0");
-        Verify.state(maxInFlight <= 0, "maxInFlight must be > 0");
+        Verify.state(chunkSize > 0, "chunkSize must be > 0");
+        Verify.state(parallelism > 0, "parallelism must be > 0");
+        Verify.state(maxInFlight >= parallelism, "maxInFlight must be >= parallelism");
+        Verify.nonNull(strategy, "strategy");
+    }
+
+    public BulkExecutionPolicy(int chunkSize, int parallelism, int maxInFlight, boolean failFast) {
+        this(chunkSize, parallelism, maxInFlight, failFast, BulkLoadStrategy.BATCH);
     }
 
     public static BulkExecutionPolicy defaults() {
         return new BulkExecutionPolicy(1_000, 4, 8, true);
     }
+
+    /**
+     * @return copy of this policy writing chunks with the given strategy
+     */
+    public BulkExecutionPolicy withStrategy(BulkLoadStrategy strategy) {
+        return new BulkExecutionPolicy(chunkSize, parallelism, maxInFlight, failFast, strategy);
+    }
 }
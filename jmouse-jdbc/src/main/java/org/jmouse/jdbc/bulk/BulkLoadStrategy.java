@@ -0,0 +1,54 @@
+package org.jmouse.jdbc.bulk;
+
+import org.jmouse.jdbc.JdbcTemplate;
+import org.jmouse.jdbc.statement.StatementBinder;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * How a chunk of rows is written by {@link ParallelBatchUpdater}, selected per call through
+ * {@link BulkExecutionPolicy#strategy()}.
+ * <p>
+ * A strategy runs inside the chunk transaction and receives one {@link StatementBinder} per row
+ * of the (single-row) SQL, so the same {@link org.jmouse.jdbc.statement.BinderFactory} works with
+ * every strategy.
+ *
+ * <ul>
+ *     <li>{@link #BATCH} — JDBC {@code addBatch}/{@code executeBatch}</li>
+ *     <li>{@link #multiRowInsert()} — {@code INSERT ... VALUES (...), (...), ...} sized to the parameter limit</li>
+ *     <li>{@link #copy(BulkCopyManager)} — vendor bulk path such as PostgreSQL {@code COPY}</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface BulkLoadStrategy {
+
+    BulkLoadStrategy BATCH = (template, sql, binders) ->
+            IntStream.of(template.batchUpdate(sql, binders)).asLongStream().sum();
+
+    /**
+     * Writes one chunk.
+     *
+     * @param template template to execute statements with
+     * @param sql      single-row SQL
+     * @param binders  one binder per row
+     * @return affected rows
+     */
+    long load(JdbcTemplate template, String sql, List<StatementBinder> binders) throws SQLException;
+
+    /**
+     * @return multi-row {@code INSERT} rewrite with the parameter limit of the database in use
+     */
+    static BulkLoadStrategy multiRowInsert() {
+        return new MultiRowInsertStrategy();
+    }
+
+    /**
+     * @return {@code COPY}-style load through the given manager
+     */
+    static BulkLoadStrategy copy(BulkCopyManager manager) {
+        return new CopyBulkLoadStrategy(manager);
+    }
+
+}
@@ -0,0 +1,15 @@
+package org.jmouse.jdbc.bulk;
+
+/**
+ * Receives per-chunk progress of a {@link ParallelBatchUpdater} run.
+ * <p>
+ * Called on the thread that runs the batch, in completion order (which is not necessarily chunk order).
+ */
+@FunctionalInterface
+public interface BulkProgressListener {
+
+    BulkProgressListener NOOP = progress -> { };
+
+    void onChunk(BulkChunkProgress progress);
+
+}
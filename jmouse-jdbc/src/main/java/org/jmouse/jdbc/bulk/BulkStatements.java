@@ -0,0 +1,158 @@
+package org.jmouse.jdbc.bulk;
+
+import org.jmouse.jdbc.statement.StatementBinder;
+import org.jmouse.jdbc.transaction.JdbcResourceHolder;
+import org.jmouse.transaction.infrastructure.support.TransactionContextAccessSupport;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Statement plumbing shared by the {@link BulkLoadStrategy bulk load strategies}: existing per-row
+ * {@link StatementBinder binders} are replayed at a parameter offset or into a value capture, so
+ * callers keep their {@link org.jmouse.jdbc.statement.BinderFactory} whichever strategy runs.
+ */
+final class BulkStatements {
+
+    private BulkStatements() {
+    }
+
+    /**
+     * @return connection bound to the current transaction, {@code null} outside of one
+     */
+    static Connection transactionConnection() {
+        if (!TransactionContextAccessSupport.isRegistered()) {
+            return null;
+        }
+
+        JdbcResourceHolder holder = TransactionContextAccessSupport.getResource(JdbcResourceHolder.class);
+
+        return holder == null ? null : holder.getConnection();
+    }
+
+    /**
+     * Binder binding {@code count} rows starting at {@code from} into one multi-row statement,
+     * row {@code i} using parameters {@code i * parameters + 1 ...}.
+     */
+    static StatementBinder rows(List<StatementBinder> binders, int from, int count, int parameters) {
+        return statement -> {
+            Offset            offset  = new Offset(statement);
+            PreparedStatement shifted = proxy(offset);
+
+            for (int row = 0; row < count; row++) {
+                offset.value = row * parameters;
+                binders.get(from + row).bind(shifted);
+            }
+        };
+    }
+
+    /**
+     * Runs the binder against a statement stand-in and returns the values it sets.
+     */
+    static Object[] capture(StatementBinder binder, int parameters) throws SQLException {
+        Capture capture = new Capture(new Object[parameters]);
+        binder.bind(proxy(capture));
+        return capture.values;
+    }
+
+    private static PreparedStatement proxy(InvocationHandler handler) {
+        return (PreparedStatement) Proxy.newProxyInstance(
+                BulkStatements.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, handler);
+    }
+
+    private static boolean isParameterSetter(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        return method.getName().startsWith("set") && types.length >= 2 && types[0] == int.class;
+    }
+
+    /**
+     * Shifts parameter indexes of setter calls by the current offset.
+     */
+    private static final class Offset implements InvocationHandler {
+
+        private final PreparedStatement target;
+        private       int               value;
+
+        Offset(PreparedStatement target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+            if (isParameterSetter(method)) {
+                arguments[0] = (Integer) arguments[0] + value;
+            }
+
+            try {
+                return method.invoke(target, arguments);
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        }
+    }
+
+    /**
+     * Records parameter values instead of binding them.
+     */
+    private record Capture(Object[] values) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == arguments[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "CAPTURE";
+                };
+            }
+
+            if (!isParameterSetter(method)) {
+                throw new SQLFeatureNotSupportedException(
+                        "Statement#%s is not available while capturing row values".formatted(method.getName()));
+            }
+
+            int index = (Integer) arguments[0];
+
+            if (index < 1 || index > values.length) {
+                throw new SQLException("Parameter index %d out of range 1..%d".formatted(index, values.length));
+            }
+
+            values[index - 1] = method.getName().equals("setNull") ? null : value(arguments);
+
+            return null;
+        }
+
+        /**
+         * Resolves {@code setTimestamp/setDate/setTime(index, value, calendar)} to the local value the
+         * driver would send, i.e. the instant seen in the time zone of the calendar.
+         */
+        private static Object value(Object[] arguments) {
+            if (arguments.length == 3 && arguments[2] instanceof Calendar calendar) {
+                ZoneId zone = calendar.getTimeZone().toZoneId();
+
+                return switch (arguments[1]) {
+                    case Timestamp timestamp -> timestamp.toInstant().atZone(zone).toLocalDateTime();
+                    case Date date -> Instant.ofEpochMilli(date.getTime()).atZone(zone).toLocalDate();
+                    case Time time -> Instant.ofEpochMilli(time.getTime()).atZone(zone).toLocalTime();
+                    case null, default -> arguments[1];
+                };
+            }
+
+            return arguments[1];
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.jmouse.jdbc.bulk;
+
+import org.jmouse.core.Verify;
+import org.jmouse.jdbc.JdbcTemplate;
+import org.jmouse.jdbc.statement.StatementBinder;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link BulkLoadStrategy} streaming a chunk through a {@link BulkCopyManager} instead of executing
+ * statements.
+ * <p>
+ * The SQL must be a single-row {@code INSERT INTO table (columns) VALUES (?, ...)} whose row group
+ * holds placeholders only and which has no clause after the row group; the values each row binder sets
+ * are captured and encoded as a CSV record (see {@link BulkCopyManager} for the format).
+ * <p>
+ * Text, numbers, booleans, bytes, UUIDs, enums (by name) and {@code java.sql}, {@code java.util} and
+ * {@code java.time} temporal values are supported; any other value fails the chunk rather than being
+ * copied as its {@code toString()}. The rows are loaded on the connection of the chunk transaction, so
+ * the {@link org.jmouse.jdbc.intercept.JdbcChainContributor interceptor chain} is bypassed for this path.
+ */
+public final class CopyBulkLoadStrategy implements BulkLoadStrategy {
+
+    private static final HexFormat HEX         = HexFormat.of();
+    private static final String    STREAMED    = "streamed values cannot be copied, bind them as text or bytes";
+    private static final String    UNSUPPORTED = "bind it as text or as a supported number, date or time value";
+
+    private final BulkCopyManager manager;
+
+    public CopyBulkLoadStrategy(BulkCopyManager manager) {
+        this.manager = Verify.nonNull(manager, "manager");
+    }
+
+    @Override
+    public long load(JdbcTemplate template, String sql, List<StatementBinder> binders) throws SQLException {
+        InsertStatement insert = InsertStatement.parse(sql);
+
+        // COPY has no equivalent of clauses such as ON CONFLICT, so they must not be dropped silently
+        if (insert == null || !insert.placeholdersOnly() || !insert.suffix().isBlank()) {
+            throw new SQLException(
+                    "COPY load requires 'INSERT INTO table (columns) VALUES (?, ...)' without further clauses: " + sql);
+        }
+
+        Connection connection = BulkStatements.transactionConnection();
+
+        if (connection == null) {
+            throw new SQLException("COPY load requires a transaction-bound connection");
+        }
+
+        return manager.copyIn(connection, new BulkCopyTarget(insert.table(), insert.columns()),
+                              encode(binders, insert.parameters()));
+    }
+
+    private static Reader encode(List<StatementBinder> binders, int parameters) throws SQLException {
+        StringBuilder csv = new StringBuilder(binders.size() * parameters * 8);
+
+        for (StatementBinder binder : binders) {
+            Object[] values = BulkStatements.capture(binder, parameters);
+
+            for (int index = 0; index < values.length; index++) {
+                if (index > 0) {
+                    csv.append(',');
+                }
+                append(csv, values[index]);
+            }
+
+            csv.append('\n');
+        }
+
+        return new StringReader(csv.toString());
+    }
+
+    private static void append(StringBuilder csv, Object value) throws SQLException {
+        switch (value) {
+            case null -> {
+            }
+            case BigDecimal decimal -> csv.append(decimal.toPlainString());
+            case Number number -> csv.append(number);
+            case Boolean bool -> csv.append(bool);
+            case byte[] bytes -> csv.append("\\x").append(HEX.formatHex(bytes));
+            case CharSequence text -> quote(csv, text);
+            case Character character -> quote(csv, character.toString());
+            case UUID uuid -> csv.append(uuid);
+            case Enum<?> constant -> quote(csv, constant.name());
+            // JDBC escape formats, rendered in the default time zone like the driver setters do
+            case java.sql.Timestamp timestamp -> csv.append(timestamp);
+            case java.sql.Date date -> csv.append(date);
+            case java.sql.Time time -> csv.append(time);
+            case java.util.Date date -> csv.append(new java.sql.Timestamp(date.getTime()));
+            case Calendar calendar -> csv.append(
+                    calendar.toInstant().atZone(calendar.getTimeZone().toZoneId()).toOffsetDateTime());
+            case ZonedDateTime dateTime -> csv.append(dateTime.toOffsetDateTime());
+            case Instant instant -> csv.append(instant);
+            case LocalDate date -> csv.append(date);
+            case LocalTime time -> csv.append(time);
+            case LocalDateTime dateTime -> csv.append(dateTime);
+            case OffsetDateTime dateTime -> csv.append(dateTime);
+            case OffsetTime time -> csv.append(time);
+            case Reader ignored -> throw unsupported(value, STREAMED);
+            case InputStream ignored -> throw unsupported(value, STREAMED);
+            case Blob ignored -> throw unsupported(value, STREAMED);
+            case Clob ignored -> throw unsupported(value, STREAMED);
+            default -> throw unsupported(value, UNSUPPORTED);
+        }
+    }
+
+    private static void quote(StringBuilder csv, CharSequence text) {
+        csv.append('"');
+        for (int index = 0; index < text.length(); index++) {
+            char character = text.charAt(index);
+            if (character == '"') {
+                csv.append('"');
+            }
+            csv.append(character);
+        }
+        csv.append('"');
+    }
+
+    private static SQLException unsupported(Object value, String hint) {
+        return new SQLException("Values of type %s cannot be copied: %s"
+                                        .formatted(value.getClass().getName(), hint));
+    }
+
+    @Override
+    public String toString() {
+        return "COPY[%s]".formatted(manager.getClass().getSimpleName());
+    }
+
+}
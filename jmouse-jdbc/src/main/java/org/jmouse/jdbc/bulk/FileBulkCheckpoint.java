@@ -0,0 +1,88 @@
+package org.jmouse.jdbc.bulk;
+
+import org.jmouse.core.Verify;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link BulkCheckpoint} appending committed ranges to a small text file, one {@code offset size} line each.
+ * <p>
+ * Lines are appended with synchronous writes, so a range is durable once the chunk is reported. A crash
+ * can only tear the last line, which is ignored on load (that chunk is written again on resume).
+ *
+ * <pre>{@code
+ * updater.execute(sql, rows, binderFactory, policy, listener, new FileBulkCheckpoint(Path.of("import.chunks")));
+ * }</pre>
+ */
+public final class FileBulkCheckpoint implements BulkCheckpoint {
+
+    private final Path file;
+
+    public FileBulkCheckpoint(Path file) {
+        this.file = Verify.nonNull(file, "file").toAbsolutePath();
+    }
+
+    @Override
+    public List<Range> load() {
+        String content;
+
+        try {
+            if (Files.notExists(file)) {
+                return List.of();
+            }
+            content = Files.readString(file, StandardCharsets.US_ASCII);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to read checkpoint '%s'".formatted(file), exception);
+        }
+
+        List<Range> ranges   = new ArrayList<>();
+        String[]    lines    = content.split("\n", -1);
+        // without a trailing newline the last line is a torn write
+        int         complete = lines.length - 1;
+
+        for (int index = 0; index < complete; index++) {
+            String[] values = lines[index].trim().split(" ");
+
+            try {
+                ranges.add(new Range(Long.parseLong(values[0]), Long.parseLong(values[1])));
+            } catch (RuntimeException exception) {
+                throw new BulkExecutionException(
+                        "Corrupted checkpoint '%s' at line %d".formatted(file, index + 1), exception);
+            }
+        }
+
+        return ranges;
+    }
+
+    @Override
+    public void committed(Range range) {
+        try {
+            Files.writeString(file, "%d %d\n".formatted(range.offset(), range.size()), StandardCharsets.US_ASCII,
+                              StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to write checkpoint '%s'".formatted(file), exception);
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to delete checkpoint '%s'".formatted(file), exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FILE-CHECKPOINT[%s]".formatted(file);
+    }
+
+}
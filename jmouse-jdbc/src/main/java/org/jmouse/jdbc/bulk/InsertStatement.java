@@ -0,0 +1,200 @@
+package org.jmouse.jdbc.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Single-row {@code INSERT INTO table [(columns)] VALUES (...) [suffix]} split into the parts
+ * needed to repeat its row group or to address its target table directly.
+ *
+ * @param prefix           text up to and including {@code VALUES }
+ * @param group            the row group including parentheses, e.g. {@code (?, ?, now())}
+ * @param suffix           text after the row group (e.g. {@code ON CONFLICT DO NOTHING})
+ * @param table            target table as written
+ * @param columns          column list, empty when omitted
+ * @param parameters       number of {@code ?} placeholders in the row group
+ * @param placeholdersOnly whether the row group consists of placeholders only
+ */
+record InsertStatement(
+        String prefix,
+        String group,
+        String suffix,
+        String table,
+        List<String> columns,
+        int parameters,
+        boolean placeholdersOnly
+) {
+
+    /**
+     * @return parsed statement, or {@code null} if the SQL is not a single-row {@code INSERT ... VALUES}
+     *         or binds parameters outside its row group
+     */
+    static InsertStatement parse(String sql) {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        int    start = skipWhitespace(lower, 0);
+
+        if (!lower.startsWith("insert", start)) {
+            return null;
+        }
+
+        int values = findWord(lower, "values", start);
+
+        if (values < 0) {
+            return null;
+        }
+
+        int open = skipWhitespace(sql, values + "values".length());
+
+        if (open >= sql.length() || sql.charAt(open) != '(') {
+            return null;
+        }
+
+        int close = matching(sql, open);
+
+        if (close < 0) {
+            return null;
+        }
+
+        String suffix = sql.substring(close + 1);
+
+        // already a multi-row statement
+        if (suffix.stripLeading().startsWith(",")) {
+            return null;
+        }
+
+        // parameters outside the row group (e.g. ON CONFLICT ... DO UPDATE SET x = ?) would be shifted
+        // into the slots of the next row once the group is repeated
+        if (countPlaceholders(suffix) > 0 || countPlaceholders(sql.substring(0, open)) > 0) {
+            return null;
+        }
+
+        String group      = sql.substring(open, close + 1);
+        int    parameters = countPlaceholders(group);
+
+        if (parameters == 0) {
+            return null;
+        }
+
+        String       target  = sql.substring(start, values);
+        int          into    = findWord(target.toLowerCase(Locale.ROOT), "into", 0);
+        String       head    = (into < 0 ? target.substring("insert".length()) : target.substring(into + 4)).strip();
+        int          paren   = head.indexOf('(');
+        String       table   = (paren < 0 ? head : head.substring(0, paren)).strip();
+        List<String> columns = new ArrayList<>();
+
+        if (paren >= 0 && head.endsWith(")")) {
+            for (String column : head.substring(paren + 1, head.length() - 1).split(",")) {
+                columns.add(column.strip());
+            }
+        }
+
+        boolean placeholdersOnly = group.substring(1, group.length() - 1)
+                .replaceAll("\\s+", "").matches("\\?(,\\?)*");
+
+        return new InsertStatement(sql.substring(0, open), group, suffix, table, List.copyOf(columns),
+                                   parameters, placeholdersOnly);
+    }
+
+    /**
+     * @return the statement with its row group repeated {@code rows} times
+     */
+    String expand(int rows) {
+        StringBuilder builder = new StringBuilder(prefix.length() + (group.length() + 2) * rows + suffix.length());
+
+        builder.append(prefix);
+
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) {
+                builder.append(", ");
+            }
+            builder.append(group);
+        }
+
+        return builder.append(suffix).toString();
+    }
+
+    private static int skipWhitespace(String sql, int index) {
+        while (index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Finds a keyword outside of quotes and parentheses.
+     */
+    private static int findWord(String sql, String word, int from) {
+        int depth = 0;
+
+        for (int index = from; index < sql.length(); index++) {
+            char character = sql.charAt(index);
+
+            if (character == '\'' || character == '"' || character == '`') {
+                index = skipQuoted(sql, index);
+            } else if (character == '(') {
+                depth++;
+            } else if (character == ')') {
+                depth--;
+            } else if (depth == 0 && sql.startsWith(word, index)
+                    && (index == 0 || !Character.isLetterOrDigit(sql.charAt(index - 1)))
+                    && (index + word.length() >= sql.length()
+                        || !Character.isLetterOrDigit(sql.charAt(index + word.length())))) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int matching(String sql, int open) {
+        int depth = 0;
+
+        for (int index = open; index < sql.length(); index++) {
+            char character = sql.charAt(index);
+
+            if (character == '\'' || character == '"' || character == '`') {
+                index = skipQuoted(sql, index);
+            } else if (character == '(') {
+                depth++;
+            } else if (character == ')' && --depth == 0) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int countPlaceholders(String sql) {
+        int count = 0;
+
+        for (int index = 0; index < sql.length(); index++) {
+            char character = sql.charAt(index);
+
+            if (character == '\'' || character == '"' || character == '`') {
+                index = skipQuoted(sql, index);
+            } else if (character == '?') {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private static int skipQuoted(String sql, int start) {
+        char quote = sql.charAt(start);
+
+        for (int index = start + 1; index < sql.length(); index++) {
+            if (sql.charAt(index) == quote) {
+                if (index + 1 < sql.length() && sql.charAt(index + 1) == quote) {
+                    index++;
+                    continue;
+                }
+                return index;
+            }
+        }
+
+        return sql.length();
+    }
+
+}
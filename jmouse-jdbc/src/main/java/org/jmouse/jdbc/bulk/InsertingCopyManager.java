@@ -0,0 +1,170 @@
+package org.jmouse.jdbc.bulk;
+
+import org.jmouse.core.Verify;
+import org.jmouse.jdbc.JdbcSupport;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Portable stand-in for a vendor {@link BulkCopyManager}: parses the CSV stream and inserts the
+ * rows with batched single-row {@code INSERT}s on the given connection.
+ * <p>
+ * Intended for tests and databases without a bulk path; it exercises the same CSV encoding as
+ * {@link PostgresCopyManager}. Values are bound as strings (or {@code NULL}), leaving the
+ * conversion to column types to the database, like {@code COPY} does. The target must name
+ * its columns.
+ */
+public final class InsertingCopyManager implements BulkCopyManager {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final int batchSize;
+
+    public InsertingCopyManager() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    public InsertingCopyManager(int batchSize) {
+        this.batchSize = Verify.positive(batchSize, "batchSize");
+    }
+
+    @Override
+    public long copyIn(Connection connection, BulkCopyTarget target, Reader csv) throws SQLException {
+        int               columns   = target.columns().size();
+        PreparedStatement statement = connection.prepareStatement(target.insertSql());
+        CsvReader         reader    = new CsvReader(csv);
+        long              rows      = 0;
+        int               pending   = 0;
+
+        try {
+            List<String> record;
+
+            while ((record = reader.next()) != null) {
+                if (record.size() != columns) {
+                    throw new SQLException("CSV record %d has %d fields, expected %d"
+                                                   .formatted(rows + pending + 1, record.size(), columns));
+                }
+
+                for (int index = 0; index < columns; index++) {
+                    statement.setObject(index + 1, record.get(index));
+                }
+
+                statement.addBatch();
+
+                if (++pending == batchSize) {
+                    rows += executed(statement.executeBatch());
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                rows += executed(statement.executeBatch());
+            }
+        } catch (IOException exception) {
+            throw new SQLException("Reading CSV rows failed", exception);
+        } finally {
+            JdbcSupport.closeQuietly(statement);
+        }
+
+        return rows;
+    }
+
+    private static long executed(int[] counts) {
+        long rows = 0;
+
+        for (int count : counts) {
+            rows += count < 0 ? 1 : count;
+        }
+
+        return rows;
+    }
+
+    /**
+     * Minimal CSV reader honouring quotes, {@code ""} escapes and the NULL/empty distinction.
+     */
+    private static final class CsvReader {
+
+        private final Reader reader;
+        private       int    lookahead = -2;
+
+        CsvReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        List<String> next() throws IOException {
+            if (peek() == -1) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+
+            while (true) {
+                fields.add(field());
+
+                int character = read();
+
+                if (character == ',') {
+                    continue;
+                }
+                if (character == '\r' && peek() == '\n') {
+                    read();
+                }
+                return fields;
+            }
+        }
+
+        /**
+         * Reads a field, leaving its terminator ({@code ,}, line break or end) unread.
+         */
+        private String field() throws IOException {
+            if (peek() != '"') {
+                StringBuilder value = new StringBuilder();
+
+                while (peek() != -1 && peek() != ',' && peek() != '\n' && peek() != '\r') {
+                    value.append((char) read());
+                }
+
+                return value.isEmpty() ? null : value.toString();
+            }
+
+            read();
+
+            StringBuilder value = new StringBuilder();
+
+            while (true) {
+                int character = read();
+
+                if (character == -1) {
+                    throw new IOException("Unterminated quoted CSV field");
+                }
+                if (character == '"') {
+                    if (peek() != '"') {
+                        return value.toString();
+                    }
+                    read();
+                }
+                value.append((char) character);
+            }
+        }
+
+        private int peek() throws IOException {
+            if (lookahead == -2) {
+                lookahead = reader.read();
+            }
+            return lookahead;
+        }
+
+        private int read() throws IOException {
+            int character = peek();
+            lookahead = -2;
+            return character;
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+package org.jmouse.jdbc.bulk;
+
+import org.jmouse.core.Verify;
+import org.jmouse.jdbc.JdbcTemplate;
+import org.jmouse.jdbc.statement.StatementBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@link BulkLoadStrategy} rewriting a single-row {@code INSERT ... VALUES (?, ?)} into statements
+ * carrying many rows each.
+ * <p>
+ * Rows per statement are bounded by {@code maxRows} and by the bind-parameter limit of the database
+ * ({@code maxParameters / parametersPerRow}). Full statements are sent as one JDBC batch, so a
+ * chunk costs a single round trip plus one for the remainder. Because the row count of full
+ * statements never changes, their SQL is stable and benefits from the statement cache.
+ * <p>
+ * When no limit is given it is derived for every chunk from the product name of its transaction
+ * connection (PostgreSQL and Oracle 32767, MySQL/MariaDB 65535, SQL Server 2000), so one instance can
+ * serve updaters on different databases. Other databases, and chunks without a transaction connection,
+ * use {@value #FALLBACK_PARAMETERS}, the lowest common limit (that of SQLite).
+ * <p>
+ * SQL that is not a single-row {@code INSERT ... VALUES}, or that binds parameters outside its row group
+ * (e.g. {@code ON CONFLICT ... DO UPDATE SET x = ?}), is executed as a regular
+ * {@link BulkLoadStrategy#BATCH batch}.
+ */
+public final class MultiRowInsertStrategy implements BulkLoadStrategy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiRowInsertStrategy.class);
+
+    public static final int DEFAULT_MAX_ROWS    = 1_000;
+    public static final int FALLBACK_PARAMETERS = 999;
+
+    private final    int    maxRows;
+    private final    int    maxParameters;
+    private volatile Parsed parsed;
+
+    public MultiRowInsertStrategy() {
+        this(0, DEFAULT_MAX_ROWS);
+    }
+
+    /**
+     * @param maxParameters bind-parameter limit of the driver, {@code 0} to derive it from the database
+     * @param maxRows       maximal rows per statement
+     */
+    public MultiRowInsertStrategy(int maxParameters, int maxRows) {
+        Verify.state(maxParameters >= 0, "maxParameters must be >= 0");
+        this.maxParameters = maxParameters;
+        this.maxRows = Verify.positive(maxRows, "maxRows");
+    }
+
+    @Override
+    public long load(JdbcTemplate template, String sql, List<StatementBinder> binders) throws SQLException {
+        InsertStatement insert = parse(sql);
+
+        if (insert == null) {
+            LOGGER.debug("Not a single-row INSERT ... VALUES, falling back to batch: {}", sql);
+            return BATCH.load(template, sql, binders);
+        }
+
+        int  perRow       = insert.parameters();
+        int  perStatement = Math.max(1, Math.min(maxRows, parameterLimit() / perRow));
+        int  size         = binders.size();
+        int  full         = size / perStatement;
+        int  remainder    = size % perStatement;
+        long affected     = 0;
+
+        if (full > 0) {
+            List<StatementBinder> statements = new ArrayList<>(full);
+
+            for (int index = 0; index < full; index++) {
+                statements.add(BulkStatements.rows(binders, index * perStatement, perStatement, perRow));
+            }
+
+            for (int count : template.batchUpdate(insert.expand(perStatement), statements)) {
+                // drivers may answer SUCCESS_NO_INFO for batched statements
+                affected += count < 0 ? perStatement : count;
+            }
+        }
+
+        if (remainder > 0) {
+            affected += template.update(insert.expand(remainder),
+                                        BulkStatements.rows(binders, full * perStatement, remainder, perRow));
+        }
+
+        return affected;
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    private InsertStatement parse(String sql) {
+        Parsed last = parsed;
+
+        if (last == null || !last.sql().equals(sql)) {
+            last = new Parsed(sql, InsertStatement.parse(sql));
+            parsed = last;
+        }
+
+        return last.insert();
+    }
+
+    private int parameterLimit() {
+        if (maxParameters > 0) {
+            return maxParameters;
+        }
+
+        Connection connection = BulkStatements.transactionConnection();
+
+        return connection != null ? resolveLimit(connection) : FALLBACK_PARAMETERS;
+    }
+
+    private static int resolveLimit(Connection connection) {
+        try {
+            String product = connection.getMetaData().getDatabaseProductName();
+
+            if (product != null) {
+                product = product.toLowerCase(Locale.ROOT);
+
+                if (product.contains("postgresql") || product.contains("oracle")) {
+                    return 32_767;
+                }
+                if (product.contains("mysql") || product.contains("mariadb")) {
+                    return 65_535;
+                }
+                if (product.contains("microsoft") || product.contains("sql server")) {
+                    return 2_000;
+                }
+            }
+        } catch (SQLException exception) {
+            LOGGER.debug("Database product is unknown, using {} parameters: {}",
+                         FALLBACK_PARAMETERS, exception.getMessage());
+        }
+
+        return FALLBACK_PARAMETERS;
+    }
+
+    private record Parsed(String sql, InsertStatement insert) {
+    }
+
+    @Override
+    public String toString() {
+        return "MULTI-ROW-INSERT[maxRows=%d, maxParameters=%s]".formatted(
+                maxRows, maxParameters > 0 ? maxParameters : "auto");
+    }
+
+}
@@ -1,6 +1,5 @@
 package org.jmouse.jdbc.bulk;
 
-import org.jmouse.core.Chunker;
 import org.jmouse.core.Verify;
 import org.jmouse.jdbc.JdbcTemplate;
 import org.jmouse.jdbc.statement.BinderFactory;
@@ -9,15 +8,32 @@ import org.jmouse.transaction.TransactionCallback;
 import org.jmouse.transaction.TransactionDefinition;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.*;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+/**
+ * Executes a batch statement over many items in chunks, each chunk in its own transaction,
+ * writing up to {@link BulkExecutionPolicy#parallelism()} chunks concurrently.
+ * <p>
+ * Items are pulled from the source lazily: chunks are filled ahead of the running ones, but at most
+ * {@link BulkExecutionPolicy#maxInFlight() maxInFlight} chunks are held in memory regardless of the source size.
+ * Progress is reported per chunk to a {@link BulkProgressListener}, and a {@link BulkCheckpoint} records every
+ * committed chunk so that an interrupted load resumes with only the missing ones. Chunks are written with the
+ * {@link BulkExecutionPolicy#strategy() strategy} of the policy, e.g. multi-row {@code INSERT}s or {@code COPY}.
+ *
+ * <pre>{@code
+ * try (Stream<Row> rows = reader.lines().map(Row::parse)) {
+ *     updater.execute(INSERT_SQL, rows, binderFactory, policy,
+ *                     progress -> log.info("chunk {} done", progress.chunk()),
+ *                     new FileBulkCheckpoint(Path.of("nightly.chunks")));
+ * }
+ * }</pre>
+ */
 public final class ParallelBatchUpdater<T> {
 
-    private final JdbcTemplate        template;
-    private final TransactionCallback transactionCallback;
+    private final JdbcTemplate          template;
+    private final TransactionCallback   transactionCallback;
     private final ExecutorService       executor;
     private final TransactionDefinition definition;
 
@@ -35,114 +51,131 @@ public final class ParallelBatchUpdater<T> {
 
     public BulkBatchResult execute(
             String sql, List<T> items, BinderFactory<T> binderFactory, BulkExecutionPolicy policy
+    ) throws SQLException {
+        Verify.nonNull(items, "items");
+        return execute(sql, items.iterator(), binderFactory, policy, BulkProgressListener.NOOP, BulkCheckpoint.NOOP);
+    }
+
+    public BulkBatchResult execute(
+            String sql, Stream<T> items, BinderFactory<T> binderFactory, BulkExecutionPolicy policy,
+            BulkProgressListener listener, BulkCheckpoint checkpoint
+    ) throws SQLException {
+        Verify.nonNull(items, "items");
+        return execute(sql, items.iterator(), binderFactory, policy, listener, checkpoint);
+    }
+
+    /**
+     * Streams {@code items} into chunked batches.
+     * <p>
+     * Source ranges recorded by {@code checkpoint} in an earlier run are skipped, and a chunk never spans
+     * a skipped range. Every successful chunk is recorded in the checkpoint; once every chunk of the run
+     * has succeeded the checkpoint is cleared. With {@link BulkExecutionPolicy#failFast()} no new chunks are
+     * started after a failure, chunks already running are awaited and the failure is rethrown.
+     *
+     * @return the result of this run (skipped items are not counted)
+     */
+    public BulkBatchResult execute(
+            String sql, Iterator<T> items, BinderFactory<T> binderFactory, BulkExecutionPolicy policy,
+            BulkProgressListener listener, BulkCheckpoint checkpoint
     ) throws SQLException {
         Verify.nonNull(sql, "sql");
         Verify.nonNull(items, "items");
         Verify.nonNull(binderFactory, "binderFactory");
         Verify.nonNull(policy, "policy");
+        Verify.nonNull(listener, "listener");
+        Verify.nonNull(checkpoint, "checkpoint");
 
-        List<List<T>> chunks = Chunker.split(items, policy.chunkSize(), List.class, List.class);
+        Source<T>                      source            = new Source<>(items, checkpoint.load());
+        CompletionService<ChunkResult> completionService = new ExecutorCompletionService<>(executor);
+        Deque<Chunk<T>>                ready             = new ArrayDeque<>();
+        List<Throwable>                errors            = new ArrayList<>();
 
-        if (chunks.isEmpty()) {
-            return BulkBatchResult.empty();
-        }
+        int       chunks    = 0;
+        int       running   = 0;
+        long      totalRows = 0;
+        long      committed = 0;
+        Throwable failure   = null;
 
-        CompletionService<ChunkResult> completionService = new ExecutorCompletionService<>(executor);
+        while (true) {
+            // read ahead while fewer than maxInFlight chunks are held, write up to parallelism of them
+            while (failure == null && ready.size() + running < policy.maxInFlight() && source.hasNext()) {
+                long    offset = source.position();
+                List<T> chunk  = source.next(policy.chunkSize());
 
-        int  submitted = 0;
-        int  completed = 0;
-        long totalRows = 0;
+                ready.add(new Chunk<>(chunks++, offset, chunk));
+            }
 
-        List<Throwable> errors = new ArrayList<>();
+            while (failure == null && running < policy.parallelism() && !ready.isEmpty()) {
+                Chunk<T> chunk = ready.poll();
 
-        // submit with backpressure (maxInFlight)
-        while (submitted < chunks.size()) {
-            while (submitted < chunks.size() && (submitted - completed) < policy.maxInFlight()) {
-                List<T> chunk      = chunks.get(submitted);
-                int     chunkIndex = submitted;
+                completionService.submit(() -> runChunk(sql, chunk, binderFactory, policy.strategy()));
+                running++;
+            }
 
-                completionService.submit(() -> runChunk(sql, chunk, chunkIndex, binderFactory));
-                submitted++;
+            if (running == 0) {
+                break;
             }
 
+            ChunkResult chunkResult;
+
             try {
-                Future<ChunkResult> future      = completionService.take();
-                ChunkResult         chunkResult = future.get();
-
-                completed++;
-                totalRows += chunkResult.affectedRows();
-
-                if (chunkResult.error() != null) {
-                    errors.add(chunkResult.error());
-                    if (policy.failFast()) {
-                        cancelRemaining(completionService, submitted - completed);
-                        throw toSqlException("Bulk batch failed (fail-fast).", chunkResult.error());
-                    }
-                }
+                chunkResult = completionService.take().get();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                cancelRemaining(completionService, submitted - completed);
                 throw new SQLException("Bulk batch interrupted.", e);
             } catch (ExecutionException e) {
-                Throwable cause = (e.getCause() != null) ? e.getCause() : e;
-                errors.add(cause);
+                // runChunk never throws, this only happens if the task could not run at all
+                throw toSqlException("Bulk batch failed.", e.getCause() != null ? e.getCause() : e);
+            }
+
+            running--;
+            totalRows += chunkResult.affectedRows();
 
-                if (policy.failFast()) {
-                    cancelRemaining(completionService, submitted - completed);
-                    throw toSqlException("Bulk batch failed (fail-fast).", cause);
+            if (chunkResult.error() == null) {
+                checkpoint.committed(new BulkCheckpoint.Range(chunkResult.offset(), chunkResult.size()));
+                committed += chunkResult.size();
+            } else {
+                errors.add(chunkResult.error());
+                if (policy.failFast() && failure == null) {
+                    failure = chunkResult.error();
                 }
             }
-        }
 
-        // drain remaining completions
-        while (completed < submitted) {
-            try {
-                Future<ChunkResult> future      = completionService.take();
-                ChunkResult         chunkResult = future.get();
+            listener.onChunk(new BulkChunkProgress(
+                    chunkResult.chunkIndex(), chunkResult.offset(), chunkResult.size(),
+                    chunkResult.affectedRows(), source.skipped() + committed, chunkResult.error()));
+        }
 
-                completed++;
-                totalRows += chunkResult.affectedRows();
+        if (failure != null) {
+            throw toSqlException("Bulk batch failed (fail-fast).", failure);
+        }
 
-                if (chunkResult.error() != null) {
-                    errors.add(chunkResult.error());
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                cancelRemaining(completionService, submitted - completed);
-                throw new SQLException("Bulk batch interrupted.", e);
-            } catch (ExecutionException e) {
-                Throwable cause = (e.getCause() != null) ? e.getCause() : e;
-                errors.add(cause);
-            }
+        if (errors.isEmpty()) {
+            checkpoint.clear();
         }
 
-        return new BulkBatchResult(chunks.size(), totalRows, List.copyOf(errors));
+        return new BulkBatchResult(chunks - ready.size(), totalRows, List.copyOf(errors));
     }
 
     private ChunkResult runChunk(
-            String sql, List<T> chunk, int chunkIndex, BinderFactory<T> binderFactory
+            String sql, Chunk<T> chunk, BinderFactory<T> binderFactory, BulkLoadStrategy strategy
     ) {
+        List<T> items = chunk.items();
+
         try {
             long affected = transactionCallback.inTransaction(definition, () -> {
-                List<StatementBinder> binders = new ArrayList<>(chunk.size());
-                for (T item : chunk) {
+                List<StatementBinder> binders = new ArrayList<>(items.size());
+                for (T item : items) {
                     binders.add(binderFactory.binderFor(item));
                 }
-                return IntStream.of(template.batchUpdate(sql, binders)).reduce(0, Integer::sum);
+                return strategy.load(template, sql, binders);
             });
-            return ChunkResult.ok(chunkIndex, affected);
+            return ChunkResult.ok(chunk.index(), chunk.offset(), items.size(), affected);
         } catch (Throwable e) {
-            return ChunkResult.fail(chunkIndex, e);
+            return ChunkResult.fail(chunk.index(), chunk.offset(), items.size(), e);
         }
     }
 
-    private void cancelRemaining(CompletionService<ChunkResult> completionService, int inFlight) {
-        // We cannot directly cancel tasks via CompletionService API.
-        // In practice you’d keep Future references. For Stage 7, we keep it simple:
-        // rely on fail-fast throwing; tasks still finish but results are ignored.
-        // If you want hard cancellation, we can evolve this with stored Futures.
-    }
-
     private SQLException toSqlException(String message, Throwable cause) {
         if (cause instanceof SQLException sql) {
             return sql;
@@ -150,12 +183,78 @@ public final class ParallelBatchUpdater<T> {
         return new SQLException(message, cause);
     }
 
-    private record ChunkResult(int chunkIndex, long affectedRows, Throwable error) {
-        static ChunkResult ok(int chunkIndex, long affected) {
-            return new ChunkResult(chunkIndex, affected, null);
+    private record ChunkResult(int chunkIndex, long offset, int size, long affectedRows, Throwable error) {
+        static ChunkResult ok(int chunkIndex, long offset, int size, long affected) {
+            return new ChunkResult(chunkIndex, offset, size, affected, null);
+        }
+        static ChunkResult fail(int chunkIndex, long offset, int size, Throwable error) {
+            return new ChunkResult(chunkIndex, offset, size, 0, error);
+        }
+    }
+
+    private record Chunk<T>(int index, long offset, List<T> items) {
+    }
+
+    /**
+     * Source iterator that skips the ranges committed by earlier runs and keeps track of the source position.
+     */
+    private static final class Source<T> {
+
+        private final Iterator<T>                   items;
+        private final Deque<BulkCheckpoint.Range>   committed;
+        private       long                          position;
+        private       long                          skipped;
+
+        Source(Iterator<T> items, List<BulkCheckpoint.Range> committed) {
+            List<BulkCheckpoint.Range> sorted = new ArrayList<>(committed);
+
+            sorted.sort(Comparator.comparingLong(BulkCheckpoint.Range::offset));
+
+            this.items = items;
+            this.committed = new ArrayDeque<>(sorted);
+        }
+
+        boolean hasNext() {
+            skipCommitted();
+            return items.hasNext();
         }
-        static ChunkResult fail(int chunkIndex, Throwable error) {
-            return new ChunkResult(chunkIndex, 0, error);
+
+        long position() {
+            skipCommitted();
+            return position;
+        }
+
+        long skipped() {
+            return skipped;
+        }
+
+        /**
+         * Fills the next chunk; it ends early where a committed range starts, so chunks stay contiguous.
+         */
+        List<T> next(int chunkSize) {
+            skipCommitted();
+
+            List<T> chunk = new ArrayList<>(chunkSize);
+            long    limit = committed.isEmpty() ? Long.MAX_VALUE : committed.peek().offset();
+
+            while (chunk.size() < chunkSize && position < limit && items.hasNext()) {
+                chunk.add(items.next());
+                position++;
+            }
+
+            return chunk;
+        }
+
+        private void skipCommitted() {
+            while (!committed.isEmpty() && committed.peek().offset() <= position) {
+                long end = committed.poll().end();
+
+                while (position < end && items.hasNext()) {
+                    items.next();
+                    position++;
+                    skipped++;
+                }
+            }
         }
     }
 }
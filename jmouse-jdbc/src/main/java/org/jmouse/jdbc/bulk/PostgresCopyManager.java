@@ -0,0 +1,60 @@
+package org.jmouse.jdbc.bulk;
+
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * {@link BulkCopyManager} running {@code COPY ... FROM STDIN} through {@code org.postgresql.PGConnection}.
+ * <p>
+ * The PostgreSQL driver is accessed reflectively, so it is only required at runtime when this
+ * manager is used.
+ */
+public final class PostgresCopyManager implements BulkCopyManager {
+
+    private static final String CONNECTION_CLASS = "org.postgresql.PGConnection";
+
+    private volatile Methods methods;
+
+    @Override
+    public long copyIn(Connection connection, BulkCopyTarget target, Reader csv) throws SQLException {
+        Methods methods = methods(connection);
+
+        try {
+            Object copyApi = methods.copyApi().invoke(connection.unwrap(methods.connectionType()));
+            return (Long) methods.copyIn().invoke(copyApi, target.copySql(), csv);
+        } catch (InvocationTargetException exception) {
+            if (exception.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException("COPY into '%s' failed".formatted(target.table()), exception.getCause());
+        } catch (IllegalAccessException exception) {
+            throw new SQLException("PostgreSQL COPY API is not accessible", exception);
+        }
+    }
+
+    private Methods methods(Connection connection) throws SQLException {
+        Methods resolved = methods;
+
+        if (resolved == null) {
+            try {
+                Class<?> type    = Class.forName(CONNECTION_CLASS, true, connection.getClass().getClassLoader());
+                Method   copyApi = type.getMethod("getCopyAPI");
+                Method   copyIn  = copyApi.getReturnType().getMethod("copyIn", String.class, Reader.class);
+
+                resolved = new Methods(type, copyApi, copyIn);
+                methods = resolved;
+            } catch (ClassNotFoundException | NoSuchMethodException exception) {
+                throw new SQLException("PostgreSQL driver with COPY support is not available", exception);
+            }
+        }
+
+        return resolved;
+    }
+
+    private record Methods(Class<?> connectionType, Method copyApi, Method copyIn) {
+    }
+
+}
@@ -5,6 +5,7 @@ import org.jmouse.beans.annotation.Bean;
 import org.jmouse.beans.annotation.BeanFactories;
 import org.jmouse.core.Sorter;
 import org.jmouse.jdbc.connection.datasource.*;
+import org.jmouse.jdbc.connection.datasource.pool.PooledDataSourceFactory;
 
 import javax.sql.DataSource;
 import java.util.ArrayList;
@@ -61,6 +62,11 @@ public class JdbcDataSourceConfiguration {
         return new DriverManagerDataSourceFactory();
     }
 
+    @Bean
+    public DataSourceFactory pooledDataSourceFactory() {
+        return new PooledDataSourceFactory();
+    }
+
     @Bean
     public DataSourceResolver dataSourceResolver(
             DataSourceSpecificationRegistry specifications,
@@ -6,6 +6,7 @@ import org.jmouse.beans.annotation.BeanFactories;
 import org.jmouse.core.Priority;
 import org.jmouse.core.Sorter;
 import org.jmouse.core.chain.Chain;
+import org.jmouse.context.BeanIfPropertyMatch;
 import org.jmouse.jdbc.connection.ConnectionProvider;
 import org.jmouse.jdbc.InterceptableJdbcExecutor;
 import org.jmouse.jdbc.SQLExecutor;
@@ -20,9 +21,14 @@ import org.jmouse.jdbc.intercept.guard.SQLGuardPolicy;
 import org.jmouse.jdbc.intercept.guard.SQLSafetyGuardLink;
 import org.jmouse.jdbc.intercept.link.JdbcCallExecutorLink;
 import org.jmouse.jdbc.intercept.link.JdbcExceptionTranslationLink;
+import org.jmouse.jdbc.intercept.profile.SQLProfiler;
+import org.jmouse.jdbc.intercept.profile.SQLProfilingLink;
+import org.jmouse.jdbc.statement.cache.LruStatementCache;
+import org.jmouse.jdbc.statement.cache.StatementCache;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 📦 JDBC executor + interception chain configuration.
@@ -32,12 +38,17 @@ import java.util.List;
  *
  * <p>Pipeline:
  * <pre>
- * SQL call → guard → exception translation → execution
+ * SQL call → guard → profiling → exception translation → execution
  * </pre>
+ *
+ * <p>Profiling is opt-in: set {@value #PROFILING_ENABLED}{@code =true} to register the
+ * {@link SQLProfiler} and its link.</p>
  */
 @BeanFactories
 public class JdbcExecutorConfiguration {
 
+    public static final String PROFILING_ENABLED = "jmouse.jdbc.profiling.enabled";
+
     /**
      * 🔗 Chain builder for JDBC execution pipeline.
      *
@@ -106,18 +117,57 @@ public class JdbcExecutorConfiguration {
         return new SQLSafetyGuardLinkContributor();
     }
 
+    /**
+     * 📈 SQL profiler.
+     *
+     * <p>Aggregates executions per SQL fingerprint and reports N+1 patterns;
+     * query it with {@link SQLProfiler#top(int, SQLProfiler.Ranking)}.
+     * Registered only when {@value #PROFILING_ENABLED} is {@code true}.</p>
+     */
+    @Bean
+    @BeanIfPropertyMatch(name = PROFILING_ENABLED, value = "true")
+    public SQLProfiler sqlProfiler() {
+        return new SQLProfiler();
+    }
+
+    /**
+     * 📈 SQL profiling contributor.
+     *
+     * <p>Feeds every call into the {@link SQLProfiler}.</p>
+     */
+    @Bean
+    @BeanIfPropertyMatch(name = PROFILING_ENABLED, value = "true")
+    public JdbcChainContributor sqlProfilingLinkContributor(SQLProfiler profiler) {
+        return new SQLProfilingLinkContributor(profiler);
+    }
+
+    /**
+     * 🗃️ Prepared statement cache.
+     *
+     * <p>Disabled by default; declare a primary {@link LruStatementCache} bean
+     * to reuse statements per physical connection.</p>
+     */
+    @Bean
+    public StatementCache statementCache() {
+        return StatementCache.NOOP;
+    }
+
     /**
      * 🚀 JDBC executor with interception chain.
      *
      * <p>Wraps {@link SQLExecutor} with a chain built from contributors,
-     * enabling cross-cutting concerns (guarding, translation, etc).</p>
+     * enabling cross-cutting concerns (guarding, translation, etc).
+     * With profiling enabled, connection acquisition is measured for the {@link SQLProfiler}.</p>
      */
     @Bean
     public JdbcExecutor jdbcExecutor(
             ConnectionProvider connectionProvider,
+            StatementCache statementCache,
+            Optional<SQLProfiler> profiler,
             Chain.Builder<JdbcExecutionContext, JdbcCall<?>, Object> builder
     ) {
-        JdbcExecutor executor = new SQLExecutor(connectionProvider);
+        ConnectionProvider provider = profiler.map(bean -> bean.measure(connectionProvider)).orElse(connectionProvider);
+        JdbcExecutor       executor = new SQLExecutor(provider, statementCache);
         Chain<JdbcExecutionContext, JdbcCall<?>, Object> chain = JdbcChainFactory.build(builder);
         return new InterceptableJdbcExecutor(executor, chain);
     }
@@ -155,6 +205,26 @@ public class JdbcExecutorConfiguration {
         }
     }
 
+    /**
+     * 📈 SQL profiling link contributor.
+     *
+     * <p>Placed right after the guard, so failed executions are
+     * counted with the exception translation included.</p>
+     */
+    @Priority(Integer.MAX_VALUE - 1)
+    public static class SQLProfilingLinkContributor implements JdbcChainContributor {
+        private final SQLProfiler profiler;
+
+        public SQLProfilingLinkContributor(SQLProfiler profiler) {
+            this.profiler = profiler;
+        }
+
+        @Override
+        public void contribute(Chain.Builder<JdbcExecutionContext, JdbcCall<?>, Object> builder) {
+            builder.add(new SQLProfilingLink(profiler));
+        }
+    }
+
     /**
      * 🛡️ SQL safety guard link contributor.
      *
@@ -11,6 +11,7 @@ import org.jmouse.jdbc.parameters.compile.SQLPlanCompiler;
 import org.jmouse.jdbc.parameters.lexer.SQLParameterSplitter;
 import org.jmouse.jdbc.parameters.lexer.SQLParameterTokenizer;
 import org.jmouse.jdbc.parameters.named.NamedSqlPreparedExecutionFactory;
+import org.jmouse.jdbc.parameters.named.SQLCompiledCache;
 
 /**
  * 📦 JDBC template & named SQL infrastructure configuration.
@@ -82,6 +83,17 @@ public class JdbcTemplateConfiguration {
         return new SQLParameterProcessor(tokenizer, compiler);
     }
 
+    /**
+     * 🗃️ Compiled SQL cache.
+     *
+     * <p>Bounded, frequency-aware cache of compiled named SQL
+     * (see {@link SQLCompiledCache#getStatistics()} for hit rate).</p>
+     */
+    @Bean
+    public SQLCompiledCache sqlCompiledCache() {
+        return new SQLCompiledCache(SQLCompiledCache.DEFAULT_CAPACITY);
+    }
+
     /**
      * ⚙️ Named SQL → Prepared execution factory.
      *
@@ -91,9 +103,10 @@ public class JdbcTemplateConfiguration {
     @Bean
     public NamedSqlPreparedExecutionFactory namedSqlPreparedExecutionFactory(
             SQLParameterProcessor processor,
-            MissingParameterPolicy missingPolicy
+            MissingParameterPolicy missingPolicy,
+            SQLCompiledCache compiledCache
     ) {
-        return new NamedSqlPreparedExecutionFactory(processor, missingPolicy);
+        return new NamedSqlPreparedExecutionFactory(processor, missingPolicy, compiledCache);
     }
 
     /**
@@ -0,0 +1,68 @@
+package org.jmouse.jdbc.connection;
+
+import org.jmouse.core.context.ContextKey;
+import org.jmouse.core.context.execution.ExecutionContextHolder;
+
+/**
+ * What a caller intends to do with a {@link java.sql.Connection} it asks a {@link ConnectionProvider} for.
+ * <p>
+ * The intent is a routing hint only: providers without replicas ignore it, while
+ * {@link RoutingConnectionProvider} with a {@link org.jmouse.jdbc.connection.routing.ReplicaPool} sends
+ * {@link #READ_ONLY} work to a replica and {@link #READ_WRITE} work to the primary.
+ * <p>
+ * Plain queries run with the {@link #current() current} intent, which is {@link #READ_WRITE} unless the
+ * caller opts in to replica reads, either with a read-only transaction or with a scope:
+ *
+ * <pre>{@code
+ * try (var scope = ConnectionIntent.READ_ONLY.open()) {
+ *     List<User> users = template.query("SELECT * FROM users", mapper);
+ * }
+ * }</pre>
+ *
+ * @author jMouse
+ */
+public enum ConnectionIntent {
+
+    /**
+     * Queries that tolerate replication lag and read-only transactions; may be served by a replica.
+     */
+    READ_ONLY,
+
+    /**
+     * Updates, batches, calls, read-write transactions and, by default, queries; always served by the primary.
+     */
+    READ_WRITE;
+
+    /**
+     * Execution context key holding the intent opened by {@link #open()}.
+     */
+    public static final ContextKey<ConnectionIntent> CONTEXT_KEY =
+            ContextKey.of("jdbc.connection.intent", ConnectionIntent.class);
+
+    /**
+     * @param readOnly read-only flag of a transaction definition
+     * @return matching intent
+     */
+    public static ConnectionIntent of(boolean readOnly) {
+        return readOnly ? READ_ONLY : READ_WRITE;
+    }
+
+    /**
+     * @return intent bound to the current execution context, {@link #READ_WRITE} if none was opened
+     */
+    public static ConnectionIntent current() {
+        ConnectionIntent intent = ExecutionContextHolder.current().get(CONTEXT_KEY);
+        return intent != null ? intent : READ_WRITE;
+    }
+
+    /**
+     * Binds this intent to the current execution context until the returned scope is closed.
+     * The binding travels with {@link ExecutionContextHolder#wrap(Runnable) wrapped} tasks.
+     *
+     * @return scope restoring the previous intent on close
+     */
+    public ExecutionContextHolder.Scope open() {
+        return ExecutionContextHolder.open(ExecutionContextHolder.current().with(CONTEXT_KEY, this));
+    }
+
+}
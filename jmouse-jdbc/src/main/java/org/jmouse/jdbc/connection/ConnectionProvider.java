@@ -51,6 +51,19 @@ public interface ConnectionProvider {
      */
     Connection getConnection() throws SQLException;
 
+    /**
+     * Obtains a JDBC {@link Connection} for the given {@link ConnectionIntent}.
+     * <p>
+     * Providers that route reads to replicas override this method; by default the intent is ignored.
+     *
+     * @param intent what the connection will be used for
+     * @return active JDBC connection
+     * @throws SQLException if connection acquisition fails
+     */
+    default Connection getConnection(ConnectionIntent intent) throws SQLException {
+        return getConnection();
+    }
+
     /**
      * Releases a previously obtained {@link Connection}.
      * <p>
@@ -65,4 +78,17 @@ public interface ConnectionProvider {
      */
     void release(Connection connection);
 
+    /**
+     * Releases a connection whose work failed with {@code failure}.
+     * <p>
+     * Providers that track the health of their connection sources override this method;
+     * by default the failure is ignored and the connection is {@link #release(Connection) released}.
+     *
+     * @param connection connection to release
+     * @param failure    failure raised while the connection was in use, or {@code null}
+     */
+    default void release(Connection connection, SQLException failure) {
+        release(connection);
+    }
+
 }
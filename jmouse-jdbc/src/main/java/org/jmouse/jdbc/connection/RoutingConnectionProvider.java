@@ -2,25 +2,93 @@ package org.jmouse.jdbc.connection;
 
 import org.jmouse.core.Verify;
 import org.jmouse.jdbc.connection.datasource.DataSourceResolver;
+import org.jmouse.jdbc.connection.routing.ReplicaPool;
 import org.jmouse.jdbc.connection.support.AbstractConnectionProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
+/**
+ * {@link ConnectionProvider} resolving the primary {@link javax.sql.DataSource} by a lookup key per call.
+ * <p>
+ * With a {@link ReplicaPool}, {@link ConnectionIntent#READ_ONLY} requests (queries run in a
+ * {@link ConnectionIntent#open() read-only scope} and read-only transactions) are balanced over the
+ * replicas, while {@link ConnectionIntent#READ_WRITE} requests always go to the primary. When no replica
+ * is available the read is served by the primary as well.
+ * <p>
+ * ⚠️ Replicas may lag behind the primary: reads that must observe a preceding write belong in the same
+ * read-write transaction.
+ */
 public final class RoutingConnectionProvider extends AbstractConnectionProvider {
 
-    private final DataSourceResolver resolver;
-    private final Supplier<String>   lookupKey;
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoutingConnectionProvider.class);
+
+    private final DataSourceResolver                 resolver;
+    private final Supplier<String>                   lookupKey;
+    private final ReplicaPool                        replicas;
+    private final Map<Connection, ReplicaPool.Lease> leases = Collections.synchronizedMap(new IdentityHashMap<>());
 
     public RoutingConnectionProvider(DataSourceResolver resolver, Supplier<String> lookupKey) {
         this.resolver = Verify.nonNull(resolver, "resolver");
         this.lookupKey = Verify.nonNull(lookupKey, "lookupKey");
+        this.replicas = null;
+    }
+
+    public RoutingConnectionProvider(DataSourceResolver resolver, Supplier<String> lookupKey, ReplicaPool replicas) {
+        this.resolver = Verify.nonNull(resolver, "resolver");
+        this.lookupKey = Verify.nonNull(lookupKey, "lookupKey");
+        this.replicas = Verify.nonNull(replicas, "replicas");
     }
 
     @Override
     public Connection getConnection() throws SQLException {
+        return getConnection(ConnectionIntent.READ_WRITE);
+    }
+
+    @Override
+    public Connection getConnection(ConnectionIntent intent) throws SQLException {
+        if (replicas != null && intent == ConnectionIntent.READ_ONLY) {
+            ReplicaPool.Lease lease = replicas.acquire();
+
+            if (lease != null) {
+                leases.put(lease.connection(), lease);
+                return lease.connection();
+            }
+
+            LOGGER.debug("No replica available, routing read to the primary");
+        }
+
         return resolver.resolve(lookupKey.get()).getConnection();
     }
 
+    @Override
+    public void release(Connection connection) {
+        release(connection, null);
+    }
+
+    /**
+     * Releases the connection; a connection-level {@code failure} on a replica connection counts
+     * against the circuit breaker of that replica.
+     */
+    @Override
+    public void release(Connection connection, SQLException failure) {
+        ReplicaPool.Lease lease = replicas == null ? null : leases.remove(connection);
+
+        if (lease != null) {
+            lease.release(failure);
+        } else {
+            super.release(connection);
+        }
+    }
+
+    public ReplicaPool getReplicas() {
+        return replicas;
+    }
+
 }
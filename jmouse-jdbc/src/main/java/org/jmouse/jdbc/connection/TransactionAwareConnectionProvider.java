@@ -16,14 +16,20 @@ public final class TransactionAwareConnectionProvider implements ConnectionProvi
 
     @Override
     public Connection getConnection() throws SQLException {
+        return getConnection(ConnectionIntent.READ_WRITE);
+    }
+
+    @Override
+    public Connection getConnection(ConnectionIntent intent) throws SQLException {
         JdbcResourceHolder holder =
                 TransactionContextAccessSupport.getResource(JdbcResourceHolder.class);
 
+        // the transaction connection wins over the intent: it was routed when the transaction began
         if (holder != null) {
             return holder.getConnection();
         }
 
-        return delegate.getConnection();
+        return delegate.getConnection(intent);
     }
 
     @Override
@@ -32,4 +38,11 @@ public final class TransactionAwareConnectionProvider implements ConnectionProvi
             delegate.release(connection);
         }
     }
+
+    @Override
+    public void release(Connection connection, SQLException failure) {
+        if (!TransactionContextAccessSupport.hasResource(JdbcResourceHolder.class)) {
+            delegate.release(connection, failure);
+        }
+    }
 }
@@ -19,6 +19,14 @@ public record DataSourceSpecification(
             int maxSize,
             Duration connectionTimeout,
             Duration idleTimeout,
-            Duration maxLifetime
-    ) { }
+            Duration maxLifetime,
+            Duration validationTimeout,
+            Duration leakDetectionThreshold
+    ) {
+
+        public Pool(int minSize, int maxSize, Duration connectionTimeout, Duration idleTimeout, Duration maxLifetime) {
+            this(minSize, maxSize, connectionTimeout, idleTimeout, maxLifetime, null, null);
+        }
+
+    }
 }
@@ -0,0 +1,179 @@
+package org.jmouse.jdbc.connection.datasource.pool;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.jmouse.jdbc.connection.datasource.pool.PoolEntry.*;
+
+/**
+ * 🎒 Lock-free container of {@link PoolEntry pool entries}.
+ *
+ * <p>Borrowing first looks at the entries recently returned by the calling thread
+ * (thread-affinity hint), then scans the shared list, and finally waits for an entry to be
+ * handed off directly by a returning thread. Entries never leave the shared list while they
+ * are alive, so a borrower that registered itself as a waiter and then scans is guaranteed to
+ * observe any entry returned concurrently.</p>
+ *
+ * <p>Affinity hints are kept for platform threads only: virtual threads are cheap and
+ * short-lived, so a per-thread list would only add allocation. Waiting uses
+ * {@link SynchronousQueue}, which parks without pinning the carrier thread.</p>
+ */
+final class ConnectionBag {
+
+    private static final int AFFINITY_LIMIT = 16;
+
+    private final CopyOnWriteArrayList<PoolEntry>             entries  = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<List<WeakReference<PoolEntry>>> affinity = ThreadLocal.withInitial(ArrayList::new);
+    private final SynchronousQueue<PoolEntry>                 handoff  = new SynchronousQueue<>(true);
+    private final AtomicInteger                               waiters  = new AtomicInteger();
+
+    /**
+     * Takes an idle entry without blocking.
+     *
+     * @return an entry now marked {@link PoolEntry#IN_USE}, or {@code null} if none is idle
+     */
+    PoolEntry poll() {
+        if (!Thread.currentThread().isVirtual()) {
+            List<WeakReference<PoolEntry>> recent = affinity.get();
+
+            for (int index = recent.size() - 1; index >= 0; index--) {
+                PoolEntry entry = recent.remove(index).get();
+
+                if (entry != null && entry.compareAndSet(NOT_IN_USE, IN_USE)) {
+                    return entry;
+                }
+            }
+        }
+
+        for (PoolEntry entry : entries) {
+            if (entry.compareAndSet(NOT_IN_USE, IN_USE)) {
+                return entry;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Waits up to the given time for an entry to become idle.
+     *
+     * @param timeout the maximal time to wait, in nanoseconds
+     * @return an entry now marked {@link PoolEntry#IN_USE}, or {@code null} on timeout
+     */
+    PoolEntry await(long timeout) throws InterruptedException {
+        waiters.incrementAndGet();
+
+        try {
+            PoolEntry entry    = poll();
+            long      deadline = System.nanoTime() + timeout;
+
+            while (entry == null && timeout > 0) {
+                entry = handoff.poll(timeout, TimeUnit.NANOSECONDS);
+
+                // the entry may already have been claimed by a scanning borrower
+                if (entry != null && !entry.compareAndSet(NOT_IN_USE, IN_USE)) {
+                    entry = null;
+                }
+
+                timeout = deadline - System.nanoTime();
+            }
+
+            return entry;
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns a borrowed entry, handing it directly to a waiting borrower when there is one.
+     */
+    void release(PoolEntry entry) {
+        entry.setState(NOT_IN_USE);
+
+        for (int attempt = 0; waiters.get() > 0; attempt++) {
+            if (entry.getState() != NOT_IN_USE || handoff.offer(entry)) {
+                return;
+            }
+            if ((attempt & 0xFF) == 0xFF) {
+                Thread.yield();
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+
+        if (!Thread.currentThread().isVirtual()) {
+            List<WeakReference<PoolEntry>> recent = affinity.get();
+
+            if (recent.size() < AFFINITY_LIMIT) {
+                recent.add(new WeakReference<>(entry));
+            }
+        }
+    }
+
+    /**
+     * Adds a new entry. An idle entry is offered to waiting borrowers first.
+     */
+    void add(PoolEntry entry) {
+        entries.add(entry);
+
+        while (waiters.get() > 0 && entry.getState() == NOT_IN_USE && !handoff.offer(entry)) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Removes an entry that is either borrowed or {@link #reserve(PoolEntry) reserved}.
+     *
+     * @return {@code true} if the entry was removed by this call
+     */
+    boolean remove(PoolEntry entry) {
+        boolean removed = entry.compareAndSet(IN_USE, REMOVED) || entry.compareAndSet(RESERVED, REMOVED);
+        return removed && entries.remove(entry);
+    }
+
+    /**
+     * Reserves an idle entry so it can be inspected or removed without being borrowed.
+     */
+    boolean reserve(PoolEntry entry) {
+        return entry.compareAndSet(NOT_IN_USE, RESERVED);
+    }
+
+    /**
+     * Makes a reserved entry available again.
+     */
+    void unreserve(PoolEntry entry) {
+        if (entry.compareAndSet(RESERVED, IN_USE)) {
+            release(entry);
+        }
+    }
+
+    List<PoolEntry> entries() {
+        return List.copyOf(entries);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    int count(int state) {
+        int count = 0;
+
+        for (PoolEntry entry : entries) {
+            if (entry.getState() == state) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    int getWaiters() {
+        return waiters.get();
+    }
+
+}
@@ -0,0 +1,185 @@
+package org.jmouse.jdbc.connection.datasource.pool;
+
+import org.jmouse.jdbc.JdbcSupport;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 🔌 A single physical connection tracked by a {@link PooledDataSource}.
+ *
+ * <p>The entry state is changed exclusively through compare-and-set, so borrowing,
+ * returning and housekeeping never need a lock.</p>
+ */
+final class PoolEntry {
+
+    static final int NOT_IN_USE = 0;
+    static final int IN_USE     = 1;
+    static final int REMOVED    = -1;
+    static final int RESERVED   = -2;
+
+    /**
+     * Network timeout recorded when the driver does not support reading it.
+     */
+    static final int UNKNOWN_TIMEOUT = -1;
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(PoolEntry.class, "state", int.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    private final Connection connection;
+    private final long       createdAt;
+    private final long       lifetime;
+    private final boolean    autoCommit;
+    private final boolean    readOnly;
+    private final int        isolation;
+    private final String     catalog;
+    private final String     schema;
+    private final int        holdability;
+    private final int        networkTimeout;
+
+    private final Map<String, Class<?>> typeMap;
+
+    private volatile int                state = NOT_IN_USE;
+    private volatile long               lastAccessed;
+    private volatile ScheduledFuture<?> leakTask;
+
+    PoolEntry(Connection connection, long lifetime) throws SQLException {
+        this.connection = connection;
+        this.createdAt = System.nanoTime();
+        this.lifetime = lifetime;
+        this.lastAccessed = createdAt;
+        this.autoCommit = connection.getAutoCommit();
+        this.readOnly = connection.isReadOnly();
+        this.isolation = connection.getTransactionIsolation();
+        this.catalog = connection.getCatalog();
+        this.schema = connection.getSchema();
+        this.holdability = connection.getHoldability();
+        this.networkTimeout = networkTimeout(connection);
+        this.typeMap = typeMap(connection);
+    }
+
+    private static int networkTimeout(Connection connection) throws SQLException {
+        try {
+            return connection.getNetworkTimeout();
+        } catch (SQLFeatureNotSupportedException exception) {
+            return UNKNOWN_TIMEOUT;
+        }
+    }
+
+    /**
+     * Copies the initial type map, since drivers may hand out their live instance; {@code null} when unsupported.
+     */
+    private static Map<String, Class<?>> typeMap(Connection connection) throws SQLException {
+        try {
+            Map<String, Class<?>> typeMap = connection.getTypeMap();
+            return typeMap == null ? Map.of() : new HashMap<>(typeMap);
+        } catch (SQLFeatureNotSupportedException exception) {
+            return null;
+        }
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    int getState() {
+        return state;
+    }
+
+    void setState(int state) {
+        this.state = state;
+    }
+
+    boolean compareAndSet(int expected, int update) {
+        return STATE.compareAndSet(this, expected, update);
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Tells whether the entry outlived its lifetime. Elapsed time is compared rather than absolute
+     * {@link System#nanoTime()} values, which may be negative or wrap around; a lifetime of zero never expires.
+     */
+    boolean isExpired(long now) {
+        return lifetime > 0 && now - createdAt >= lifetime;
+    }
+
+    long getLastAccessed() {
+        return lastAccessed;
+    }
+
+    void touch(long now) {
+        this.lastAccessed = now;
+    }
+
+    boolean getAutoCommit() {
+        return autoCommit;
+    }
+
+    boolean isReadOnly() {
+        return readOnly;
+    }
+
+    int getIsolation() {
+        return isolation;
+    }
+
+    String getCatalog() {
+        return catalog;
+    }
+
+    String getSchema() {
+        return schema;
+    }
+
+    int getHoldability() {
+        return holdability;
+    }
+
+    int getNetworkTimeout() {
+        return networkTimeout;
+    }
+
+    Map<String, Class<?>> getTypeMap() {
+        return typeMap;
+    }
+
+    void setLeakTask(ScheduledFuture<?> leakTask) {
+        this.leakTask = leakTask;
+    }
+
+    void cancelLeakTask() {
+        ScheduledFuture<?> task = leakTask;
+
+        if (task != null) {
+            leakTask = null;
+            task.cancel(false);
+        }
+    }
+
+    void closePhysical() {
+        cancelLeakTask();
+        JdbcSupport.closeQuietly(connection);
+    }
+
+    @Override
+    public String toString() {
+        return "POOL-ENTRY[%s, state=%d]".formatted(connection, state);
+    }
+
+}
@@ -0,0 +1,34 @@
+package org.jmouse.jdbc.connection.datasource.pool;
+
+import java.time.Duration;
+
+/**
+ * 📊 Point-in-time snapshot of a {@link PooledDataSource}.
+ *
+ * @param name           the pool name
+ * @param total          physical connections currently held
+ * @param active         connections currently borrowed
+ * @param idle           connections ready to be borrowed
+ * @param waiting        threads waiting for a connection
+ * @param created        physical connections opened since start
+ * @param closed         physical connections closed since start
+ * @param acquired       successful borrows since start
+ * @param timeouts       borrows that timed out since start
+ * @param leaks          borrows reported as apparent leaks since start
+ * @param averageAcquire average time spent acquiring a connection
+ * @param maxAcquire     longest time spent acquiring a connection
+ */
+public record PoolMetrics(
+        String name,
+        int total,
+        int active,
+        int idle,
+        int waiting,
+        long created,
+        long closed,
+        long acquired,
+        long timeouts,
+        long leaks,
+        Duration averageAcquire,
+        Duration maxAcquire
+) { }
@@ -0,0 +1,447 @@
+package org.jmouse.jdbc.connection.datasource.pool;
+
+import org.jmouse.jdbc.JdbcSupport;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * 🔁 Logical {@link Connection} handed out by a {@link PooledDataSource}.
+ *
+ * <p>Every call is delegated to the physical connection. {@link #close()} does not close the
+ * physical connection but restores the state changed by the caller (auto-commit, read-only,
+ * isolation, catalog, schema, holdability, type map, network timeout), rolls back an unfinished
+ * transaction and returns the entry to the pool. Any call made after close fails with {@link SQLException}.</p>
+ *
+ * <p>Statements created through the logical connection are tracked and closed on {@link #close()},
+ * which closes their open result sets as well, so nothing opened by one borrower leaks into the
+ * next one. Statements prepared on the physical connection (see {@link #unwrap(Class)}) are left alone.</p>
+ */
+final class PooledConnection implements Connection {
+
+    /**
+     * Number of tracked statements at which already closed ones are dropped from the list.
+     */
+    private static final int SWEEP_THRESHOLD = 64;
+
+    /**
+     * Runs the driver's timeout bookkeeping inline when the network timeout is restored.
+     */
+    private static final Executor DIRECT = Runnable::run;
+
+    private final PooledDataSource pool;
+    private final PoolEntry        entry;
+    private final Connection       delegate;
+    private final List<Statement>  statements = new ArrayList<>();
+    private       int              sweepAt    = SWEEP_THRESHOLD;
+    private       boolean          closed;
+    private       boolean          autoCommit;
+    private       boolean          stateChanged;
+
+    PooledConnection(PooledDataSource pool, PoolEntry entry) {
+        this.pool = pool;
+        this.entry = entry;
+        this.delegate = entry.getConnection();
+        this.autoCommit = entry.getAutoCommit();
+    }
+
+    PoolEntry getEntry() {
+        return entry;
+    }
+
+    /**
+     * Restores the physical connection to the state it had when it was opened.
+     */
+    void reset() throws SQLException {
+        // statements may have been executed through handles created earlier (e.g. cached ones),
+        // so any connection returned in manual-commit mode is rolled back
+        if (!autoCommit) {
+            delegate.rollback();
+        }
+
+        if (stateChanged) {
+            if (autoCommit != entry.getAutoCommit()) {
+                delegate.setAutoCommit(entry.getAutoCommit());
+            }
+            if (delegate.isReadOnly() != entry.isReadOnly()) {
+                delegate.setReadOnly(entry.isReadOnly());
+            }
+            if (delegate.getTransactionIsolation() != entry.getIsolation()) {
+                delegate.setTransactionIsolation(entry.getIsolation());
+            }
+            if (entry.getCatalog() != null && !entry.getCatalog().equals(delegate.getCatalog())) {
+                delegate.setCatalog(entry.getCatalog());
+            }
+            if (entry.getSchema() != null && !entry.getSchema().equals(delegate.getSchema())) {
+                delegate.setSchema(entry.getSchema());
+            }
+            if (delegate.getHoldability() != entry.getHoldability()) {
+                delegate.setHoldability(entry.getHoldability());
+            }
+            if (entry.getTypeMap() != null && !entry.getTypeMap().equals(delegate.getTypeMap())) {
+                delegate.setTypeMap(new HashMap<>(entry.getTypeMap()));
+            }
+            if (entry.getNetworkTimeout() != PoolEntry.UNKNOWN_TIMEOUT
+                    && delegate.getNetworkTimeout() != entry.getNetworkTimeout()) {
+                delegate.setNetworkTimeout(DIRECT, entry.getNetworkTimeout());
+            }
+        }
+
+        delegate.clearWarnings();
+    }
+
+    private Connection open() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection is closed", "08003");
+        }
+        return delegate;
+    }
+
+    /**
+     * Remembers a statement so that it is closed with the logical connection.
+     */
+    private <S extends Statement> S track(S statement) {
+        if (statements.size() >= sweepAt) {
+            statements.removeIf(PooledConnection::isClosed);
+            sweepAt = Math.max(SWEEP_THRESHOLD, statements.size() * 2);
+        }
+
+        statements.add(statement);
+
+        return statement;
+    }
+
+    private void closeStatements() {
+        for (Statement statement : statements) {
+            JdbcSupport.closeQuietly(statement);
+        }
+
+        statements.clear();
+    }
+
+    private static boolean isClosed(Statement statement) {
+        try {
+            return statement.isClosed();
+        } catch (SQLException exception) {
+            return true;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!closed) {
+            closed = true;
+
+            try {
+                closeStatements();
+            } finally {
+                pool.release(this);
+            }
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return closed || delegate.isClosed();
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return track(open().createStatement());
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+        return track(open().createStatement(resultSetType, resultSetConcurrency));
+    }
+
+    @Override
+    public Statement createStatement(
+            int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return track(open().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return track(open().prepareStatement(sql));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+            throws SQLException {
+        return track(open().prepareStatement(sql, resultSetType, resultSetConcurrency));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+            String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return track(open().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        return track(open().prepareStatement(sql, autoGeneratedKeys));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        return track(open().prepareStatement(sql, columnIndexes));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        return track(open().prepareStatement(sql, columnNames));
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        return track(open().prepareCall(sql));
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency)
+            throws SQLException {
+        return track(open().prepareCall(sql, resultSetType, resultSetConcurrency));
+    }
+
+    @Override
+    public CallableStatement prepareCall(
+            String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return track(open().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+    }
+
+    @Override
+    public String nativeSQL(String sql) throws SQLException {
+        return open().nativeSQL(sql);
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        open().setAutoCommit(autoCommit);
+        this.autoCommit = autoCommit;
+        this.stateChanged = true;
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        return open().getAutoCommit();
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        open().commit();
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        open().rollback();
+    }
+
+    @Override
+    public void rollback(Savepoint savepoint) throws SQLException {
+        open().rollback(savepoint);
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        return open().getMetaData();
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        open().setReadOnly(readOnly);
+        stateChanged = true;
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        return open().isReadOnly();
+    }
+
+    @Override
+    public void setCatalog(String catalog) throws SQLException {
+        open().setCatalog(catalog);
+        stateChanged = true;
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        return open().getCatalog();
+    }
+
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+        open().setTransactionIsolation(level);
+        stateChanged = true;
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        return open().getTransactionIsolation();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return open().getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        open().clearWarnings();
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        Map<String, Class<?>> typeMap = open().getTypeMap();
+        // the returned map may be the driver's live one, which the caller is free to modify
+        stateChanged = true;
+        return typeMap;
+    }
+
+    @Override
+    public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+        open().setTypeMap(map);
+        stateChanged = true;
+    }
+
+    @Override
+    public void setHoldability(int holdability) throws SQLException {
+        open().setHoldability(holdability);
+        stateChanged = true;
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return open().getHoldability();
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        return open().setSavepoint();
+    }
+
+    @Override
+    public Savepoint setSavepoint(String name) throws SQLException {
+        return open().setSavepoint(name);
+    }
+
+    @Override
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        open().releaseSavepoint(savepoint);
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        return open().createClob();
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        return open().createBlob();
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        return open().createNClob();
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        return open().createSQLXML();
+    }
+
+    @Override
+    public boolean isValid(int timeout) throws SQLException {
+        return !closed && delegate.isValid(timeout);
+    }
+
+    @Override
+    public void setClientInfo(String name, String value) throws SQLClientInfoException {
+        delegate.setClientInfo(name, value);
+    }
+
+    @Override
+    public void setClientInfo(Properties properties) throws SQLClientInfoException {
+        delegate.setClientInfo(properties);
+    }
+
+    @Override
+    public String getClientInfo(String name) throws SQLException {
+        return open().getClientInfo(name);
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        return open().getClientInfo();
+    }
+
+    @Override
+    public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+        return open().createArrayOf(typeName, elements);
+    }
+
+    @Override
+    public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+        return open().createStruct(typeName, attributes);
+    }
+
+    @Override
+    public void setSchema(String schema) throws SQLException {
+        open().setSchema(schema);
+        stateChanged = true;
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        return open().getSchema();
+    }
+
+    @Override
+    public void abort(Executor executor) throws SQLException {
+        closed = true;
+        statements.clear();
+
+        try {
+            delegate.abort(executor);
+        } finally {
+            pool.evict(this);
+        }
+    }
+
+    @Override
+    public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+        open().setNetworkTimeout(executor, milliseconds);
+        stateChanged = true;
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        return open().getNetworkTimeout();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        // unwrapping to Connection yields the physical connection, as the JDBC wrapper pattern suggests
+        if (iface.isInstance(open())) {
+            return (T) delegate;
+        }
+        return delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(open()) || delegate.isWrapperFor(iface);
+    }
+
+    @Override
+    public String toString() {
+        return "POOLED-CONNECTION[%s]".formatted(delegate);
+    }
+
+}
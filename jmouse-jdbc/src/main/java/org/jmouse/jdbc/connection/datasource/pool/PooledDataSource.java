@@ -0,0 +1,429 @@
+package org.jmouse.jdbc.connection.datasource.pool;
+
+import org.jmouse.core.Verify;
+import org.jmouse.jdbc.JdbcSupport;
+import org.jmouse.jdbc.connection.datasource.DataSourceSpecification;
+import org.jmouse.jdbc.connection.datasource.support.AbstractDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.jmouse.jdbc.connection.datasource.pool.PoolEntry.IN_USE;
+import static org.jmouse.jdbc.connection.datasource.pool.PoolEntry.NOT_IN_USE;
+
+/**
+ * 🏊 Connection-pooling {@link DataSource} on top of a target {@link DataSource}.
+ *
+ * <p>Physical connections are opened through the target and kept in a lock-free
+ * {@link ConnectionBag}. A borrower takes an idle connection (preferring the ones it returned
+ * itself most recently), opens a new one while the pool is below its maximum size, or waits
+ * for a connection to be handed back. Waiting parks on {@code java.util.concurrent} primitives
+ * only, so virtual threads never pin their carrier.</p>
+ *
+ * <ul>
+ *     <li>⏱️ connections idle for longer than a short grace period are validated with
+ *     {@link Connection#isValid(int)} before being handed out;</li>
+ *     <li>🧹 a housekeeping task closes connections idle above the minimum size, retires
+ *     connections that reached their (slightly randomized) max lifetime and refills the pool
+ *     up to its minimum size;</li>
+ *     <li>🚨 when a leak-detection threshold is configured, connections held for longer are
+ *     reported together with the stack trace of the borrower;</li>
+ *     <li>📊 {@link #getMetrics()} exposes a snapshot of the pool state and counters.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * PooledDataSource pool = new PooledDataSource("main", target, new DataSourceSpecification.Pool(
+ *         2, 16, Duration.ofSeconds(5), Duration.ofMinutes(10), Duration.ofMinutes(30)));
+ *
+ * try (Connection connection = pool.getConnection()) {
+ *     // connection is returned to the pool on close
+ * }
+ * }</pre>
+ */
+public class PooledDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledDataSource.class);
+
+    public static final int      DEFAULT_MAX_SIZE           = 10;
+    public static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_IDLE_TIMEOUT       = Duration.ofMinutes(10);
+    public static final Duration DEFAULT_MAX_LIFETIME       = Duration.ofMinutes(30);
+    public static final Duration DEFAULT_VALIDATION_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final long ALIVE_BYPASS      = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long WAIT_SLICE        = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final long HOUSEKEEPING_RATE = TimeUnit.SECONDS.toNanos(30);
+
+    private final String                      name;
+    private final DataSource                  target;
+    private final int                         minSize;
+    private final int                         maxSize;
+    private final long                        connectionTimeout;
+    private final long                        idleTimeout;
+    private final long                        maxLifetime;
+    private final int                         validationTimeout;
+    private final long                        leakDetectionThreshold;
+    private final ConnectionBag               bag      = new ConnectionBag();
+    private final AtomicInteger               total    = new AtomicInteger();
+    private final AtomicInteger               pending  = new AtomicInteger();
+    private final LongAdder                   created  = new LongAdder();
+    private final LongAdder                   closed   = new LongAdder();
+    private final LongAdder                   acquired = new LongAdder();
+    private final LongAdder                   timeouts = new LongAdder();
+    private final LongAdder                   leaks    = new LongAdder();
+    private final LongAdder                   waited   = new LongAdder();
+    private final AtomicLong                  maxWait  = new AtomicLong();
+    private final ScheduledThreadPoolExecutor housekeeper;
+    private volatile boolean                  shutdown;
+
+    public PooledDataSource(String name, DataSource target, DataSourceSpecification.Pool pool) {
+        this.name = Verify.nonNull(name, "name");
+        this.target = Verify.nonNull(target, "target");
+
+        Verify.nonNull(pool, "pool");
+
+        this.maxSize = pool.maxSize() > 0 ? pool.maxSize() : DEFAULT_MAX_SIZE;
+        this.minSize = Verify.inRange(pool.minSize(), 0, maxSize, "minSize");
+        this.connectionTimeout = nanos(pool.connectionTimeout(), DEFAULT_CONNECTION_TIMEOUT);
+        this.idleTimeout = nanos(pool.idleTimeout(), DEFAULT_IDLE_TIMEOUT);
+        this.maxLifetime = nanos(pool.maxLifetime(), DEFAULT_MAX_LIFETIME);
+        this.validationTimeout = (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(
+                nanos(pool.validationTimeout(), DEFAULT_VALIDATION_TIMEOUT)));
+        this.leakDetectionThreshold = nanos(pool.leakDetectionThreshold(), Duration.ZERO);
+
+        this.housekeeper = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "jmouse-pool-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.housekeeper.setRemoveOnCancelPolicy(true);
+        this.housekeeper.scheduleWithFixedDelay(
+                this::housekeep, 0, idleTimeout > 0 ? Math.min(HOUSEKEEPING_RATE, idleTimeout) : HOUSEKEEPING_RATE,
+                TimeUnit.NANOSECONDS);
+    }
+
+    private static long nanos(Duration duration, Duration defaultValue) {
+        Duration value = duration == null || duration.isNegative() ? defaultValue : duration;
+        return value.toNanos();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getTarget() {
+        return target;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start    = System.nanoTime();
+        long deadline = start + connectionTimeout;
+
+        while (true) {
+            if (shutdown) {
+                throw new SQLException("Pool '%s' is closed".formatted(name), "08003");
+            }
+
+            PoolEntry entry = bag.poll();
+
+            if (entry == null) {
+                entry = tryCreate();
+            }
+
+            if (entry == null) {
+                long remaining = deadline - System.nanoTime();
+
+                if (remaining <= 0) {
+                    timeouts.increment();
+                    throw new SQLTransientConnectionException(
+                            "Pool '%s' could not provide a connection within %d ms (total=%d, active=%d, waiting=%d)"
+                                    .formatted(name, TimeUnit.NANOSECONDS.toMillis(connectionTimeout), total.get(),
+                                               bag.count(IN_USE), bag.getWaiters()), "08001");
+                }
+
+                try {
+                    // wake up periodically to take a slot freed by an evicted connection
+                    entry = bag.await(Math.min(remaining, WAIT_SLICE));
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while waiting for a connection", "08001", exception);
+                }
+            }
+
+            if (entry != null && isUsable(entry)) {
+                return borrowed(entry, start);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pool '%s' does not support per-call credentials".formatted(name));
+    }
+
+    /**
+     * Checks a freshly borrowed entry, evicting it when it is expired or no longer valid.
+     */
+    private boolean isUsable(PoolEntry entry) {
+        long now = System.nanoTime();
+
+        if (entry.isExpired(now)) {
+            remove(entry, "max lifetime reached");
+            return false;
+        }
+
+        if (now - entry.getLastAccessed() > ALIVE_BYPASS) {
+            boolean valid;
+
+            try {
+                valid = entry.getConnection().isValid(validationTimeout);
+            } catch (SQLException exception) {
+                valid = false;
+            }
+
+            if (!valid) {
+                remove(entry, "validation failed");
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private Connection borrowed(PoolEntry entry, long start) {
+        long now     = System.nanoTime();
+        long elapsed = now - start;
+
+        entry.touch(now);
+        acquired.increment();
+        waited.add(elapsed);
+        maxWait.accumulateAndGet(elapsed, Math::max);
+
+        if (leakDetectionThreshold > 0 && !shutdown) {
+            Exception  trace  = new Exception("Apparent connection leak detected");
+            String     thread = Thread.currentThread().getName();
+
+            try {
+                entry.setLeakTask(housekeeper.schedule(() -> {
+                    leaks.increment();
+                    LOGGER.warn("Connection '{}' of pool '{}' borrowed by thread '{}' is held for more than {} ms",
+                                entry.getConnection(), name, thread,
+                                TimeUnit.NANOSECONDS.toMillis(leakDetectionThreshold), trace);
+                }, leakDetectionThreshold, TimeUnit.NANOSECONDS));
+            } catch (RejectedExecutionException exception) {
+                // the pool was closed concurrently; the connection is closed when it is returned
+            }
+        }
+
+        return new PooledConnection(this, entry);
+    }
+
+    /**
+     * Opens a new physical connection if the pool has not reached its maximum size.
+     *
+     * @return a new entry already marked as borrowed, or {@code null} if the pool is full
+     */
+    private PoolEntry tryCreate() throws SQLException {
+        if (!reserveSlot()) {
+            return null;
+        }
+
+        PoolEntry entry = open();
+
+        entry.setState(IN_USE);
+        bag.add(entry);
+
+        return entry;
+    }
+
+    private boolean reserveSlot() {
+        int current;
+
+        do {
+            current = total.get();
+            if (current >= maxSize) {
+                return false;
+            }
+        } while (!total.compareAndSet(current, current + 1));
+
+        return true;
+    }
+
+    /**
+     * Opens a physical connection for an already reserved slot.
+     */
+    private PoolEntry open() throws SQLException {
+        Connection connection = null;
+
+        try {
+            connection = target.getConnection();
+
+            // spread retirement so that connections opened together do not expire together
+            long      lifetime = maxLifetime - ThreadLocalRandom.current().nextLong(maxLifetime / 40 + 1);
+            PoolEntry entry    = new PoolEntry(connection, lifetime);
+
+            created.increment();
+            LOGGER.debug("Pool '{}' opened connection '{}'", name, connection);
+
+            return entry;
+        } catch (SQLException | RuntimeException exception) {
+            total.decrementAndGet();
+            JdbcSupport.closeQuietly(connection);
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns a logical connection to the pool.
+     */
+    void release(PooledConnection connection) {
+        PoolEntry entry = connection.getEntry();
+
+        entry.cancelLeakTask();
+
+        try {
+            connection.reset();
+        } catch (SQLException | RuntimeException exception) {
+            remove(entry, "reset failed: " + exception.getMessage());
+            return;
+        }
+
+        if (shutdown || entry.isExpired(System.nanoTime())) {
+            remove(entry, shutdown ? "pool closed" : "max lifetime reached");
+            return;
+        }
+
+        entry.touch(System.nanoTime());
+        bag.release(entry);
+    }
+
+    /**
+     * Discards the physical connection behind an aborted logical connection.
+     */
+    void evict(PooledConnection connection) {
+        remove(connection.getEntry(), "connection aborted");
+    }
+
+    private void remove(PoolEntry entry, String reason) {
+        if (bag.remove(entry)) {
+            total.decrementAndGet();
+            closed.increment();
+            entry.closePhysical();
+            LOGGER.debug("Pool '{}' closed connection '{}': {}", name, entry.getConnection(), reason);
+
+            if (!shutdown && bag.getWaiters() > 0) {
+                try {
+                    housekeeper.execute(this::fill);
+                } catch (RejectedExecutionException exception) {
+                    // the pool was closed concurrently: there is nothing left to refill
+                }
+            }
+        }
+    }
+
+    private void housekeep() {
+        try {
+            long now = System.nanoTime();
+
+            for (PoolEntry entry : bag.entries()) {
+                if (entry.getState() != NOT_IN_USE || !bag.reserve(entry)) {
+                    continue;
+                }
+
+                if (entry.isExpired(now)) {
+                    remove(entry, "max lifetime reached");
+                } else if (idleTimeout > 0 && total.get() > minSize && now - entry.getLastAccessed() > idleTimeout) {
+                    remove(entry, "idle timeout");
+                } else {
+                    bag.unreserve(entry);
+                }
+            }
+
+            fill();
+        } catch (RuntimeException exception) {
+            LOGGER.warn("Pool '{}' housekeeping failed", name, exception);
+        }
+    }
+
+    /**
+     * Opens connections until the pool reaches its minimum size or covers the waiting borrowers.
+     */
+    private void fill() {
+        if (!pending.compareAndSet(0, 1)) {
+            return;
+        }
+
+        try {
+            while (!shutdown && (total.get() < minSize || bag.getWaiters() > bag.count(NOT_IN_USE))
+                    && reserveSlot()) {
+                bag.add(open());
+            }
+        } catch (SQLException | RuntimeException exception) {
+            LOGGER.warn("Pool '{}' could not open a connection: {}", name, exception.getMessage());
+        } finally {
+            pending.set(0);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the pool state and counters.
+     *
+     * @return the current metrics
+     */
+    public PoolMetrics getMetrics() {
+        long count   = acquired.sum();
+        int  idle    = bag.count(NOT_IN_USE);
+        int  active  = bag.count(IN_USE);
+        long average = count == 0 ? 0 : waited.sum() / count;
+
+        return new PoolMetrics(name, total.get(), active, idle, bag.getWaiters(), created.sum(), closed.sum(),
+                               count, timeouts.sum(), leaks.sum(), Duration.ofNanos(average),
+                               Duration.ofNanos(maxWait.get()));
+    }
+
+    public boolean isClosed() {
+        return shutdown;
+    }
+
+    /**
+     * Closes all idle connections and stops housekeeping. Borrowed connections are closed when
+     * they are returned.
+     */
+    @Override
+    public void close() {
+        if (shutdown) {
+            return;
+        }
+
+        shutdown = true;
+        housekeeper.shutdownNow();
+
+        for (PoolEntry entry : bag.entries()) {
+            if (bag.reserve(entry)) {
+                remove(entry, "pool closed");
+            }
+        }
+
+        LOGGER.info("Pool '{}' closed: {}", name, getMetrics());
+    }
+
+    @Override
+    public String toString() {
+        return "POOLED-DATA-SOURCE[%s, min=%d, max=%d, total=%d]".formatted(name, minSize, maxSize, total.get());
+    }
+
+}
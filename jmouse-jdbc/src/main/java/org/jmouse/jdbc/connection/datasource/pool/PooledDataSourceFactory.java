@@ -0,0 +1,45 @@
+package org.jmouse.jdbc.connection.datasource.pool;
+
+import org.jmouse.core.Verify;
+import org.jmouse.jdbc.connection.datasource.DataSourceFactory;
+import org.jmouse.jdbc.connection.datasource.DataSourceSpecification;
+import org.jmouse.jdbc.connection.datasource.DriverManagerDataSourceFactory;
+
+import javax.sql.DataSource;
+
+/**
+ * 🏭 {@link DataSourceFactory} producing a {@link PooledDataSource} for specifications that
+ * declare a {@link DataSourceSpecification.Pool pool}.
+ *
+ * <p>Physical connections are opened by the data source the target factory creates for the same
+ * specification ({@link DriverManagerDataSourceFactory} by default).</p>
+ */
+public final class PooledDataSourceFactory implements DataSourceFactory {
+
+    private final DataSourceFactory targetFactory;
+
+    public PooledDataSourceFactory() {
+        this(new DriverManagerDataSourceFactory());
+    }
+
+    public PooledDataSourceFactory(DataSourceFactory targetFactory) {
+        this.targetFactory = Verify.nonNull(targetFactory, "targetFactory");
+    }
+
+    @Override
+    public boolean supports(DataSourceSpecification specification) {
+        return specification.pool() != null && targetFactory.supports(specification);
+    }
+
+    @Override
+    public DataSource create(DataSourceSpecification specification) {
+        return new PooledDataSource(
+                specification.name(), targetFactory.create(specification), specification.pool());
+    }
+
+    @Override
+    public int priority() {
+        return 100;
+    }
+
+}
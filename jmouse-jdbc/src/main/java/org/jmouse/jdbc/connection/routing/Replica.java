@@ -0,0 +1,137 @@
+package org.jmouse.jdbc.connection.routing;
+
+import org.jmouse.core.Verify;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 📚 Read replica of a {@link ReplicaPool}.
+ *
+ * <p>Keeps the load signals the {@link ReplicaSelector selectors} work with: the number of
+ * outstanding leases and an exponentially weighted moving average of connection acquisition
+ * latency, plus the {@link ReplicaCircuitBreaker} deciding whether the replica is used at all.
+ * The breaker counts failures to open a connection and connection-level failures of the
+ * statements executed on it.</p>
+ */
+public final class Replica {
+
+    /**
+     * Idle time after which the latency average is halved, so a replica penalised by a slow
+     * sample is tried again instead of being starved of the traffic that would correct it.
+     */
+    private static final long LATENCY_HALF_LIFE = 1_000_000_000L;
+
+    private final String                name;
+    private final DataSource            dataSource;
+    private final ReplicaCircuitBreaker breaker;
+    private final double                decay;
+    private final AtomicInteger         outstanding = new AtomicInteger();
+    private final AtomicLong            latency     = new AtomicLong();
+    private volatile long               sampled;
+
+    Replica(String name, DataSource dataSource, ReplicaCircuitBreaker breaker, double decay) {
+        this.name = Verify.notBlank(name, "name");
+        this.dataSource = Verify.nonNull(dataSource, "dataSource");
+        this.breaker = Verify.nonNull(breaker, "breaker");
+        this.decay = decay;
+    }
+
+    /**
+     * Opens a connection, samples how long acquiring it took and records the outcome in the circuit breaker.
+     *
+     * @param permit permit the circuit breaker admitted the request with
+     */
+    Connection open(ReplicaCircuitBreaker.Permit permit) throws SQLException {
+        long start = System.nanoTime();
+
+        outstanding.incrementAndGet();
+
+        try {
+            Connection connection = dataSource.getConnection();
+            sample(System.nanoTime() - start);
+            return connection;
+        } catch (SQLException | RuntimeException exception) {
+            outstanding.decrementAndGet();
+            breaker.onFailure(permit);
+            throw exception;
+        }
+    }
+
+    /**
+     * Ends a lease. A {@link #isConnectionFailure(SQLException) connection-level} failure counts against
+     * the circuit breaker; any other outcome, including application errors such as constraint or syntax
+     * violations, proves the replica reachable.
+     *
+     * @param failure failure raised while the connection was in use, or {@code null}
+     * @param permit  permit the circuit breaker admitted the lease with
+     */
+    void complete(SQLException failure, ReplicaCircuitBreaker.Permit permit) {
+        outstanding.decrementAndGet();
+
+        if (failure != null && isConnectionFailure(failure)) {
+            breaker.onFailure(permit);
+        } else {
+            breaker.onSuccess(permit);
+        }
+    }
+
+    /**
+     * Tells whether {@code failure} (or one of its chained exceptions) reports a broken or unreachable
+     * connection rather than a problem with the statement itself.
+     */
+    static boolean isConnectionFailure(SQLException failure) {
+        for (SQLException current = failure; current != null; current = current.getNextException()) {
+            String state = current.getSQLState();
+
+            if (current instanceof SQLTransientConnectionException
+                    || current instanceof SQLNonTransientConnectionException
+                    || current instanceof SQLRecoverableException
+                    || current instanceof SQLTimeoutException
+                    || (state != null && state.startsWith("08"))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void sample(long nanos) {
+        latency.getAndUpdate(current -> current == 0 ? nanos : (long) (current * decay + nanos * (1 - decay)));
+        sampled = System.nanoTime();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * @return moving average of connection acquisition latency in nanoseconds, {@code 0} before the first sample
+     */
+    public long getLatency() {
+        long halvings = (System.nanoTime() - sampled) / LATENCY_HALF_LIFE;
+        return halvings >= Long.SIZE ? 0 : latency.get() >> halvings;
+    }
+
+    public ReplicaCircuitBreaker getBreaker() {
+        return breaker;
+    }
+
+    @Override
+    public String toString() {
+        return "REPLICA[%s, outstanding=%d, latency=%dus, breaker=%s]"
+                .formatted(name, getOutstanding(), getLatency() / 1000, breaker.getState());
+    }
+
+}
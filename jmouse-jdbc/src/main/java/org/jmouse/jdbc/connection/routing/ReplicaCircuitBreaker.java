@@ -0,0 +1,170 @@
+package org.jmouse.jdbc.connection.routing;
+
+import org.jmouse.core.Verify;
+
+import java.time.Duration;
+
+/**
+ * 🔌 Per-replica circuit breaker.
+ *
+ * <p>After {@code failureThreshold} consecutive failures the breaker opens and the replica is
+ * skipped for {@code openDuration}. Once that time has passed a single trial request is let
+ * through (half-open): its success closes the breaker, its failure opens it again.</p>
+ *
+ * <p>Outcomes are reported with the {@link Permit} the request was admitted with. Requests admitted
+ * before the breaker opened may still finish afterwards; their outcome is ignored while the breaker is
+ * open or half-open, so only the trial request decides whether the replica gets traffic again.</p>
+ */
+public final class ReplicaCircuitBreaker {
+
+    public static final int      DEFAULT_FAILURE_THRESHOLD = 3;
+    public static final Duration DEFAULT_OPEN_DURATION     = Duration.ofSeconds(30);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Outcome of {@link #tryAcquire()}: refused, admitted while closed, or admitted as the half-open trial.
+     */
+    public enum Permit {
+        DENIED, GRANTED, TRIAL;
+
+        public boolean isGranted() {
+            return this != DENIED;
+        }
+    }
+
+    private final    int     failureThreshold;
+    private final    long    openNanos;
+    private volatile State   state = State.CLOSED;
+    private volatile int     failures;
+    private          long    openedAt;
+    private          boolean trial;
+
+    public ReplicaCircuitBreaker() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION);
+    }
+
+    public ReplicaCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = Verify.positive(failureThreshold, "failureThreshold");
+        this.openNanos = Verify.nonNull(openDuration, "openDuration").toNanos();
+    }
+
+    /**
+     * Tells whether a request may be sent. A half-open breaker admits one trial request at a time.
+     *
+     * @return permit to report the outcome of the request with
+     */
+    public Permit tryAcquire() {
+        if (state == State.CLOSED) {
+            return Permit.GRANTED;
+        }
+
+        synchronized (this) {
+            return switch (state) {
+                case CLOSED -> Permit.GRANTED;
+                case OPEN -> {
+                    if (System.nanoTime() - openedAt < openNanos) {
+                        yield Permit.DENIED;
+                    }
+                    state = State.HALF_OPEN;
+                    trial = true;
+                    yield Permit.TRIAL;
+                }
+                case HALF_OPEN -> {
+                    if (trial) {
+                        yield Permit.DENIED;
+                    }
+                    trial = true;
+                    yield Permit.TRIAL;
+                }
+            };
+        }
+    }
+
+    /**
+     * Tells whether a request would currently be admitted, without taking the half-open trial slot.
+     */
+    public boolean isAvailable() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+
+        synchronized (this) {
+            return switch (state) {
+                case CLOSED -> true;
+                case OPEN -> System.nanoTime() - openedAt >= openNanos;
+                case HALF_OPEN -> !trial;
+            };
+        }
+    }
+
+    /**
+     * Records a successful request: resets the failure count while closed and closes the breaker when
+     * the half-open trial succeeds.
+     *
+     * @param permit permit the request was admitted with
+     */
+    public void onSuccess(Permit permit) {
+        if (state == State.CLOSED && failures == 0) {
+            return;
+        }
+
+        synchronized (this) {
+            switch (state) {
+                case CLOSED -> failures = 0;
+                case HALF_OPEN -> {
+                    if (permit == Permit.TRIAL) {
+                        failures = 0;
+                        trial = false;
+                        state = State.CLOSED;
+                    }
+                }
+                case OPEN -> {
+                    // admitted before the breaker opened, proves nothing about the replica now
+                }
+            }
+        }
+    }
+
+    /**
+     * Records a failed request: opens the breaker once {@code failureThreshold} consecutive failures are
+     * seen while closed, or when the half-open trial fails.
+     *
+     * @param permit permit the request was admitted with
+     */
+    public synchronized void onFailure(Permit permit) {
+        switch (state) {
+            case CLOSED -> {
+                if (++failures >= failureThreshold) {
+                    open();
+                }
+            }
+            case HALF_OPEN -> {
+                if (permit == Permit.TRIAL) {
+                    open();
+                }
+            }
+            case OPEN -> {
+                // already open, a late failure does not extend openDuration
+            }
+        }
+    }
+
+    private void open() {
+        trial = false;
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    @Override
+    public String toString() {
+        return "CIRCUIT-BREAKER[state=%s, threshold=%d]".formatted(state, failureThreshold);
+    }
+
+}
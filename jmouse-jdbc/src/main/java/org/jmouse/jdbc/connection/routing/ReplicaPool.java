@@ -0,0 +1,172 @@
+package org.jmouse.jdbc.connection.routing;
+
+import org.jmouse.core.Verify;
+import org.jmouse.jdbc.JdbcSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🪞 Set of read replicas a {@link org.jmouse.jdbc.connection.RoutingConnectionProvider} balances reads over.
+ *
+ * <p>{@link #acquire()} asks the {@link ReplicaSelector} for one of the replicas whose circuit breaker
+ * admits requests. When opening a connection fails, the failure is recorded and the next best replica
+ * is tried; when no replica is left {@code null} is returned and the caller falls back to the primary.</p>
+ *
+ * <pre>{@code
+ * ReplicaPool replicas = ReplicaPool.builder()
+ *         .replica("replica-1", new ResolvableDataSource(resolver, () -> "replica-1"))
+ *         .replica("replica-2", new ResolvableDataSource(resolver, () -> "replica-2"))
+ *         .selector(ReplicaSelector.LATENCY_WEIGHTED)
+ *         .build();
+ *
+ * ConnectionProvider provider = new RoutingConnectionProvider(resolver, () -> "primary", replicas);
+ * }</pre>
+ */
+public final class ReplicaPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaPool.class);
+
+    private final List<Replica>   replicas;
+    private final ReplicaSelector selector;
+
+    private ReplicaPool(List<Replica> replicas, ReplicaSelector selector) {
+        this.replicas = List.copyOf(replicas);
+        this.selector = selector;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Opens a connection on the best available replica.
+     *
+     * @return lease of the connection, or {@code null} if no replica could serve it
+     */
+    public Lease acquire() {
+        List<Replica> candidates = new ArrayList<>(replicas.size());
+
+        for (Replica replica : replicas) {
+            if (replica.getBreaker().isAvailable()) {
+                candidates.add(replica);
+            }
+        }
+
+        while (!candidates.isEmpty()) {
+            Replica replica = selector.select(candidates);
+
+            candidates.remove(replica);
+
+            ReplicaCircuitBreaker.Permit permit = replica.getBreaker().tryAcquire();
+
+            if (!permit.isGranted()) {
+                continue;
+            }
+
+            try {
+                return new Lease(replica, replica.open(permit), permit);
+            } catch (SQLException | RuntimeException exception) {
+                LOGGER.warn("Replica '{}' is not reachable ({}), breaker is {}",
+                            replica.getName(), exception.getMessage(), replica.getBreaker().getState());
+            }
+        }
+
+        return null;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public String toString() {
+        return "REPLICA-POOL%s".formatted(replicas);
+    }
+
+    /**
+     * Connection borrowed from a {@link Replica}; {@link #release(SQLException)} closes it and reports
+     * the outcome of the work done on it to the replica circuit breaker.
+     */
+    public record Lease(Replica replica, Connection connection, ReplicaCircuitBreaker.Permit permit) {
+
+        public void release() {
+            release(null);
+        }
+
+        /**
+         * @param failure failure raised while the connection was in use, or {@code null}
+         */
+        public void release(SQLException failure) {
+            try {
+                JdbcSupport.closeQuietly(connection);
+            } finally {
+                replica.complete(failure, permit);
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<Pending>   pending          = new ArrayList<>();
+        private       ReplicaSelector selector         = ReplicaSelector.LEAST_OUTSTANDING;
+        private       int             failureThreshold = ReplicaCircuitBreaker.DEFAULT_FAILURE_THRESHOLD;
+        private       Duration        openDuration     = ReplicaCircuitBreaker.DEFAULT_OPEN_DURATION;
+        private       double          decay            = 0.8;
+
+        private Builder() {
+        }
+
+        public Builder replica(String name, DataSource dataSource) {
+            pending.add(new Pending(name, dataSource));
+            return this;
+        }
+
+        public Builder selector(ReplicaSelector selector) {
+            this.selector = Verify.nonNull(selector, "selector");
+            return this;
+        }
+
+        /**
+         * @param failureThreshold consecutive failures opening the circuit of a replica
+         * @param openDuration     time a replica is skipped before a trial request
+         */
+        public Builder circuitBreaker(int failureThreshold, Duration openDuration) {
+            this.failureThreshold = Verify.positive(failureThreshold, "failureThreshold");
+            this.openDuration = Verify.nonNull(openDuration, "openDuration");
+            return this;
+        }
+
+        /**
+         * @param decay weight of the previous average in the latency EWMA, in {@code [0, 1)}
+         */
+        public Builder latencyDecay(double decay) {
+            Verify.state(decay >= 0 && decay < 1, "latency decay must be in [0, 1)");
+            this.decay = decay;
+            return this;
+        }
+
+        public ReplicaPool build() {
+            Verify.state(!pending.isEmpty(), "at least one replica is required");
+
+            List<Replica> replicas = new ArrayList<>(pending.size());
+
+            for (Pending replica : pending) {
+                replicas.add(new Replica(replica.name(), replica.dataSource(),
+                                         new ReplicaCircuitBreaker(failureThreshold, openDuration), decay));
+            }
+
+            return new ReplicaPool(replicas, selector);
+        }
+
+        private record Pending(String name, DataSource dataSource) {
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.jmouse.jdbc.connection.routing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * ⚖️ Strategy picking the {@link Replica} that serves the next read.
+ *
+ * <p>Candidates passed in are the replicas whose circuit breaker currently admits requests.
+ * Both built-in strategies start scanning at a random position, so equally loaded replicas
+ * share the traffic instead of the first one taking it all.</p>
+ */
+@FunctionalInterface
+public interface ReplicaSelector {
+
+    /**
+     * Prefers the replica with the fewest outstanding leases.
+     */
+    ReplicaSelector LEAST_OUTSTANDING = candidates -> select(candidates, Replica::getOutstanding);
+
+    /**
+     * Prefers the replica with the lowest {@code latency × (outstanding + 1)}, so a slow replica gets
+     * proportionally less traffic and a busy fast one is not overloaded. Replicas without a latency
+     * sample yet score zero and are tried first.
+     */
+    ReplicaSelector LATENCY_WEIGHTED = candidates -> select(
+            candidates, replica -> (double) replica.getLatency() * (replica.getOutstanding() + 1));
+
+    /**
+     * @param candidates non-empty list of available replicas
+     * @return replica to use
+     */
+    Replica select(List<Replica> candidates);
+
+    private static Replica select(List<Replica> candidates, ToDoubleFunction<Replica> score) {
+        int     size   = candidates.size();
+        int     offset = size == 1 ? 0 : ThreadLocalRandom.current().nextInt(size);
+        Replica best   = null;
+        double  lowest = Double.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            Replica replica = candidates.get((offset + i) % size);
+            double  value   = score.applyAsDouble(replica);
+
+            if (best == null || value < lowest) {
+                best = replica;
+                lowest = value;
+            }
+        }
+
+        return best;
+    }
+
+}
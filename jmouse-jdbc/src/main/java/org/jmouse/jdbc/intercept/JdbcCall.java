@@ -4,6 +4,8 @@ import org.jmouse.jdbc.JdbcOperation;
 import org.jmouse.jdbc.statement.StatementConfigurer;
 import org.jmouse.jdbc.statement.StatementHandler;
 
+import java.sql.ResultSet;
+
 /**
  * Immutable descriptor of a single JDBC invocation.
  * <p>
@@ -40,6 +42,7 @@ import org.jmouse.jdbc.statement.StatementHandler;
  */
 public sealed interface JdbcCall<T> permits
         JdbcQueryCall,
+        JdbcStreamCall,
         JdbcUpdateCall,
         JdbcBatchUpdateCall,
         JdbcKeyUpdateCall,
@@ -68,10 +71,13 @@ public sealed interface JdbcCall<T> permits
 
     /**
      * Returns the statement handler hook applied to this call.
+     * <p>
+     * The handler wraps the raw statement execution, so for queries it sees the {@link ResultSet}
+     * rather than the extracted or streamed result.
      *
      * @return statement handler (never {@code null})
      */
-    StatementHandler<T> handler();
+    StatementHandler<?> handler();
 
     /**
      * Returns a new {@code JdbcCall} instance with the given {@link StatementConfigurer}.
@@ -51,7 +51,7 @@ public record JdbcQueryCall<T>(
         StatementHandler<ResultSet> handler,
         StatementCallback<ResultSet> callback,
         ResultSetExtractor<T> extractor
-) implements JdbcCall<ResultSet> {
+) implements JdbcCall<T> {
 
     /**
      * Returns the logical operation type for this call.
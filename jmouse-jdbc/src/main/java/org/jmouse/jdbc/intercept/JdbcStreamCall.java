@@ -0,0 +1,55 @@
+package org.jmouse.jdbc.intercept;
+
+import org.jmouse.jdbc.JdbcOperation;
+import org.jmouse.jdbc.mapping.RowMapper;
+import org.jmouse.jdbc.statement.StatementBinder;
+import org.jmouse.jdbc.statement.StatementCallback;
+import org.jmouse.jdbc.statement.StatementConfigurer;
+import org.jmouse.jdbc.statement.StatementHandler;
+
+import java.sql.ResultSet;
+import java.util.stream.Stream;
+
+/**
+ * Query call whose result set is returned as a lazily mapped, closeable stream.
+ * <p>
+ * Interceptors see it as a {@link JdbcOperation#QUERY}; unlike {@link JdbcQueryCall} the JDBC
+ * resources stay open after the chain returns, until the stream is closed.
+ *
+ * @param <T> element type of the produced stream
+ */
+public record JdbcStreamCall<T>(
+        String sql,
+        StatementBinder binder,
+        StatementConfigurer configurer,
+        StatementHandler<ResultSet> handler,
+        StatementCallback<ResultSet> callback,
+        RowMapper<T> mapper
+) implements JdbcCall<Stream<T>> {
+
+    /**
+     * Returns the logical operation type for this call.
+     *
+     * @return {@link JdbcOperation#QUERY}
+     */
+    @Override
+    public JdbcOperation operation() {
+        return JdbcOperation.QUERY;
+    }
+
+    /**
+     * Returns a new call instance with an additional {@link StatementConfigurer}.
+     *
+     * @param configurer additional statement configuration
+     * @return new call instance with combined configuration
+     */
+    public JdbcStreamCall<T> with(StatementConfigurer configurer) {
+        return new JdbcStreamCall<>(
+                sql, binder,
+                StatementConfigurer.combine(this.configurer(), configurer),
+                handler,
+                callback, mapper
+        );
+    }
+
+}
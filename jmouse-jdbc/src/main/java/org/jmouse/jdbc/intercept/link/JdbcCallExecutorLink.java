@@ -67,6 +67,8 @@ public final class JdbcCallExecutorLink implements Link<JdbcExecutionContext, Jd
             return Outcome.done(switch (call) {
                 case JdbcQueryCall<?> q ->
                         executor.execute(q.sql(), q.binder(), q.configurer(), q.handler(), q.callback(), q.extractor());
+                case JdbcStreamCall<?> s ->
+                        executor.executeStream(s.sql(), s.binder(), s.configurer(), s.handler(), s.callback(), s.mapper());
                 case JdbcUpdateCall u ->
                         executor.executeUpdate(u.sql(), u.binder(), u.configurer(), u.handler(), u.callback());
                 case JdbcBatchUpdateCall b ->
@@ -0,0 +1,184 @@
+package org.jmouse.jdbc.intercept.profile;
+
+/**
+ * Reduces SQL to a fingerprint shared by every execution of the same statement shape.
+ *
+ * <p>Comments are dropped, string and numeric literals and named parameters become {@code ?},
+ * lists of placeholders collapse to {@code (?+)} (so expanded {@code IN} lists of any width
+ * match), whitespace is collapsed and the text outside quoted identifiers is lower-cased.</p>
+ *
+ * <pre>{@code
+ * SQLFingerprint.of("SELECT * FROM users WHERE id IN (?, ?, ?) AND name = 'x' -- hot");
+ * // select * from users where id in (?+) and name = ?
+ * }</pre>
+ */
+public final class SQLFingerprint {
+
+    private SQLFingerprint() {
+    }
+
+    /**
+     * @param sql raw SQL
+     * @return normalized fingerprint, empty for {@code null} or blank SQL
+     */
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        int           length = sql.length();
+        StringBuilder buffer = new StringBuilder(length);
+
+        for (int index = 0; index < length; index++) {
+            char character = sql.charAt(index);
+            char next      = index + 1 < length ? sql.charAt(index + 1) : '\0';
+
+            // comments
+            if (character == '-' && next == '-') {
+                while (index < length && sql.charAt(index) != '\n') {
+                    index++;
+                }
+                space(buffer);
+                continue;
+            }
+            if (character == '/' && next == '*') {
+                int end = sql.indexOf("*/", index + 2);
+                index = end < 0 ? length : end + 1;
+                space(buffer);
+                continue;
+            }
+
+            // string literal
+            if (character == '\'') {
+                index = skipQuoted(sql, index, '\'');
+                placeholder(buffer);
+                continue;
+            }
+
+            // quoted identifier is kept verbatim
+            if (character == '"' || character == '`') {
+                int end = skipQuoted(sql, index, character);
+                buffer.append(sql, index, Math.min(end + 1, length));
+                index = end;
+                continue;
+            }
+
+            // named parameter (but not a '::' cast)
+            if (character == ':' && Character.isJavaIdentifierStart(next) && !endsWith(buffer, ':')) {
+                index++;
+                while (index + 1 < length && Character.isJavaIdentifierPart(sql.charAt(index + 1))) {
+                    index++;
+                }
+                placeholder(buffer);
+                continue;
+            }
+
+            // numeric literal not being part of an identifier
+            if (Character.isDigit(character) && !identifierPart(buffer)) {
+                while (index + 1 < length && (Character.isLetterOrDigit(sql.charAt(index + 1))
+                        || sql.charAt(index + 1) == '.')) {
+                    index++;
+                }
+                placeholder(buffer);
+                continue;
+            }
+
+            if (character == '?') {
+                placeholder(buffer);
+                continue;
+            }
+
+            if (Character.isWhitespace(character)) {
+                space(buffer);
+                continue;
+            }
+
+            // no space before ',' and ')' nor after '('
+            if ((character == ',' || character == ')') && endsWith(buffer, ' ')) {
+                buffer.setLength(buffer.length() - 1);
+            }
+
+            buffer.append(Character.toLowerCase(character));
+
+            if (character == ',') {
+                buffer.append(' ');
+            }
+        }
+
+        return collapse(buffer).trim();
+    }
+
+    /**
+     * Collapses {@code (?, ?, ...)} and {@code (?)} into {@code (?+)}.
+     */
+    private static String collapse(StringBuilder buffer) {
+        StringBuilder result = new StringBuilder(buffer.length());
+        int           length = buffer.length();
+
+        for (int index = 0; index < length; index++) {
+            char character = buffer.charAt(index);
+
+            if (character == '(') {
+                int cursor = index + 1;
+                int count  = 0;
+
+                while (cursor < length && buffer.charAt(cursor) == '?') {
+                    count++;
+                    cursor++;
+                    if (cursor + 1 < length && buffer.charAt(cursor) == ',' && buffer.charAt(cursor + 1) == ' ') {
+                        cursor += 2;
+                    } else {
+                        break;
+                    }
+                }
+
+                if (count > 0 && cursor < length && buffer.charAt(cursor) == ')') {
+                    result.append("(?+)");
+                    index = cursor;
+                    continue;
+                }
+            }
+
+            result.append(character);
+        }
+
+        return result.toString();
+    }
+
+    private static int skipQuoted(String sql, int start, char quote) {
+        int index = start + 1;
+
+        while (index < sql.length()) {
+            if (sql.charAt(index) == quote) {
+                if (index + 1 < sql.length() && sql.charAt(index + 1) == quote) {
+                    index += 2;
+                    continue;
+                }
+                return index;
+            }
+            index++;
+        }
+
+        return sql.length();
+    }
+
+    private static void placeholder(StringBuilder buffer) {
+        buffer.append('?');
+    }
+
+    private static void space(StringBuilder buffer) {
+        if (!buffer.isEmpty() && !endsWith(buffer, ' ') && !endsWith(buffer, '(')) {
+            buffer.append(' ');
+        }
+    }
+
+    private static boolean endsWith(StringBuilder buffer, char character) {
+        return !buffer.isEmpty() && buffer.charAt(buffer.length() - 1) == character;
+    }
+
+    private static boolean identifierPart(StringBuilder buffer) {
+        return !buffer.isEmpty() && (Character.isLetterOrDigit(buffer.charAt(buffer.length() - 1))
+                || buffer.charAt(buffer.length() - 1) == '_');
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.jmouse.jdbc.intercept.profile;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of everything a {@link SQLProfiler} recorded for one SQL fingerprint.
+ *
+ * @param fingerprint     normalized SQL (see {@link SQLFingerprint})
+ * @param sample          one raw SQL text that produced the fingerprint
+ * @param calls           number of executions
+ * @param errors          executions that failed
+ * @param total           summed execution time
+ * @param max             slowest execution
+ * @param p50             median execution time
+ * @param p95             95th percentile execution time
+ * @param p99             99th percentile execution time
+ * @param rowsReturned    rows returned by queries (collections, optionals and consumed stream elements)
+ * @param rowsAffected    rows affected by updates and batches
+ * @param batches         number of batch executions
+ * @param batchItems      summed size of executed batches
+ * @param connectionWait  summed time spent acquiring connections
+ * @param repeatedScopes  transactions or requests in which the fingerprint ran often enough to look like N+1
+ */
+public record SQLProfile(
+        String fingerprint,
+        String sample,
+        long calls,
+        long errors,
+        Duration total,
+        Duration max,
+        Duration p50,
+        Duration p95,
+        Duration p99,
+        long rowsReturned,
+        long rowsAffected,
+        long batches,
+        long batchItems,
+        Duration connectionWait,
+        long repeatedScopes
+) {
+
+    public Duration mean() {
+        return calls == 0 ? Duration.ZERO : total.dividedBy(calls);
+    }
+
+    public double averageBatchSize() {
+        return batches == 0 ? 0 : (double) batchItems / batches;
+    }
+
+    @Override
+    public String toString() {
+        return "SQL-PROFILE[%s: calls=%d, errors=%d, total=%dms, p50=%dus, p99=%dus, max=%dus, rows=%d/%d, N+1=%d]"
+                .formatted(fingerprint, calls, errors, total.toMillis(), p50.toNanos() / 1000,
+                           p99.toNanos() / 1000, max.toNanos() / 1000, rowsReturned, rowsAffected, repeatedScopes);
+    }
+
+}
@@ -0,0 +1,356 @@
+package org.jmouse.jdbc.intercept.profile;
+
+import org.jmouse.core.Verify;
+import org.jmouse.jdbc.connection.ConnectionIntent;
+import org.jmouse.jdbc.connection.ConnectionProvider;
+import org.jmouse.transaction.infrastructure.support.TransactionContextAccessSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📈 In-process SQL profiler aggregating executions per {@link SQLFingerprint fingerprint}.
+ *
+ * <p>Fed by {@link SQLProfilingLink}, it keeps call counts, a latency histogram, rows returned and
+ * affected, batch sizes and connection-wait time (when the executor's provider is wrapped with
+ * {@link #measure(ConnectionProvider)}). All recorders are lock-free; {@link #top(int, Ranking)}
+ * returns the worst statements by the chosen {@link Ranking}.</p>
+ *
+ * <p>🔁 <b>N+1 detection:</b> executions are also counted per scope, which is the explicit
+ * {@link #scope(String) request scope} of the current thread or, without one, the current transaction.
+ * When a fingerprint reaches {@code repeatThreshold} executions within one scope, the
+ * {@link RepetitionListener} is notified once and {@link SQLProfile#repeatedScopes()} grows.</p>
+ *
+ * <pre>{@code
+ * try (SQLProfiler.Scope scope = profiler.scope("GET /orders")) {
+ *     service.listOrders();
+ * }
+ *
+ * profiler.top(10, SQLProfiler.Ranking.TOTAL_TIME).forEach(System.out::println);
+ * }</pre>
+ *
+ * <p>The number of distinct fingerprints is bounded; executions of statements beyond the limit are
+ * aggregated under {@link #OTHER}, which takes no part in N+1 detection.</p>
+ */
+public final class SQLProfiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SQLProfiler.class);
+
+    public static final int    DEFAULT_MAX_FINGERPRINTS = 1000;
+    public static final int    DEFAULT_REPEAT_THRESHOLD = 10;
+    public static final String OTHER                    = "<other>";
+
+    private final Map<String, SQLStatementRecorder> statements   = new ConcurrentHashMap<>();
+    private final Map<String, String>               fingerprints = new ConcurrentHashMap<>();
+    private final int                               maxFingerprints;
+    private final int                               repeatThreshold;
+    private final RepetitionListener                listener;
+    private final ThreadLocal<ExecutionScope>       explicit     = new ThreadLocal<>();
+    private final ThreadLocal<ExecutionScope>       transaction  = new ThreadLocal<>();
+    private final ThreadLocal<long[]>               waited       = ThreadLocal.withInitial(() -> new long[1]);
+
+    public SQLProfiler() {
+        this(DEFAULT_MAX_FINGERPRINTS, DEFAULT_REPEAT_THRESHOLD, RepetitionListener.LOGGING);
+    }
+
+    /**
+     * @param maxFingerprints maximal number of distinct fingerprints tracked
+     * @param repeatThreshold executions of one fingerprint within a scope reported as N+1
+     * @param listener        notified when a fingerprint reaches the threshold in a scope
+     */
+    public SQLProfiler(int maxFingerprints, int repeatThreshold, RepetitionListener listener) {
+        this.maxFingerprints = Verify.positive(maxFingerprints, "maxFingerprints");
+        this.repeatThreshold = Verify.positive(repeatThreshold, "repeatThreshold");
+        this.listener = Verify.nonNull(listener, "listener");
+    }
+
+    /**
+     * Opens an N+1 detection scope (typically one request) on the current thread. Scopes nest;
+     * closing one restores the enclosing scope.
+     *
+     * @param name scope name passed to the {@link RepetitionListener}
+     * @return scope to close when the unit of work ends
+     */
+    public Scope scope(String name) {
+        Scope scope = new Scope(explicit.get(), new ExecutionScope(Verify.nonNull(name, "name"), null));
+        explicit.set(scope.current);
+        return scope;
+    }
+
+    /**
+     * Decorates a provider so the time spent acquiring connections is attributed to the statement
+     * being executed on the current thread.
+     */
+    public ConnectionProvider measure(ConnectionProvider provider) {
+        return new MeasuringConnectionProvider(Verify.nonNull(provider, "provider"));
+    }
+
+    /**
+     * @param limit   maximal number of profiles returned
+     * @param ranking order of the result, worst first
+     * @return the {@code limit} worst statements
+     */
+    public List<SQLProfile> top(int limit, Ranking ranking) {
+        List<SQLProfile> profiles = profiles();
+
+        profiles.sort(ranking.comparator);
+
+        return List.copyOf(profiles.subList(0, Math.min(limit, profiles.size())));
+    }
+
+    /**
+     * @return snapshot of all tracked fingerprints, unordered
+     */
+    public List<SQLProfile> profiles() {
+        List<SQLProfile> profiles = new ArrayList<>(statements.size());
+
+        for (SQLStatementRecorder recorder : statements.values()) {
+            profiles.add(recorder.snapshot());
+        }
+
+        return profiles;
+    }
+
+    /**
+     * @param sql raw SQL
+     * @return snapshot for the fingerprint of the SQL, or {@code null} if it never ran
+     */
+    public SQLProfile profile(String sql) {
+        SQLStatementRecorder recorder = statements.get(fingerprint(sql));
+        return recorder == null ? null : recorder.snapshot();
+    }
+
+    /**
+     * Drops all collected statistics.
+     */
+    public void reset() {
+        statements.clear();
+        fingerprints.clear();
+    }
+
+    /**
+     * Resolves the recorder of the SQL and counts the execution in the current N+1 scope.
+     */
+    SQLStatementRecorder recorder(String sql) {
+        String               fingerprint = fingerprint(sql);
+        SQLStatementRecorder recorder    = statements.get(fingerprint);
+
+        if (recorder == null) {
+            String key = statements.size() < maxFingerprints ? fingerprint : OTHER;
+            recorder = statements.computeIfAbsent(key, ignored -> new SQLStatementRecorder(key, sql));
+        }
+
+        // the overflow bucket mixes unrelated statements, repetitions in it are meaningless
+        if (recorder.isOther()) {
+            return recorder;
+        }
+
+        ExecutionScope scope = currentScope();
+
+        if (scope != null && scope.count(recorder) == repeatThreshold) {
+            recorder.repeated();
+            listener.onRepetition(scope.name, fingerprint, sql, repeatThreshold);
+        }
+
+        return recorder;
+    }
+
+    /**
+     * @return connection-wait time accumulated on this thread so far
+     */
+    long waited() {
+        return waited.get()[0];
+    }
+
+    /**
+     * Takes the connection-wait time accumulated since {@code mark}, leaving the counter where an
+     * enclosing execution expects it.
+     */
+    long waitedSince(long mark) {
+        long[] slot  = waited.get();
+        long   delta = slot[0] - mark;
+
+        slot[0] = mark;
+
+        return delta;
+    }
+
+    private String fingerprint(String sql) {
+        String fingerprint = fingerprints.get(sql);
+
+        if (fingerprint == null) {
+            // raw SQL texts outnumber fingerprints (e.g. inlined literals); start over rather than grow
+            if (fingerprints.size() >= maxFingerprints * 4) {
+                fingerprints.clear();
+            }
+            fingerprint = SQLFingerprint.of(sql);
+            fingerprints.put(sql, fingerprint);
+        }
+
+        return fingerprint;
+    }
+
+    private ExecutionScope currentScope() {
+        ExecutionScope scope = explicit.get();
+
+        if (scope != null) {
+            return scope;
+        }
+
+        Object context = TransactionContextAccessSupport.isRegistered()
+                ? TransactionContextAccessSupport.current().getContext() : null;
+
+        if (context == null) {
+            transaction.remove();
+            return null;
+        }
+
+        scope = transaction.get();
+
+        if (scope == null || scope.owner.get() != context) {
+            scope = new ExecutionScope("transaction", context);
+            transaction.set(scope);
+        }
+
+        return scope;
+    }
+
+    @Override
+    public String toString() {
+        return "SQL-PROFILER[fingerprints=%d, repeatThreshold=%d]".formatted(statements.size(), repeatThreshold);
+    }
+
+    /**
+     * Order of {@link #top(int, Ranking)}, worst first.
+     */
+    public enum Ranking {
+
+        TOTAL_TIME(Comparator.comparing(SQLProfile::total)),
+        CALLS(Comparator.comparingLong(SQLProfile::calls)),
+        MAX_TIME(Comparator.comparing(SQLProfile::max)),
+        P99(Comparator.comparing(SQLProfile::p99)),
+        ERRORS(Comparator.comparingLong(SQLProfile::errors)),
+        ROWS_RETURNED(Comparator.comparingLong(SQLProfile::rowsReturned)),
+        CONNECTION_WAIT(Comparator.comparing(SQLProfile::connectionWait)),
+        REPETITIONS(Comparator.comparingLong(SQLProfile::repeatedScopes));
+
+        private final Comparator<SQLProfile> comparator;
+
+        Ranking(Comparator<SQLProfile> comparator) {
+            this.comparator = comparator.reversed();
+        }
+    }
+
+    /**
+     * Callback for statements executed suspiciously often within one scope.
+     */
+    @FunctionalInterface
+    public interface RepetitionListener {
+
+        RepetitionListener NOOP = (scope, fingerprint, sql, executions) -> { };
+
+        RepetitionListener LOGGING = (scope, fingerprint, sql, executions) -> LOGGER.warn(
+                "Possible N+1: '{}' executed {} times within {}", fingerprint, executions, scope);
+
+        /**
+         * @param scope       scope name ({@code transaction} or the name given to {@link #scope(String)})
+         * @param fingerprint fingerprint of the statement
+         * @param sql         SQL of the execution that reached the threshold
+         * @param executions  number of executions within the scope
+         */
+        void onRepetition(String scope, String fingerprint, String sql, int executions);
+    }
+
+    /**
+     * Request scope opened by {@link #scope(String)}.
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final ExecutionScope previous;
+        private final ExecutionScope current;
+
+        private Scope(ExecutionScope previous, ExecutionScope current) {
+            this.previous = previous;
+            this.current = current;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                explicit.remove();
+            } else {
+                explicit.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Per-thread execution counts of a request or transaction.
+     */
+    private static final class ExecutionScope {
+
+        private final String                             name;
+        private final WeakReference<Object>              owner;
+        private final Map<SQLStatementRecorder, Integer> counts = new IdentityHashMap<>();
+
+        ExecutionScope(String name, Object owner) {
+            this.name = name;
+            this.owner = new WeakReference<>(owner);
+        }
+
+        int count(SQLStatementRecorder recorder) {
+            return counts.merge(recorder, 1, Integer::sum);
+        }
+    }
+
+    private final class MeasuringConnectionProvider implements ConnectionProvider {
+
+        private final ConnectionProvider delegate;
+
+        MeasuringConnectionProvider(ConnectionProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            long start = System.nanoTime();
+
+            try {
+                return delegate.getConnection();
+            } finally {
+                waited.get()[0] += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public Connection getConnection(ConnectionIntent intent) throws SQLException {
+            long start = System.nanoTime();
+
+            try {
+                return delegate.getConnection(intent);
+            } finally {
+                waited.get()[0] += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public void release(Connection connection) {
+            delegate.release(connection);
+        }
+
+        @Override
+        public void release(Connection connection, SQLException failure) {
+            delegate.release(connection, failure);
+        }
+    }
+
+}
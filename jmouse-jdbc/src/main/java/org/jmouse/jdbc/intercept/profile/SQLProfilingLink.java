@@ -0,0 +1,112 @@
+package org.jmouse.jdbc.intercept.profile;
+
+import org.jmouse.core.Verify;
+import org.jmouse.core.chain.Chain;
+import org.jmouse.core.chain.Link;
+import org.jmouse.core.chain.Outcome;
+import org.jmouse.jdbc.intercept.*;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Interceptor link feeding every {@link JdbcCall} into a {@link SQLProfiler}.
+ * <p>
+ * Measures the downstream execution and derives row counts from the result: update counts
+ * and batch results are recorded as affected rows; queries count the size of a returned
+ * collection, map or optional and one row for any other non-null value. Streams are counted
+ * as their elements are consumed.
+ *
+ * <h3>Typical chain position</h3>
+ * <pre>{@code
+ * builder
+ *   .add(new SQLProfilingLink(profiler))
+ *   .add(new JdbcExceptionTranslationLink(translator))
+ *   .add(new JdbcCallExecutorLink());
+ * }</pre>
+ *
+ * @author jMouse
+ */
+public final class SQLProfilingLink implements Link<JdbcExecutionContext, JdbcCall<?>, Object> {
+
+    private final SQLProfiler profiler;
+
+    public SQLProfilingLink(SQLProfiler profiler) {
+        this.profiler = Verify.nonNull(profiler, "profiler");
+    }
+
+    @Override
+    public Outcome<Object> handle(
+            JdbcExecutionContext context,
+            JdbcCall<?> call,
+            Chain<JdbcExecutionContext, JdbcCall<?>, Object> next
+    ) {
+        SQLStatementRecorder recorder = profiler.recorder(call.sql());
+        long                 mark     = profiler.waited();
+        long                 start    = System.nanoTime();
+        boolean              failed   = true;
+        Outcome<Object>      outcome;
+
+        try {
+            outcome = next.proceed(context, call);
+            failed = false;
+        } finally {
+            recorder.execution(System.nanoTime() - start, failed, profiler.waitedSince(mark));
+        }
+
+        if (call instanceof JdbcBatchUpdateCall batch) {
+            recorder.batch(batch.batchSize());
+        }
+
+        if (outcome instanceof Outcome.Done<Object>(Object value)) {
+            return switch (call) {
+                case JdbcStreamCall<?> ignored -> Outcome.done(counted((Stream<?>) value, recorder));
+                case JdbcQueryCall<?> ignored -> {
+                    recorder.returned(rows(value));
+                    yield outcome;
+                }
+                case JdbcUpdateCall ignored when value instanceof Integer count -> {
+                    recorder.affected(Math.max(0, count));
+                    yield outcome;
+                }
+                case JdbcBatchUpdateCall ignored when value instanceof int[] counts -> {
+                    recorder.affected(affected(counts));
+                    yield outcome;
+                }
+                default -> outcome;
+            };
+        }
+
+        return outcome;
+    }
+
+    private static Stream<?> counted(Stream<?> stream, SQLStatementRecorder recorder) {
+        LongAdder rows = new LongAdder();
+        return stream.peek(ignored -> rows.increment()).onClose(() -> recorder.returned(rows.sum()));
+    }
+
+    private static long rows(Object value) {
+        return switch (value) {
+            case null -> 0;
+            case Collection<?> collection -> collection.size();
+            case Map<?, ?> map -> map.size();
+            case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+            default -> 1;
+        };
+    }
+
+    private static long affected(int[] counts) {
+        long affected = 0;
+
+        // negative values are driver markers such as Statement.SUCCESS_NO_INFO
+        for (int count : counts) {
+            affected += Math.max(0, count);
+        }
+
+        return affected;
+    }
+
+}
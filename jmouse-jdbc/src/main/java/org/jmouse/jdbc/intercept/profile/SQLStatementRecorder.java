@@ -0,0 +1,82 @@
+package org.jmouse.jdbc.intercept.profile;
+
+import org.jmouse.core.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters of a single SQL fingerprint.
+ */
+final class SQLStatementRecorder {
+
+    private final String           fingerprint;
+    private final String           sample;
+    private final LongAdder        calls          = new LongAdder();
+    private final LongAdder        errors         = new LongAdder();
+    private final LongAdder        nanos          = new LongAdder();
+    private final AtomicLong       max            = new AtomicLong();
+    private final LatencyHistogram histogram      = new LatencyHistogram();
+    private final LongAdder        rowsReturned   = new LongAdder();
+    private final LongAdder        rowsAffected   = new LongAdder();
+    private final LongAdder        batches        = new LongAdder();
+    private final LongAdder        batchItems     = new LongAdder();
+    private final LongAdder        connectionWait = new LongAdder();
+    private final LongAdder        repeatedScopes = new LongAdder();
+
+    SQLStatementRecorder(String fingerprint, String sample) {
+        this.fingerprint = fingerprint;
+        this.sample = sample;
+    }
+
+    boolean isOther() {
+        return SQLProfiler.OTHER.equals(fingerprint);
+    }
+
+    void execution(long elapsed, boolean failed, long waited) {
+        calls.increment();
+        nanos.add(elapsed);
+        histogram.record(elapsed);
+
+        if (max.get() < elapsed) {
+            max.accumulateAndGet(elapsed, Math::max);
+        }
+        if (failed) {
+            errors.increment();
+        }
+        if (waited > 0) {
+            connectionWait.add(waited);
+        }
+    }
+
+    void returned(long rows) {
+        rowsReturned.add(rows);
+    }
+
+    void affected(long rows) {
+        rowsAffected.add(rows);
+    }
+
+    void batch(int items) {
+        batches.increment();
+        batchItems.add(items);
+    }
+
+    void repeated() {
+        repeatedScopes.increment();
+    }
+
+    SQLProfile snapshot() {
+        LatencyHistogram.Snapshot latencies = histogram.snapshot();
+
+        return new SQLProfile(
+                fingerprint, sample, calls.sum(), errors.sum(),
+                Duration.ofNanos(nanos.sum()), Duration.ofNanos(max.get()),
+                latencies.percentile(50), latencies.percentile(95), latencies.percentile(99),
+                rowsReturned.sum(), rowsAffected.sum(), batches.sum(), batchItems.sum(),
+                Duration.ofNanos(connectionWait.sum()), repeatedScopes.sum()
+        );
+    }
+
+}
@@ -0,0 +1,478 @@
+package org.jmouse.jdbc.mapping;
+
+import org.jmouse.core.Verify;
+import org.jmouse.core.access.descriptor.structured.ObjectDescriptor;
+import org.jmouse.core.access.descriptor.structured.PropertyDescriptor;
+import org.jmouse.core.access.descriptor.structured.bean.JavaBeanIntrospector;
+import org.jmouse.core.binding.BindName;
+import org.jmouse.core.binding.BinderConversion;
+import org.jmouse.core.convert.Conversion;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.*;
+import java.util.*;
+
+/**
+ * Precompiled mapping of one result-set shape onto one target type.
+ * <p>
+ * A plan is compiled once from {@link ResultSetMetaData} and then applied to every row of every
+ * result set with the same columns. It holds, per mapped column:
+ * <ul>
+ *     <li>the 1-based column index (no name lookup per row)</li>
+ *     <li>a typed {@link ColumnReader} selected from the target property type
+ *     ({@code getLong}, {@code getString}, {@code getTimestamp}, ...)</li>
+ *     <li>either a setter {@link MethodHandle} (JavaBeans) or a canonical-constructor argument slot (records)</li>
+ * </ul>
+ *
+ * <h3>Column matching</h3>
+ * A property (or {@link BindName} alias of its setter) is matched to a column by:
+ * <ol>
+ *     <li>exact column name or label</li>
+ *     <li>case-insensitive name or label</li>
+ *     <li>name or label with {@code _}, {@code -} and spaces removed, case-insensitive
+ *     (so {@code user_name} matches {@code userName})</li>
+ * </ol>
+ * Properties without a matching column, or whose column is SQL {@code NULL}, are left at their
+ * initial value (records receive {@code null} or the primitive default).
+ *
+ * <h3>Example</h3>
+ * <pre>{@code
+ * BeanMappingPlan<User> plan = BeanMappingPlan.compile(User.class, resultSet.getMetaData());
+ *
+ * while (resultSet.next()) {
+ *     users.add(plan.map(resultSet));
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Plans are immutable and thread-safe.
+ *
+ * @param <T> target type
+ * @author jMouse
+ */
+public final class BeanMappingPlan<T> {
+
+    private static final Conversion           CONVERSION = new BinderConversion();
+    private static final MethodHandles.Lookup LOOKUP     = MethodHandles.lookup();
+
+    private final Class<T>     type;
+    private final List<String> columns;
+    private final MethodHandle factory;
+    private final Slot[]       slots;
+    private final Object[]     defaults;
+
+    private BeanMappingPlan(Class<T> type, List<String> columns, MethodHandle factory, Slot[] slots, Object[] defaults) {
+        this.type = type;
+        this.columns = columns;
+        this.factory = factory;
+        this.slots = slots;
+        this.defaults = defaults;
+    }
+
+    /**
+     * Returns whether a plan can be compiled for the given type: a record, or a concrete
+     * non-scalar class with a no-argument constructor.
+     *
+     * @param type target type
+     * @return {@code true} if supported
+     */
+    public static boolean supports(Class<?> type) {
+        if (type.isRecord()) {
+            return true;
+        }
+
+        if (type.isInterface() || type.isArray() || type.isEnum() || type.isPrimitive()
+                || Modifier.isAbstract(type.getModifiers()) || type.getName().startsWith("java.")) {
+            return false;
+        }
+
+        try {
+            type.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Compiles a plan mapping rows described by {@code metadata} onto {@code type}.
+     *
+     * @param type     target type (see {@link #supports(Class)})
+     * @param metadata result-set metadata
+     * @param <T>      target type
+     * @return compiled plan
+     * @throws SQLException if metadata cannot be read
+     */
+    public static <T> BeanMappingPlan<T> compile(Class<T> type, ResultSetMetaData metadata) throws SQLException {
+        Verify.state(supports(type), "Type '%s' cannot be mapped by a plan".formatted(type.getName()));
+
+        Columns columns = Columns.of(metadata);
+
+        try {
+            return type.isRecord() ? compileRecord(type, columns) : compileBean(type, columns);
+        } catch (IllegalAccessException | NoSuchMethodException exception) {
+            throw new IllegalStateException("Unable to compile mapping plan for '%s'".formatted(type.getName()),
+                                            exception);
+        }
+    }
+
+    /**
+     * Returns the column signature of a result set, used to decide whether a plan can be reused.
+     *
+     * @param metadata result-set metadata
+     * @return column labels and names in order
+     * @throws SQLException if metadata cannot be read
+     */
+    public static List<String> shapeOf(ResultSetMetaData metadata) throws SQLException {
+        return Columns.of(metadata).shape();
+    }
+
+    private static <T> BeanMappingPlan<T> compileBean(Class<T> type, Columns columns)
+            throws IllegalAccessException, NoSuchMethodException {
+        ObjectDescriptor<T> descriptor = new JavaBeanIntrospector<>(type).introspect().toDescriptor();
+        List<Slot>          slots      = new ArrayList<>();
+
+        for (PropertyDescriptor<T> property : descriptor.getProperties().values()) {
+            Method setter = property.getSetterMethod() != null ? property.getSetterMethod().unwrap() : null;
+
+            if (setter == null || setter.getParameterCount() != 1 || Modifier.isStatic(setter.getModifiers())) {
+                continue;
+            }
+
+            int column = columns.find(preferredName(property.getName(), setter));
+
+            if (column > 0) {
+                Class<?>     propertyType = setter.getParameterTypes()[0];
+                MethodHandle handle       = unreflect(setter)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                slots.add(new Slot(column, property.getName(), ColumnReader.forType(propertyType), handle, -1));
+            }
+        }
+
+        Constructor<T> constructor = type.getDeclaredConstructor();
+        constructor.trySetAccessible();
+
+        MethodHandle factory = LOOKUP.unreflectConstructor(constructor)
+                .asType(MethodType.methodType(Object.class));
+
+        return new BeanMappingPlan<>(type, columns.shape(), factory, slots.toArray(Slot[]::new), null);
+    }
+
+    private static <T> BeanMappingPlan<T> compileRecord(Class<T> type, Columns columns)
+            throws IllegalAccessException, NoSuchMethodException {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[]        types      = new Class<?>[components.length];
+        Object[]          defaults   = new Object[components.length];
+        List<Slot>        slots      = new ArrayList<>();
+
+        for (int index = 0; index < components.length; index++) {
+            RecordComponent component = components[index];
+            Class<?>        slotType  = component.getType();
+            int             column    = columns.find(preferredName(component.getName(), component.getAccessor()));
+
+            types[index] = slotType;
+            defaults[index] = slotType.isPrimitive() ? primitiveDefault(slotType) : null;
+
+            if (column > 0) {
+                slots.add(new Slot(column, component.getName(), ColumnReader.forType(slotType), null, index));
+            }
+        }
+
+        Constructor<T> constructor = type.getDeclaredConstructor(types);
+        constructor.trySetAccessible();
+
+        MethodHandle factory = LOOKUP.unreflectConstructor(constructor)
+                .asSpreader(Object[].class, components.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+
+        return new BeanMappingPlan<>(type, columns.shape(), factory, slots.toArray(Slot[]::new), defaults);
+    }
+
+    /**
+     * Maps the current row of the given result set.
+     *
+     * @param resultSet result set positioned on a row
+     * @return mapped instance
+     * @throws SQLException if a column cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    public T map(ResultSet resultSet) throws SQLException {
+        try {
+            return (T) (defaults != null ? mapRecord(resultSet) : mapBean(resultSet));
+        } catch (SQLException | RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("Failed to map bean-type: '%s'".formatted(type.getName()), throwable);
+        }
+    }
+
+    private Object mapBean(ResultSet resultSet) throws Throwable {
+        Object instance = (Object) factory.invokeExact();
+
+        for (Slot slot : slots) {
+            Object value = slot.reader().read(resultSet, slot.column());
+
+            // like the binder, SQL NULL leaves the property at its initial value
+            if (value != null) {
+                slot.setter().invokeExact(instance, value);
+            }
+        }
+
+        return instance;
+    }
+
+    private Object mapRecord(ResultSet resultSet) throws Throwable {
+        Object[] arguments = defaults.clone();
+
+        for (Slot slot : slots) {
+            Object value = slot.reader().read(resultSet, slot.column());
+
+            if (value != null) {
+                arguments[slot.position()] = value;
+            }
+        }
+
+        return (Object) factory.invokeExact(arguments);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the column signature this plan was compiled for.
+     *
+     * @return column labels and names in order
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the mapped properties with their 1-based column index.
+     *
+     * @return property name → column index
+     */
+    public Map<String, Integer> getBindings() {
+        Map<String, Integer> bindings = new LinkedHashMap<>();
+
+        for (Slot slot : slots) {
+            bindings.put(slot.property(), slot.column());
+        }
+
+        return bindings;
+    }
+
+    @Override
+    public String toString() {
+        return "PLAN[%s, %s]".formatted(type.getSimpleName(), getBindings());
+    }
+
+    private static String preferredName(String name, Method method) {
+        if (method != null && method.isAnnotationPresent(BindName.class)) {
+            String preferred = method.getAnnotation(BindName.class).value();
+            if (preferred != null && !preferred.isEmpty()) {
+                name = preferred;
+            }
+        }
+
+        return name;
+    }
+
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        method.trySetAccessible();
+        return LOOKUP.unreflect(method);
+    }
+
+    private static Object primitiveDefault(Class<?> type) {
+        return java.lang.reflect.Array.get(java.lang.reflect.Array.newInstance(type, 1), 0);
+    }
+
+    /**
+     * One mapped column.
+     *
+     * @param column    1-based column index
+     * @param property  target property or record component name
+     * @param reader    typed column reader
+     * @param setter    setter handle {@code (Object, Object) -> void} for JavaBeans
+     * @param position  constructor argument position for records
+     */
+    private record Slot(
+            int column, String property, ColumnReader reader, MethodHandle setter, int position
+    ) { }
+
+    /**
+     * Column lookup tables of one result-set shape.
+     */
+    private record Columns(List<String> shape, Map<String, Integer> exact, Map<String, Integer> lower,
+                           Map<String, Integer> normalized) {
+
+        static Columns of(ResultSetMetaData metadata) throws SQLException {
+            int                  count      = metadata.getColumnCount();
+            List<String>         shape      = new ArrayList<>(count * 2);
+            Map<String, Integer> exact      = new HashMap<>();
+            Map<String, Integer> lower      = new HashMap<>();
+            Map<String, Integer> normalized = new HashMap<>();
+
+            for (int index = 1; index <= count; index++) {
+                String label = metadata.getColumnLabel(index);
+                String name  = metadata.getColumnName(index);
+
+                shape.add(label);
+                shape.add(name);
+
+                for (String column : new String[]{label, name}) {
+                    if (column != null) {
+                        exact.putIfAbsent(column, index);
+                        lower.putIfAbsent(column.toLowerCase(Locale.ROOT), index);
+                        normalized.putIfAbsent(normalize(column), index);
+                    }
+                }
+            }
+
+            return new Columns(Collections.unmodifiableList(shape), exact, lower, normalized);
+        }
+
+        int find(String property) {
+            Integer index = exact.get(property);
+
+            if (index == null) {
+                index = lower.get(property.toLowerCase(Locale.ROOT));
+            }
+
+            if (index == null) {
+                index = normalized.get(normalize(property));
+            }
+
+            return index == null ? -1 : index;
+        }
+
+        static String normalize(String name) {
+            StringBuilder builder = new StringBuilder(name.length());
+
+            for (int index = 0; index < name.length(); index++) {
+                char character = name.charAt(index);
+                if (character != '_' && character != '-' && character != ' ') {
+                    builder.append(Character.toLowerCase(character));
+                }
+            }
+
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Reads a single column using the getter best suited for the target type.
+     * Returns {@code null} for SQL {@code NULL}.
+     */
+    @FunctionalInterface
+    public interface ColumnReader {
+
+        Object read(ResultSet resultSet, int column) throws SQLException;
+
+        /**
+         * Selects a reader for the given target type.
+         *
+         * @param type target property type
+         * @return column reader
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static ColumnReader forType(Class<?> type) {
+            if (type == String.class) {
+                return ResultSet::getString;
+            } else if (type == long.class || type == Long.class) {
+                return (resultSet, column) -> {
+                    long value = resultSet.getLong(column);
+                    return resultSet.wasNull() ? null : value;
+                };
+            } else if (type == int.class || type == Integer.class) {
+                return (resultSet, column) -> {
+                    int value = resultSet.getInt(column);
+                    return resultSet.wasNull() ? null : value;
+                };
+            } else if (type == boolean.class || type == Boolean.class) {
+                return (resultSet, column) -> {
+                    boolean value = resultSet.getBoolean(column);
+                    return resultSet.wasNull() ? null : value;
+                };
+            } else if (type == double.class || type == Double.class) {
+                return (resultSet, column) -> {
+                    double value = resultSet.getDouble(column);
+                    return resultSet.wasNull() ? null : value;
+                };
+            } else if (type == float.class || type == Float.class) {
+                return (resultSet, column) -> {
+                    float value = resultSet.getFloat(column);
+                    return resultSet.wasNull() ? null : value;
+                };
+            } else if (type == short.class || type == Short.class) {
+                return (resultSet, column) -> {
+                    short value = resultSet.getShort(column);
+                    return resultSet.wasNull() ? null : value;
+                };
+            } else if (type == byte.class || type == Byte.class) {
+                return (resultSet, column) -> {
+                    byte value = resultSet.getByte(column);
+                    return resultSet.wasNull() ? null : value;
+                };
+            } else if (type == BigDecimal.class) {
+                return ResultSet::getBigDecimal;
+            } else if (type == byte[].class) {
+                return ResultSet::getBytes;
+            } else if (type == Timestamp.class) {
+                return ResultSet::getTimestamp;
+            } else if (type == java.sql.Date.class) {
+                return ResultSet::getDate;
+            } else if (type == Time.class) {
+                return ResultSet::getTime;
+            } else if (type == LocalDateTime.class) {
+                return (resultSet, column) -> {
+                    Timestamp value = resultSet.getTimestamp(column);
+                    return value == null ? null : value.toLocalDateTime();
+                };
+            } else if (type == LocalDate.class) {
+                return (resultSet, column) -> {
+                    java.sql.Date value = resultSet.getDate(column);
+                    return value == null ? null : value.toLocalDate();
+                };
+            } else if (type == LocalTime.class) {
+                return (resultSet, column) -> {
+                    Time value = resultSet.getTime(column);
+                    return value == null ? null : value.toLocalTime();
+                };
+            } else if (type == Instant.class) {
+                return (resultSet, column) -> {
+                    Timestamp value = resultSet.getTimestamp(column);
+                    return value == null ? null : value.toInstant();
+                };
+            } else if (type == OffsetDateTime.class) {
+                return (resultSet, column) -> resultSet.getObject(column, OffsetDateTime.class);
+            } else if (type.isEnum()) {
+                Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+                return (resultSet, column) -> {
+                    String value = resultSet.getString(column);
+                    return value == null ? null : Enum.valueOf(enumType, value);
+                };
+            }
+
+            return (resultSet, column) -> {
+                Object value = resultSet.getObject(column);
+
+                if (value == null || type.isInstance(value)) {
+                    return value;
+                }
+
+                return CONVERSION.convert(value, (Class<Object>) type);
+            };
+        }
+    }
+
+}
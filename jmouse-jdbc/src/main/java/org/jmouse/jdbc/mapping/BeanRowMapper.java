@@ -4,19 +4,27 @@ import org.jmouse.core.Verify;
 import org.jmouse.core.access.ObjectAccessor;
 import org.jmouse.core.access.TypedValue;
 import org.jmouse.core.binding.*;
-import org.jmouse.core.access.accessor.DummyObjectAccessor;
+import org.jmouse.core.cache.LRUCache;
 import org.jmouse.core.reflection.InferredType;
 import org.jmouse.jdbc.mapping.bind.JdbcAccessorWrapper;
 
+import java.lang.ref.WeakReference;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
 
 /**
- * {@link RowMapper} implementation that maps a JDBC {@link ResultSet} row into a Java bean
- * using the jMouse core {@link Binder} infrastructure.
+ * {@link RowMapper} implementation that maps a JDBC {@link ResultSet} row into a Java bean or record.
  * <p>
- * The mapping process adapts the {@link ResultSet} into an {@link ObjectAccessor} via
- * {@link JdbcAccessorWrapper} and then delegates the binding into the target type using
- * {@link TypedValue} metadata (built from {@link InferredType}).
+ * For JavaBeans with a no-argument constructor and for records, rows are mapped through a
+ * {@link BeanMappingPlan} compiled once per result-set shape (column labels/names) and reused for
+ * every row: columns are read by index with typed getters and written through precompiled setter
+ * handles or canonical-constructor slots. The plan of the current result set is remembered, so the
+ * per-row cost is a reference comparison plus the column reads themselves.
+ * <p>
+ * Other target types fall back to the jMouse core {@link Binder} infrastructure: the
+ * {@link ResultSet} is adapted into an {@link ObjectAccessor} via {@link JdbcAccessorWrapper}
+ * and bound using {@link TypedValue} metadata (built from {@link InferredType}).
  *
  * <h3>Typical usage</h3>
  * <pre>{@code
@@ -30,15 +38,13 @@ import java.sql.ResultSet;
  *
  * <h3>Binding expectations</h3>
  * <ul>
- *     <li>The binder must be able to instantiate the target type (constructor / factory rules)</li>
- *     <li>Column names/labels should match bindable property names (or binder must support aliases)</li>
- *     <li>Type conversion is performed by the binder conversion pipeline (if configured)</li>
+ *     <li>Column names/labels are matched to property names exactly, then case-insensitively,
+ *     then ignoring {@code _}/{@code -} (see {@link BeanMappingPlan})</li>
+ *     <li>Properties without a matching column keep their initial value</li>
  * </ul>
  *
  * <p>
- * ⚠️ This mapperProvider is stateful: it reuses a single {@link Binder} instance and swaps its
- * {@link ObjectAccessor} per row. Do not share the same instance across concurrent threads
- * unless {@link Binder} is explicitly thread-safe.
+ * Instances are thread-safe and may be shared.
  *
  * @param <T> target bean type
  *
@@ -46,15 +52,30 @@ import java.sql.ResultSet;
  */
 public final class BeanRowMapper<T> implements RowMapper<T> {
 
+    /**
+     * Upper bound of distinct result-set shapes remembered per mapper; the least recently used shape is evicted.
+     */
+    private static final int MAX_PLANS = 64;
+
     /**
      * Target bean type.
      */
     private final Class<T> type;
 
     /**
-     * jMouse binder used to bind values from the {@link ResultSet}-backed accessor into the target bean.
+     * Whether {@link BeanMappingPlan plans} can be used for the target type.
+     */
+    private final boolean planned;
+
+    /**
+     * Compiled plans by result-set shape.
      */
-    private final Binder binder;
+    private final LRUCache<List<String>, BeanMappingPlan<T>> plans = new LRUCache<>(MAX_PLANS);
+
+    /**
+     * Plan of the most recently seen result set.
+     */
+    private volatile Current<T> current;
 
     /**
      * Creates a new {@code BeanRowMapper} for the given type.
@@ -63,7 +84,7 @@ public final class BeanRowMapper<T> implements RowMapper<T> {
      */
     public BeanRowMapper(Class<T> type) {
         this.type = Verify.nonNull(type, "type");
-        this.binder = new Binder(new DummyObjectAccessor(null));
+        this.planned = BeanMappingPlan.supports(type);
     }
 
     /**
@@ -79,20 +100,57 @@ public final class BeanRowMapper<T> implements RowMapper<T> {
 
     /**
      * Maps the current {@link ResultSet} row into an instance of {@code T}.
-     * <p>
-     * The {@link ResultSet} is wrapped into an {@link ObjectAccessor} and then bound
-     * into the target type using the configured {@link Binder}.
      *
      * @param resultSet current result set (cursor positioned on a valid row)
      * @param rowIndex  zero-based row index (framework-provided)
      * @return mapped bean instance
+     * @throws SQLException          if a column cannot be read
      * @throws IllegalStateException if binding produced no value
      */
     @Override
-    public T map(ResultSet resultSet, int rowIndex) {
+    public T map(ResultSet resultSet, int rowIndex) throws SQLException {
+        if (planned) {
+            return getPlan(resultSet).map(resultSet);
+        }
+
+        return bind(resultSet);
+    }
+
+    /**
+     * Returns the plan for the given result set, compiling it on first use of its shape.
+     *
+     * @param resultSet result set to map
+     * @return mapping plan
+     * @throws SQLException if metadata cannot be read
+     */
+    public BeanMappingPlan<T> getPlan(ResultSet resultSet) throws SQLException {
+        Current<T> current = this.current;
+
+        if (current != null && current.resultSet().get() == resultSet) {
+            return current.plan();
+        }
+
+        List<String>       shape = BeanMappingPlan.shapeOf(resultSet.getMetaData());
+        BeanMappingPlan<T> plan  = plans.get(shape);
+
+        if (plan == null) {
+            // compiled outside the cache lock; a concurrent compile of the same shape is harmless
+            plan = BeanMappingPlan.compile(type, resultSet.getMetaData());
+            plans.set(shape, plan);
+        }
+
+        this.current = new Current<>(new WeakReference<>(resultSet), plan);
+
+        return plan;
+    }
+
+    /**
+     * Generic binder-based mapping for types not supported by {@link BeanMappingPlan}.
+     * A binder is created per row because {@link Binder} holds the accessor it reads from.
+     */
+    private T bind(ResultSet resultSet) {
         ObjectAccessor accessor = JdbcAccessorWrapper.WRAPPER.wrap(resultSet);
-        binder.setObjectAccessor(accessor);
-        BindResult<T> result = binder.bind(null, toTypedValue(type));
+        BindResult<T>  result   = new Binder(accessor).bind(null, toTypedValue(type));
         Verify.state(result.isPresent(), "Failed to map bean-type: '" + type + "'.");
         return result.getValue();
     }
@@ -107,4 +165,10 @@ public final class BeanRowMapper<T> implements RowMapper<T> {
         return TypedValue.of(InferredType.forClass(type));
     }
 
+    /**
+     * Result set currently being mapped together with its plan; the result set is weakly held
+     * so that a closed (possibly fully buffered) result set is not retained by the mapper.
+     */
+    private record Current<T>(WeakReference<ResultSet> resultSet, BeanMappingPlan<T> plan) { }
+
 }
@@ -57,4 +57,17 @@ public final class SQLParameterProcessor {
         return new SQLCompiled(compiler.compile(parsed.source()));
     }
 
+    /**
+     * Compiles parsed SQL into an expanded executable plan.
+     *
+     * <p>Binding {@code i} is rewritten into {@code expansions[i]} placeholders.</p>
+     *
+     * @param parsed     the parsed SQL
+     * @param expansions placeholder count per binding
+     * @return compiled SQL representation
+     */
+    public SQLCompiled compile(SQLParsed parsed, int[] expansions) {
+        return new SQLCompiled(compiler.compile(parsed.source(), expansions));
+    }
+
 }
\ No newline at end of file
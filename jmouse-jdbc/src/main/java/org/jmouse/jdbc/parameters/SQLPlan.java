@@ -1,5 +1,6 @@
 package org.jmouse.jdbc.parameters;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static org.jmouse.core.Verify.argument;
@@ -10,11 +11,28 @@ import static org.jmouse.core.Verify.argument;
  * <p>Contains the original SQL, the compiled SQL ready for execution,
  * and binding metadata describing how parameters are mapped.</p>
  *
- * @param original the original SQL text before compilation
- * @param compiled the compiled SQL text with resolved placeholders
- * @param bindings the ordered list of parameter bindings
+ * <p>Bindings written as the only element of an {@code IN (...)} list are <i>list operands</i>.
+ * A plan may be <i>expanded</i>: list operand {@code i} then owns {@code expansions[i]} consecutive
+ * placeholders (e.g. {@code IN (?, ?, ?, ?)} for a collection value), every other binding owns one.</p>
+ *
+ * @param original     the original SQL text before compilation
+ * @param compiled     the compiled SQL text with resolved placeholders
+ * @param bindings     the ordered list of parameter bindings
+ * @param listOperands indexes of bindings that are the sole element of an {@code IN (...)} list
+ * @param expansions   placeholder count per binding, or {@code null} when not expanded
  */
-public record SQLPlan(String original, String compiled, List<Binding> bindings) {
+public record SQLPlan(String original, String compiled, List<Binding> bindings, BitSet listOperands, int[] expansions) {
+
+    /**
+     * Creates a plan where every binding owns exactly one placeholder and none is a list operand.
+     *
+     * @param original the original SQL text before compilation
+     * @param compiled the compiled SQL text with resolved placeholders
+     * @param bindings the ordered list of parameter bindings
+     */
+    public SQLPlan(String original, String compiled, List<Binding> bindings) {
+        this(original, compiled, bindings, new BitSet(), null);
+    }
 
     /**
      * Returns the total number of parameter bindings in this plan.
@@ -25,6 +43,36 @@ public record SQLPlan(String original, String compiled, List<Binding> bindings)
         return bindings.size();
     }
 
+    /**
+     * Returns whether the binding at the given index is the sole element of an {@code IN (...)} list,
+     * so a collection or array value may be expanded over several placeholders.
+     *
+     * @param index the 0-based binding index
+     * @return {@code true} for a list operand
+     */
+    public boolean isListOperand(int index) {
+        return listOperands.get(index);
+    }
+
+    /**
+     * Returns whether bindings of this plan may own more than one placeholder.
+     *
+     * @return {@code true} for an expanded plan
+     */
+    public boolean isExpanded() {
+        return expansions != null;
+    }
+
+    /**
+     * Returns the number of placeholders owned by the binding at the given index.
+     *
+     * @param index the 0-based binding index
+     * @return the placeholder count, {@code 1} for non-expanded plans
+     */
+    public int expansion(int index) {
+        return expansions == null ? 1 : expansions[index];
+    }
+
     /**
      * Marker contract for a parameter binding declared in the SQL plan.
      *
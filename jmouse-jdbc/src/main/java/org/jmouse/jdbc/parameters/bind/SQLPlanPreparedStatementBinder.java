@@ -13,6 +13,10 @@ import org.jmouse.jdbc.statement.StatementBinder;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 
 import static java.lang.String.valueOf;
 
@@ -34,6 +38,12 @@ import static java.lang.String.valueOf;
  *     <li>Writes the final value into the {@link PreparedStatement} via {@link PreparedStatement#setObject(int, Object)}</li>
  * </ol>
  *
+ * <h3>Expanded plans</h3>
+ * For an {@link SQLPlan#isExpanded() expanded} plan a {@link Collection} or object array value of an
+ * {@link SQLPlan#isListOperand(int) IN-list operand} is spread over the placeholders owned by its binding.
+ * When the value has fewer elements than placeholders (plans are bucketed by size), the last element
+ * is repeated. Every other binding is bound as a single value.
+ *
  * <h3>Missing parameter policy</h3>
  * <ul>
  *     <li>{@link MissingParameterPolicy#BIND_NULL}: binds {@code null}</li>
@@ -96,9 +106,11 @@ public final class SQLPlanPreparedStatementBinder implements StatementBinder {
      */
     @Override
     public void bind(PreparedStatement statement) throws SQLException {
-        int parameterPosition = 1;
+        int           parameterPosition = 1;
+        List<Binding> bindings          = plan.bindings();
 
-        for (Binding binding : plan.bindings()) {
+        for (int index = 0; index < bindings.size(); index++) {
+            Binding binding = bindings.get(index);
             Object value;
 
             if (binding instanceof Binding.Named(String name, String ignored, Kind kind)) {
@@ -111,10 +123,41 @@ public final class SQLPlanPreparedStatementBinder implements StatementBinder {
                 throw new IllegalStateException("Unknown binding: " + binding);
             }
 
-            statement.setObject(parameterPosition++, value);
+            if (plan.isExpanded() && plan.isListOperand(index)) {
+                parameterPosition = bindExpanded(statement, parameterPosition, value, plan.expansion(index));
+            } else {
+                statement.setObject(parameterPosition++, value);
+            }
         }
     }
 
+    /**
+     * Binds a value over {@code width} consecutive placeholders.
+     *
+     * @return the next free JDBC parameter index
+     */
+    private static int bindExpanded(
+            PreparedStatement statement, int parameterPosition, Object value, int width) throws SQLException {
+        Iterator<?> iterator = null;
+
+        if (value instanceof Collection<?> collection) {
+            iterator = collection.iterator();
+        } else if (value instanceof Object[] array) {
+            iterator = Arrays.asList(array).iterator();
+        }
+
+        Object element = iterator == null ? value : null;
+
+        for (int i = 0; i < width; i++) {
+            if (iterator != null && iterator.hasNext()) {
+                element = iterator.next();
+            }
+            statement.setObject(parameterPosition++, element);
+        }
+
+        return parameterPosition;
+    }
+
     /**
      * Applies the configured {@link MissingParameterPolicy} when a parameter is absent.
      *
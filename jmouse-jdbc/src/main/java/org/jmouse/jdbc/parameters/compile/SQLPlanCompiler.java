@@ -5,11 +5,14 @@ import org.jmouse.el.lexer.TokenizableSource.Entry;
 import org.jmouse.jdbc.parameters.SQLPlan;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import static org.jmouse.jdbc.parameters.SQLParameterToken.T_NAMED_PARAMETER;
 import static org.jmouse.jdbc.parameters.SQLParameterToken.T_POSITIONAL_PARAMETER;
+import static org.jmouse.jdbc.parameters.lexer.SQLParameterSplitter.LEFT_B_CHARACTER;
 import static org.jmouse.jdbc.parameters.lexer.SQLParameterSplitter.Q_MARK;
+import static org.jmouse.jdbc.parameters.lexer.SQLParameterSplitter.RIGHT_B_CHARACTER;
 
 /**
  * Compiles tokenized SQL parameter sources into an executable {@link SQLPlan}.
@@ -29,9 +32,26 @@ public final class SQLPlanCompiler {
      * @return the compiled SQL plan
      */
     public SQLPlan compile(StringSource source) {
-        String                original = source.toString();
-        StringBuilder         buffer   = new StringBuilder(original.length());
-        List<SQLPlan.Binding> bindings = new ArrayList<>();
+        return compile(source, null);
+    }
+
+    /**
+     * Compiles the given source into an expanded SQL execution plan.
+     *
+     * <p>The parameter at binding index {@code i} is rewritten into {@code expansions[i]}
+     * comma-separated placeholders, which is how collection values of {@code IN (:ids)} are bound.
+     * Only {@link SQLPlan#isListOperand(int) list operands} are expanded; any other binding keeps
+     * a single placeholder whatever its expansion.</p>
+     *
+     * @param source     the tokenized SQL source
+     * @param expansions placeholder count per binding, or {@code null} for one placeholder each
+     * @return the compiled SQL plan
+     */
+    public SQLPlan compile(StringSource source, int[] expansions) {
+        String                original     = source.toString();
+        StringBuilder         buffer       = new StringBuilder(original.length());
+        List<SQLPlan.Binding> bindings     = new ArrayList<>();
+        BitSet                listOperands = new BitSet();
 
         int cursor            = 0;
         int positionalCounter = 0;
@@ -40,8 +60,20 @@ public final class SQLPlanCompiler {
             Entry entry = source.get(i);
 
             if (entry.token() == T_POSITIONAL_PARAMETER || entry.token() == T_NAMED_PARAMETER) {
+                int     index       = bindings.size();
+                boolean listOperand = isListOperand(original, entry.offset(), entry.offset() + entry.length());
+
                 buffer.append(source, cursor, entry.offset());
                 buffer.append(Q_MARK);
+
+                if (listOperand) {
+                    listOperands.set(index);
+
+                    for (int j = 1, width = expansions == null ? 1 : expansions[index]; j < width; j++) {
+                        buffer.append(", ").append(Q_MARK);
+                    }
+                }
+
                 cursor = entry.offset() + entry.length();
 
                 if (entry.token() == T_NAMED_PARAMETER) {
@@ -56,6 +88,42 @@ public final class SQLPlanCompiler {
 
         buffer.append(source, cursor, source.length());
 
-        return new SQLPlan(original, buffer.toString(), List.copyOf(bindings));
+        return new SQLPlan(original, buffer.toString(), List.copyOf(bindings), listOperands, expansions);
+    }
+
+    /**
+     * Checks whether the parameter spanning {@code [start, end)} is the only element of an
+     * {@code IN (...)} (or {@code NOT IN (...)}) list.
+     */
+    static boolean isListOperand(String sql, int start, int end) {
+        int after = skipWhitespace(sql, end, 1);
+
+        if (after >= sql.length() || sql.charAt(after) != RIGHT_B_CHARACTER) {
+            return false;
+        }
+
+        int before = skipWhitespace(sql, start - 1, -1);
+
+        if (before < 0 || sql.charAt(before) != LEFT_B_CHARACTER) {
+            return false;
+        }
+
+        int keyword = skipWhitespace(sql, before - 1, -1);
+
+        return keyword >= 1
+                && Character.toUpperCase(sql.charAt(keyword)) == 'N'
+                && Character.toUpperCase(sql.charAt(keyword - 1)) == 'I'
+                && (keyword < 2 || !isIdentifierPart(sql.charAt(keyword - 2)));
+    }
+
+    private static int skipWhitespace(String sql, int index, int step) {
+        while (index >= 0 && index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+            index += step;
+        }
+        return index;
+    }
+
+    private static boolean isIdentifierPart(char character) {
+        return Character.isLetterOrDigit(character) || character == '_' || character == '.' || character == '"';
     }
 }
\ No newline at end of file
@@ -4,20 +4,38 @@ import org.jmouse.jdbc.parameters.*;
 import org.jmouse.jdbc.parameters.bind.SQLPlanPreparedStatementBinder;
 import org.jmouse.jdbc.statement.StatementBinder;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 
 import static org.jmouse.core.Verify.nonNull;
+import static org.jmouse.core.Verify.positive;
 
 /**
  * Factory for preparing executable SQL from named SQL + parameters.
  *
  * <p>Performs parse → compile → bind pipeline with internal caching of compiled SQL.</p>
+ *
+ * <p>Compiled SQL is kept in a bounded {@link SQLCompiledCache}. A parameter written as the only
+ * element of an {@code IN (...)} list (e.g. {@code id IN (:ids)}) and bound to a {@link Collection}
+ * or object array is expanded into one placeholder per element, rounded up to the next power of two
+ * (1, 2, 4, 8…) and padded with the last element, so IN-lists of any length share a handful of plans
+ * and server-side statements. A list whose rounded size would exceed {@code maxBucket}
+ * ({@value #DEFAULT_MAX_BUCKET} by default) gets exactly one placeholder per element, so padding never
+ * pushes a large list over the bind-parameter limit of the driver (e.g. 32767 for PostgreSQL).</p>
+ *
+ * <p>Collections bound anywhere else (e.g. {@code = ANY(:ids)} or an array column) are passed to the
+ * driver as a single value. An empty IN-list collection is rejected, as neither {@code IN ()} nor
+ * {@code IN (NULL)} has the meaning of an empty list under {@code NOT IN}.</p>
  */
 public class NamedSqlPreparedExecutionFactory {
 
+    public static final int DEFAULT_MAX_BUCKET = 1024;
+
     private final SQLParameterProcessor                  processor;
     private final MissingParameterPolicy                 missingPolicy;
-    private final ConcurrentHashMap<String, SQLCompiled> cache = new ConcurrentHashMap<>();
+    private final SQLCompiledCache                       cache;
+    private final int                                    maxBucket;
 
     /**
      * Creates a factory with required processing components.
@@ -27,9 +45,39 @@ public class NamedSqlPreparedExecutionFactory {
      */
     public NamedSqlPreparedExecutionFactory(
             SQLParameterProcessor processor, MissingParameterPolicy missingPolicy
+    ) {
+        this(processor, missingPolicy, new SQLCompiledCache());
+    }
+
+    /**
+     * Creates a factory with required processing components and a custom plan cache.
+     *
+     * @param processor SQL parameter processor (parse + compile)
+     * @param missingPolicy policy for handling missing parameters
+     * @param cache cache of compiled SQL
+     */
+    public NamedSqlPreparedExecutionFactory(
+            SQLParameterProcessor processor, MissingParameterPolicy missingPolicy, SQLCompiledCache cache
+    ) {
+        this(processor, missingPolicy, cache, DEFAULT_MAX_BUCKET);
+    }
+
+    /**
+     * Creates a factory with required processing components, a custom plan cache and IN-list bucket limit.
+     *
+     * @param processor SQL parameter processor (parse + compile)
+     * @param missingPolicy policy for handling missing parameters
+     * @param cache cache of compiled SQL
+     * @param maxBucket largest padded IN-list size; longer lists are expanded to their exact size
+     */
+    public NamedSqlPreparedExecutionFactory(
+            SQLParameterProcessor processor, MissingParameterPolicy missingPolicy, SQLCompiledCache cache,
+            int maxBucket
     ) {
         this.processor = nonNull(processor, "processor");
         this.missingPolicy = nonNull(missingPolicy, "missingPolicy");
+        this.cache = nonNull(cache, "cache");
+        this.maxBucket = positive(maxBucket, "maxBucket");
     }
 
     /**
@@ -43,24 +91,119 @@ public class NamedSqlPreparedExecutionFactory {
      * @return prepared execution descriptor
      */
     public NamedSqlPreparedExecution prepare(String sql, ParameterSource parameters) {
-        SQLCompiled     compiled = compile(sql);
-        StatementBinder binder   = binder(compiled, parameters);
+        SQLCompiled compiled   = compile(sql);
+        int[]       expansions = expansions(compiled.plan(), parameters);
+
+        if (expansions != null) {
+            compiled = compile(sql, expansions);
+        }
+
+        StatementBinder binder = binder(compiled, parameters);
+
         return new NamedSqlPreparedExecution(compiled.compiled(), binder);
     }
 
     /**
      * Compiles SQL with caching.
      *
-     * <p>Compilation is performed once per unique SQL string.</p>
+     * <p>Compilation is performed once per unique SQL string while it stays in the cache.</p>
      *
      * @param sql raw SQL
      * @return compiled SQL representation
      */
     public SQLCompiled compile(String sql) {
-        return cache.computeIfAbsent(sql, q -> {
-            SQLParsed parsed = processor.parse("SQL_QUERY", q);
-            return processor.compile(parsed);
-        });
+        return cache.get(sql, q -> processor.compile(processor.parse("SQL_QUERY", q)));
+    }
+
+    /**
+     * Compiles SQL whose bindings own several placeholders, with caching per expansion shape.
+     *
+     * @param sql raw SQL
+     * @param expansions placeholder count per binding
+     * @return compiled SQL representation
+     */
+    public SQLCompiled compile(String sql, int[] expansions) {
+        StringBuilder key = new StringBuilder(sql.length() + 4 * expansions.length).append(sql).append('\0');
+
+        for (int expansion : expansions) {
+            key.append(expansion).append(',');
+        }
+
+        return cache.get(key.toString(), ignored -> processor.compile(processor.parse("SQL_QUERY", sql), expansions));
+    }
+
+    /**
+     * Returns hit, miss and plan-count statistics of the compile cache.
+     *
+     * @return cache statistics snapshot
+     */
+    public SQLCompiledCache.Statistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    /**
+     * Computes bucketed placeholder counts for IN-list operands bound to collection or array values.
+     *
+     * @return placeholder count per binding, or {@code null} when no binding needs expansion
+     * @throws IllegalArgumentException if an IN-list operand is bound to an empty collection or array
+     */
+    private int[] expansions(SQLPlan plan, ParameterSource parameters) {
+        List<SQLPlan.Binding> bindings   = plan.bindings();
+        int[]                 expansions = null;
+
+        for (int index = 0; index < bindings.size(); index++) {
+            if (!plan.isListOperand(index)) {
+                continue;
+            }
+
+            Object value = switch (bindings.get(index)) {
+                case SQLPlan.Binding.Named named when parameters.hasValue(named.name()) ->
+                        parameters.getValue(named.name());
+                case SQLPlan.Binding.Positional positional when parameters.hasValue(positional.position()) ->
+                        parameters.getValue(positional.position());
+                default -> null;
+            };
+
+            int size;
+
+            if (value instanceof Collection<?> collection) {
+                size = collection.size();
+            } else if (value instanceof Object[] array) {
+                size = array.length;
+            } else {
+                continue;
+            }
+
+            if (size == 0) {
+                throw new IllegalArgumentException(
+                        "Empty collection bound to IN-list parameter '%s' in SQL: %s".formatted(
+                                label(bindings.get(index)), plan.original()));
+            }
+
+            if (expansions == null) {
+                expansions = new int[bindings.size()];
+                Arrays.fill(expansions, 1);
+            }
+
+            expansions[index] = bucket(size);
+        }
+
+        return expansions;
+    }
+
+    private static String label(SQLPlan.Binding binding) {
+        return switch (binding) {
+            case SQLPlan.Binding.Named named -> named.rawToken();
+            case SQLPlan.Binding.Positional positional -> "?" + positional.position();
+        };
+    }
+
+    /**
+     * Rounds a non-empty list size up to the next power of two, or keeps it when that exceeds {@code maxBucket}.
+     */
+    private int bucket(int size) {
+        long bucket = size == 1 ? 1 : Long.highestOneBit(size - 1L) << 1;
+        return bucket > maxBucket ? size : (int) bucket;
     }
 
     /**
@@ -0,0 +1,163 @@
+package org.jmouse.jdbc.parameters.named;
+
+import org.jmouse.core.Verify;
+import org.jmouse.core.cache.TinyLFUSLRUCache;
+import org.jmouse.jdbc.parameters.SQLCompiled;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, frequency-aware cache of {@link SQLCompiled} plans keyed by SQL text.
+ *
+ * <p>Entries live in {@link TinyLFUSLRUCache} shards selected by key hash, so one-off SQL (e.g. generated
+ * statements) cannot push frequently executed plans out, and lookups from many threads do not all
+ * contend on a single monitor. Each shard is aged after {@code 10 × capacity} accesses so the
+ * frequency estimate follows the current workload.</p>
+ *
+ * <p>Hits, misses and the plan count are exposed through {@link #getStatistics()}.</p>
+ */
+public final class SQLCompiledCache {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int MAX_SHARDS     = 16;
+    private static final int MIN_SHARD_SIZE = 32;
+    private static final int AGING_FACTOR   = 10;
+
+    private final Shard[]   shards;
+    private final int       mask;
+    private final int       capacity;
+    private final LongAdder hits   = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public SQLCompiledCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity approximate maximal number of cached plans
+     */
+    public SQLCompiledCache(int capacity) {
+        this.capacity = Verify.positive(capacity, "capacity");
+
+        int count = Math.min(MAX_SHARDS, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+
+        while (count > 1 && capacity / count < MIN_SHARD_SIZE) {
+            count >>= 1;
+        }
+
+        this.shards = new Shard[count];
+        this.mask = count - 1;
+
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(Math.max(1, (capacity + count - 1) / count));
+        }
+    }
+
+    /**
+     * Returns the plan cached for the key, compiling (and offering it to the cache) on a miss.
+     *
+     * @param key      SQL text (or SQL text combined with its expansion shape)
+     * @param compiler compiles the plan on a miss
+     * @return the compiled plan
+     */
+    public SQLCompiled get(String key, Function<String, SQLCompiled> compiler) {
+        Shard       shard    = shards[spread(key.hashCode()) & mask];
+        SQLCompiled compiled = shard.get(key);
+
+        if (compiled != null) {
+            hits.increment();
+            return compiled;
+        }
+
+        misses.increment();
+        compiled = compiler.apply(key);
+        shard.set(key, compiled);
+
+        return compiled;
+    }
+
+    /**
+     * Removes every cached plan.
+     */
+    public void clear() {
+        for (Shard shard : shards) {
+            shard.cache.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+
+        for (Shard shard : shards) {
+            size += shard.cache.size();
+        }
+
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), size());
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        return "SQL-COMPILED-CACHE[capacity=%d, shards=%d, %s]".formatted(capacity, shards.length, getStatistics());
+    }
+
+    /**
+     * Snapshot of cache counters.
+     *
+     * @param hits   lookups served from the cache
+     * @param misses lookups that compiled the SQL
+     * @param plans  plans currently cached
+     */
+    public record Statistics(long hits, long misses, int plans) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=%d, misses=%d, plans=%d, hitRate=%.3f".formatted(hits, misses, plans, hitRate());
+        }
+    }
+
+    private static final class Shard {
+
+        private final TinyLFUSLRUCache<String, SQLCompiled> cache;
+        private final AtomicInteger                         accesses = new AtomicInteger();
+        private final int                                   agingPeriod;
+
+        Shard(int capacity) {
+            // a fifth of the shard is the probation (admission) segment, the rest holds proven plans
+            int probation = Math.max(1, capacity / 5);
+            this.cache = new TinyLFUSLRUCache<>(probation, Math.max(1, capacity - probation), capacity * 4);
+            this.agingPeriod = capacity * AGING_FACTOR;
+        }
+
+        SQLCompiled get(String key) {
+            if (accesses.incrementAndGet() % agingPeriod == 0) {
+                cache.maintenance();
+            }
+            return cache.get(key);
+        }
+
+        void set(String key, SQLCompiled compiled) {
+            cache.set(key, compiled);
+        }
+    }
+
+}
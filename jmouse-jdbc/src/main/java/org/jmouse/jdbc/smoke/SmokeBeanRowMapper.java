@@ -0,0 +1,254 @@
+package org.jmouse.jdbc.smoke;
+
+import org.jmouse.core.binding.BindName;
+import org.jmouse.jdbc.mapping.BeanMappingPlan;
+import org.jmouse.jdbc.mapping.BeanRowMapper;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exercises the lenient column matching of {@link BeanMappingPlan} and the plan cache of {@link BeanRowMapper}
+ * against in-memory fake result sets, so it runs without a database. Every check throws
+ * {@link IllegalStateException} when it fails.
+ */
+public final class SmokeBeanRowMapper {
+
+    public static void main(String... arguments) throws Exception {
+        exactBeforeLenient();
+        caseInsensitive();
+        separatorsIgnored();
+        labelsAndAliases();
+        nullsAndUnmatched();
+        records();
+        planReuse();
+        planEviction();
+
+        System.out.println("SmokeBeanRowMapper: OK");
+    }
+
+    private static void exactBeforeLenient() throws SQLException {
+        Map<String, Integer> bindings = plan(User.class, "NAME", "name", "user_name", "username").getBindings();
+
+        check(bindings.get("name") == 2, "exact column wins over a case-insensitive one: " + bindings);
+        check(bindings.get("userName") == 4, "case-insensitive column wins over a normalized one: " + bindings);
+    }
+
+    private static void caseInsensitive() throws SQLException {
+        User user = map(User.class, columns("ID", "Name"), new Object[]{7L, "Ann"});
+
+        check(user.getId() == 7L && "Ann".equals(user.getName()), "columns match case-insensitively: " + user);
+    }
+
+    private static void separatorsIgnored() throws SQLException {
+        User user = map(User.class, columns("USER_NAME", "created-by", "Display Name"),
+                        new Object[]{"ann", "admin", "Ann A."});
+
+        check("ann".equals(user.getUserName()), "'_' is ignored: " + user);
+        check("admin".equals(user.getCreatedBy()), "'-' is ignored: " + user);
+        check("Ann A.".equals(user.getDisplayName()), "spaces are ignored: " + user);
+    }
+
+    private static void labelsAndAliases() throws SQLException {
+        User user = map(User.class, new Column[]{new Column("uid", "ID"), new Column("mail", "e_mail_address")},
+                        new Object[]{3L, "ann@example.org"});
+
+        check(user.getId() == 3L, "column name is used when the label does not match: " + user);
+        check("ann@example.org".equals(user.getEmail()), "@BindName alias is matched leniently: " + user);
+    }
+
+    private static void nullsAndUnmatched() throws SQLException {
+        User user = map(User.class, columns("id", "name", "unknown_column"), new Object[]{null, null, "x"});
+
+        check(user.getId() == -1L && "initial".equals(user.getName()), "SQL NULL keeps initial values: " + user);
+    }
+
+    private static void records() throws SQLException {
+        Account account = map(Account.class, columns("ACCOUNT_ID", "owner-name", "extra"),
+                              new Object[]{9L, "Bob", "ignored"});
+
+        check(account.accountId() == 9L && "Bob".equals(account.ownerName()), "records match leniently: " + account);
+
+        Account empty = map(Account.class, columns("extra"), new Object[]{"ignored"});
+
+        check(empty.accountId() == 0L && empty.ownerName() == null, "unmatched components get defaults: " + empty);
+    }
+
+    private static void planReuse() throws SQLException {
+        BeanRowMapper<User> mapper = BeanRowMapper.of(User.class);
+        ResultSet           first  = resultSet(columns("id", "name"), new Object[]{1L, "a"});
+        ResultSet           second = resultSet(columns("id", "name"), new Object[]{2L, "b"});
+        ResultSet           other  = resultSet(columns("id"), new Object[]{3L});
+
+        check(mapper.getPlan(first) == mapper.getPlan(second), "result sets of one shape share a plan");
+        check(mapper.getPlan(first) != mapper.getPlan(other), "different shapes get different plans");
+    }
+
+    private static void planEviction() throws SQLException {
+        BeanRowMapper<User>   mapper = BeanRowMapper.of(User.class);
+        BeanMappingPlan<User> hot    = mapper.getPlan(resultSet(columns("id", "name"), new Object[0]));
+        BeanMappingPlan<User> cold   = mapper.getPlan(resultSet(columns("id"), new Object[0]));
+
+        for (int shape = 0; shape < 200; shape++) {
+            mapper.getPlan(resultSet(columns("id", "column_" + shape), new Object[0]));
+            check(mapper.getPlan(resultSet(columns("id", "name"), new Object[0])) == hot,
+                  "a frequently used shape survives many one-off shapes (shape " + shape + ")");
+        }
+
+        check(mapper.getPlan(resultSet(columns("id"), new Object[0])) != cold, "an unused shape is evicted");
+    }
+
+    private static <T> BeanMappingPlan<T> plan(Class<T> type, String... names) throws SQLException {
+        return BeanMappingPlan.compile(type, resultSet(columns(names), new Object[0]).getMetaData());
+    }
+
+    private static <T> T map(Class<T> type, Column[] columns, Object[] row) throws SQLException {
+        ResultSet resultSet = resultSet(columns, row);
+
+        check(resultSet.next(), "fake result set has a row");
+
+        return BeanRowMapper.of(type).map(resultSet, 0);
+    }
+
+    private static Column[] columns(String... names) {
+        Column[] columns = new Column[names.length];
+
+        for (int index = 0; index < names.length; index++) {
+            columns[index] = new Column(names[index], names[index]);
+        }
+
+        return columns;
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException("Check failed: " + message);
+        }
+    }
+
+    /**
+     * Single-row result set double; typed getters return the stored value or the JDBC default for SQL NULL.
+     */
+    private static ResultSet resultSet(Column[] columns, Object[] row) {
+        ResultSetMetaData metadata = (ResultSetMetaData) Proxy.newProxyInstance(
+                SmokeBeanRowMapper.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> columns.length;
+                    case "getColumnLabel" -> columns[(int) args[0] - 1].label();
+                    case "getColumnName" -> columns[(int) args[0] - 1].name();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        boolean[] state = {false, false};
+
+        return (ResultSet) Proxy.newProxyInstance(
+                SmokeBeanRowMapper.class.getClassLoader(), new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getMetaData":
+                            return metadata;
+                        case "next":
+                            boolean next = !state[0] && row.length > 0;
+                            state[0] = true;
+                            return next;
+                        case "wasNull":
+                            return state[1];
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "fake-result-set";
+                        default:
+                            break;
+                    }
+
+                    if (!method.getName().startsWith("get") || !(args[0] instanceof Integer column)) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+
+                    Object value = row[column - 1];
+                    state[1] = value == null;
+
+                    if (value == null) {
+                        return method.getReturnType() == long.class ? 0L : null;
+                    }
+
+                    return value;
+                });
+    }
+
+    private record Column(String label, String name) {
+    }
+
+    public record Account(long accountId, String ownerName) {
+    }
+
+    public static final class User {
+
+        private long   id   = -1L;
+        private String name = "initial";
+        private String userName;
+        private String displayName;
+        private String email;
+        private String createdBy;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUserName() {
+            return userName;
+        }
+
+        public void setUserName(String userName) {
+            this.userName = userName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public void setDisplayName(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        @BindName("eMailAddress")
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getCreatedBy() {
+            return createdBy;
+        }
+
+        public void setCreatedBy(String createdBy) {
+            this.createdBy = createdBy;
+        }
+
+        @Override
+        public String toString() {
+            return "User" + List.of(id, String.valueOf(name), String.valueOf(userName), String.valueOf(displayName),
+                                    String.valueOf(email), String.valueOf(createdBy));
+        }
+    }
+
+}
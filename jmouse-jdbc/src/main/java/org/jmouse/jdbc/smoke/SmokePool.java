@@ -0,0 +1,266 @@
+package org.jmouse.jdbc.smoke;
+
+import org.jmouse.jdbc.connection.datasource.DataSourceSpecification;
+import org.jmouse.jdbc.connection.datasource.pool.PoolMetrics;
+import org.jmouse.jdbc.connection.datasource.pool.PooledDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Exercises {@link PooledDataSource} borrowing, expiry and shutdown against an in-memory fake driver,
+ * so it runs without a database. Every check throws {@link IllegalStateException} when it fails.
+ */
+public final class SmokePool {
+
+    public static void main(String... arguments) throws Exception {
+        borrowAndReturn();
+        sessionStateRestored();
+        statementsClosedOnReturn();
+        exhaustion();
+        expiry();
+        shutdown();
+
+        System.out.println("SmokePool: OK");
+    }
+
+    private static void borrowAndReturn() throws SQLException {
+        FakeDriver driver = new FakeDriver();
+
+        try (PooledDataSource pool = pool(driver, 2, Duration.ofSeconds(1), Duration.ofMinutes(30))) {
+            Connection first    = pool.getConnection();
+            Connection physical = first.unwrap(Connection.class);
+
+            first.setAutoCommit(false);
+            first.close();
+
+            check(first.isClosed(), "logical connection is closed after close()");
+            check(!physical.isClosed(), "physical connection stays open in the pool");
+            check(driver.rollbacks == 1, "manual-commit connection is rolled back on return");
+
+            try (Connection second = pool.getConnection()) {
+                check(second.unwrap(Connection.class) == physical, "returned connection is reused");
+                check(second.getAutoCommit(), "auto-commit is restored on return");
+            }
+
+            PoolMetrics metrics = pool.getMetrics();
+            check(metrics.total() == 1 && metrics.idle() == 1, "one idle connection after two borrows: " + metrics);
+        }
+    }
+
+    private static void sessionStateRestored() throws SQLException {
+        FakeDriver driver = new FakeDriver();
+
+        try (PooledDataSource pool = pool(driver, 1, Duration.ofSeconds(1), Duration.ofMinutes(30))) {
+            try (Connection first = pool.getConnection()) {
+                first.setHoldability(ResultSet.CLOSE_CURSORS_AT_COMMIT);
+                first.setNetworkTimeout(Runnable::run, 5_000);
+                first.getTypeMap().put("POINT", Object.class);
+            }
+
+            try (Connection second = pool.getConnection()) {
+                check(second.getHoldability() == ResultSet.HOLD_CURSORS_OVER_COMMIT, "holdability is restored");
+                check(second.getNetworkTimeout() == 0, "network timeout is restored");
+                check(second.getTypeMap().isEmpty(), "type map is restored: " + second.getTypeMap());
+            }
+        }
+    }
+
+    private static void statementsClosedOnReturn() throws SQLException {
+        FakeDriver driver = new FakeDriver();
+
+        try (PooledDataSource pool = pool(driver, 2, Duration.ofSeconds(1), Duration.ofMinutes(30))) {
+            Connection        connection = pool.getConnection();
+            Statement         statement  = connection.createStatement();
+            PreparedStatement prepared   = connection.prepareStatement("SELECT 1");
+            PreparedStatement physical   = connection.unwrap(Connection.class).prepareStatement("SELECT 2");
+
+            connection.close();
+
+            check(statement.isClosed() && prepared.isClosed(), "statements of the logical connection are closed");
+            check(!physical.isClosed(), "statements of the physical connection are left open");
+        }
+    }
+
+    private static void exhaustion() throws SQLException {
+        FakeDriver driver = new FakeDriver();
+
+        try (PooledDataSource pool = pool(driver, 1, Duration.ofMillis(100), Duration.ofMinutes(30))) {
+            try (Connection ignored = pool.getConnection()) {
+                pool.getConnection();
+                throw new IllegalStateException("borrowing from an exhausted pool must time out");
+            } catch (SQLTransientConnectionException expected) {
+                check(pool.getMetrics().timeouts() == 1, "timeout is counted");
+            }
+        }
+    }
+
+    private static void expiry() throws Exception {
+        FakeDriver driver = new FakeDriver();
+
+        try (PooledDataSource pool = pool(driver, 2, Duration.ofSeconds(1), Duration.ofMillis(100))) {
+            Connection physical;
+
+            try (Connection connection = pool.getConnection()) {
+                physical = connection.unwrap(Connection.class);
+            }
+
+            Thread.sleep(200);
+
+            try (Connection connection = pool.getConnection()) {
+                check(connection.unwrap(Connection.class) != physical, "expired connection is replaced");
+                check(physical.isClosed(), "expired connection is closed");
+            }
+        }
+    }
+
+    private static void shutdown() throws SQLException {
+        FakeDriver       driver = new FakeDriver();
+        PooledDataSource pool   = pool(driver, 2, Duration.ofSeconds(1), Duration.ofMinutes(30));
+        Connection       idle   = pool.getConnection();
+        Connection       held   = pool.getConnection();
+
+        idle.close();
+        pool.close();
+
+        check(driver.connections.getFirst().isClosed(), "idle connection is closed with the pool");
+        check(!held.isClosed(), "borrowed connection stays usable until returned");
+
+        held.close();
+
+        check(driver.connections.get(1).isClosed(), "connection returned after shutdown is closed");
+        check(pool.getMetrics().total() == 0, "closed pool holds no connections");
+
+        try {
+            pool.getConnection();
+            throw new IllegalStateException("borrowing from a closed pool must fail");
+        } catch (SQLException expected) {
+            check("08003".equals(expected.getSQLState()), "closed pool reports SQLState 08003");
+        }
+    }
+
+    private static PooledDataSource pool(FakeDriver driver, int maxSize, Duration timeout, Duration lifetime) {
+        return new PooledDataSource("smoke", driver.dataSource(), new DataSourceSpecification.Pool(
+                0, maxSize, timeout, Duration.ofMinutes(10), lifetime));
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException("Check failed: " + message);
+        }
+    }
+
+    /**
+     * Minimal JDBC driver double: connections track their session state, statements whether they are closed.
+     */
+    private static final class FakeDriver {
+
+        private final List<Connection> connections = new ArrayList<>();
+        private       int              rollbacks;
+
+        DataSource dataSource() {
+            return (DataSource) Proxy.newProxyInstance(
+                    SmokePool.class.getClassLoader(), new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("getConnection")) {
+                            Connection connection = connection();
+                            connections.add(connection);
+                            return connection;
+                        }
+                        return defaultValue(method.getReturnType());
+                    });
+        }
+
+        private Connection connection() {
+            boolean[] closed      = {false};
+            boolean[] autoCommit  = {true};
+            int[]     holdability = {ResultSet.HOLD_CURSORS_OVER_COMMIT};
+            int[]     timeout     = {0};
+            Object[]  typeMap     = {new HashMap<String, Class<?>>()};
+
+            return (Connection) Proxy.newProxyInstance(
+                    SmokePool.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) ->
+                            switch (method.getName()) {
+                                case "close" -> {
+                                    closed[0] = true;
+                                    yield null;
+                                }
+                                case "isClosed" -> closed[0];
+                                case "isValid" -> !closed[0];
+                                case "getAutoCommit" -> autoCommit[0];
+                                case "setAutoCommit" -> {
+                                    autoCommit[0] = (boolean) args[0];
+                                    yield null;
+                                }
+                                case "getHoldability" -> holdability[0];
+                                case "setHoldability" -> {
+                                    holdability[0] = (int) args[0];
+                                    yield null;
+                                }
+                                case "getNetworkTimeout" -> timeout[0];
+                                case "setNetworkTimeout" -> {
+                                    timeout[0] = (int) args[1];
+                                    yield null;
+                                }
+                                case "getTypeMap" -> typeMap[0];
+                                case "setTypeMap" -> {
+                                    typeMap[0] = args[0];
+                                    yield null;
+                                }
+                                case "rollback" -> {
+                                    rollbacks++;
+                                    yield null;
+                                }
+                                case "getTransactionIsolation" -> Connection.TRANSACTION_READ_COMMITTED;
+                                case "createStatement" -> statement(Statement.class);
+                                case "prepareStatement" -> statement(PreparedStatement.class);
+                                case "unwrap" -> proxy;
+                                case "equals" -> proxy == args[0];
+                                case "hashCode" -> System.identityHashCode(proxy);
+                                case "toString" -> "fake-connection@" + Integer.toHexString(System.identityHashCode(proxy));
+                                default -> defaultValue(method.getReturnType());
+                            });
+        }
+
+        private static Object statement(Class<? extends Statement> type) {
+            boolean[] closed = {false};
+
+            return Proxy.newProxyInstance(
+                    SmokePool.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                            switch (method.getName()) {
+                                case "close" -> {
+                                    closed[0] = true;
+                                    yield null;
+                                }
+                                case "isClosed" -> closed[0];
+                                case "equals" -> proxy == args[0];
+                                case "hashCode" -> System.identityHashCode(proxy);
+                                case "toString" -> "fake-statement";
+                                default -> defaultValue(method.getReturnType());
+                            });
+        }
+
+        private static Object defaultValue(Class<?> type) {
+            if (type == boolean.class) {
+                return false;
+            }
+            if (type == int.class) {
+                return 0;
+            }
+            if (type == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,313 @@
+package org.jmouse.jdbc.statement.cache;
+
+import org.jmouse.core.Verify;
+import org.jmouse.jdbc.JdbcSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link StatementCache} keeping up to {@code maxSize} idle prepared statements per physical connection,
+ * evicting the least recently used one when full.
+ * <p>
+ * Statements are checked out while in use: a nested execution of the same SQL on the same connection
+ * (e.g. from inside a result-set extractor) gets its own statement, and the surplus one is closed
+ * when both are released. On release the statement is cleaned for the next caller: parameters,
+ * batch and warnings are cleared, query timeout, fetch size and direction, max rows, max field size and
+ * the poolable hint are restored to the values the driver reported when the statement was prepared and
+ * escape processing is switched back on, so
+ * {@link org.jmouse.jdbc.statement.StatementConfigurer configurers} keep their per-call semantics.
+ * <p>
+ * Caches are bound to the <b>physical</b> connection ({@code connection.unwrap(Connection.class)}) and
+ * statements are prepared on it, so they survive the return of a pooled connection to its pool. Caches of
+ * physical connections that have since been closed are dropped whenever a new physical connection is seen.
+ * The cache is therefore only useful on top of a connection pool; without one every call opens a new
+ * physical connection.
+ *
+ * <pre>{@code
+ * JdbcExecutor executor = new SQLExecutor(connectionProvider, new LruStatementCache(64));
+ * }</pre>
+ *
+ * @author jMouse
+ */
+public final class LruStatementCache implements StatementCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LruStatementCache.class);
+
+    private final int                                   maxSize;
+    private final Map<Connection, ConnectionStatements> connections = new ConcurrentHashMap<>();
+    private final LongAdder                             hits        = new LongAdder();
+    private final LongAdder                             misses      = new LongAdder();
+    private final LongAdder                             evictions   = new LongAdder();
+
+    /**
+     * @param maxSize maximal number of idle statements kept per physical connection
+     */
+    public LruStatementCache(int maxSize) {
+        this.maxSize = Verify.positive(maxSize, "maxSize");
+    }
+
+    @Override
+    public PreparedStatement prepare(Connection connection, StatementKey key) throws SQLException {
+        Connection           physical   = physical(connection);
+        ConnectionStatements statements = connections.get(physical);
+
+        if (statements == null) {
+            purge();
+            statements = connections.computeIfAbsent(physical, ignored -> new ConnectionStatements());
+        }
+
+        PreparedStatement statement = statements.take(key);
+
+        if (statement != null) {
+            if (!statement.isClosed()) {
+                hits.increment();
+                return statement;
+            }
+            statements.forget(statement);
+        }
+
+        misses.increment();
+        // prepared on the physical connection: a pooled connection closes what it created when it is returned
+        statement = key.prepare(physical);
+        statements.register(statement);
+
+        return statement;
+    }
+
+    @Override
+    public void release(Connection connection, StatementKey key, PreparedStatement statement) {
+        if (statement == null) {
+            return;
+        }
+
+        ConnectionStatements statements = connections.get(physical(connection));
+
+        if (statements == null || !statements.reset(statement)) {
+            JdbcSupport.closeQuietly(statement);
+            return;
+        }
+
+        PreparedStatement evicted = statements.give(key, statement, maxSize);
+
+        if (evicted != null) {
+            evictions.increment();
+            JdbcSupport.closeQuietly(evicted);
+        }
+    }
+
+    /**
+     * Closes every cached statement.
+     */
+    public void clear() {
+        for (Connection connection : List.copyOf(connections.keySet())) {
+            ConnectionStatements statements = connections.remove(connection);
+
+            if (statements != null) {
+                statements.close();
+            }
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Drops the caches of physical connections that have been closed.
+     */
+    private void purge() {
+        connections.entrySet().removeIf(entry -> {
+            boolean closed;
+
+            try {
+                closed = entry.getKey().isClosed();
+            } catch (SQLException exception) {
+                closed = true;
+            }
+
+            if (closed) {
+                entry.getValue().close();
+            }
+
+            return closed;
+        });
+    }
+
+    private static Connection physical(Connection connection) {
+        try {
+            return connection.unwrap(Connection.class);
+        } catch (SQLException exception) {
+            return connection;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LRU[maxSize=%d, connections=%d, hits=%d, misses=%d, evictions=%d]"
+                .formatted(maxSize, connections.size(), getHits(), getMisses(), getEvictions());
+    }
+
+    /**
+     * Option values a statement had when it was prepared.
+     * <p>
+     * Escape processing has no getter; it is switched back on, the JDBC default, on every restore.
+     */
+    private record Defaults(
+            int queryTimeout, int fetchSize, int fetchDirection, int maxRows, int maxFieldSize, boolean poolable) {
+
+        static Defaults of(PreparedStatement statement) throws SQLException {
+            return new Defaults(statement.getQueryTimeout(), statement.getFetchSize(), statement.getFetchDirection(),
+                                statement.getMaxRows(), statement.getMaxFieldSize(), statement.isPoolable());
+        }
+
+        void restore(PreparedStatement statement) throws SQLException {
+            if (statement.getQueryTimeout() != queryTimeout) {
+                statement.setQueryTimeout(queryTimeout);
+            }
+            if (statement.getFetchSize() != fetchSize) {
+                statement.setFetchSize(fetchSize);
+            }
+            if (statement.getFetchDirection() != fetchDirection) {
+                statement.setFetchDirection(fetchDirection);
+            }
+            if (statement.getMaxRows() != maxRows) {
+                statement.setMaxRows(maxRows);
+            }
+            if (statement.getMaxFieldSize() != maxFieldSize) {
+                statement.setMaxFieldSize(maxFieldSize);
+            }
+            if (statement.isPoolable() != poolable) {
+                statement.setPoolable(poolable);
+            }
+            statement.setEscapeProcessing(true);
+        }
+    }
+
+    /**
+     * Statements of a single physical connection. Only map operations run under the monitor;
+     * preparing and closing statements happens outside of it.
+     */
+    private static final class ConnectionStatements {
+
+        private final Map<PreparedStatement, Defaults>               owned = new IdentityHashMap<>();
+        private final LinkedHashMap<StatementKey, PreparedStatement> idle  = new LinkedHashMap<>(16, 0.75f, true);
+
+        synchronized PreparedStatement take(StatementKey key) {
+            return idle.remove(key);
+        }
+
+        void register(PreparedStatement statement) {
+            Defaults defaults = null;
+
+            try {
+                defaults = Defaults.of(statement);
+            } catch (SQLException exception) {
+                LOGGER.debug("Statement options are not readable, statement will not be cached: {}",
+                             exception.getMessage());
+            }
+
+            if (defaults != null) {
+                synchronized (this) {
+                    owned.put(statement, defaults);
+                }
+            }
+        }
+
+        /**
+         * Prepares a released statement for reuse.
+         *
+         * @return {@code false} if the statement is not reusable
+         */
+        boolean reset(PreparedStatement statement) {
+            Defaults defaults;
+
+            synchronized (this) {
+                defaults = owned.get(statement);
+            }
+
+            if (defaults == null) {
+                return false;
+            }
+
+            try {
+                if (!statement.isClosed()) {
+                    statement.clearParameters();
+                    clearBatch(statement);
+                    statement.clearWarnings();
+                    defaults.restore(statement);
+                    return true;
+                }
+            } catch (SQLException exception) {
+                LOGGER.debug("Statement cannot be reset, closing it: {}", exception.getMessage());
+            }
+
+            forget(statement);
+
+            return false;
+        }
+
+        private static void clearBatch(PreparedStatement statement) throws SQLException {
+            try {
+                statement.clearBatch();
+            } catch (SQLFeatureNotSupportedException ignored) {
+                // driver without batch support, nothing to clear
+            }
+        }
+
+        /**
+         * Puts a statement back, returning the statement that no longer fits (if any).
+         */
+        synchronized PreparedStatement give(StatementKey key, PreparedStatement statement, int maxSize) {
+            PreparedStatement surplus = idle.putIfAbsent(key, statement) == null ? null : statement;
+
+            if (surplus == null && idle.size() > maxSize) {
+                Iterator<PreparedStatement> iterator = idle.values().iterator();
+                surplus = iterator.next();
+                iterator.remove();
+            }
+
+            if (surplus != null) {
+                owned.remove(surplus);
+            }
+
+            return surplus;
+        }
+
+        synchronized void forget(PreparedStatement statement) {
+            owned.remove(statement);
+        }
+
+        void close() {
+            List<PreparedStatement> statements;
+
+            synchronized (this) {
+                statements = new ArrayList<>(idle.values());
+                idle.clear();
+                owned.clear();
+            }
+
+            statements.forEach(JdbcSupport::closeQuietly);
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package org.jmouse.jdbc.statement.cache;
+
+import org.jmouse.jdbc.JdbcSupport;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Strategy used by {@link org.jmouse.jdbc.SQLExecutor} to obtain and give back prepared statements.
+ * <p>
+ * A statement obtained via {@link #prepare(Connection, StatementKey)} is exclusively owned by the
+ * caller until it is passed to {@link #release(Connection, StatementKey, PreparedStatement)}.
+ * Between the two calls the statement goes through the regular binding,
+ * {@link org.jmouse.jdbc.statement.StatementConfigurer configuration} and
+ * {@link org.jmouse.jdbc.statement.StatementHandler handler} pipeline.
+ *
+ * <ul>
+ *     <li>{@link #NOOP} prepares a new statement per call and closes it on release (default)</li>
+ *     <li>{@link LruStatementCache} keeps released statements per physical connection</li>
+ * </ul>
+ *
+ * @author jMouse
+ */
+public interface StatementCache {
+
+    /**
+     * Non-caching strategy: prepare on every call, close on release.
+     */
+    StatementCache NOOP = new StatementCache() {
+        @Override
+        public PreparedStatement prepare(Connection connection, StatementKey key) throws SQLException {
+            return key.prepare(connection);
+        }
+
+        @Override
+        public void release(Connection connection, StatementKey key, PreparedStatement statement) {
+            JdbcSupport.closeQuietly(statement);
+        }
+
+        @Override
+        public String toString() {
+            return "NOOP";
+        }
+    };
+
+    /**
+     * Returns a statement for the given key, either cached or newly prepared.
+     *
+     * @param connection connection the statement is executed on
+     * @param key        statement key
+     * @return prepared statement owned by the caller until released
+     * @throws SQLException if the driver fails to prepare the statement
+     */
+    PreparedStatement prepare(Connection connection, StatementKey key) throws SQLException;
+
+    /**
+     * Gives back a statement obtained from {@link #prepare(Connection, StatementKey)}.
+     * Never throws; a statement that cannot be reused is closed.
+     *
+     * @param connection connection the statement was executed on
+     * @param key        statement key
+     * @param statement  statement to release, may be {@code null}
+     */
+    void release(Connection connection, StatementKey key, PreparedStatement statement);
+
+}
@@ -0,0 +1,78 @@
+package org.jmouse.jdbc.statement.cache;
+
+import org.jmouse.core.Verify;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Identity of a prepared statement within a connection: SQL text, result-set characteristics
+ * and generated-keys mode.
+ *
+ * @param sql                  SQL text
+ * @param resultSetType        result-set type, e.g. {@link ResultSet#TYPE_FORWARD_ONLY}
+ * @param resultSetConcurrency result-set concurrency, e.g. {@link ResultSet#CONCUR_READ_ONLY}
+ * @param resultSetHoldability result-set holdability, {@link #DEFAULT_HOLDABILITY} for the connection default
+ * @param autoGeneratedKeys    {@link Statement#RETURN_GENERATED_KEYS} or {@link Statement#NO_GENERATED_KEYS}
+ * @author jMouse
+ */
+public record StatementKey(
+        String sql,
+        int resultSetType,
+        int resultSetConcurrency,
+        int resultSetHoldability,
+        int autoGeneratedKeys
+) {
+
+    /**
+     * Marker for "use the holdability of the connection".
+     */
+    public static final int DEFAULT_HOLDABILITY = 0;
+
+    public StatementKey {
+        Verify.nonNull(sql, "sql");
+    }
+
+    /**
+     * Key of a plain forward-only, read-only statement as created by {@link Connection#prepareStatement(String)}.
+     */
+    public static StatementKey of(String sql) {
+        return new StatementKey(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY,
+                                DEFAULT_HOLDABILITY, Statement.NO_GENERATED_KEYS);
+    }
+
+    /**
+     * Key of a statement returning generated keys.
+     */
+    public static StatementKey generatedKeys(String sql) {
+        return new StatementKey(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY,
+                                DEFAULT_HOLDABILITY, Statement.RETURN_GENERATED_KEYS);
+    }
+
+    /**
+     * Prepares a new statement matching this key.
+     *
+     * @param connection connection to prepare on
+     * @return new prepared statement
+     * @throws SQLException if the driver fails to prepare the statement
+     */
+    public PreparedStatement prepare(Connection connection) throws SQLException {
+        if (autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS) {
+            return connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+        }
+
+        if (resultSetHoldability != DEFAULT_HOLDABILITY) {
+            return connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+
+        if (resultSetType != ResultSet.TYPE_FORWARD_ONLY || resultSetConcurrency != ResultSet.CONCUR_READ_ONLY) {
+            return connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+        }
+
+        return connection.prepareStatement(sql);
+    }
+
+}
@@ -0,0 +1,87 @@
+package org.jmouse.jdbc.stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * Driver-specific settings that make a forward-only, read-only result set stream from the server
+ * instead of being fully buffered by the driver.
+ *
+ * <ul>
+ *     <li>{@link #MYSQL} — MySQL Connector/J streams row by row only with a fetch size of
+ *         {@link Integer#MIN_VALUE}; while such a stream is open no other statement may run on the
+ *         same connection.</li>
+ *     <li>{@link #POSTGRESQL} — pgJDBC honours the fetch size only outside auto-commit, so an
+ *         auto-commit connection is switched to manual commit for the lifetime of the stream.</li>
+ *     <li>{@link #GENERIC} — every other driver gets {@link #DEFAULT_FETCH_SIZE} as a hint.</li>
+ * </ul>
+ */
+public enum CursorDialect {
+
+    MYSQL(Integer.MIN_VALUE, false),
+    POSTGRESQL(CursorDialect.DEFAULT_FETCH_SIZE, true),
+    GENERIC(CursorDialect.DEFAULT_FETCH_SIZE, false);
+
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CursorDialect.class);
+
+    private final int     fetchSize;
+    private final boolean manualCommit;
+
+    CursorDialect(int fetchSize, boolean manualCommit) {
+        this.fetchSize = fetchSize;
+        this.manualCommit = manualCommit;
+    }
+
+    /**
+     * Resolves the dialect from the connection's database product name.
+     *
+     * @param connection the connection the stream runs on
+     * @return the matching dialect, {@link #GENERIC} when unknown
+     */
+    public static CursorDialect of(Connection connection) {
+        try {
+            String product = connection.getMetaData().getDatabaseProductName();
+
+            if (product != null) {
+                product = product.toLowerCase(Locale.ROOT);
+
+                if (product.contains("mysql")) {
+                    return MYSQL;
+                }
+                if (product.contains("postgresql")) {
+                    return POSTGRESQL;
+                }
+            }
+        } catch (SQLException exception) {
+            LOGGER.debug("Database product is unknown, using generic cursor settings: {}", exception.getMessage());
+        }
+
+        return GENERIC;
+    }
+
+    /**
+     * Applies the streaming fetch size to the statement.
+     */
+    public void configure(Statement statement) throws SQLException {
+        statement.setFetchSize(fetchSize);
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * @return {@code true} if the driver streams only outside auto-commit mode
+     */
+    public boolean requiresManualCommit() {
+        return manualCommit;
+    }
+
+}
@@ -0,0 +1,224 @@
+package org.jmouse.jdbc.stream;
+
+import org.jmouse.core.Verify;
+import org.jmouse.jdbc.JdbcTemplate;
+import org.jmouse.jdbc.exception.ResultSetAccessException;
+import org.jmouse.jdbc.mapping.RowMapper;
+import org.jmouse.jdbc.statement.StatementConfigurer;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates a large table in stable pages using the key of the last row seen instead of {@code OFFSET}.
+ * <p>
+ * Every page is a separate short query (a separate connection borrow outside of a transaction), so a
+ * full export neither holds a cursor nor a transaction open for its whole duration, and page cost does
+ * not grow with the position in the table. Both queries must order by a unique key:
+ *
+ * <pre>{@code
+ * KeysetPager<User, Long> pager = KeysetPager.of(
+ *         jdbc,
+ *         "select * from users order by id",
+ *         "select * from users where id > ? order by id",
+ *         BeanRowMapper.of(User.class), User::getId, 1_000);
+ *
+ * try (Stream<User> users = pager.stream()) {
+ *     users.forEach(exporter::write);
+ * }
+ * }</pre>
+ *
+ * <p>The page size is enforced with {@link java.sql.Statement#setMaxRows(int)}, which works on every
+ * database; adding a {@code LIMIT}/{@code FETCH FIRST} clause (bound by a custom {@link KeysetBinder})
+ * additionally lets the database optimize for it. Composite keys are supported by a custom binder,
+ * e.g. {@code where (created, id) > (?, ?)}. An interrupted run resumes with {@link #startingAfter(Object)}.</p>
+ *
+ * @param <T> row type
+ * @param <K> key type
+ */
+public final class KeysetPager<T, K> {
+
+    private final JdbcTemplate                     template;
+    private final String                           firstPageSql;
+    private final String                           nextPageSql;
+    private final KeysetBinder<K>                  binder;
+    private final RowMapper<T>                     mapper;
+    private final Function<? super T, ? extends K> key;
+    private final int                              pageSize;
+    private final K                                startAfter;
+
+    public KeysetPager(
+            JdbcTemplate template, String firstPageSql, String nextPageSql, KeysetBinder<K> binder,
+            RowMapper<T> mapper, Function<? super T, ? extends K> key, int pageSize, K startAfter
+    ) {
+        this.template = Verify.nonNull(template, "template");
+        this.firstPageSql = Verify.nonNull(firstPageSql, "firstPageSql");
+        this.nextPageSql = Verify.nonNull(nextPageSql, "nextPageSql");
+        this.binder = Verify.nonNull(binder, "binder");
+        this.mapper = Verify.nonNull(mapper, "mapper");
+        this.key = Verify.nonNull(key, "key");
+        this.pageSize = Verify.positive(pageSize, "pageSize");
+        this.startAfter = startAfter;
+    }
+
+    /**
+     * Creates a pager over a single-column key bound as the only parameter of {@code nextPageSql}.
+     */
+    public static <T, K> KeysetPager<T, K> of(
+            JdbcTemplate template, String firstPageSql, String nextPageSql,
+            RowMapper<T> mapper, Function<? super T, ? extends K> key, int pageSize
+    ) {
+        return new KeysetPager<>(
+                template, firstPageSql, nextPageSql, KeysetBinder.single(), mapper, key, pageSize, null);
+    }
+
+    /**
+     * Returns a pager starting after the given key, e.g. the last key recorded by an interrupted run.
+     */
+    public KeysetPager<T, K> startingAfter(K key) {
+        return new KeysetPager<>(template, firstPageSql, nextPageSql, binder, mapper, this.key, pageSize, key);
+    }
+
+    /**
+     * Fetches the page following {@code after}, or the first page when {@code after} is {@code null}.
+     *
+     * @param after key of the last row of the previous page
+     * @return up to {@code pageSize} rows
+     * @throws SQLException if the query fails
+     */
+    public List<T> page(K after) throws SQLException {
+        StatementConfigurer limit = statement -> {
+            statement.setMaxRows(pageSize);
+            statement.setFetchSize(pageSize);
+        };
+
+        return template.query(
+                after == null ? firstPageSql : nextPageSql,
+                statement -> binder.bind(statement, after, pageSize),
+                limit, mapper);
+    }
+
+    /**
+     * Feeds every page to the consumer together with the key of its last row, which can be recorded
+     * to resume later via {@link #startingAfter(Object)}.
+     *
+     * @return total number of rows
+     * @throws SQLException if a query fails
+     */
+    public long forEachPage(PageConsumer<T, K> consumer) throws SQLException {
+        Verify.nonNull(consumer, "consumer");
+
+        K    after = startAfter;
+        long total = 0;
+
+        while (true) {
+            List<T> page = page(after);
+
+            if (page.isEmpty()) {
+                return total;
+            }
+
+            after = key.apply(page.getLast());
+            total += page.size();
+            consumer.accept(page, after);
+
+            if (page.size() < pageSize) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator fetching pages on demand; query failures surface as {@link ResultSetAccessException}.
+     */
+    public Iterator<List<T>> pages() {
+        return new Iterator<>() {
+
+            private K       after = startAfter;
+            private List<T> next;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null && !done) {
+                    try {
+                        next = page(after);
+                    } catch (SQLException exception) {
+                        throw new ResultSetAccessException("Failed to fetch page after key " + after, exception);
+                    }
+
+                    if (next.isEmpty()) {
+                        next = null;
+                        done = true;
+                    } else {
+                        after = key.apply(next.getLast());
+                        done = next.size() < pageSize;
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public List<T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> page = next;
+                next = null;
+                return page;
+            }
+        };
+    }
+
+    /**
+     * Returns all rows as a lazy stream, fetching one page at a time.
+     */
+    public Stream<T> stream() {
+        Iterator<List<T>> pages = pages();
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED), false)
+                .flatMap(List::stream);
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Binds the key of the last row seen (and optionally the page size) to a page query.
+     */
+    @FunctionalInterface
+    public interface KeysetBinder<K> {
+
+        /**
+         * @param statement statement of the page query
+         * @param after     key of the last row seen, {@code null} for the first page
+         * @param pageSize  requested page size
+         */
+        void bind(PreparedStatement statement, K after, int pageSize) throws SQLException;
+
+        /**
+         * Binds a single-column key as parameter {@code 1} of the next-page query.
+         */
+        static <K> KeysetBinder<K> single() {
+            return (statement, after, pageSize) -> {
+                if (after != null) {
+                    statement.setObject(1, after);
+                }
+            };
+        }
+    }
+
+    /**
+     * Receives one page and the key of its last row.
+     */
+    @FunctionalInterface
+    public interface PageConsumer<T, K> {
+        void accept(List<T> page, K lastKey) throws SQLException;
+    }
+
+}
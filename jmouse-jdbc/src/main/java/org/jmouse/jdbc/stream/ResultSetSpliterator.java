@@ -0,0 +1,99 @@
+package org.jmouse.jdbc.stream;
+
+import org.jmouse.core.Verify;
+import org.jmouse.jdbc.exception.ResultSetAccessException;
+import org.jmouse.jdbc.mapping.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Spliterator} mapping the rows of an open {@link ResultSet} one at a time.
+ * <p>
+ * The JDBC resources behind the result set are released by the {@code release} action, which runs
+ * exactly once: when the last row has been read, when mapping fails, or when the stream is closed.
+ * A {@link SQLException} raised while iterating is rethrown as {@link ResultSetAccessException}. Elements may be
+ * {@code null} when the {@link RowMapper} maps a row to {@code null}.
+ *
+ * @param <T> mapped element type
+ */
+public final class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+
+    private final ResultSet    resultSet;
+    private final RowMapper<T> mapper;
+    private final Release      release;
+    private       int          rowIndex;
+    private       boolean      closed;
+
+    public ResultSetSpliterator(ResultSet resultSet, RowMapper<T> mapper, Release release) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.resultSet = Verify.nonNull(resultSet, "resultSet");
+        this.mapper = Verify.nonNull(mapper, "mapper");
+        this.release = Verify.nonNull(release, "release");
+    }
+
+    /**
+     * Creates a sequential stream over the result set that releases its resources when closed.
+     */
+    public static <T> Stream<T> stream(ResultSet resultSet, RowMapper<T> mapper, Release release) {
+        ResultSetSpliterator<T> spliterator = new ResultSetSpliterator<>(resultSet, mapper, release);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (closed) {
+            return false;
+        }
+
+        T value;
+
+        try {
+            if (!resultSet.next()) {
+                close();
+                return false;
+            }
+            value = mapper.map(resultSet, rowIndex++);
+        } catch (SQLException exception) {
+            close(exception);
+            throw new ResultSetAccessException("Failed to read row %d of streamed result".formatted(rowIndex), exception);
+        } catch (RuntimeException exception) {
+            close();
+            throw exception;
+        }
+
+        action.accept(value);
+
+        return true;
+    }
+
+    @Override
+    public void close() {
+        close(null);
+    }
+
+    private void close(SQLException failure) {
+        if (!closed) {
+            closed = true;
+            release.release(failure);
+        }
+    }
+
+    /**
+     * Releases the result set, statement and connection of a stream; must not throw.
+     */
+    @FunctionalInterface
+    public interface Release {
+
+        /**
+         * @param failure failure that ended reading, or {@code null} when the stream completed or was closed
+         */
+        void release(SQLException failure);
+    }
+
+}
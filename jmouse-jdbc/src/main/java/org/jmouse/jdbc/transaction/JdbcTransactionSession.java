@@ -1,5 +1,6 @@
 package org.jmouse.jdbc.transaction;
 
+import org.jmouse.jdbc.connection.ConnectionIntent;
 import org.jmouse.jdbc.connection.ConnectionProvider;
 import org.jmouse.jdbc.exception.JdbcAccessException;
 import org.jmouse.jdbc.transaction.ConnectionCustomizer.RestoreAction;
@@ -114,8 +115,9 @@ public final class JdbcTransactionSession implements TransactionSession, Savepoi
     @Override
     public void begin() {
         try {
-            connection = provider.getConnection();
             TransactionDefinition definition = pendingDefinition;
+            connection = provider.getConnection(
+                    ConnectionIntent.of(definition != null && definition.isReadOnly()));
             if (definition != null) {
                 restoreAction = connectionCustomizer.apply(connection, definition);
             }
@@ -0,0 +1,73 @@
+package org.jmouse.transaction.configuration;
+
+import org.jmouse.transaction.infrastructure.TransactionContextHolder;
+import org.jmouse.transaction.infrastructure.scoped.ScopedTransactionContextHolder;
+import org.jmouse.transaction.infrastructure.thread.ThreadBoundTransactionContextHolder;
+import org.jmouse.transaction.synchronization.ScopedSynchronizationContextHolder;
+import org.jmouse.transaction.synchronization.SynchronizationContextHolder;
+import org.jmouse.transaction.synchronization.ThreadBoundSynchronizationContextHolder;
+
+import java.util.Locale;
+
+/**
+ * Strategy used to keep the transaction and synchronization context of the running thread.
+ * <p>
+ * The mode is read from the {@value #PROPERTY} system property ({@code thread-local} or {@code scoped})
+ * and may be overridden by declaring a primary {@code TransactionContextMode} bean.
+ *
+ * @author jMouse
+ */
+public enum TransactionContextMode {
+
+    /**
+     * Mutable stacks and a resource map per thread, see {@link ThreadBoundTransactionContextHolder}.
+     */
+    THREAD_LOCAL {
+        @Override
+        public TransactionContextHolder createContextHolder() {
+            return new ThreadBoundTransactionContextHolder();
+        }
+
+        @Override
+        public SynchronizationContextHolder createSynchronizationHolder() {
+            return new ThreadBoundSynchronizationContextHolder();
+        }
+    },
+
+    /**
+     * Immutable frames with structured hand-off to child tasks, see {@link ScopedTransactionContextHolder}.
+     * Preferable with many short-lived virtual threads.
+     */
+    SCOPED {
+        @Override
+        public TransactionContextHolder createContextHolder() {
+            return new ScopedTransactionContextHolder();
+        }
+
+        @Override
+        public SynchronizationContextHolder createSynchronizationHolder() {
+            return new ScopedSynchronizationContextHolder();
+        }
+    };
+
+    public static final String PROPERTY = "jmouse.transaction.context-holder";
+
+    public abstract TransactionContextHolder createContextHolder();
+
+    public abstract SynchronizationContextHolder createSynchronizationHolder();
+
+    /**
+     * @return mode configured by the {@value #PROPERTY} system property, {@link #THREAD_LOCAL} if absent
+     * @throws IllegalArgumentException if the property holds an unknown mode
+     */
+    public static TransactionContextMode configured() {
+        String value = System.getProperty(PROPERTY);
+
+        if (value == null || value.isBlank()) {
+            return THREAD_LOCAL;
+        }
+
+        return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+
+}
@@ -6,9 +6,7 @@ import org.jmouse.beans.annotation.Eager;
 import org.jmouse.transaction.infrastructure.JoinTransactionValidator;
 import org.jmouse.transaction.infrastructure.TransactionContextHolder;
 import org.jmouse.transaction.infrastructure.support.TransactionContextAccessSupport;
-import org.jmouse.transaction.infrastructure.thread.ThreadBoundTransactionContextHolder;
 import org.jmouse.transaction.synchronization.SynchronizationContextHolder;
-import org.jmouse.transaction.synchronization.ThreadBoundSynchronizationContextHolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,21 +17,27 @@ public class TransactionInfrastructureConfiguration {
 
     public static final Logger LOGGER = LoggerFactory.getLogger("TX-VALIDATOR");
 
+    public static final String TX_CONTEXT_MODE   = "txContextMode";
     public static final String TX_CONTEXT_HOLDER = "txContextHolder";
     public static final String TX_SYNC_HOLDER    = "txSynchronizationHolder";
     public static final String JOIN_TX_VALIDATOR = "joinTxValidator";
 
+    @Bean(TX_CONTEXT_MODE)
+    public TransactionContextMode transactionContextMode() {
+        return TransactionContextMode.configured();
+    }
+
     @Eager
     @Bean(TX_CONTEXT_HOLDER)
-    public TransactionContextHolder transactionContextHolder() {
-        TransactionContextHolder holder = new ThreadBoundTransactionContextHolder();
+    public TransactionContextHolder transactionContextHolder(TransactionContextMode mode) {
+        TransactionContextHolder holder = mode.createContextHolder();
         TransactionContextAccessSupport.register(holder);
         return holder;
     }
 
     @Bean(TX_SYNC_HOLDER)
-    public SynchronizationContextHolder synchronizationContextHolder() {
-        return new ThreadBoundSynchronizationContextHolder();
+    public SynchronizationContextHolder synchronizationContextHolder(TransactionContextMode mode) {
+        return mode.createSynchronizationHolder();
     }
 
     @Bean(JOIN_TX_VALIDATOR)
@@ -0,0 +1,268 @@
+package org.jmouse.transaction.infrastructure.scoped;
+
+import org.jmouse.core.Verify;
+import org.jmouse.transaction.infrastructure.TransactionContext;
+import org.jmouse.transaction.infrastructure.TransactionContextHolder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Scoped implementation of {@link TransactionContextHolder} built for large numbers of virtual threads.
+ * <p>
+ * All transactional state of a thread — the context stack and the resources — lives in one immutable
+ * {@link Frame} referenced from a single thread-local slot. Every change replaces the frame
+ * (copy-on-write), and the slot is removed as soon as the frame is empty, so idle threads keep
+ * nothing and there are no per-thread maps.
+ *
+ * <h3>Structured hand-off</h3>
+ * <p>
+ * Because frames are immutable, handing the current state to a child task is a reference copy:
+ * {@link #capture()} takes the frame and {@link #call(Frame, Callable)} runs work with it, restoring
+ * the previous frame afterwards. What the child binds stays in the child, like with
+ * {@code java.lang.ScopedValue} (which this holder can switch to once it is final).
+ *
+ * <pre>{@code
+ * Runnable task = holder.wrap(() -> repository.save(entity));
+ * executor.submit(task); // runs inside the caller's transaction context
+ * }</pre>
+ *
+ * <p>
+ * ⚠️ A child shares the resources of its parent (e.g. the transaction connection), it must not use
+ * them concurrently with the parent or with other children.
+ *
+ * @author jMouse
+ */
+public final class ScopedTransactionContextHolder implements TransactionContextHolder {
+
+    private static final ThreadLocal<Frame> FRAME = new ThreadLocal<>();
+
+    @Override
+    public TransactionContext getContext() {
+        Frame frame = FRAME.get();
+        return frame != null && frame.contexts() != null ? frame.contexts().context() : null;
+    }
+
+    @Override
+    public void bindContext(TransactionContext context) {
+        Frame frame = current();
+        install(new Frame(new Node(context, frame.contexts()), frame.resources()));
+    }
+
+    @Override
+    public TransactionContext unbindContext() {
+        Frame frame = current();
+
+        if (frame.contexts() == null) {
+            return null;
+        }
+
+        install(new Frame(frame.contexts().parent(), frame.resources()));
+
+        return frame.contexts().context();
+    }
+
+    /**
+     * @throws IllegalStateException if a resource is already bound for the key
+     */
+    @Override
+    public <T> void bindResource(Class<T> key, T resource) {
+        Frame frame = current();
+
+        if (Entry.find(frame.resources(), key) != null) {
+            throw new IllegalStateException("Resource already bound for key: " + key.getName());
+        }
+
+        install(new Frame(frame.contexts(), new Entry(Verify.nonNull(key, "key"), resource, frame.resources())));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getResource(Class<T> key) {
+        Frame frame = FRAME.get();
+        Entry entry = frame != null ? Entry.find(frame.resources(), key) : null;
+        return entry != null ? (T) entry.value() : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unbindResource(Class<T> key) {
+        Frame frame = current();
+        Entry entry = Entry.find(frame.resources(), key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        install(new Frame(frame.contexts(), Entry.without(frame.resources(), entry)));
+
+        return (T) entry.value();
+    }
+
+    @Override
+    public boolean hasResource(Class<?> key) {
+        Frame frame = FRAME.get();
+        return frame != null && Entry.find(frame.resources(), key) != null;
+    }
+
+    /**
+     * Detaches all resources from the current thread and returns them.
+     *
+     * @return immutable empty map if there are no resources; otherwise a mutable snapshot map
+     */
+    @Override
+    public Map<Class<?>, Object> createSnapshot() {
+        Frame frame = current();
+
+        if (frame.resources() == null) {
+            return Map.of();
+        }
+
+        Map<Class<?>, Object> snapshot = new LinkedHashMap<>();
+
+        for (Entry entry = frame.resources(); entry != null; entry = entry.next()) {
+            snapshot.put(entry.key(), entry.value());
+        }
+
+        install(new Frame(frame.contexts(), null));
+
+        return snapshot;
+    }
+
+    /**
+     * @throws IllegalStateException if the current thread already has bound resources
+     */
+    @Override
+    public void applySnapshot(Map<Class<?>, Object> snapshot) {
+        if (snapshot == null || snapshot.isEmpty()) {
+            return;
+        }
+
+        Frame frame = current();
+
+        if (frame.resources() != null) {
+            throw new IllegalStateException("Cannot apply snapshot: current state is not empty");
+        }
+
+        Entry resources = null;
+
+        for (Map.Entry<Class<?>, Object> entry : snapshot.entrySet()) {
+            resources = new Entry(entry.getKey(), entry.getValue(), resources);
+        }
+
+        install(new Frame(frame.contexts(), resources));
+    }
+
+    @Override
+    public void clear() {
+        FRAME.remove();
+    }
+
+    /**
+     * @return the current state of this thread, to be handed to a child task
+     */
+    public Frame capture() {
+        return current();
+    }
+
+    /**
+     * Runs {@code work} with the given frame as the current state and restores the previous one afterwards.
+     *
+     * @param frame frame obtained from {@link #capture()}
+     * @param work  work to run
+     * @return result of the work
+     */
+    public <R> R call(Frame frame, Callable<R> work) throws Exception {
+        Frame previous = FRAME.get();
+
+        install(Verify.nonNull(frame, "frame"));
+
+        try {
+            return work.call();
+        } finally {
+            install(previous);
+        }
+    }
+
+    /**
+     * @return task running {@code work} with the state captured now
+     */
+    public Runnable wrap(Runnable work) {
+        Frame frame = capture();
+
+        return () -> {
+            Frame previous = FRAME.get();
+
+            install(frame);
+
+            try {
+                work.run();
+            } finally {
+                install(previous);
+            }
+        };
+    }
+
+    /**
+     * @return task calling {@code work} with the state captured now
+     */
+    public <R> Callable<R> wrap(Callable<R> work) {
+        Frame frame = capture();
+        return () -> call(frame, work);
+    }
+
+    private static Frame current() {
+        Frame frame = FRAME.get();
+        return frame != null ? frame : Frame.EMPTY;
+    }
+
+    private static void install(Frame frame) {
+        if (frame == null || frame.isEmpty()) {
+            FRAME.remove();
+        } else {
+            FRAME.set(frame);
+        }
+    }
+
+    /**
+     * Immutable transactional state of a thread: the context stack and the bound resources.
+     */
+    public record Frame(Node contexts, Entry resources) {
+
+        public static final Frame EMPTY = new Frame(null, null);
+
+        public boolean isEmpty() {
+            return contexts == null && resources == null;
+        }
+    }
+
+    /**
+     * Context stack node; the head is the active transaction.
+     */
+    public record Node(TransactionContext context, Node parent) { }
+
+    /**
+     * Resource list entry. A transaction rarely binds more than a few resources and unbinds them
+     * in reverse order, so lookups scan a short list and unbinding usually drops the head.
+     */
+    public record Entry(Class<?> key, Object value, Entry next) {
+
+        static Entry find(Entry head, Class<?> key) {
+            for (Entry entry = head; entry != null; entry = entry.next) {
+                if (entry.key == key) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        static Entry without(Entry head, Entry removed) {
+            if (head == removed) {
+                return head.next;
+            }
+            return new Entry(head.key, head.value, without(head.next, removed));
+        }
+    }
+
+}
@@ -17,6 +17,10 @@ public final class TransactionContextAccessSupport {
         HOLDER = Verify.argument(contextHolder, "contextHolder");
     }
 
+    public static boolean isRegistered() {
+        return HOLDER != null;
+    }
+
     public static TransactionContextHolder current() {
         return Verify.state(HOLDER, "TransactionContextAccessSupport.HOLDER");
     }
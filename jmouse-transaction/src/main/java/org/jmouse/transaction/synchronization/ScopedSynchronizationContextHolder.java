@@ -0,0 +1,56 @@
+package org.jmouse.transaction.synchronization;
+
+import org.jmouse.core.Verify;
+
+/**
+ * Scoped counterpart of {@link ThreadBoundSynchronizationContextHolder} for virtual-thread heavy workloads.
+ * <p>
+ * The context stack is an immutable linked list referenced from a single thread-local slot that is
+ * removed as soon as the stack is empty, so threads outside of a transaction hold no state.
+ * Used together with {@link org.jmouse.transaction.infrastructure.scoped.ScopedTransactionContextHolder}.
+ *
+ * <p>
+ * ⚠️ All bind / unbind operations must occur within the same thread.
+ *
+ * @author jMouse
+ */
+public final class ScopedSynchronizationContextHolder implements SynchronizationContextHolder {
+
+    private static final ThreadLocal<Node> STACK = new ThreadLocal<>();
+
+    @Override
+    public SynchronizationContext getCurrent() {
+        Node head = STACK.get();
+        return head != null ? head.context() : null;
+    }
+
+    @Override
+    public void bind(SynchronizationContext context) {
+        STACK.set(new Node(Verify.nonNull(context, "context"), STACK.get()));
+    }
+
+    @Override
+    public SynchronizationContext unbind() {
+        Node head = STACK.get();
+
+        if (head == null) {
+            return null;
+        }
+
+        if (head.parent() == null) {
+            STACK.remove();
+        } else {
+            STACK.set(head.parent());
+        }
+
+        return head.context();
+    }
+
+    @Override
+    public void clear() {
+        STACK.remove();
+    }
+
+    private record Node(SynchronizationContext context, Node parent) { }
+
+}
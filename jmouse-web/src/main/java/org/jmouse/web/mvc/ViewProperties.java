@@ -37,4 +37,14 @@ public interface ViewProperties {
      */
     @BindDefault(DEFAULT_SUFFIX)
     void setSuffix(String suffix);
+
+    /**
+     * 📍 Returns the directory used to persist parsed templates across restarts, or {@code null} if disabled.
+     */
+    String getCacheDirectory();
+
+    /**
+     * 🔧 Sets the directory used to persist parsed templates across restarts.
+     */
+    void setCacheDirectory(String cacheDirectory);
 }
@@ -25,6 +25,7 @@ public class InternalViewProperties implements ViewProperties {
 
     private String prefix;
     private String suffix;
+    private String cacheDirectory;
 
     /**
      * Gets the view prefix.
@@ -65,4 +66,24 @@ public class InternalViewProperties implements ViewProperties {
     public void setSuffix(String suffix) {
         this.suffix = suffix;
     }
+
+    /**
+     * Gets the directory of the persistent template store.
+     *
+     * @return the store directory, or {@code null} if templates are not persisted
+     */
+    @Override
+    public String getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    /**
+     * Sets the directory of the persistent template store (default: disabled).
+     *
+     * @param cacheDirectory directory holding parsed templates between restarts
+     */
+    @Override
+    public void setCacheDirectory(String cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
 }
@@ -11,6 +11,7 @@ import org.jmouse.web.mvc.ViewProperties;
 import org.jmouse.web.mvc.view.AbstractViewResolver;
 import org.jmouse.web.mvc.ViewResolver;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -59,6 +60,11 @@ public class InternalViewResolver extends AbstractViewResolver {
         loader.setSuffix(properties.getSuffix());
 
         engine.setLoader(loader);
+
+        if (properties.getCacheDirectory() != null) {
+            engine.setStore(new TemplateStore(Path.of(properties.getCacheDirectory())));
+        }
+
         renderer = new TemplateRenderer(engine);
 
         if (extensions != null) {